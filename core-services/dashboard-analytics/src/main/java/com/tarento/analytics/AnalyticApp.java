@@ -1,5 +1,7 @@
 package com.tarento.analytics;
 
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.event.CacheEntryCreatedListener;
 import org.cache2k.extra.spring.SpringCache2kCacheManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
@@ -8,13 +10,17 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 
+import com.tarento.analytics.cache.ChartCacheKey;
+import com.tarento.analytics.cache.ChartCacheKeyGenerator;
 import com.tarento.analytics.constant.Constants;
 
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 
@@ -25,12 +31,21 @@ public class AnalyticApp {
 	        SpringApplication.run(AnalyticApp.class, args);
 	    }
 
-		@Value("${cache.expiry.time.in.minutes}")
-		private int cacheExpiry;
+		@Value("${cache.live.expiry.time.in.minutes:${cache.expiry.time.in.minutes}}")
+		private int liveCacheExpiry;
+
+		@Value("${cache.closed.expiry.time.in.minutes:${cache.expiry.time.in.minutes}}")
+		private int closedCacheExpiry;
 
 		@Value("${cache.capacity}")
 		private int cacheCapacity;
 
+		@Value("${es.query.pool.size:16}")
+		private int esQueryPoolSize;
+
+		@Value("${es.query.queue.capacity:200}")
+		private int esQueryQueueCapacity;
+
 	    @Bean
 	    public RestTemplate restTemplate() {
 	        return new RestTemplate();
@@ -47,10 +62,35 @@ public class AnalyticApp {
 	        };
 	    }
 
+		/**
+		 * Chart responses of a date range which ends before today are kept for the closed expiry, the live ones, which
+		 * reach into the current day, for the live expiry
+		 */
 		@Bean
 		@Profile("!test")
-		public CacheManager cacheManager(){
-			return new SpringCache2kCacheManager().addCaches(b->b.name("versions").expireAfterWrite(cacheExpiry, TimeUnit.MINUTES)
+		public CacheManager cacheManager(ChartCacheKeyGenerator chartCacheKeyGenerator){
+			long liveExpiryMillis = TimeUnit.MINUTES.toMillis(liveCacheExpiry);
+			long closedExpiryMillis = TimeUnit.MINUTES.toMillis(closedCacheExpiry);
+			return new SpringCache2kCacheManager().addCaches(b->((Cache2kBuilder<Object, Object>) b).name("versions")
+					.expireAfterWrite(Math.max(liveCacheExpiry, closedCacheExpiry), TimeUnit.MINUTES)
+					.expiryPolicy((key, value, loadTime, oldEntry) -> loadTime
+							+ (key instanceof ChartCacheKey && !((ChartCacheKey) key).isLive() ? closedExpiryMillis : liveExpiryMillis))
+					.addListener((CacheEntryCreatedListener<Object, Object>) (cache, entry) -> chartCacheKeyGenerator.recordLoad())
 					.entryCapacity(cacheCapacity));
 		}
+
+		/**
+		 * Bounded pool on which the Elastic Search queries of a chart are sent concurrently, once it is full the
+		 * queries run on the request thread
+		 */
+		@Bean
+		public ThreadPoolTaskExecutor esQueryExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(esQueryPoolSize);
+			executor.setMaxPoolSize(esQueryPoolSize);
+			executor.setQueueCapacity(esQueryQueueCapacity);
+			executor.setThreadNamePrefix("es-query-");
+			executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+			return executor;
+		}
 }
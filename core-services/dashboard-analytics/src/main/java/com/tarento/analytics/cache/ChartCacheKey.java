@@ -0,0 +1,41 @@
+package com.tarento.analytics.cache;
+
+/**
+ * Key of a chart response in the versions cache: the normalized hash of the request and whether its date range
+ * reaches into the current day, which decides how long the response is kept
+ */
+public class ChartCacheKey {
+
+	private final String hash;
+	private final boolean live;
+
+	public ChartCacheKey(String hash, boolean live) {
+		this.hash = hash;
+		this.live = live;
+	}
+
+	public String getHash() {
+		return hash;
+	}
+
+	public boolean isLive() {
+		return live;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof ChartCacheKey)) return false;
+		return hash.equals(((ChartCacheKey) o).hash);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return hash + (live ? "(live)" : "");
+	}
+}
@@ -0,0 +1,129 @@
+package com.tarento.analytics.cache;
+
+import java.lang.reflect.Method;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tarento.analytics.ConfigurationLoader;
+import com.tarento.analytics.constant.Constants;
+import com.tarento.analytics.dto.AggregateRequestDto;
+import com.tarento.analytics.dto.RequestDate;
+
+import static com.tarento.analytics.handler.IResponseHandler.IS_CAPPED_TILL_TODAY;
+
+/**
+ * Generates the {@link ChartCacheKey} of a chart request for the versions cache.
+ *
+ * The key is the SHA-256 of the request fields the chart queries are built from (visualization code and type,
+ * module level, query type, filters, es filters, aggregation factors, request date and interval) and of the tenant
+ * of the request headers, serialized with map entries sorted by key, so the same chart asked with filters in a
+ * different order or with another request id shares one entry, and one tenant never gets another's response even
+ * when its filters do not name it. A request is live when its end date is today or later, when it has no dates, or
+ * when its chart is filtered for the current day or capped till today; live responses expire after
+ * cache.live.expiry.time.in.minutes, the others after cache.closed.expiry.time.in.minutes.
+ *
+ * Lookups and loads are counted and the hit rate is logged every cache.stats.log.interval lookups.
+ */
+@Component(ChartCacheKeyGenerator.NAME)
+public class ChartCacheKeyGenerator implements KeyGenerator {
+
+	public static final String NAME = "chartCacheKeyGenerator";
+
+	private static final Logger logger = LoggerFactory.getLogger(ChartCacheKeyGenerator.class);
+
+	private final ObjectMapper normalizer = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+	private final AtomicLong lookups = new AtomicLong();
+	private final AtomicLong loads = new AtomicLong();
+
+	@Autowired
+	private ConfigurationLoader configurationLoader;
+
+	@Value("${cache.stats.log.interval:1000}")
+	private long statsLogInterval;
+
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		AggregateRequestDto request = (AggregateRequestDto) params[0];
+		ChartCacheKey key = new ChartCacheKey(hash(request), isLive(request));
+
+		long count = lookups.incrementAndGet();
+		if (statsLogInterval > 0 && count % statsLogInterval == 0) {
+			logger.info("Chart cache lookups: " + count + ", loads: " + loads.get() + ", hit rate: "
+					+ String.format("%.1f", getHitRate() * 100) + "%");
+		}
+		return key;
+	}
+
+	/**
+	 * Counts a response loaded into the cache, called by the cache on entry creation
+	 */
+	public void recordLoad() {
+		loads.incrementAndGet();
+	}
+
+	/**
+	 * @return the share of lookups served from the cache since start up
+	 */
+	public double getHitRate() {
+		long lookupCount = lookups.get();
+		return lookupCount == 0 ? 0 : Math.max(0, lookupCount - loads.get()) / (double) lookupCount;
+	}
+
+	private String hash(AggregateRequestDto request) {
+		Map<String, Object> normalized = new HashMap<>();
+		normalized.put("tenantId", request.getTenantId());
+		normalized.put("visualizationCode", request.getVisualizationCode());
+		normalized.put("visualizationType", request.getVisualizationType());
+		normalized.put("moduleLevel", request.getModuleLevel());
+		normalized.put("queryType", request.getQueryType());
+		normalized.put("filters", request.getFilters());
+		normalized.put("esFilters", request.getEsFilters());
+		normalized.put("aggregationFactors", request.getAggregationFactors());
+		normalized.put("requestDate", request.getRequestDate());
+		normalized.put("interval", request.getInterval());
+		try {
+			return DigestUtils.sha256Hex(normalizer.writeValueAsBytes(normalized));
+		} catch (JsonProcessingException e) {
+			logger.error("Encountered an Exception while normalizing the chart request : " + e.getMessage());
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private boolean isLive(AggregateRequestDto request) {
+		JsonNode chartNode = configurationLoader.get(Constants.ConfigurationFiles.CHART_API_CONFIG).get(request.getVisualizationCode());
+		if (chartNode != null && (chartNode.path(Constants.JsonPaths.FILTER_FOR_CURRENT_DAY).asBoolean()
+				|| chartNode.path(IS_CAPPED_TILL_TODAY).asBoolean())) {
+			return true;
+		}
+		RequestDate requestDate = request.getRequestDate();
+		if (requestDate == null || !NumberUtils.isDigits(requestDate.getEndDate())) {
+			return true;
+		}
+		return Long.parseLong(requestDate.getEndDate()) >= startOfToday();
+	}
+
+	private long startOfToday() {
+		Calendar calendar = Calendar.getInstance();
+		calendar.set(Calendar.HOUR_OF_DAY, 0);
+		calendar.set(Calendar.MINUTE, 0);
+		calendar.set(Calendar.SECOND, 0);
+		calendar.set(Calendar.MILLISECOND, 0);
+		return calendar.getTimeInMillis();
+	}
+}
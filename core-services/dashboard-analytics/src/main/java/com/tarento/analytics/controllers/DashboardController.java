@@ -129,12 +129,6 @@ public class DashboardController {
 		//Getting the request information only from the Full Request
 		AggregateRequestDto requestInfo = requestDto.getAggregationRequestDto();
 
-		// For performance enhancement, this creates a key which will cache the response
-		String requestBodyString = objectMapper.writeValueAsString(requestInfo);
-		String headersString = objectMapper.writeValueAsString(requestDto.getHeaders());
-		StringBuilder finalString = new StringBuilder(requestBodyString).append(headersString);
-		requestInfo.setHashKey(finalString.toString().hashCode());
-
 		Map<String, Object> headers = requestDto.getHeaders();
 		String response = "";
 		try {
@@ -152,6 +146,7 @@ public class DashboardController {
 				logger.error("Please provide requested Visualization Details");
 				throw new AINException(ErrorCode.ERR320, "Visualization Request is missing");
 			}
+			requestInfo.setTenantId(String.valueOf(headers.get("tenantId")));
 			/*if(requestDto.getAggregationRequestDto().getRequestId() == null) { 
 				logger.error("Please provide Request ID");
 				throw new AINException(ErrorCode.ERR320, "Request ID is missing. Insights will not work");
@@ -22,7 +22,7 @@ public class AggregateRequestDto {
 	private ResponseRecorder responseRecorder;
 
 	@JsonIgnore
-	private int hashKey;
+	private String tenantId;
 	
 	public AggregateRequestDto() {} 
 	public AggregateRequestDto(AggregateRequestDtoV3 requestDtoV3, String visualizationType, String visualizationCode) { 
@@ -114,9 +114,11 @@ public class AggregateRequestDto {
 	public void setResponseRecorder(ResponseRecorder responseRecorder) {
 		this.responseRecorder = responseRecorder;
 	}
-	public int getHashKey() { return hashKey; }
-	public void setHashKey(int hashKey) {
-		this.hashKey = hashKey;
+	public String getTenantId() {
+		return tenantId;
+	}
+	public void setTenantId(String tenantId) {
+		this.tenantId = tenantId;
 	}
 	
 	
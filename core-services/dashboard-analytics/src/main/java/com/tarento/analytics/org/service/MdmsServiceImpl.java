@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.tarento.analytics.ConfigurationLoader;
+import com.tarento.analytics.cache.ChartCacheKeyGenerator;
 import com.tarento.analytics.constant.Constants;
 import com.tarento.analytics.dto.*;
 import com.tarento.analytics.enums.ChartType;
@@ -46,7 +47,7 @@ public class MdmsServiceImpl implements ClientService {
     Map<String, List<String>> groupTenantIds;
 
     @Override
-    @Cacheable(value="versions", key="#request.hashKey")
+    @Cacheable(value="versions", keyGenerator = ChartCacheKeyGenerator.NAME)
     public AggregateDto getAggregatedData(AggregateRequestDto request, List<RoleDto> roles) throws AINException, IOException {
         // Read visualization Code
         String chartId = request.getVisualizationCode();
@@ -3,10 +3,16 @@ package com.tarento.analytics.org.service;
 import static com.tarento.analytics.handler.IResponseHandler.IS_CAPPED_TILL_TODAY;
 import com.tarento.analytics.constant.Constants.Interval;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import com.tarento.analytics.dto.*;
@@ -14,6 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +30,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.tarento.analytics.ConfigurationLoader;
+import com.tarento.analytics.cache.ChartCacheKeyGenerator;
 import com.tarento.analytics.constant.Constants;
 import com.tarento.analytics.enums.ChartType;
 import com.tarento.analytics.exception.AINException;
@@ -63,9 +71,13 @@ public class TarentoServiceImpl implements ClientService {
 	@Autowired
 	private MdmsApiMappings mdmsApiMappings;
 
+	@Autowired
+	@Qualifier("esQueryExecutor")
+	private Executor esQueryExecutor;
+
 
 	@Override
-	@Cacheable(value="versions", key="#request.hashKey")
+	@Cacheable(value="versions", keyGenerator = ChartCacheKeyGenerator.NAME, sync = true)
 	public AggregateDto getAggregatedData(AggregateRequestDto request, List<RoleDto> roles) throws AINException, IOException {
 		// Read visualization Code
 		String internalChartId = request.getVisualizationCode();
@@ -106,36 +118,48 @@ public class TarentoServiceImpl implements ClientService {
 			request.getRequestDate().setEndDate(String.valueOf(currentDateTimeInMillis));
 		}
 
-		executeConfiguredQueries(chartNode, aggrObjectNode, nodes, request, interval);
 		request.setChartNode(chartNode);
 		ResponseRecorder responseRecorder = new ResponseRecorder();
 		request.setResponseRecorder(responseRecorder);
 
-		IResponseHandler responseHandler = responseHandlerFactory.getInstance(chartType);
-		AggregateDto aggregateDto = new AggregateDto();
-		if(aggrObjectNode.fields().hasNext()){
-			aggregateDto = responseHandler.translate(request, aggrObjectNode);
-		}
+		List<ConfiguredQuery> queries = dispatch(buildConfiguredQueries(chartNode, request, interval));
 
+		/*
+		 * The insight pass is built with updated RequestDates (updated in getInsightsDate which subtracted one interval
+		 * from the dates) and dispatched along with the main pass, the request is then put back to its main pass state
+		 * for the main translation
+		 */
+		List<ConfiguredQuery> insightQueries = Collections.emptyList();
+		RequestState insightState = null;
 		if(insightsConfig != null && StringUtils.isNotBlank(insightsConfig.getInsightInterval())) {
+			RequestState mainState = new RequestState(request);
 			continueWithInsight = getInsightsDate(request, insightsConfig.getInsightInterval());
 			if(continueWithInsight) {
 				String insightVisualizationCode = insightPrefix  + request.getVisualizationCode();
 				request.setVisualizationCode(insightVisualizationCode);
-				/*
-						Data is fetched with updated RequestDates (updated in getInsightsDate which subtracted one interval from the dates)
-				*
-				* */
-				executeConfiguredQueries(chartNode, insightAggrObjectNode, insightNodes, request, interval);
-
-				request.setChartNode(chartNode);
-				responseHandler = responseHandlerFactory.getInstance(chartType);
-				if(insightAggrObjectNode.fields().hasNext()){
-					responseHandler.translate(request, insightAggrObjectNode);
-				}
-				InsightsHandler insightsHandler = insightsHandlerFactory.getInstance(chartType);
-				aggregateDto = insightsHandler.getInsights(aggregateDto, request.getVisualizationCode(), request.getModuleLevel(), insightsConfig,request.getResponseRecorder());
+				insightQueries = dispatch(buildConfiguredQueries(chartNode, request, interval));
+				insightState = new RequestState(request);
 			}
+			mainState.applyTo(request);
+		}
+
+		collectResponses(queries, aggrObjectNode, nodes);
+		IResponseHandler responseHandler = responseHandlerFactory.getInstance(chartType);
+		AggregateDto aggregateDto = new AggregateDto();
+		if(aggrObjectNode.fields().hasNext()){
+			aggregateDto = responseHandler.translate(request, aggrObjectNode);
+		}
+
+		if(continueWithInsight) {
+			insightState.applyTo(request);
+			collectResponses(insightQueries, insightAggrObjectNode, insightNodes);
+			request.setChartNode(chartNode);
+			responseHandler = responseHandlerFactory.getInstance(chartType);
+			if(insightAggrObjectNode.fields().hasNext()){
+				responseHandler.translate(request, insightAggrObjectNode);
+			}
+			InsightsHandler insightsHandler = insightsHandlerFactory.getInstance(chartType);
+			aggregateDto = insightsHandler.getInsights(aggregateDto, request.getVisualizationCode(), request.getModuleLevel(), insightsConfig,request.getResponseRecorder());
 		}
 
 		return aggregateDto;
@@ -148,19 +172,18 @@ public class TarentoServiceImpl implements ClientService {
 	}
 
 	/**
-	 * Executes queries and enriches the respons in aggrObjectNode
+	 * Builds the queries of the chart which apply to the module level of the request, in configured order
 	 * @param chartNode The Chart Config defined in ChartApiConfig.json
-	 * @param aggrObjectNode Object in which response is enriched
-	 * @param nodes Don't know why passed as argument should have been defined in function itself
 	 * @param request The API request
 	 * @param interval Interval ( eg: Month) defines in RequestDate in AggregateRequestDto noot needed as seperate argument as it can
 	 *                 be fetched from  AggregateRequestDto
+	 * @return the index name and query of each applicable configured query
 	 */
-	private void executeConfiguredQueries(ObjectNode chartNode, ObjectNode aggrObjectNode, ObjectNode nodes, AggregateRequestDto request, String interval) {
+	private List<ConfiguredQuery> buildConfiguredQueries(ObjectNode chartNode, AggregateRequestDto request, String interval) {
 		preHandle(request, chartNode, mdmsApiMappings);
 
 		ArrayNode queries = (ArrayNode) chartNode.get(Constants.JsonPaths.QUERIES);
-		int randIndexCount = 1;
+		List<ConfiguredQuery> configuredQueries = new ArrayList<>();
 		for(JsonNode query : queries) {
 			String module = query.get(Constants.JsonPaths.MODULE).asText();
 			if(request.getModuleLevel().equals(Constants.Modules.HOME_REVENUE) ||
@@ -170,20 +193,48 @@ public class TarentoServiceImpl implements ClientService {
 
 				String indexName = query.get(Constants.JsonPaths.INDEX_NAME).asText();
 				ObjectNode objectNode = queryService.getChartConfigurationQuery(request, query, indexName, interval);
-				try {
-					JsonNode aggrNode = restService.search(indexName,objectNode.toString());
-					if(nodes.has(indexName)) {
-						indexName = indexName + "_" + randIndexCount;
-						randIndexCount += 1;
-					}
-					nodes.set(indexName,aggrNode.get(Constants.JsonPaths.AGGREGATIONS));
-				}catch (Exception e) {
-					logger.error("Encountered an Exception while Executing the Query : " + e.getMessage());
-					throw new RuntimeException(e);
-				}
-				aggrObjectNode.set(Constants.JsonPaths.AGGREGATIONS, nodes);
+				configuredQueries.add(new ConfiguredQuery(indexName, objectNode.toString()));
+			}
+		}
+		return configuredQueries;
+	}
 
+	/**
+	 * Sends the queries to Elastic Search on the es query executor, so the latency of a chart is the one of its
+	 * slowest index rather than the sum of all of them
+	 * @param queries The queries to send
+	 * @return the same queries, each holding its pending response
+	 */
+	private List<ConfiguredQuery> dispatch(List<ConfiguredQuery> queries) {
+		for(ConfiguredQuery query : queries) {
+			query.response = CompletableFuture.supplyAsync(() -> restService.search(query.indexName, query.query), esQueryExecutor);
+		}
+		return queries;
+	}
+
+	/**
+	 * Waits for the responses of the queries and enriches them in aggrObjectNode, in configured order
+	 * @param queries The dispatched queries
+	 * @param aggrObjectNode Object in which response is enriched
+	 * @param nodes The aggregations of each index, an index queried more than once is suffixed by _1, _2...
+	 */
+	private void collectResponses(List<ConfiguredQuery> queries, ObjectNode aggrObjectNode, ObjectNode nodes) {
+		int randIndexCount = 1;
+		for(ConfiguredQuery query : queries) {
+			String indexName = query.indexName;
+			try {
+				JsonNode aggrNode = query.response.join();
+				if(nodes.has(indexName)) {
+					indexName = indexName + "_" + randIndexCount;
+					randIndexCount += 1;
+				}
+				nodes.set(indexName,aggrNode.get(Constants.JsonPaths.AGGREGATIONS));
+			}catch (Exception e) {
+				Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				logger.error("Encountered an Exception while Executing the Query : " + cause.getMessage());
+				throw new RuntimeException(cause);
 			}
+			aggrObjectNode.set(Constants.JsonPaths.AGGREGATIONS, nodes);
 		}
 	}
 
@@ -266,6 +317,45 @@ public class TarentoServiceImpl implements ClientService {
 
 
 
+	/**
+	 * A configured query of a chart and its pending Elastic Search response
+	 */
+	private static class ConfiguredQuery {
+		private final String indexName;
+		private final String query;
+		private CompletableFuture<JsonNode> response;
+
+		private ConfiguredQuery(String indexName, String query) {
+			this.indexName = indexName;
+			this.query = query;
+		}
+	}
+
+	/**
+	 * The parts of the request a query pass changes: the dates, the visualization code and the filters translated
+	 * by preHandle
+	 */
+	private static class RequestState {
+		private final String startDate;
+		private final String endDate;
+		private final String visualizationCode;
+		private final Map<String, Object> filters;
+
+		private RequestState(AggregateRequestDto request) {
+			this.startDate = request.getRequestDate().getStartDate();
+			this.endDate = request.getRequestDate().getEndDate();
+			this.visualizationCode = request.getVisualizationCode();
+			this.filters = request.getFilters() == null ? null : new HashMap<>(request.getFilters());
+		}
+
+		private void applyTo(AggregateRequestDto request) {
+			request.getRequestDate().setStartDate(startDate);
+			request.getRequestDate().setEndDate(endDate);
+			request.setVisualizationCode(visualizationCode);
+			request.setFilters(filters == null ? null : new HashMap<>(filters));
+		}
+	}
+
 	@Override
 	public List<DashboardHeaderDto> getHeaderData(CummulativeDataRequestDto requestDto, List<RoleDto> roles) throws AINException {
 		// TODO Auto-generated method stub
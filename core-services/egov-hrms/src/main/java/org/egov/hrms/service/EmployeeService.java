@@ -64,7 +64,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Data
@@ -106,6 +105,9 @@ public class EmployeeService {
 	@Autowired
 	private IndividualService individualService;
 
+	@Autowired
+	private UserResolver userResolver;
+
 	/**
 	 * Service method for create employee. Does following:
 	 * 1. Sets ids to all the objects using idgen service.
@@ -143,6 +145,19 @@ public class EmployeeService {
 	 * @return
 	 */
 	public EmployeeResponse search(EmployeeSearchCriteria criteria, RequestInfo requestInfo) {
+		return search(criteria, requestInfo, true);
+	}
+
+	/**
+	 * Searches employees on a given criteria. The users of the employees are resolved through the UserResolver:
+	 * name searches go out concurrently and the users found by the searches are reused for the employees.
+	 * 
+	 * @param criteria
+	 * @param requestInfo
+	 * @param useUserCache false to read the users from the user service, as the update needs their current state
+	 * @return
+	 */
+	public EmployeeResponse search(EmployeeSearchCriteria criteria, RequestInfo requestInfo, boolean useUserCache) {
 		boolean  userChecked = false;
 		Long totalCount = 0L;
 		/*if(null == criteria.getIsActive() || criteria.getIsActive())
@@ -163,47 +178,25 @@ public class EmployeeService {
 			if (!CollectionUtils.isEmpty(criteria.getCodes())) {
 				userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_USERNAME, criteria.getCodes().get(0));
 			}
-            UserResponse userResponse = userService.getUser(requestInfo, userSearchCriteria);
+            UserResponse userResponse = userResolver.search(requestInfo, userSearchCriteria);
 			totalCount = userResponse.getTotalCount();
 			userChecked =true;
-            if(!CollectionUtils.isEmpty(userResponse.getUser())) {
-                 mapOfUsers.putAll(userResponse.getUser().stream()
-                        .collect(Collectors.toMap(User::getUuid, Function.identity())));
-            }
-			List<String> userUUIDs = userResponse.getUser().stream().map(User :: getUuid).collect(Collectors.toList());
-            if(!CollectionUtils.isEmpty(criteria.getUuids()))
-                criteria.setUuids(criteria.getUuids().stream().filter(userUUIDs::contains).collect(Collectors.toList()));
-            else
-                criteria.setUuids(userUUIDs);
+			criteria.setUuids(joinUuids(criteria.getUuids(), collectUsers(userResponse, mapOfUsers)));
 		}
 		//checks if above criteria met and result is not  null will check for name search if list of names are given as user search on name is not bulk api
 
 		if(!((!CollectionUtils.isEmpty(criteria.getRoles()) || !StringUtils.isEmpty(criteria.getPhone())) && CollectionUtils.isEmpty(criteria.getUuids()))){
 			if(!CollectionUtils.isEmpty(criteria.getNames())) {
-				List<String> userUUIDs = new ArrayList<>();
-				for(String name: criteria.getNames()) {
-					Map<String, Object> userSearchCriteria = new HashMap<>();
-					userSearchCriteria.put(HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE_CODE, HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE);
-					userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_TENANTID,criteria.getTenantId());
-					userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_NAME,name);
-					UserResponse userResponse = userService.getUser(requestInfo, userSearchCriteria);
+				Set<String> userUUIDs = new LinkedHashSet<>();
+				for(UserResponse userResponse : userResolver.searchByNames(requestInfo, criteria.getTenantId(), criteria.getNames())) {
 					totalCount = userResponse.getTotalCount();
 					userChecked =true;
-					if(!CollectionUtils.isEmpty(userResponse.getUser())) {
-						mapOfUsers.putAll(userResponse.getUser().stream()
-								.collect(Collectors.toMap(User::getUuid, Function.identity())));
-					}
-					List<String> uuids = userResponse.getUser().stream().map(User :: getUuid).collect(Collectors.toList());
-					userUUIDs.addAll(uuids);
+					userUUIDs.addAll(collectUsers(userResponse, mapOfUsers));
 				}
-				if(!CollectionUtils.isEmpty(criteria.getUuids()))
-					criteria.setUuids(criteria.getUuids().stream().filter(userUUIDs::contains).collect(Collectors.toList()));
-				else
-					criteria.setUuids(userUUIDs);
+				criteria.setUuids(joinUuids(criteria.getUuids(), userUUIDs));
 			}
 
 			if(!CollectionUtils.isEmpty(criteria.getUserServiceUuids())) {
-				List<String> userUUIDs = new ArrayList<>();
 				Map<String, Object> userSearchCriteria = new HashMap<>();
 
 				userSearchCriteria.put(HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE_CODE, HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE);
@@ -211,21 +204,10 @@ public class EmployeeService {
 				userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_USER_SERVICE_UUIDS, criteria.getUserServiceUuids());
 				if(!CollectionUtils.isEmpty(criteria.getNames()))
 					userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_NAME, criteria.getNames().get(0));
-				UserResponse userResponse = userService.getUser(requestInfo, userSearchCriteria);
+				UserResponse userResponse = userResolver.search(requestInfo, userSearchCriteria);
 				totalCount = userResponse.getTotalCount();
 				userChecked =true;
-				if(!CollectionUtils.isEmpty(userResponse.getUser())) {
-					mapOfUsers.putAll(userResponse.getUser().stream()
-							.collect(Collectors.toMap(User::getUuid, Function.identity())));
-				}
-
-				List<String> uuids = userResponse.getUser().stream().map(User :: getUuid).collect(Collectors.toList());
-				userUUIDs.addAll(uuids);
-
-				if(!CollectionUtils.isEmpty(criteria.getUuids()))
-					criteria.setUuids(criteria.getUuids().stream().filter(userUUIDs::contains).collect(Collectors.toList()));
-				else
-					criteria.setUuids(userUUIDs);
+				criteria.setUuids(joinUuids(criteria.getUuids(), collectUsers(userResponse, mapOfUsers)));
 			}
 		}
 		if(userChecked)
@@ -235,19 +217,12 @@ public class EmployeeService {
             employees = repository.fetchEmployees(criteria, requestInfo);
         List<String> uuids = employees.stream().map(Employee :: getUuid).collect(Collectors.toList());
 		if(!CollectionUtils.isEmpty(uuids)){
-            Map<String, Object> userSearchCriteria = new HashMap<>();
-			userSearchCriteria.put(HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE_CODE, HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE);
-            userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_UUID,uuids);
-			userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_TENANTID, criteria.getTenantId());
-			log.info("uuid is available {}", userSearchCriteria);
+			log.info("uuid is available {}", uuids.size());
             if(mapOfUsers.isEmpty()){
 				log.info("searching in user service");
-            UserResponse userResponse = userService.getUser(requestInfo, userSearchCriteria);
-			totalCount = userResponse.getTotalCount();
-			if(!CollectionUtils.isEmpty(userResponse.getUser())) {
-				mapOfUsers = userResponse.getUser().stream()
-						.collect(Collectors.toMap(User :: getUuid, Function.identity()));
-            }
+				UserResponse userResponse = userResolver.getUsersByUuids(requestInfo, criteria.getTenantId(), uuids, useUserCache);
+				totalCount = userResponse.getTotalCount();
+				collectUsers(userResponse, mapOfUsers);
             }
             for(Employee employee: employees){
                 employee.setUser(mapOfUsers.get(employee.getUuid()));
@@ -257,6 +232,37 @@ public class EmployeeService {
 				.employees(employees)
 				.totalCount(totalCount).build();
 	}
+
+	/**
+	 * Adds the users of the response to mapOfUsers.
+	 * 
+	 * @param userResponse
+	 * @param mapOfUsers
+	 * @return the uuids of the users, in response order
+	 */
+	private Set<String> collectUsers(UserResponse userResponse, Map<String, User> mapOfUsers) {
+		Set<String> userUUIDs = new LinkedHashSet<>();
+		if(!CollectionUtils.isEmpty(userResponse.getUser())) {
+			for(User user : userResponse.getUser()) {
+				mapOfUsers.put(user.getUuid(), user);
+				userUUIDs.add(user.getUuid());
+			}
+		}
+		return userUUIDs;
+	}
+
+	/**
+	 * Restricts the uuids of the criteria to the users found, or takes the users found if the criteria has none.
+	 * 
+	 * @param criteriaUuids
+	 * @param userUUIDs
+	 * @return
+	 */
+	private List<String> joinUuids(List<String> criteriaUuids, Set<String> userUUIDs) {
+		if(!CollectionUtils.isEmpty(criteriaUuids))
+			return criteriaUuids.stream().filter(userUUIDs::contains).collect(Collectors.toList());
+		return new ArrayList<>(userUUIDs);
+	}
 	
 	
 	/**
@@ -410,7 +416,7 @@ public class EmployeeService {
 
 		// Search for existing employees based on the collected UUIDs and tenantId
 		EmployeeResponse existingEmployeeResponse = search(
-				EmployeeSearchCriteria.builder().uuids(uuidList).tenantId(tenantId).build(), requestInfo
+				EmployeeSearchCriteria.builder().uuids(uuidList).tenantId(tenantId).build(), requestInfo, false
 		);
 
 		// Extract the list of existing employees from the search response
@@ -426,6 +432,7 @@ public class EmployeeService {
 
 		// Push the updated employee request to the HRMS topic for further processing
 		hrmsProducer.push(propertiesManager.getUpdateTopic(), employeeRequest);
+		userResolver.invalidate(uuidList);
 
 		// (Optional) Send reactivation notifications if needed
 		// notificationService.sendReactivationNotification(employeeRequest);
@@ -0,0 +1,217 @@
+package org.egov.hrms.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.hrms.utils.HRMSConstants;
+import org.egov.hrms.web.contract.User;
+import org.egov.hrms.web.contract.UserResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the users of an employee search through the user service.
+ *
+ * Searches the user API cannot batch (one name per call) are sent concurrently on a bounded pool, lookups by uuid
+ * are sent in batches of egov.hrms.user.search.batch.size. Users returned by any search are kept for
+ * egov.hrms.user.cache.ttl.seconds, so enriching the employees of a search does not fetch them again; the update
+ * flow bypasses and invalidates the cache, as it needs the current row version of the users.
+ *
+ * The user service masks personal data depending on who asks, so a user is cached by search tenant, requester
+ * roles and uuid, and only served again to a requester with the same roles. The requester's own user, which
+ * comes back unmasked, is never cached.
+ */
+@Slf4j
+@Component
+public class UserResolver {
+
+	private final UserService userService;
+
+	private final boolean cacheEnabled;
+
+	private final int batchSize;
+
+	private final Cache<String, User> usersByKey;
+
+	private final ThreadPoolExecutor executor;
+
+	@Autowired
+	public UserResolver(UserService userService,
+						@Value("${egov.hrms.user.cache.enabled:true}") boolean cacheEnabled,
+						@Value("${egov.hrms.user.cache.ttl.seconds:60}") long cacheTtlSeconds,
+						@Value("${egov.hrms.user.cache.max.size:10000}") long cacheMaxSize,
+						@Value("${egov.hrms.user.search.parallelism:8}") int parallelism,
+						@Value("${egov.hrms.user.search.batch.size:500}") int batchSize) {
+		this.userService = userService;
+		this.cacheEnabled = cacheEnabled;
+		this.batchSize = Math.max(1, batchSize);
+		this.usersByKey = Caffeine.newBuilder()
+				.expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+				.maximumSize(cacheMaxSize)
+				.build();
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(parallelism * 16), runnable -> {
+					Thread thread = new Thread(runnable, "hrms-user-search-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Searches the user service and keeps the users found.
+	 *
+	 * @param requestInfo
+	 * @param userSearchCriteria
+	 * @return
+	 */
+	public UserResponse search(RequestInfo requestInfo, Map<String, Object> userSearchCriteria) {
+		return fetch(requestInfo, userSearchCriteria, true);
+	}
+
+	/**
+	 * Searches the users of each name concurrently, the user search takes a single name.
+	 *
+	 * @param requestInfo
+	 * @param tenantId
+	 * @param names
+	 * @return the responses in the order of the names
+	 */
+	public List<UserResponse> searchByNames(RequestInfo requestInfo, String tenantId, List<String> names) {
+		List<CompletableFuture<UserResponse>> futures = names.stream().map(name -> {
+			Map<String, Object> userSearchCriteria = new HashMap<>();
+			userSearchCriteria.put(HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE_CODE, HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE);
+			userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_TENANTID, tenantId);
+			userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_NAME, name);
+			return CompletableFuture.supplyAsync(() -> search(requestInfo, userSearchCriteria), executor);
+		}).collect(Collectors.toList());
+		return futures.stream().map(UserResolver::join).collect(Collectors.toList());
+	}
+
+	/**
+	 * Resolves users by uuid, from the cache when allowed and the rest from the user service in concurrent batches.
+	 *
+	 * The total count is the one the user service reports for the uuids fetched, plus one for each cached user,
+	 * which the user service would have counted too: it is the total count of a single uuid search.
+	 *
+	 * @param requestInfo
+	 * @param tenantId
+	 * @param uuids
+	 * @param useCache false to read every user from the user service, without caching them
+	 * @return the users found and their total count
+	 */
+	public UserResponse getUsersByUuids(RequestInfo requestInfo, String tenantId, Collection<String> uuids,
+										boolean useCache) {
+		Map<String, User> users = new LinkedHashMap<>();
+		List<String> missing = new ArrayList<>();
+		String requesterKey = requesterKey(requestInfo);
+		for (String uuid : new LinkedHashSet<>(uuids)) {
+			User user = useCache && cacheEnabled ? usersByKey.getIfPresent(cacheKey(tenantId, requesterKey, uuid)) : null;
+			if (user != null)
+				users.put(uuid, user);
+			else
+				missing.add(uuid);
+		}
+		log.debug("resolving {} users, {} from cache", users.size() + missing.size(), users.size());
+		Long totalCount = users.isEmpty() ? null : (long) users.size();
+
+		List<CompletableFuture<UserResponse>> futures = new ArrayList<>();
+		for (int from = 0; from < missing.size(); from += batchSize) {
+			Map<String, Object> userSearchCriteria = new HashMap<>();
+			userSearchCriteria.put(HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE_CODE, HRMSConstants.HRMS_USER_SERACH_CRITERIA_USERTYPE);
+			userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_UUID, new ArrayList<>(missing.subList(from, Math.min(from + batchSize, missing.size()))));
+			userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_TENANTID, tenantId);
+			futures.add(missing.size() <= batchSize
+					? CompletableFuture.completedFuture(fetch(requestInfo, userSearchCriteria, useCache))
+					: CompletableFuture.supplyAsync(() -> fetch(requestInfo, userSearchCriteria, useCache), executor));
+		}
+		for (CompletableFuture<UserResponse> future : futures) {
+			UserResponse userResponse = join(future);
+			if (!CollectionUtils.isEmpty(userResponse.getUser())) {
+				userResponse.getUser().forEach(user -> users.put(user.getUuid(), user));
+			}
+			if (userResponse.getTotalCount() != null)
+				totalCount = (totalCount == null ? 0L : totalCount) + userResponse.getTotalCount();
+		}
+		return UserResponse.builder().user(new ArrayList<>(users.values())).totalCount(totalCount).build();
+	}
+
+	/**
+	 * Drops the cached users, to be called once they are updated.
+	 *
+	 * @param uuids
+	 */
+	public void invalidate(Collection<String> uuids) {
+		Set<String> invalidated = new HashSet<>(uuids);
+		usersByKey.asMap().keySet().removeIf(key -> invalidated.contains(key.substring(key.lastIndexOf('|') + 1)));
+	}
+
+	private UserResponse fetch(RequestInfo requestInfo, Map<String, Object> userSearchCriteria, boolean cacheResult) {
+		UserResponse userResponse = userService.getUser(requestInfo, userSearchCriteria);
+		if (cacheEnabled && cacheResult && userResponse != null && !CollectionUtils.isEmpty(userResponse.getUser())) {
+			String tenantId = (String) userSearchCriteria.get(HRMSConstants.HRMS_USER_SEARCH_CRITERA_TENANTID);
+			String requesterKey = requesterKey(requestInfo);
+			String requesterUuid = requestInfo != null && requestInfo.getUserInfo() != null
+					? requestInfo.getUserInfo().getUuid() : null;
+			for (User user : userResponse.getUser()) {
+				if (user.getUuid() != null && (requesterUuid == null || !(requesterUuid.equals(user.getUuid())
+						|| requesterUuid.equals(user.getUserServiceUuid()))))
+					usersByKey.put(cacheKey(tenantId, requesterKey, user.getUuid()), user);
+			}
+		}
+		return userResponse;
+	}
+
+	/**
+	 * @return the requester's roles, which decide what the user service masks
+	 */
+	private static String requesterKey(RequestInfo requestInfo) {
+		if (requestInfo == null || requestInfo.getUserInfo() == null
+				|| CollectionUtils.isEmpty(requestInfo.getUserInfo().getRoles()))
+			return "";
+		return requestInfo.getUserInfo().getRoles().stream()
+				.map(role -> role.getCode() + "@" + role.getTenantId())
+				.distinct().sorted().collect(Collectors.joining(","));
+	}
+
+	private static String cacheKey(String tenantId, String requesterKey, String uuid) {
+		return tenantId + "|" + requesterKey + "|" + uuid;
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw e;
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
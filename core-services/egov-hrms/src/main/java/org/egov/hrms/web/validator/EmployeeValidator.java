@@ -641,7 +641,7 @@ public class EmployeeValidator {
 		List <String> uuidList = request.getEmployees().stream().map(Employee :: getUuid).collect(Collectors.toList()); 
 		EmployeeResponse existingEmployeeResponse = employeeService.search(EmployeeSearchCriteria.builder().uuids(uuidList)
 				.tenantId(request.getEmployees().get(0).getTenantId())
-				.build(),request.getRequestInfo());
+				.build(),request.getRequestInfo(), false);
 		List <Employee> existingEmployees = existingEmployeeResponse.getEmployees();
 		for(Employee employee: request.getEmployees()){
 			if(validateEmployeeForUpdate(employee, errorMap)){
@@ -0,0 +1,178 @@
+package org.egov.hrms.benchmark;
+
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.hrms.service.UserResolver;
+import org.egov.hrms.service.UserService;
+import org.egov.hrms.utils.HRMSConstants;
+import org.egov.hrms.web.contract.User;
+import org.egov.hrms.web.contract.UserRequest;
+import org.egov.hrms.web.contract.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the users of an employee search by names, the way EmployeeService.search used to (one user search per
+ * name after the other, List.contains joins, then a search by the uuids of the employees) and through
+ * {@link UserResolver}.
+ *
+ * <p>The stubbed user service parks {@code latencyMillis} per call and returns {@code usersPerName} users per
+ * name; the criteria holds {@code criteriaUuids} uuids of which half belong to the users found.
+ *
+ * <p>The sequential path costs {@code names + 1} latencies per search. The resolver sends the name searches on
+ * its pool and serves the uuid lookup from the users the name searches cached, so its time stays close to one
+ * latency per round of the pool whatever the number of names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSearchBenchmark {
+
+	private static final String TENANT_ID = "default";
+
+	@Param({"10", "50"})
+	private int names;
+
+	@Param({"20"})
+	private int usersPerName;
+
+	@Param({"400"})
+	private int criteriaUuids;
+
+	@Param({"20"})
+	private int latencyMillis;
+
+	private final RequestInfo requestInfo = new RequestInfo();
+
+	private StubUserService userService;
+
+	private UserResolver userResolver;
+
+	private List<String> nameList;
+
+	private List<String> uuidList;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		userService = new StubUserService();
+		userResolver = new UserResolver(userService, true, 60, 10000, 8, 500);
+		nameList = new ArrayList<>();
+		for (int i = 0; i < names; i++) {
+			nameList.add("name-" + i);
+		}
+		uuidList = new ArrayList<>();
+		for (int i = 0; i < criteriaUuids; i++) {
+			uuidList.add(i % 2 == 0 ? uuid("name-" + (i % names), i % usersPerName) : "other-" + i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		userResolver.shutdown();
+	}
+
+	@Benchmark
+	public int sequentialLookups() {
+		Map<String, User> mapOfUsers = new HashMap<>();
+		List<String> userUUIDs = new ArrayList<>();
+		for (String name : nameList) {
+			UserResponse userResponse = userService.getUser(requestInfo, nameCriteria(name));
+			mapOfUsers.putAll(userResponse.getUser().stream()
+					.collect(Collectors.toMap(User::getUuid, Function.identity())));
+			userUUIDs.addAll(userResponse.getUser().stream().map(User::getUuid).collect(Collectors.toList()));
+		}
+		List<String> employeeUuids = uuidList.stream().filter(userUUIDs::contains).collect(Collectors.toList());
+		Map<String, Object> uuidCriteria = new HashMap<>();
+		uuidCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_UUID, employeeUuids);
+		UserResponse userResponse = userService.getUser(requestInfo, uuidCriteria);
+		return mapOfUsers.size() + userResponse.getUser().size();
+	}
+
+	@Benchmark
+	public int userResolver() {
+		Map<String, User> mapOfUsers = new HashMap<>();
+		Set<String> userUUIDs = new LinkedHashSet<>();
+		for (UserResponse userResponse : userResolver.searchByNames(requestInfo, TENANT_ID, nameList)) {
+			for (User user : userResponse.getUser()) {
+				mapOfUsers.put(user.getUuid(), user);
+				userUUIDs.add(user.getUuid());
+			}
+		}
+		List<String> employeeUuids = uuidList.stream().filter(userUUIDs::contains).collect(Collectors.toList());
+		return mapOfUsers.size() + userResolver.getUsersByUuids(requestInfo, TENANT_ID, employeeUuids, true).getUser().size();
+	}
+
+	private static Map<String, Object> nameCriteria(String name) {
+		Map<String, Object> userSearchCriteria = new HashMap<>();
+		userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_TENANTID, TENANT_ID);
+		userSearchCriteria.put(HRMSConstants.HRMS_USER_SEARCH_CRITERA_NAME, name);
+		return userSearchCriteria;
+	}
+
+	private static String uuid(String name, int index) {
+		return name + "-user-" + index;
+	}
+
+	private class StubUserService implements UserService {
+
+		@Override
+		public UserResponse createUser(UserRequest userRequest) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public UserResponse updateUser(UserRequest userRequest) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public UserResponse getUser(RequestInfo requestInfo, Map<String, Object> userSearchCriteria) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+			List<User> users = new ArrayList<>();
+			String name = (String) userSearchCriteria.get(HRMSConstants.HRMS_USER_SEARCH_CRITERA_NAME);
+			if (name != null) {
+				for (int i = 0; i < usersPerName; i++) {
+					users.add(User.builder().uuid(uuid(name, i)).name(name).tenantId(TENANT_ID).build());
+				}
+			}
+			List<String> uuids = (List<String>) userSearchCriteria.get(HRMSConstants.HRMS_USER_SEARCH_CRITERA_UUID);
+			if (uuids != null) {
+				for (String uuid : uuids) {
+					users.add(User.builder().uuid(uuid).tenantId(TENANT_ID).build());
+				}
+			}
+			UserResponse userResponse = new UserResponse();
+			userResponse.setUser(users);
+			userResponse.setTotalCount((long) users.size());
+			return userResponse;
+		}
+	}
+}
@@ -9,7 +9,9 @@ import org.egov.common.contract.request.User;
 import org.egov.pgr.config.PGRConfiguration;
 import org.egov.pgr.repository.ServiceRequestRepository;
 import org.egov.pgr.util.HRMSUtil;
+import org.egov.pgr.util.LocalizedMessages;
 import org.egov.pgr.util.MDMSUtils;
+import org.egov.pgr.util.MessageTemplate;
 import org.egov.pgr.util.NotificationUtil;
 import org.egov.pgr.web.models.Notification.Action;
 import org.egov.pgr.web.models.Notification.ActionItem;
@@ -201,198 +203,133 @@ public class NotificationService {
      */
     private Map<String, List<String>> getFinalMessage(ServiceRequest request, String topic, String applicationStatus) {
         String tenantId = request.getService().getTenantId();
-        String localizationMessage = notificationUtil.getLocalizationMessages(tenantId, request.getRequestInfo(),PGR_MODULE);
+        LocalizedMessages localizedMessages = notificationUtil.getLocalizedMessages(tenantId, request.getRequestInfo(),PGR_MODULE);
 
         ServiceWrapper serviceWrapper = ServiceWrapper.builder().service(request.getService()).workflow(request.getWorkflow()).build();
         Map<String, List<String>> message = new HashMap<>();
 
-        String messageForCitizen = null;
-        String messageForEmployee = null;
-        String defaultMessage = null;
+        MessageTemplate messageForCitizen = null;
+        MessageTemplate messageForEmployee = null;
+        MessageTemplate defaultMessage = null;
+        Map<String, String> citizenValues = new HashMap<>();
+        Map<String, String> employeeValues = new HashMap<>();
+        Map<String, String> defaultValues = new HashMap<>();
 
-        String localisedStatus = notificationUtil.getCustomizedMsgForPlaceholder(localizationMessage,"CS_COMMON_"+serviceWrapper.getService().getApplicationStatus());
+        String localisedStatus = notificationUtil.getCustomizedMsgForPlaceholder(localizedMessages,"CS_COMMON_"+serviceWrapper.getService().getApplicationStatus());
 
         /**
          * Confirmation SMS to citizens, when they will raise any complaint
          */
         if(serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(PENDINGFORASSIGNMENT) && serviceWrapper.getWorkflow().getAction().equalsIgnoreCase(APPLY)) {
-            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizationMessage);
+            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizedMessages);
             if (messageForCitizen == null) {
                 log.info("No message Found For Citizen On Topic : " + topic);
                 return null;
             }
 
-            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizationMessage);
+            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizedMessages);
             if (defaultMessage == null) {
                 log.info("No default message Found For Topic : " + topic);
                 return null;
             }
 
-            if(defaultMessage.contains("{status}"))
-                defaultMessage = defaultMessage.replace("{status}", localisedStatus);
+            defaultValues.put("status", localisedStatus);
         }
 
         /**
          * SMS to citizens and employee both, when a complaint is assigned to an employee
          */
         if(serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(PENDINGATLME) && serviceWrapper.getWorkflow().getAction().equalsIgnoreCase(ASSIGN)) {
-            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizationMessage);
+            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizedMessages);
             if (messageForCitizen == null) {
                 log.info("No message Found For Citizen On Topic : " + topic);
                 return null;
             }
 
-            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizationMessage);
+            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizedMessages);
             if (messageForEmployee == null) {
                 log.info("No message Found For Employee On Topic : " + topic);
                 return null;
             }
 
-            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizationMessage);
+            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizedMessages);
             if (defaultMessage == null) {
                 log.info("No default message Found For Topic : " + topic);
                 return null;
             }
 
-            if(defaultMessage.contains("{status}"))
-                defaultMessage = defaultMessage.replace("{status}", localisedStatus);
+            defaultValues.put("status", localisedStatus);
 
-
-            Map<String, String> reassigneeDetails  = getHRMSEmployee(request);
-
-            if (messageForCitizen.contains("{emp_department}"))
-                messageForCitizen = messageForCitizen.replace("{emp_department}",reassigneeDetails.get(DEPARTMENT));
-
-            if (messageForCitizen.contains("{emp_designation}"))
-                messageForCitizen = messageForCitizen.replace("{emp_designation}",reassigneeDetails.get(DESIGNATION));
-
-            if (messageForCitizen.contains("{emp_name}"))
-                messageForCitizen = messageForCitizen.replace("{emp_name}", fetchUserByUUID(request.getWorkflow().getAssignes().get(0), request.getRequestInfo(), request.getService().getTenantId()).getName());
-
-            if(messageForEmployee.contains("{ulb}")) {
-                String localisationMessageForPlaceholder =  notificationUtil.getLocalizationMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
-                String localisedULB = notificationUtil.getCustomizedMsgForPlaceholder(localisationMessageForPlaceholder,serviceWrapper.getService().getAddress().getDistrict());
-                messageForEmployee = messageForEmployee.replace("{ulb}",localisedULB);
-            }
-
-            if (messageForEmployee.contains("{emp_name}"))
-                messageForEmployee = messageForEmployee.replace("{emp_name}", fetchUserByUUID(request.getWorkflow().getAssignes().get(0), request.getRequestInfo(), request.getService().getTenantId()).getName());
-
-            if(messageForEmployee.contains("{ao_designation}")){
-                String localisationMessageForPlaceholder =  notificationUtil.getLocalizationMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
-                String path = "$..messages[?(@.code==\"COMMON_MASTERS_DESIGNATION_AO\")].message";
-
-                try {
-                    ArrayList<String> messageObj = JsonPath.parse(localisationMessageForPlaceholder).read(path);
-                    if(messageObj != null && messageObj.size() > 0) {
-                        messageForEmployee = messageForEmployee.replace("{ao_designation}", messageObj.get(0));
-                    }
-                } catch (Exception e) {
-                    log.warn("Fetching from localization failed", e);
-                }
-            }
+            enrichReassigneeValues(request, messageForCitizen, citizenValues, request.getWorkflow().getAssignes().get(0));
+            enrichEmployeeValues(request, messageForEmployee, employeeValues, request.getWorkflow().getAssignes().get(0));
         }
 
         /**
          * SMS to citizens and employee, when the complaint is re-assigned to an employee
          */
         if(serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(PENDING_FOR_REASSIGNMENT) && serviceWrapper.getWorkflow().getAction().equalsIgnoreCase(REASSIGN)){
-            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizationMessage);
+            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizedMessages);
             if (messageForCitizen == null) {
                 log.info("No message Found For Citizen On Topic : " + topic);
                 return null;
             }
 
-            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizationMessage);
+            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizedMessages);
             if (messageForEmployee == null) {
                 log.info("No message Found For Employee On Topic : " + topic);
                 return null;
             }
 
-            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizationMessage);
+            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizedMessages);
             if (defaultMessage == null) {
                 log.info("No default message Found For Topic : " + topic);
                 return null;
             }
 
-            if(defaultMessage.contains("{status}"))
-                defaultMessage = defaultMessage.replace("{status}", localisedStatus);
-
-
-            Map<String, String> reassigneeDetails  = getHRMSEmployee(request);
-            if (messageForCitizen.contains("{emp_department}"))
-                messageForCitizen = messageForCitizen.replace("{emp_department}",reassigneeDetails.get(DEPARTMENT));
-
-            if (messageForCitizen.contains("{emp_designation}"))
-                messageForCitizen = messageForCitizen.replace("{emp_designation}",reassigneeDetails.get(DESIGNATION));
-
-            if (messageForCitizen.contains("{emp_name}"))
-                messageForCitizen = messageForCitizen.replace("{emp_name}", fetchUserByUUID(request.getWorkflow().getAssignes().get(0), request.getRequestInfo(), request.getService().getTenantId()).getName());
-
-            if(messageForEmployee.contains("{ulb}")) {
-                String localisationMessageForPlaceholder =  notificationUtil.getLocalizationMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
-                String localisedULB = notificationUtil.getCustomizedMsgForPlaceholder(localisationMessageForPlaceholder,serviceWrapper.getService().getAddress().getDistrict());
-                messageForEmployee = messageForEmployee.replace("{ulb}",localisedULB);
-            }
-
-            if (messageForEmployee.contains("{emp_name}"))
-                messageForEmployee = messageForEmployee.replace("{emp_name}", fetchUserByUUID(request.getRequestInfo().getUserInfo().getUuid(), request.getRequestInfo(), request.getService().getTenantId()).getName());
+            defaultValues.put("status", localisedStatus);
 
-            if(messageForEmployee.contains("{ao_designation}")){
-                String localisationMessageForPlaceholder =  notificationUtil.getLocalizationMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
-                String path = "$..messages[?(@.code==\"COMMON_MASTERS_DESIGNATION_AO\")].message";
-
-                try {
-                    ArrayList<String> messageObj = JsonPath.parse(localisationMessageForPlaceholder).read(path);
-                    if(messageObj != null && messageObj.size() > 0) {
-                        messageForEmployee = messageForEmployee.replace("{ao_designation}", messageObj.get(0));
-                    }
-                } catch (Exception e) {
-                    log.warn("Fetching from localization failed", e);
-                }
-            }
+            enrichReassigneeValues(request, messageForCitizen, citizenValues, request.getWorkflow().getAssignes().get(0));
+            enrichEmployeeValues(request, messageForEmployee, employeeValues, request.getRequestInfo().getUserInfo().getUuid());
         }
 
         /**
          * SMS to citizens, when complaint got rejected with reason
          */
         if(serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(REJECTED) && serviceWrapper.getWorkflow().getAction().equalsIgnoreCase(REJECT)) {
-            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizationMessage);
+            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizedMessages);
             if (messageForCitizen == null) {
                 log.info("No message Found For Citizen On Topic : " + topic);
                 return null;
             }
 
-            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizationMessage);
+            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizedMessages);
             if (defaultMessage == null) {
                 log.info("No default message Found For Topic : " + topic);
                 return null;
             }
 
-            if(defaultMessage.contains("{status}"))
-                defaultMessage = defaultMessage.replace("{status}", localisedStatus);
+            defaultValues.put("status", localisedStatus);
 
-            if (messageForCitizen.contains("{additional_comments}"))
-                messageForCitizen = messageForCitizen.replace("{additional_comments}", serviceWrapper.getWorkflow().getComments());
+            citizenValues.put("additional_comments", serviceWrapper.getWorkflow().getComments());
         }
 
         /**
          * SMS to citizens and employee, when the complaint has been re-opened on citizen request
          */
         if(serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(PENDINGFORASSIGNMENT) && serviceWrapper.getWorkflow().getAction().equalsIgnoreCase(PGR_WF_REOPEN)) {
-            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizationMessage);
+            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizedMessages);
             if (messageForCitizen == null) {
                 log.info("No message Found For Citizen On Topic : " + topic);
                 return null;
             }
 
-            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizationMessage);
+            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizedMessages);
             if (messageForEmployee == null) {
                 log.info("No message Found For Employee On Topic : " + topic);
                 return null;
             }
 
-            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizationMessage);
+            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizedMessages);
             if (defaultMessage == null) {
                 log.info("No default message Found For Topic : " + topic);
                 return null;
@@ -400,30 +337,26 @@ public class NotificationService {
 
             ProcessInstance processInstance = getEmployeeName(serviceWrapper.getService().getTenantId(),serviceWrapper.getService().getServiceRequestId(),request.getRequestInfo(),ASSIGN);
 
-            if(defaultMessage.contains("{status}"))
-                defaultMessage = defaultMessage.replace("{status}", localisedStatus);
+            defaultValues.put("status", localisedStatus);
 
-            if(messageForEmployee.contains("{ulb}")) {
-                String localisationMessageForPlaceholder =  notificationUtil.getLocalizationMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
-                String localisedULB = notificationUtil.getCustomizedMsgForPlaceholder(localisationMessageForPlaceholder,serviceWrapper.getService().getAddress().getDistrict());
-                messageForEmployee = messageForEmployee.replace("{ulb}",localisedULB);
-            }
+            if(messageForEmployee.hasPlaceholder("ulb"))
+                employeeValues.put("ulb", getLocalisedULB(request));
 
-            if (messageForEmployee.contains("{emp_name}"))
-                messageForEmployee = messageForEmployee.replace("{emp_name}", processInstance.getAssignes().get(0).getName());
+            if (messageForEmployee.hasPlaceholder("emp_name"))
+                employeeValues.put("emp_name", processInstance.getAssignes().get(0).getName());
         }
 
         /**
          * SMS to citizens, when complaint got resolved
          */
         if(serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(RESOLVED) && serviceWrapper.getWorkflow().getAction().equalsIgnoreCase(PGR_WF_RESOLVE)) {
-            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizationMessage);
+            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizedMessages);
             if (messageForCitizen == null) {
                 log.info("No message Found For Citizen On Topic : " + topic);
                 return null;
             }
 
-            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizationMessage);
+            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizedMessages);
             if (defaultMessage == null) {
                 log.info("No default message Found For Topic : " + topic);
                 return null;
@@ -431,11 +364,10 @@ public class NotificationService {
 
             ProcessInstance processInstance = getEmployeeName(serviceWrapper.getService().getTenantId(),serviceWrapper.getService().getServiceRequestId(),request.getRequestInfo(),ASSIGN);
 
-            if(defaultMessage.contains("{status}"))
-                defaultMessage = defaultMessage.replace("{status}", localisedStatus);
+            defaultValues.put("status", localisedStatus);
 
-            if (messageForCitizen.contains("{emp_name}"))
-                messageForCitizen = messageForCitizen.replace("{emp_name}", processInstance.getAssignes().get(0).getName());
+            if (messageForCitizen.hasPlaceholder("emp_name"))
+                citizenValues.put("emp_name", processInstance.getAssignes().get(0).getName());
         }
 
         /**
@@ -444,13 +376,13 @@ public class NotificationService {
         if((serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(CLOSED_AFTER_RESOLUTION) ||
                 serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(CLOSED_AFTER_REJECTION)) &&
                 serviceWrapper.getWorkflow().getAction().equalsIgnoreCase(RATE)) {
-            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizationMessage);
+            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizedMessages);
             if (messageForEmployee == null) {
                 log.info("No message Found For Employee On Topic : " + topic);
                 return null;
             }
 
-            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizationMessage);
+            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizedMessages);
             if (defaultMessage == null) {
                 log.info("No default message Found For Topic : " + topic);
                 return null;
@@ -458,79 +390,45 @@ public class NotificationService {
 
             ProcessInstance processInstance = getEmployeeName(serviceWrapper.getService().getTenantId(),serviceWrapper.getService().getServiceRequestId(),request.getRequestInfo(),ASSIGN);
 
-            if(defaultMessage.contains("{status}"))
-                defaultMessage = defaultMessage.replace("{status}", localisedStatus);
-
+            defaultValues.put("status", localisedStatus);
 
-            if(messageForEmployee.contains("{rating}"))
-                messageForEmployee=messageForEmployee.replace("{rating}",serviceWrapper.getService().getRating().toString());
+            if(messageForEmployee.hasPlaceholder("rating"))
+                employeeValues.put("rating", serviceWrapper.getService().getRating().toString());
 
-            if (messageForEmployee.contains("{emp_name}"))
-                messageForEmployee = messageForEmployee.replace("{emp_name}", processInstance.getAssignes().get(0).getName());
+            if (messageForEmployee.hasPlaceholder("emp_name"))
+                employeeValues.put("emp_name", processInstance.getAssignes().get(0).getName());
         }
 
         /**
          * SMS to citizens and employee, when the complaint is re-assigned to LME
          */
         if(serviceWrapper.getService().getApplicationStatus().equalsIgnoreCase(PENDINGATLME) && serviceWrapper.getWorkflow().getAction().equalsIgnoreCase(REASSIGN)){
-            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizationMessage);
+            messageForCitizen = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, CITIZEN, localizedMessages);
             if (messageForCitizen == null) {
                 log.info("No message Found For Citizen On Topic : " + topic);
                 return null;
             }
 
-            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizationMessage);
+            messageForEmployee = notificationUtil.getCustomizedMsg(request.getWorkflow().getAction(), applicationStatus, EMPLOYEE, localizedMessages);
             if (messageForEmployee == null) {
                 log.info("No message Found For Employee On Topic : " + topic);
                 return null;
             }
 
-            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizationMessage);
+            defaultMessage = notificationUtil.getDefaultMsg(CITIZEN, localizedMessages);
             if (defaultMessage == null) {
                 log.info("No default message Found For Topic : " + topic);
                 return null;
             }
 
-            if(defaultMessage.contains("{status}"))
-                defaultMessage = defaultMessage.replace("{status}", localisedStatus);
-
-
-            Map<String, String> reassigneeDetails  = getHRMSEmployee(request);
-            if (messageForCitizen.contains("{emp_department}"))
-                messageForCitizen = messageForCitizen.replace("{emp_department}",reassigneeDetails.get(DEPARTMENT));
+            defaultValues.put("status", localisedStatus);
 
-            if (messageForCitizen.contains("{emp_designation}"))
-                messageForCitizen = messageForCitizen.replace("{emp_designation}",reassigneeDetails.get(DESIGNATION));
-
-            if (messageForCitizen.contains("{emp_name}"))
-                messageForCitizen = messageForCitizen.replace("{emp_name}", fetchUserByUUID(request.getWorkflow().getAssignes().get(0), request.getRequestInfo(), request.getService().getTenantId()).getName());
-
-            if(messageForEmployee.contains("{ulb}")) {
-                String localisationMessageForPlaceholder =  notificationUtil.getLocalizationMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
-                String localisedULB = notificationUtil.getCustomizedMsgForPlaceholder(localisationMessageForPlaceholder,serviceWrapper.getService().getAddress().getDistrict());
-                messageForEmployee = messageForEmployee.replace("{ulb}",localisedULB);
-            }
-
-            if (messageForEmployee.contains("{emp_name}"))
-                messageForEmployee = messageForEmployee.replace("{emp_name}", fetchUserByUUID(request.getRequestInfo().getUserInfo().getUuid(), request.getRequestInfo(), request.getService().getTenantId()).getName());
-
-            if(messageForEmployee.contains("{ao_designation}")){
-                String localisationMessageForPlaceholder =  notificationUtil.getLocalizationMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
-                String path = "$..messages[?(@.code==\"COMMON_MASTERS_DESIGNATION_AO\")].message";
-
-                try {
-                    ArrayList<String> messageObj = JsonPath.parse(localisationMessageForPlaceholder).read(path);
-                    if(messageObj != null && messageObj.size() > 0) {
-                        messageForEmployee = messageForEmployee.replace("{ao_designation}", messageObj.get(0));
-                    }
-                } catch (Exception e) {
-                    log.warn("Fetching from localization failed", e);
-                }
-            }
+            enrichReassigneeValues(request, messageForCitizen, citizenValues, request.getWorkflow().getAssignes().get(0));
+            enrichEmployeeValues(request, messageForEmployee, employeeValues, request.getRequestInfo().getUserInfo().getUuid());
         }
 
 
-        String localisedComplaint = notificationUtil.getCustomizedMsgForPlaceholder(localizationMessage,"pgr.complaint.category."+request.getService().getServiceCode());
+        String localisedComplaint = notificationUtil.getCustomizedMsgForPlaceholder(localizedMessages,"pgr.complaint.category."+request.getService().getServiceCode());
 
         Long createdTime = serviceWrapper.getService().getAuditDetails().getCreatedTime();
         LocalDate date = Instant.ofEpochMilli(createdTime > 10 ? createdTime : createdTime * 1000)
@@ -539,26 +437,67 @@ public class NotificationService {
 
         String appLink = notificationUtil.getShortnerURL(config.getMobileDownloadLink());
 
-        if(messageForCitizen != null) {
-            messageForCitizen = messageForCitizen.replace("{complaint_type}", localisedComplaint);
-            messageForCitizen = messageForCitizen.replace("{id}", serviceWrapper.getService().getServiceRequestId());
-            messageForCitizen = messageForCitizen.replace("{date}", date.format(formatter));
-            messageForCitizen = messageForCitizen.replace("{download_link}", appLink);
-        }
-
-        if(messageForEmployee != null) {
-            messageForEmployee = messageForEmployee.replace("{complaint_type}", localisedComplaint);
-            messageForEmployee = messageForEmployee.replace("{id}", serviceWrapper.getService().getServiceRequestId());
-            messageForEmployee = messageForEmployee.replace("{date}", date.format(formatter));
-            messageForEmployee = messageForEmployee.replace("{download_link}", appLink);
+        for (Map<String, String> values : Arrays.asList(citizenValues, employeeValues)) {
+            values.put("complaint_type", localisedComplaint);
+            values.put("id", serviceWrapper.getService().getServiceRequestId());
+            values.put("date", date.format(formatter));
+            values.put("download_link", appLink);
         }
 
-        message.put(CITIZEN, Arrays.asList(new String[] {messageForCitizen, defaultMessage}));
-        message.put(EMPLOYEE, Arrays.asList(messageForEmployee));
+        message.put(CITIZEN, Arrays.asList(new String[] {render(messageForCitizen, citizenValues), render(defaultMessage, defaultValues)}));
+        message.put(EMPLOYEE, Arrays.asList(render(messageForEmployee, employeeValues)));
 
         return message;
     }
 
+    private static String render(MessageTemplate template, Map<String, String> values) {
+        return template == null ? null : template.render(values);
+    }
+
+    /**
+     * Fills in the department, designation and name of the employee the complaint is assigned to
+     *
+     * @param request PGR Request
+     * @param messageForCitizen Citizen message template
+     * @param citizenValues Citizen placeholder values
+     * @param assigneeUuid UUID of the assignee
+     */
+    private void enrichReassigneeValues(ServiceRequest request, MessageTemplate messageForCitizen, Map<String, String> citizenValues, String assigneeUuid) {
+        Map<String, String> reassigneeDetails  = getHRMSEmployee(request);
+
+        citizenValues.put("emp_department", reassigneeDetails.get(DEPARTMENT));
+        citizenValues.put("emp_designation", reassigneeDetails.get(DESIGNATION));
+
+        if (messageForCitizen.hasPlaceholder("emp_name"))
+            citizenValues.put("emp_name", fetchUserByUUID(assigneeUuid, request.getRequestInfo(), request.getService().getTenantId()).getName());
+    }
+
+    /**
+     * Fills in the ulb, employee name and AO designation of an employee message
+     *
+     * @param request PGR Request
+     * @param messageForEmployee Employee message template
+     * @param employeeValues Employee placeholder values
+     * @param employeeUuid UUID of the employee named in the message
+     */
+    private void enrichEmployeeValues(ServiceRequest request, MessageTemplate messageForEmployee, Map<String, String> employeeValues, String employeeUuid) {
+        if(messageForEmployee.hasPlaceholder("ulb"))
+            employeeValues.put("ulb", getLocalisedULB(request));
+
+        if (messageForEmployee.hasPlaceholder("emp_name"))
+            employeeValues.put("emp_name", fetchUserByUUID(employeeUuid, request.getRequestInfo(), request.getService().getTenantId()).getName());
+
+        if(messageForEmployee.hasPlaceholder("ao_designation")) {
+            LocalizedMessages commonMessages = notificationUtil.getLocalizedMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
+            employeeValues.put("ao_designation", commonMessages.getMessage("COMMON_MASTERS_DESIGNATION_AO"));
+        }
+    }
+
+    private String getLocalisedULB(ServiceRequest request) {
+        LocalizedMessages commonMessages = notificationUtil.getLocalizedMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
+        return notificationUtil.getCustomizedMsgForPlaceholder(commonMessages,request.getService().getAddress().getDistrict());
+    }
+
     /**
      * Fetches User Object based on the UUID.
      *
@@ -696,7 +635,7 @@ public class NotificationService {
         List<String> employeeName = null;
         String departmentFromMDMS;
 
-        String localisationMessageForPlaceholder =  notificationUtil.getLocalizationMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
+        LocalizedMessages localisationMessageForPlaceholder =  notificationUtil.getLocalizedMessages(request.getService().getTenantId(), request.getRequestInfo(),COMMON_MODULE);
         //HRSMS CALL
         StringBuilder url = hrmsUtils.getHRMSURI(request.getWorkflow().getAssignes());
         RequestInfoWrapper requestInfoWrapper = RequestInfoWrapper.builder().requestInfo(request.getRequestInfo()).build();
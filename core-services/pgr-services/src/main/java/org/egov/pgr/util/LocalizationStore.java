@@ -0,0 +1,114 @@
+package org.egov.pgr.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.pgr.config.PGRConfiguration;
+import org.egov.pgr.repository.ServiceRequestRepository;
+import org.egov.tracer.model.CustomException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the localization messages of each (tenant, locale, module) in memory as {@link LocalizedMessages}.
+ *
+ * Messages are searched once on first use and searched again in the background once they are older than
+ * pgr.localization.cache.refresh.minutes; the loaded messages keep serving while the search runs and a failed
+ * search keeps them. Messages not used for pgr.localization.cache.expire.minutes are dropped.
+ */
+@Slf4j
+@Component
+public class LocalizationStore {
+
+    private static final String KEY_SEPARATOR = "|";
+
+    private final ServiceRequestRepository serviceRequestRepository;
+
+    private final PGRConfiguration config;
+
+    private final boolean enabled;
+
+    private final LoadingCache<String, LocalizedMessages> messages;
+
+    @Autowired
+    public LocalizationStore(ServiceRequestRepository serviceRequestRepository, PGRConfiguration config,
+                             @Value("${pgr.localization.cache.enabled:true}") boolean enabled,
+                             @Value("${pgr.localization.cache.refresh.minutes:15}") long refreshMinutes,
+                             @Value("${pgr.localization.cache.expire.minutes:1440}") long expireMinutes,
+                             @Value("${pgr.localization.cache.max.size:500}") long maxSize) {
+        this.serviceRequestRepository = serviceRequestRepository;
+        this.config = config;
+        this.enabled = enabled;
+        this.messages = Caffeine.newBuilder()
+                .refreshAfterWrite(refreshMinutes, TimeUnit.MINUTES)
+                .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+                .maximumSize(maxSize)
+                .build(this::load);
+    }
+
+    /**
+     *
+     * @param tenantId Tenant ID, the state level tenant is used if localization is state level
+     * @param locale Locale
+     * @param module Module name
+     * @return Messages of the module, empty if they could not be fetched
+     */
+    public LocalizedMessages get(String tenantId, String locale, String module) {
+        String key = String.join(KEY_SEPARATOR, getLocalizationTenantId(tenantId), locale, module);
+        try {
+            return enabled ? messages.get(key) : load(key);
+        } catch (Exception e) {
+            log.warn("Fetching from localization failed", e);
+            return LocalizedMessages.EMPTY;
+        }
+    }
+
+    /**
+     * Drops every cached module, the next notifications search them again.
+     */
+    public void invalidateAll() {
+        messages.invalidateAll();
+    }
+
+    /**
+     *
+     * @param tenantId Tenant ID
+     * @param locale Locale
+     * @param module Module name
+     * @return Return uri
+     */
+    public StringBuilder getUri(String tenantId, String locale, String module) {
+        StringBuilder uri = new StringBuilder();
+        uri.append(config.getLocalizationHost()).append(config.getLocalizationContextPath())
+                .append(config.getLocalizationSearchEndpoint()).append("?").append("locale=").append(locale)
+                .append("&tenantId=").append(getLocalizationTenantId(tenantId)).append("&module=").append(module);
+        return uri;
+    }
+
+    private String getLocalizationTenantId(String tenantId) {
+        if (config.getIsLocalizationStateLevel())
+            return tenantId.split("\\.")[0];
+        return tenantId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private LocalizedMessages load(String key) {
+        String[] parts = key.split("\\" + KEY_SEPARATOR);
+        Object response = serviceRequestRepository.fetchResult(getUri(parts[0], parts[1], parts[2]), new RequestInfo());
+        if (!(response instanceof Map))
+            throw new CustomException("LOCALIZATION_ERROR", "Failed to fetch localization messages of module " + parts[2]);
+
+        List<Map<String, Object>> messageList = (List<Map<String, Object>>) ((Map<String, Object>) response).get("messages");
+        LocalizedMessages localizedMessages = LocalizedMessages.from(messageList == null ? Collections.emptyList() : messageList);
+        log.info("Loaded {} localization messages of module {} for tenant {} and locale {}", localizedMessages.size(),
+                parts[2], parts[0], parts[1]);
+        return localizedMessages;
+    }
+}
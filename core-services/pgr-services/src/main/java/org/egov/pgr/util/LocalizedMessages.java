@@ -0,0 +1,57 @@
+package org.egov.pgr.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The localization messages of one (tenant, locale, module), indexed by message code with each message compiled
+ * into a {@link MessageTemplate}.
+ */
+public class LocalizedMessages {
+
+    public static final LocalizedMessages EMPTY = new LocalizedMessages(Collections.emptyMap());
+
+    private final Map<String, MessageTemplate> templatesByCode;
+
+    private LocalizedMessages(Map<String, MessageTemplate> templatesByCode) {
+        this.templatesByCode = templatesByCode;
+    }
+
+    /**
+     * @param messages The messages list of a localization search response
+     * @return Indexed messages, the first message of a code wins
+     */
+    public static LocalizedMessages from(List<Map<String, Object>> messages) {
+        Map<String, MessageTemplate> templatesByCode = new HashMap<>(messages.size() * 2);
+        for (Map<String, Object> message : messages) {
+            Object code = message.get("code");
+            Object text = message.get("message");
+            if (code != null && text != null)
+                templatesByCode.putIfAbsent(code.toString(), MessageTemplate.compile(text.toString()));
+        }
+        return new LocalizedMessages(Collections.unmodifiableMap(templatesByCode));
+    }
+
+    /**
+     * @param code Localization code
+     * @return Compiled message of the code, null if there is none
+     */
+    public MessageTemplate getTemplate(String code) {
+        return templatesByCode.get(code);
+    }
+
+    /**
+     * @param code Localization code
+     * @return Message of the code, null if there is none
+     */
+    public String getMessage(String code) {
+        MessageTemplate template = templatesByCode.get(code);
+        return template == null ? null : template.getText();
+    }
+
+    public int size() {
+        return templatesByCode.size();
+    }
+}
@@ -0,0 +1,104 @@
+package org.egov.pgr.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A localization message split once into its literal text and its {placeholder} segments, so filling in a
+ * notification is a single pass over the segments instead of a search and replace per placeholder.
+ */
+public class MessageTemplate {
+
+    private final String text;
+
+    private final List<String> segments;
+
+    private final List<Boolean> placeholderSegments;
+
+    private final Set<String> placeholders;
+
+    private MessageTemplate(String text, List<String> segments, List<Boolean> placeholderSegments) {
+        this.text = text;
+        this.segments = segments;
+        this.placeholderSegments = placeholderSegments;
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < segments.size(); i++) {
+            if (placeholderSegments.get(i))
+                names.add(segments.get(i));
+        }
+        this.placeholders = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * @param text Localised message, with placeholders like {status}
+     * @return Compiled template
+     */
+    public static MessageTemplate compile(String text) {
+        List<String> segments = new ArrayList<>();
+        List<Boolean> placeholderSegments = new ArrayList<>();
+        int from = 0;
+        while (from < text.length()) {
+            int open = text.indexOf('{', from);
+            int close = open < 0 ? -1 : text.indexOf('}', open + 1);
+            if (open < 0 || close < 0) {
+                segments.add(text.substring(from));
+                placeholderSegments.add(false);
+                break;
+            }
+            if (open > from) {
+                segments.add(text.substring(from, open));
+                placeholderSegments.add(false);
+            }
+            segments.add(text.substring(open + 1, close));
+            placeholderSegments.add(true);
+            from = close + 1;
+        }
+        return new MessageTemplate(text, segments, placeholderSegments);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @param name Placeholder name, without braces
+     * @return true if the message contains {name}
+     */
+    public boolean hasPlaceholder(String name) {
+        return placeholders.contains(name);
+    }
+
+    /**
+     * Fills in the placeholders, placeholders without a value are kept as they are.
+     *
+     * @param values Placeholder values by name, without braces
+     * @return Rendered message
+     */
+    public String render(Map<String, String> values) {
+        if (placeholders.isEmpty())
+            return text;
+        StringBuilder message = new StringBuilder(text.length() + 64);
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (!placeholderSegments.get(i)) {
+                message.append(segment);
+                continue;
+            }
+            String value = values.get(segment);
+            if (value != null)
+                message.append(value);
+            else
+                message.append('{').append(segment).append('}');
+        }
+        return message.toString();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -1,23 +1,18 @@
 package org.egov.pgr.util;
 
-import com.jayway.jsonpath.JsonPath;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.pgr.config.PGRConfiguration;
 import org.egov.pgr.producer.Producer;
-import org.egov.pgr.repository.ServiceRequestRepository;
 import org.egov.pgr.web.models.Notification.EventRequest;
 import org.egov.pgr.web.models.Notification.SMSRequest;
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 
 import static org.egov.pgr.util.PGRConstants.NOTIFICATION_LOCALE;
@@ -26,9 +21,6 @@ import static org.egov.pgr.util.PGRConstants.NOTIFICATION_LOCALE;
 @Slf4j
 public class NotificationUtil {
 
-    @Autowired
-    private ServiceRequestRepository serviceRequestRepository;
-
     @Autowired
     private PGRConfiguration config;
 
@@ -38,18 +30,18 @@ public class NotificationUtil {
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private LocalizationStore localizationStore;
+
     /**
      *
      * @param tenantId Tenant ID
      * @param requestInfo Request Info object
      * @param module Module name
-     * @return Return Localisation Message
+     * @return Return uri
      */
-    public String getLocalizationMessages(String tenantId, RequestInfo requestInfo,String module) {
-        @SuppressWarnings("rawtypes")
-        LinkedHashMap responseMap = (LinkedHashMap) serviceRequestRepository.fetchResult(getUri(tenantId, requestInfo, module),
-                requestInfo);
-        return new JSONObject(responseMap).toString();
+    public StringBuilder getUri(String tenantId, RequestInfo requestInfo, String module) {
+        return localizationStore.getUri(tenantId, getLocale(requestInfo), module);
     }
 
     /**
@@ -57,22 +49,22 @@ public class NotificationUtil {
      * @param tenantId Tenant ID
      * @param requestInfo Request Info object
      * @param module Module name
-     * @return Return uri
+     * @return Return Localisation Messages indexed by code, from the localization store
      */
-    public StringBuilder getUri(String tenantId, RequestInfo requestInfo, String module) {
-
-        if (config.getIsLocalizationStateLevel())
-            tenantId = tenantId.split("\\.")[0];
+    public LocalizedMessages getLocalizedMessages(String tenantId, RequestInfo requestInfo, String module) {
+        return localizationStore.get(tenantId, getLocale(requestInfo), module);
+    }
 
+    /**
+     *
+     * @param requestInfo Request Info object
+     * @return Return locale of the request, the notification locale if it has none
+     */
+    public String getLocale(RequestInfo requestInfo) {
         String locale = NOTIFICATION_LOCALE;
         if (!StringUtils.isEmpty(requestInfo.getMsgId()) && requestInfo.getMsgId().split("|").length >= 2)
             locale = requestInfo.getMsgId().split("\\|")[1];
-        StringBuilder uri = new StringBuilder();
-        uri.append(config.getLocalizationHost()).append(config.getLocalizationContextPath())
-                .append(config.getLocalizationSearchEndpoint()).append("?").append("locale=").append(locale)
-                .append("&tenantId=").append(tenantId).append("&module=").append(module);
-
-        return uri;
+        return locale;
     }
 
     /**
@@ -80,53 +72,25 @@ public class NotificationUtil {
      * @param action Action
      * @param applicationStatus Application Status
      * @param roles CITIZEN or EMPLOYEE
-     * @param localizationMessage Localisation Message
-     * @return Return Customized Message based on localisation code
+     * @param localizedMessages Localisation Messages
+     * @return Return Customized Message template based on localisation code
      */
-    public String getCustomizedMsg(String action, String applicationStatus, String roles, String localizationMessage) {
+    public MessageTemplate getCustomizedMsg(String action, String applicationStatus, String roles, LocalizedMessages localizedMessages) {
         StringBuilder notificationCode = new StringBuilder();
 
         notificationCode.append("PGR_").append(roles.toUpperCase()).append("_").append(action.toUpperCase()).append("_").append(applicationStatus.toUpperCase()).append("_SMS_MESSAGE");
 
-        String path = "$..messages[?(@.code==\"{}\")].message";
-        path = path.replace("{}", notificationCode);
-        String message = null;
-        try {
-            ArrayList<String> messageObj = JsonPath.parse(localizationMessage).read(path);
-            if(messageObj != null && messageObj.size() > 0) {
-                message = messageObj.get(0);
-            }
-        } catch (Exception e) {
-            log.warn("Fetching from localization failed", e);
-        }
-
-        return message;
+        return localizedMessages.getTemplate(notificationCode.toString());
     }
 
     /**
      *
      * @param roles EMPLOYEE or CITIZEN
-     * @param localizationMessage Localisation Message
-     * @return Return localisation message based on default code
+     * @param localizedMessages Localisation Messages
+     * @return Return localisation message template based on default code
      */
-    public String getDefaultMsg(String roles, String localizationMessage) {
-        StringBuilder notificationCode = new StringBuilder();
-
-        notificationCode.append("PGR_").append("DEFAULT_").append(roles.toUpperCase()).append("_SMS_MESSAGE");
-
-        String path = "$..messages[?(@.code==\"{}\")].message";
-        path = path.replace("{}", notificationCode);
-        String message = null;
-        try {
-            ArrayList<String> messageObj = JsonPath.parse(localizationMessage).read(path);
-            if(messageObj != null && messageObj.size() > 0) {
-                message = messageObj.get(0);
-            }
-        } catch (Exception e) {
-            log.warn("Fetching from localization failed", e);
-        }
-
-        return message;
+    public MessageTemplate getDefaultMsg(String roles, LocalizedMessages localizedMessages) {
+        return localizedMessages.getTemplate("PGR_DEFAULT_" + roles.toUpperCase() + "_SMS_MESSAGE");
     }
 
     /**
@@ -176,23 +140,12 @@ public class NotificationUtil {
 
     /**
      *
-     * @param localizationMessage Localisation Code
+     * @param localizedMessages Localisation Messages
      * @param notificationCode Notification Code
      * @return Return Customized Message
      */
-    public String getCustomizedMsgForPlaceholder(String localizationMessage,String notificationCode) {
-        String path = "$..messages[?(@.code==\"{}\")].message";
-        path = path.replace("{}", notificationCode);
-        String message = null;
-        try {
-            ArrayList<String> messageObj = (ArrayList<String>) JsonPath.parse(localizationMessage).read(path);
-            if(messageObj != null && messageObj.size() > 0) {
-                message = messageObj.get(0);
-            }
-        } catch (Exception e) {
-            log.warn("Fetching from localization for placeholder failed", e);
-        }
-        return message;
+    public String getCustomizedMsgForPlaceholder(LocalizedMessages localizedMessages, String notificationCode) {
+        return localizedMessages.getMessage(notificationCode);
     }
 
 }
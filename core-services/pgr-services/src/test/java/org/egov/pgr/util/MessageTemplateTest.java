@@ -0,0 +1,33 @@
+package org.egov.pgr.util;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MessageTemplateTest {
+
+    @Test
+    public void rendersPlaceholdersAndKeepsUnknownOnes() {
+        MessageTemplate template = MessageTemplate.compile("Complaint {id} of {date} is {status}. {unknown}");
+        Map<String, String> values = new HashMap<>();
+        values.put("id", "PG-PGR-1");
+        values.put("date", "01/02/2023");
+        values.put("status", "resolved");
+
+        assertTrue(template.hasPlaceholder("status"));
+        assertFalse(template.hasPlaceholder("emp_name"));
+        assertEquals("Complaint PG-PGR-1 of 01/02/2023 is resolved. {unknown}", template.render(values));
+    }
+
+    @Test
+    public void rendersTextWithoutPlaceholdersAsIs() {
+        assertEquals("No placeholder {", MessageTemplate.compile("No placeholder {").render(Collections.emptyMap()));
+        assertEquals("", MessageTemplate.compile("").render(Collections.emptyMap()));
+    }
+}
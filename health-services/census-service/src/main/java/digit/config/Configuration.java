@@ -83,4 +83,7 @@ public class Configuration {
 
     @Value("${census.default.limit}")
     private Integer defaultLimit;
+
+    @Value("${census.search.single.query.enabled:false}")
+    private Boolean censusSearchSingleQueryEnabled;
 }
@@ -18,4 +18,6 @@ public interface CensusRepository {
     public Integer count(CensusSearchCriteria censusSearchCriteria);
 
     public Map<String, Integer> statusCount(CensusSearchRequest censusSearchRequest);
+
+    public CensusSearchResult searchWithCount(CensusSearchRequest censusSearchRequest);
 }
@@ -5,6 +5,7 @@ import digit.kafka.Producer;
 import digit.repository.CensusRepository;
 import digit.repository.querybuilder.CensusQueryBuilder;
 import digit.repository.rowmapper.CensusRowMapper;
+import digit.repository.rowmapper.CensusSearchResultRowMapper;
 import digit.repository.rowmapper.StatusCountRowMapper;
 import digit.util.CommonUtil;
 import digit.web.models.*;
@@ -39,7 +40,9 @@ public class CensusRepositoryImpl implements CensusRepository {
 
     private CommonUtil commonUtil;
 
-    public CensusRepositoryImpl(Producer producer, Configuration config, CensusQueryBuilder queryBuilder, CensusRowMapper censusRowMapper, JdbcTemplate jdbcTemplate, StatusCountRowMapper statusCountRowMapper,CommonUtil commonUtil) {
+    private CensusSearchResultRowMapper censusSearchResultRowMapper;
+
+    public CensusRepositoryImpl(Producer producer, Configuration config, CensusQueryBuilder queryBuilder, CensusRowMapper censusRowMapper, JdbcTemplate jdbcTemplate, StatusCountRowMapper statusCountRowMapper,CommonUtil commonUtil, CensusSearchResultRowMapper censusSearchResultRowMapper) {
         this.producer = producer;
         this.config = config;
         this.queryBuilder = queryBuilder;
@@ -47,6 +50,7 @@ public class CensusRepositoryImpl implements CensusRepository {
         this.jdbcTemplate = jdbcTemplate;
         this.statusCountRowMapper = statusCountRowMapper;
         this.commonUtil = commonUtil;
+        this.censusSearchResultRowMapper = censusSearchResultRowMapper;
     }
 
     /**
@@ -133,12 +137,48 @@ public class CensusRepositoryImpl implements CensusRepository {
         String query = queryBuilder.getCensusStatusCountQuery(censusSearchRequest.getCensusSearchCriteria(), preparedStmtList);
         Map<String, Integer> statusCountMap = jdbcTemplate.query(query, statusCountRowMapper, preparedStmtList.toArray());
 
+        addMissingStatuses(statusCountMap, statusList);
+
+        return statusCountMap;
+    }
+
+    /**
+     * Searches for a page of census records along with their total count and status count in a single query, in
+     * place of search, count and statusCount.
+     *
+     * @param censusSearchRequest The request with search criteria for filtering census records.
+     * @return The census records matching the search criteria with their total count and status count.
+     */
+    @Override
+    public CensusSearchResult searchWithCount(CensusSearchRequest censusSearchRequest) {
+        CensusSearchCriteria censusSearchCriteria = censusSearchRequest.getCensusSearchCriteria();
+
+        // An empty area code list matches no census, but the status count does not filter on area codes
+        if(censusSearchCriteria.getAreaCodes() != null && censusSearchCriteria.getAreaCodes().isEmpty()) {
+            return CensusSearchResult.builder()
+                    .census(new ArrayList<>())
+                    .totalCount(0)
+                    .statusCount(statusCount(censusSearchRequest))
+                    .build();
+        }
+
+        List<String> statusList = commonUtil.getStatusFromBusinessService(censusSearchRequest.getRequestInfo(), CENSUS_BUSINESS_SERVICE, censusSearchCriteria.getTenantId());
+
+        List<Object> preparedStmtList = new ArrayList<>();
+        String query = queryBuilder.getCensusPageQuery(censusSearchCriteria, preparedStmtList);
+        log.info("Census page query: " + query);
+        CensusSearchResult searchResult = jdbcTemplate.query(query, censusSearchResultRowMapper, preparedStmtList.toArray());
+
+        addMissingStatuses(searchResult.getStatusCount(), statusList);
+
+        return searchResult;
+    }
+
+    private void addMissingStatuses(Map<String, Integer> statusCountMap, List<String> statusList) {
         statusList.forEach(status -> {
             if(ObjectUtils.isEmpty(statusCountMap.get(status)))
                 statusCountMap.put(status, 0);
         });
-
-        return statusCountMap;
     }
 
     /**
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -26,9 +27,11 @@ public class CensusQueryBuilder {
 
     private static final String CENSUS_SEARCH_BASE_QUERY = "SELECT id FROM census cen";
 
-    private static final String CENSUS_QUERY = "SELECT cen.id as census_id, cen.tenant_id as census_tenant_id, cen.hierarchy_type as census_hierarchy_type, cen.boundary_code as census_boundary_code, cen.type as census_type, cen.total_population as census_total_population, cen.effective_from as census_effective_from, cen.effective_to as census_effective_to, cen.source as census_source, cen.status as census_status, cen.assignee as census_assignee, cen.boundary_ancestral_path as census_boundary_ancestral_path, cen.facility_assigned as census_facility_assigned, cen.additional_details as census_additional_details, cen.created_by as census_created_by, cen.created_time as census_created_time, cen.last_modified_by as census_last_modified_by, cen.last_modified_time as census_last_modified_time, \n" +
+    private static final String CENSUS_COLUMNS = "cen.id as census_id, cen.tenant_id as census_tenant_id, cen.hierarchy_type as census_hierarchy_type, cen.boundary_code as census_boundary_code, cen.type as census_type, cen.total_population as census_total_population, cen.effective_from as census_effective_from, cen.effective_to as census_effective_to, cen.source as census_source, cen.status as census_status, cen.assignee as census_assignee, cen.boundary_ancestral_path as census_boundary_ancestral_path, cen.facility_assigned as census_facility_assigned, cen.additional_details as census_additional_details, cen.created_by as census_created_by, cen.created_time as census_created_time, cen.last_modified_by as census_last_modified_by, cen.last_modified_time as census_last_modified_time, \n" +
             "\t   pbd.id as population_by_demographics_id, pbd.census_id as population_by_demographics_census_id, pbd.demographic_variable as population_by_demographics_demographic_variable, pbd.population_distribution as population_by_demographics_population_distribution, pbd.created_by as population_by_demographics_created_by, pbd.created_time as population_by_demographics_created_time, pbd.last_modified_by as population_by_demographics_last_modified_by, pbd.last_modified_time as population_by_demographics_last_modified_time, \n" +
-            "\t   adf.id as additional_field_id, adf.census_id as additional_field_census_id, adf.key as additional_field_key, adf.value as additional_field_value, adf.show_on_ui as additional_field_show_on_ui, adf.editable as additional_field_editable, adf.order as additional_field_order \n" +
+            "\t   adf.id as additional_field_id, adf.census_id as additional_field_census_id, adf.key as additional_field_key, adf.value as additional_field_value, adf.show_on_ui as additional_field_show_on_ui, adf.editable as additional_field_editable, adf.order as additional_field_order \n";
+
+    private static final String CENSUS_QUERY = "SELECT " + CENSUS_COLUMNS +
             "\t   FROM census cen \n" +
             "\t   LEFT JOIN population_by_demographics pbd ON cen.id = pbd.census_id \n" +
             "\t   LEFT JOIN additional_field adf ON cen.id = adf.census_id";
@@ -39,6 +42,20 @@ public class CensusQueryBuilder {
 
     private static final String CENSUS_STATUS_COUNT_QUERY = "SELECT COUNT(id) as census_status_count, status as census_status FROM (SELECT id, status FROM census {INTERNAL_QUERY}) as census_status_map GROUP BY census_status";
 
+    private static final String CENSUS_PAGE_FILTER_BASE_QUERY = "SELECT id, last_modified_time FROM census cen";
+
+    private static final String CENSUS_PAGE_QUERY = "WITH filtered AS ( {FILTER_QUERY} ), \n" +
+            "\t   page AS ( SELECT id, last_modified_time FROM filtered ORDER BY last_modified_time DESC OFFSET ? LIMIT ? ), \n" +
+            "\t   status_count AS ( {STATUS_COUNT_QUERY} ), \n" +
+            "\t   totals AS ( SELECT (SELECT COUNT(id) FROM filtered) AS census_total_count, (SELECT jsonb_object_agg(census_status, census_status_count) FROM status_count WHERE census_status IS NOT NULL) AS census_status_count_map ) \n" +
+            "SELECT totals.census_total_count, totals.census_status_count_map, " + CENSUS_COLUMNS +
+            "\t   FROM totals \n" +
+            "\t   LEFT JOIN page ON TRUE \n" +
+            "\t   LEFT JOIN census cen ON cen.id = page.id \n" +
+            "\t   LEFT JOIN population_by_demographics pbd ON cen.id = pbd.census_id \n" +
+            "\t   LEFT JOIN additional_field adf ON cen.id = adf.census_id \n" +
+            "\t   ORDER BY page.last_modified_time DESC, page.id";
+
     private static final String BULK_CENSUS_UPDATE_QUERY = "UPDATE census SET status = ?, assignee = ?, last_modified_by = ?, last_modified_time = ?, additional_details = ?, facility_assigned = ? WHERE id = ?";
 
     /**
@@ -97,15 +114,43 @@ public class CensusQueryBuilder {
         return buildCensusSearchQuery(censusSearchCriteria, preparedStmtList, Boolean.FALSE, Boolean.TRUE);
     }
 
+    /**
+     * Constructs a single query that returns the requested page of Census records, with their demographics and
+     * additional fields, along with the total count and the status count for the given search criteria. Every row
+     * carries both counts; when no Census record is on the page, one row with only the counts is returned.
+     *
+     * @param searchCriteria   The criteria used for filtering Census records.
+     * @param preparedStmtList A list to store prepared statement parameters.
+     * @return A SQL query string for the page of Census records and their counts.
+     */
+    public String getCensusPageQuery(CensusSearchCriteria searchCriteria, List<Object> preparedStmtList) {
+        // Each sub query decides between WHERE and AND from its own parameters
+        List<Object> filterStmtList = new ArrayList<>();
+        String filterQuery = buildCensusSearchQuery(CENSUS_PAGE_FILTER_BASE_QUERY, searchCriteria, filterStmtList, Boolean.FALSE, Boolean.FALSE);
+        List<Object> statusCountStmtList = new ArrayList<>();
+        String statusCountQuery = getCensusStatusCountQuery(searchCriteria, statusCountStmtList);
+
+        preparedStmtList.addAll(filterStmtList);
+        preparedStmtList.add(!ObjectUtils.isEmpty(searchCriteria.getOffset()) ? searchCriteria.getOffset() : config.getDefaultOffset());
+        preparedStmtList.add(!ObjectUtils.isEmpty(searchCriteria.getLimit()) ? searchCriteria.getLimit() : config.getDefaultLimit());
+        preparedStmtList.addAll(statusCountStmtList);
+        return CENSUS_PAGE_QUERY.replace("{FILTER_QUERY}", filterQuery).replace("{STATUS_COUNT_QUERY}", statusCountQuery);
+    }
+
+    private String buildCensusSearchQuery(CensusSearchCriteria criteria, List<Object> preparedStmtList, Boolean isCount, Boolean isStatusCount) {
+        return buildCensusSearchQuery(CENSUS_SEARCH_BASE_QUERY, criteria, preparedStmtList, isCount, isStatusCount);
+    }
+
     /**
      * Constructs query based on the provided search criteria
      *
+     * @param baseQuery        The query the filters are appended to.
      * @param criteria         The criteria used for filtering Census ids.
      * @param preparedStmtList A list to store prepared statement parameters.
      * @return SQL query string for searching Census ids based on search criteria
      */
-    private String buildCensusSearchQuery(CensusSearchCriteria criteria, List<Object> preparedStmtList, Boolean isCount, Boolean isStatusCount) {
-        StringBuilder builder = new StringBuilder(CENSUS_SEARCH_BASE_QUERY);
+    private String buildCensusSearchQuery(String baseQuery, CensusSearchCriteria criteria, List<Object> preparedStmtList, Boolean isCount, Boolean isStatusCount) {
+        StringBuilder builder = new StringBuilder(baseQuery);
 
         if(isStatusCount) {
             builder = new StringBuilder();
@@ -165,15 +210,13 @@ public class CensusQueryBuilder {
 
         if (!ObjectUtils.isEmpty(criteria.getAssignee())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ").append(queryUtil.createQuery(Collections.singleton(criteria.getAssignee()).size())).append(" ]").append("::text[] ");
-            builder.append(" && string_to_array(assignee, ',') ");
+            builder.append(" assignee_array && ARRAY [ ").append(queryUtil.createQuery(Collections.singleton(criteria.getAssignee()).size())).append(" ]").append("::text[] ");
             queryUtil.addToPreparedStatement(preparedStmtList, Collections.singleton(criteria.getAssignee()));
         }
 
         if (!CollectionUtils.isEmpty(criteria.getJurisdiction())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ").append(queryUtil.createQuery(criteria.getJurisdiction().size())).append(" ]").append("::text[] ");
-            builder.append(" && string_to_array(boundary_ancestral_path, '|') ");
+            builder.append(" boundary_ancestral_path_array && ARRAY [ ").append(queryUtil.createQuery(criteria.getJurisdiction().size())).append(" ]").append("::text[] ");
             queryUtil.addToPreparedStatement(preparedStmtList, criteria.getJurisdiction());
         }
 
@@ -8,6 +8,7 @@ import org.egov.common.contract.models.AuditDetails;
 import org.postgresql.util.PGobject;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
@@ -35,12 +36,29 @@ public class CensusRowMapper implements ResultSetExtractor<List<Census>> {
      */
     @Override
     public List<Census> extractData(ResultSet rs) throws SQLException, DataAccessException {
+        return extractData(rs, row -> {});
+    }
+
+    /**
+     * Creates a list of Census record based on the ResultSet, handing every row to the row callback handler before
+     * mapping it. Rows without a census, such as the only row of a search page that is empty, are skipped.
+     *
+     * @param rs                 the ResultSet containing data.
+     * @param rowCallbackHandler reads the columns of each row that are not part of the census.
+     * @return a list of Census record
+     * @throws SQLException
+     */
+    public List<Census> extractData(ResultSet rs, RowCallbackHandler rowCallbackHandler) throws SQLException {
         Map<String, Census> censusMap = new LinkedHashMap<>();
         Set<String> populationByDemographicSet = new HashSet<>();
         Set<String> additionalFieldSet = new HashSet<>();
 
         while (rs.next()) {
+            rowCallbackHandler.processRow(rs);
             String censusId = rs.getString("census_id");
+            if (ObjectUtils.isEmpty(censusId)) {
+                continue;
+            }
             Census censusEntry = censusMap.get(censusId);
 
             if (ObjectUtils.isEmpty(censusEntry)) {
@@ -0,0 +1,61 @@
+package digit.repository.rowmapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import digit.util.QueryUtil;
+import digit.web.models.Census;
+import digit.web.models.CensusSearchResult;
+import org.postgresql.util.PGobject;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class CensusSearchResultRowMapper implements ResultSetExtractor<CensusSearchResult> {
+
+    private CensusRowMapper censusRowMapper;
+
+    private QueryUtil queryUtil;
+
+    public CensusSearchResultRowMapper(CensusRowMapper censusRowMapper, QueryUtil queryUtil) {
+        this.censusRowMapper = censusRowMapper;
+        this.queryUtil = queryUtil;
+    }
+
+    /**
+     * Creates the page of Census records and its counts from the result set of the census page query, where every
+     * row carries the total count and the status count.
+     *
+     * @param rs the ResultSet containing data.
+     * @return the page of Census records along with the total count and status count
+     * @throws SQLException
+     * @throws DataAccessException
+     */
+    @Override
+    public CensusSearchResult extractData(ResultSet rs) throws SQLException, DataAccessException {
+        CensusSearchResult searchResult = new CensusSearchResult();
+
+        List<Census> census = censusRowMapper.extractData(rs, row -> {
+            // The counts are the same on every row
+            if (searchResult.getTotalCount() == null) {
+                searchResult.setTotalCount(row.getInt("census_total_count"));
+                searchResult.setStatusCount(getStatusCount((PGobject) row.getObject("census_status_count_map")));
+            }
+        });
+        searchResult.setCensus(census);
+
+        return searchResult;
+    }
+
+    private Map<String, Integer> getStatusCount(PGobject statusCountMap) {
+        Map<String, Integer> statusCount = new HashMap<>();
+        JsonNode statusCountNode = queryUtil.parseJson(statusCountMap);
+        statusCountNode.fields().forEachRemaining(entry -> statusCount.put(entry.getKey(), entry.getValue().asInt()));
+        return statusCount;
+    }
+}
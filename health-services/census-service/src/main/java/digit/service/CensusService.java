@@ -1,5 +1,6 @@
 package digit.service;
 
+import digit.config.Configuration;
 import digit.repository.CensusRepository;
 import digit.service.enrichment.CensusEnrichment;
 import digit.service.enrichment.CensusTimeframeEnrichment;
@@ -10,6 +11,7 @@ import digit.web.models.BulkCensusRequest;
 import digit.web.models.CensusRequest;
 import digit.web.models.CensusResponse;
 import digit.web.models.CensusSearchRequest;
+import digit.web.models.CensusSearchResult;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
@@ -29,13 +31,16 @@ public class CensusService {
 
     private WorkflowService workflow;
 
-    public CensusService(ResponseInfoFactory responseInfoFactory, CensusRepository repository, CensusValidator validator, CensusEnrichment enrichment, CensusTimeframeEnrichment timeframeEnrichment, WorkflowService workflow) {
+    private Configuration config;
+
+    public CensusService(ResponseInfoFactory responseInfoFactory, CensusRepository repository, CensusValidator validator, CensusEnrichment enrichment, CensusTimeframeEnrichment timeframeEnrichment, WorkflowService workflow, Configuration config) {
         this.responseInfoFactory = responseInfoFactory;
         this.repository = repository;
         this.validator = validator;
         this.enrichment = enrichment;
         this.timeframeEnrichment = timeframeEnrichment;
         this.workflow = workflow;
+        this.config = config;
     }
 
     /**
@@ -75,6 +80,18 @@ public class CensusService {
      */
     public CensusResponse search(CensusSearchRequest request) {
 
+        // Fetch the census records along with their total count and status count in a single query
+        if (config.getCensusSearchSingleQueryEnabled()) {
+            CensusSearchResult searchResult = repository.searchWithCount(request);
+
+            return CensusResponse.builder()
+                    .responseInfo(responseInfoFactory.createResponseInfoFromRequestInfo(request.getRequestInfo(), true))
+                    .census(searchResult.getCensus())
+                    .totalCount(searchResult.getTotalCount())
+                    .statusCount(searchResult.getStatusCount())
+                    .build();
+        }
+
         return CensusResponse.builder()
                 .responseInfo(responseInfoFactory.createResponseInfoFromRequestInfo(request.getRequestInfo(), true))
                 .census(repository.search(request.getCensusSearchCriteria()))
@@ -0,0 +1,26 @@
+package digit.web.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of census records along with the total count and the status count of the search that returned it.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CensusSearchResult {
+
+    private List<Census> census = null;
+
+    private Integer totalCount = null;
+
+    private Map<String, Integer> statusCount = null;
+
+}
@@ -0,0 +1,8 @@
+-- Jurisdiction and assignee searches match against these arrays so that they can use the GIN indexes below
+-- instead of splitting boundary_ancestral_path and assignee on every row. Being generated, the arrays follow every
+-- insert and update of the source columns, including the ones made through the persister.
+ALTER TABLE census ADD COLUMN IF NOT EXISTS boundary_ancestral_path_array TEXT[] GENERATED ALWAYS AS (string_to_array(boundary_ancestral_path, '|')) STORED;
+ALTER TABLE census ADD COLUMN IF NOT EXISTS assignee_array TEXT[] GENERATED ALWAYS AS (string_to_array(assignee, ',')) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_census_boundary_ancestral_path_array ON census USING GIN (boundary_ancestral_path_array);
+CREATE INDEX IF NOT EXISTS idx_census_assignee_array ON census USING GIN (assignee_array);
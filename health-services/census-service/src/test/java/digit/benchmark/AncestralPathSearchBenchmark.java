@@ -0,0 +1,136 @@
+package digit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the census search of a district-level reviewer, the total count and the first page of ids, filtering
+ * with {@code string_to_array} on every row as the census and plan query builders used to, with the overlap on the
+ * GIN-indexed {@code boundary_ancestral_path_array} and {@code assignee_array} generated columns they filter on now.
+ *
+ * <p>Needs Postgres, point it at a local database with
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/bench -Dbenchmark.jdbc.user=.. -Dbenchmark.jdbc.password=..}.
+ * A {@code census_benchmark} table with the census columns and indexes the migrations create is filled with
+ * {@code rows} census rows spread over 30 districts, 600 blocks and 200 assignees; it is kept between runs of the
+ * same size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AncestralPathSearchBenchmark {
+
+    private static final String SEARCH = "SELECT id FROM census_benchmark WHERE tenant_id = ? AND %s"
+            + " ORDER BY last_modified_time DESC OFFSET 0 LIMIT 10";
+
+    private static final String COUNT = "SELECT COUNT(id) AS total_count FROM ( SELECT id FROM census_benchmark"
+            + " WHERE tenant_id = ? AND %s ) AS subquery";
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"jurisdiction", "assignee"})
+    private String filter;
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private String value;
+
+    private String splitPerRowPredicate;
+
+    private String indexedPredicate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/postgres");
+        if (!url.startsWith("jdbc:postgresql")) {
+            throw new IllegalStateException("AncestralPathSearchBenchmark needs a Postgres benchmark.jdbc.url");
+        }
+        dataSource = new SingleConnectionDataSource(url, System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", ""), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        createTable();
+
+        if ("jurisdiction".equals(filter)) {
+            value = "D7";
+            splitPerRowPredicate = "ARRAY [ ? ]::text[] && string_to_array(boundary_ancestral_path, '|')";
+            indexedPredicate = "boundary_ancestral_path_array && ARRAY [ ? ]::text[]";
+        } else {
+            value = "U42";
+            splitPerRowPredicate = "ARRAY [ ? ]::text[] && string_to_array(assignee, ',')";
+            indexedPredicate = "assignee_array && ARRAY [ ? ]::text[]";
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void splitPerRow(Blackhole blackhole) {
+        search(splitPerRowPredicate, blackhole);
+    }
+
+    @Benchmark
+    public void indexed(Blackhole blackhole) {
+        search(indexedPredicate, blackhole);
+    }
+
+    private void search(String predicate, Blackhole blackhole) {
+        blackhole.consume(jdbcTemplate.queryForObject(String.format(COUNT, predicate), Long.class, "mz", value));
+        blackhole.consume(jdbcTemplate.queryForList(String.format(SEARCH, predicate), String.class, "mz", value));
+    }
+
+    private void createTable() {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables"
+                + " WHERE table_name = 'census_benchmark'", Long.class);
+        if (existing != null && existing > 0
+                && jdbcTemplate.queryForObject("SELECT COUNT(*) FROM census_benchmark", Long.class) == rows) {
+            return;
+        }
+        jdbcTemplate.execute("DROP TABLE IF EXISTS census_benchmark");
+        jdbcTemplate.execute("CREATE TABLE census_benchmark (id character varying(64) PRIMARY KEY,"
+                + " tenant_id character varying(64) NOT NULL, boundary_code character varying(64) NOT NULL,"
+                + " status character varying(255), assignee TEXT, boundary_ancestral_path TEXT NOT NULL,"
+                + " last_modified_time bigint NOT NULL)");
+        jdbcTemplate.execute("INSERT INTO census_benchmark SELECT md5(i::text), 'mz', 'L' || i, 'PENDING_FOR_VALIDATION',"
+                + " 'U' || (i % 200) || ',U' || ((i + 7) % 200),"
+                + " 'MZ|D' || (i % 30) || '|B' || (i % 600) || '|L' || i, 1700000000000 + i"
+                + " FROM generate_series(1, " + rows + ") AS i");
+        jdbcTemplate.execute("ALTER TABLE census_benchmark ADD COLUMN boundary_ancestral_path_array TEXT[]"
+                + " GENERATED ALWAYS AS (string_to_array(boundary_ancestral_path, '|')) STORED");
+        jdbcTemplate.execute("ALTER TABLE census_benchmark ADD COLUMN assignee_array TEXT[]"
+                + " GENERATED ALWAYS AS (string_to_array(assignee, ',')) STORED");
+        jdbcTemplate.execute("CREATE INDEX ON census_benchmark USING GIN (boundary_ancestral_path_array)");
+        jdbcTemplate.execute("CREATE INDEX ON census_benchmark USING GIN (assignee_array)");
+        jdbcTemplate.execute("ANALYZE census_benchmark");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AncestralPathSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
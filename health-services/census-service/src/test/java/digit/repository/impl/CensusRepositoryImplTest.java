@@ -0,0 +1,198 @@
+package digit.repository.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digit.config.Configuration;
+import digit.kafka.Producer;
+import digit.repository.querybuilder.CensusQueryBuilder;
+import digit.repository.rowmapper.CensusRowMapper;
+import digit.repository.rowmapper.CensusSearchResultRowMapper;
+import digit.repository.rowmapper.StatusCountRowMapper;
+import digit.util.CommonUtil;
+import digit.util.QueryUtil;
+import digit.web.models.AdditionalField;
+import digit.web.models.Census;
+import digit.web.models.CensusSearchCriteria;
+import digit.web.models.CensusSearchRequest;
+import digit.web.models.CensusSearchResult;
+import digit.web.models.PopulationByDemographic;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Checks that the single census page query returns what the id-first search, count and status count queries return.
+ * Both need Postgres, point the test at a local database with
+ * {@code -Dtest.jdbc.url=jdbc:postgresql://localhost:5432/census -Dtest.jdbc.user=.. -Dtest.jdbc.password=..};
+ * the migrations are run into a {@code census_search_test} schema that is dropped afterwards.
+ */
+@ExtendWith(MockitoExtension.class)
+@EnabledIfSystemProperty(named = "test.jdbc.url", matches = ".+")
+class CensusRepositoryImplTest {
+
+    private static final String SCHEMA = "census_search_test";
+
+    private static SingleConnectionDataSource dataSource;
+
+    private static Flyway flyway;
+
+    @Mock
+    private Producer producer;
+
+    @Mock
+    private CommonUtil commonUtil;
+
+    private CensusRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("currentSchema", SCHEMA);
+        dataSource = new SingleConnectionDataSource(System.getProperty("test.jdbc.url"),
+                System.getProperty("test.jdbc.user"), System.getProperty("test.jdbc.password"), true);
+        dataSource.setConnectionProperties(connectionProperties);
+        flyway = Flyway.configure().dataSource(dataSource).schemas(SCHEMA)
+                .locations("classpath:db/migration/main").cleanDisabled(false).load();
+        flyway.clean();
+        flyway.migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 1; i <= 12; i++) {
+            // Distinct modification times, so that both searches have a single order to return
+            jdbcTemplate.update("INSERT INTO census (id, tenant_id, hierarchy_type, boundary_code, type, total_population,"
+                            + " effective_from, source, status, assignee, facility_assigned, boundary_ancestral_path,"
+                            + " additional_details, created_by, created_time, last_modified_by, last_modified_time)"
+                            + " VALUES (?, 'mz', 'ADMIN', ?, 'people', ?, 1700000000000, 'MICROPLAN-1', ?, ?, false, ?,"
+                            + " '{}'::jsonb, 'user', 1700000000000, 'user', ?)",
+                    "census-" + i, "L" + i, 1000L * i, i % 3 == 0 ? "VALIDATED" : "PENDING_FOR_VALIDATION",
+                    "U" + (i % 4) + ",U" + ((i + 1) % 4), "MZ|D" + (i % 2) + "|L" + i, 1700000000000L + i);
+            // Two demographics and two additional fields make four rows per census in both searches
+            for (String variable : List.of("age", "gender")) {
+                jdbcTemplate.update("INSERT INTO population_by_demographics (id, census_id, demographic_variable,"
+                                + " population_distribution, created_by, created_time, last_modified_by, last_modified_time)"
+                                + " VALUES (?, ?, ?, '{\"share\": 50}'::jsonb, 'user', 1700000000000, 'user', 1700000000000)",
+                        "pbd-" + variable + "-" + i, "census-" + i, variable);
+            }
+            for (int order = 1; order <= 2; order++) {
+                jdbcTemplate.update("INSERT INTO additional_field (id, census_id, key, value, show_on_ui, editable, \"order\")"
+                        + " VALUES (?, ?, ?, ?, true, true, ?)", "adf-" + order + "-" + i, "census-" + i, "FIELD_" + order, 10 * i, order);
+            }
+        }
+        // A census of another source, which neither the search nor the status count returns
+        jdbcTemplate.update("INSERT INTO census (id, tenant_id, hierarchy_type, boundary_code, type, total_population,"
+                + " effective_from, source, status, boundary_ancestral_path, created_by, created_time, last_modified_by,"
+                + " last_modified_time) VALUES ('census-other', 'mz', 'ADMIN', 'L0', 'people', 1, 1700000000000,"
+                + " 'MICROPLAN-2', 'VALIDATED', 'MZ|D0|L0', 'user', 1700000000000, 'user', 1800000000000)");
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        if (flyway != null) {
+            flyway.clean();
+        }
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Configuration config = new Configuration();
+        config.setDefaultOffset(0);
+        config.setDefaultLimit(10);
+        QueryUtil queryUtil = BeanUtils.instantiateClass(QueryUtil.class.getDeclaredConstructor(Configuration.class,
+                ObjectMapper.class), config, new ObjectMapper());
+        CensusRowMapper censusRowMapper = new CensusRowMapper(queryUtil);
+        repository = new CensusRepositoryImpl(producer, config, new CensusQueryBuilder(queryUtil, config), censusRowMapper,
+                new JdbcTemplate(dataSource), new StatusCountRowMapper(), commonUtil,
+                new CensusSearchResultRowMapper(censusRowMapper, queryUtil));
+
+        lenient().when(commonUtil.getStatusFromBusinessService(any(), anyString(), anyString()))
+                .thenReturn(List.of("PENDING_FOR_VALIDATION", "VALIDATED", "PENDING_FOR_APPROVAL"));
+    }
+
+    @Test
+    @DisplayName("should return the same page and counts as the id-first search for a jurisdiction")
+    void shouldMatchIdFirstSearchForJurisdiction() {
+        CensusSearchResult searchResult = assertSameAsIdFirstSearch(CensusSearchCriteria.builder().tenantId("mz")
+                .source("MICROPLAN-1").jurisdiction(List.of("D0")).offset(1).limit(3).build());
+
+        assertEquals(List.of("census-10", "census-8", "census-6"), searchResult.getCensus().stream().map(Census::getId).toList());
+        assertEquals(6, searchResult.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("should count every status of the search while returning only the status searched for")
+    void shouldMatchIdFirstSearchForStatus() {
+        CensusSearchResult searchResult = assertSameAsIdFirstSearch(CensusSearchCriteria.builder().tenantId("mz")
+                .source("MICROPLAN-1").status("VALIDATED").assignee("U1").build());
+
+        assertEquals(List.of("census-12", "census-9"), searchResult.getCensus().stream().map(Census::getId).toList());
+        assertEquals(8, searchResult.getStatusCount().get("PENDING_FOR_VALIDATION"));
+        assertEquals(4, searchResult.getStatusCount().get("VALIDATED"));
+        assertEquals(0, searchResult.getStatusCount().get("PENDING_FOR_APPROVAL"));
+    }
+
+    @Test
+    @DisplayName("should return the counts with an empty page when no census matches")
+    void shouldMatchIdFirstSearchForEmptyPage() {
+        CensusSearchResult searchResult = assertSameAsIdFirstSearch(CensusSearchCriteria.builder().tenantId("mz")
+                .source("MICROPLAN-1").assignee("U9").build());
+
+        assertTrue(searchResult.getCensus().isEmpty());
+        assertEquals(0, searchResult.getTotalCount());
+        assertEquals(8, searchResult.getStatusCount().get("PENDING_FOR_VALIDATION"));
+    }
+
+    @Test
+    @DisplayName("should return the counts with an empty page when the offset is past the last census")
+    void shouldMatchIdFirstSearchForOffsetOutOfRange() {
+        CensusSearchResult searchResult = assertSameAsIdFirstSearch(CensusSearchCriteria.builder().tenantId("mz")
+                .source("MICROPLAN-1").offset(100).limit(10).build());
+
+        assertTrue(searchResult.getCensus().isEmpty());
+        assertEquals(12, searchResult.getTotalCount());
+    }
+
+    private CensusSearchResult assertSameAsIdFirstSearch(CensusSearchCriteria criteria) {
+        CensusSearchRequest request = CensusSearchRequest.builder().censusSearchCriteria(criteria).build();
+
+        List<Census> census = repository.search(criteria);
+        Integer totalCount = repository.count(criteria);
+        CensusSearchResult searchResult = repository.searchWithCount(request);
+
+        assertEquals(census.stream().map(Census::getId).toList(), searchResult.getCensus().stream().map(Census::getId).toList());
+        assertEquals(sortChildren(census), sortChildren(searchResult.getCensus()));
+        assertEquals(totalCount, searchResult.getTotalCount());
+        assertEquals(repository.statusCount(request), searchResult.getStatusCount());
+        return searchResult;
+    }
+
+    // Neither search orders the rows of a census, so its demographics and additional fields can come in any order
+    private List<Census> sortChildren(List<Census> census) {
+        census.forEach(entry -> {
+            entry.getPopulationByDemographics().sort(Comparator.comparing(PopulationByDemographic::getId));
+            entry.getAdditionalFields().sort(Comparator.comparing(AdditionalField::getId));
+        });
+        return census;
+    }
+}
@@ -8,6 +8,7 @@ import org.egov.common.models.household.HouseholdMemberBulkRequest;
 import org.egov.common.models.individual.Individual;
 import org.egov.common.models.individual.IndividualBulkResponse;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.WritesEntities;
 import org.egov.household.repository.HouseholdMemberRepository;
 import org.egov.household.service.IndividualService;
 import org.egov.tracer.model.CustomException;
@@ -28,6 +29,7 @@ import static org.egov.household.utils.ValidatorUtil.getHouseholdMembersWithNonN
 
 @Component
 @Order(8)
+@WritesEntities
 @Slf4j
 public class HmUniqueIndividualValidator implements Validator<HouseholdMemberBulkRequest, HouseholdMember> {
     private final HouseholdMemberRepository householdMemberRepository;
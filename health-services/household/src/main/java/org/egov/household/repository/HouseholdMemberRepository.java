@@ -10,7 +10,7 @@ import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.household.HouseholdMember;
 import org.egov.common.models.household.HouseholdMemberSearch;
 import org.egov.common.producer.Producer;
-import org.egov.household.repository.rowmapper.HouseholdMemberRowMapper;
+import org.egov.common.data.repository.rowmapper.HouseholdMemberRowMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
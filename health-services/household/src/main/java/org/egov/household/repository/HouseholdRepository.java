@@ -9,7 +9,7 @@ import org.egov.common.data.repository.GenericRepository;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.household.Household;
 import org.egov.common.producer.Producer;
-import org.egov.household.repository.rowmapper.HouseholdRowMapper;
+import org.egov.common.data.repository.rowmapper.HouseholdRowMapper;
 import org.egov.common.models.household.HouseholdSearch;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
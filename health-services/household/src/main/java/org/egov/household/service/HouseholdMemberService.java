@@ -17,8 +17,8 @@ import org.egov.common.models.household.HouseholdMember;
 import org.egov.common.models.household.HouseholdMemberBulkRequest;
 import org.egov.common.models.household.HouseholdMemberRequest;
 import org.egov.common.models.household.HouseholdMemberSearch;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.household.config.HouseholdMemberConfiguration;
 import org.egov.household.household.member.validators.HmExistentEntityValidator;
 import org.egov.household.household.member.validators.HmHouseholdHeadValidator;
@@ -64,6 +64,8 @@ public class HouseholdMemberService {
 
     private final List<Validator<HouseholdMemberBulkRequest, HouseholdMember>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final Predicate<Validator<HouseholdMemberBulkRequest, HouseholdMember>> isApplicableForUpdate = validator ->
             validator.getClass().equals(HmNullIdValidator.class)
                     || validator.getClass().equals(HmNonExistentEntityValidator.class)
@@ -90,13 +92,15 @@ public class HouseholdMemberService {
                                   ServiceRequestClient serviceRequestClient,
                                   HouseholdService householdService,
                                   HouseholdMemberEnrichmentService householdMemberEnrichmentService,
-                                  List<Validator<HouseholdMemberBulkRequest, HouseholdMember>> validators) {
+                                  List<Validator<HouseholdMemberBulkRequest, HouseholdMember>> validators,
+                                  ValidatorExecutor validatorExecutor) {
         this.householdMemberRepository = householdMemberRepository;
         this.householdMemberConfiguration = householdMemberConfiguration;
         this.serviceRequestClient = serviceRequestClient;
         this.householdService = householdService;
         this.householdMemberEnrichmentService = householdMemberEnrichmentService;
         this.validators = validators;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public List<HouseholdMember> create(HouseholdMemberRequest householdMemberRequest) {
@@ -245,7 +249,7 @@ public class HouseholdMemberService {
             HouseholdMember>> validators, Predicate<Validator<HouseholdMemberBulkRequest,
             HouseholdMember>> isApplicable, HouseholdMemberBulkRequest request, boolean isBulk) {
         log.info("validating request for household members");
-        Map<HouseholdMember, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<HouseholdMember, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 isApplicable, request,
                 SET_HOUSEHOLD_MEMBERS);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
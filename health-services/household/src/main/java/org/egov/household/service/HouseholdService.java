@@ -10,8 +10,8 @@ import org.egov.common.models.household.Household;
 import org.egov.common.models.household.HouseholdBulkRequest;
 import org.egov.common.models.household.HouseholdRequest;
 import org.egov.common.service.IdGenService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.household.config.HouseholdConfiguration;
 import org.egov.household.repository.HouseholdRepository;
 import org.egov.household.validators.household.*;
@@ -51,6 +51,8 @@ public class HouseholdService {
 
     private final List<Validator<HouseholdBulkRequest, Household>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final HouseholdEnrichmentService enrichmentService;
 
     private final Predicate<Validator<HouseholdBulkRequest, Household>> isApplicableForCreate = validator ->
@@ -77,12 +79,14 @@ public class HouseholdService {
 
     @Autowired
     public HouseholdService(HouseholdRepository householdRepository, IdGenService idGenService,
-                            HouseholdConfiguration householdConfiguration, List<Validator<HouseholdBulkRequest, Household>> validators, HouseholdEnrichmentService enrichmentService) {
+                            HouseholdConfiguration householdConfiguration, List<Validator<HouseholdBulkRequest, Household>> validators, HouseholdEnrichmentService enrichmentService,
+                            ValidatorExecutor validatorExecutor) {
         this.householdRepository = householdRepository;
         this.idGenService = idGenService;
         this.householdConfiguration = householdConfiguration;
         this.validators = validators;
         this.enrichmentService = enrichmentService;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public Household create(HouseholdRequest request) {
@@ -233,7 +237,7 @@ public class HouseholdService {
                                                                 Predicate<Validator<HouseholdBulkRequest, Household>> applicableValidators,
                                                                           HouseholdBulkRequest request, boolean isBulk) {
         log.info("validating the request for households");
-        Map<Household, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<Household, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 applicableValidators, request,
                 SET_HOUSEHOLDS);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
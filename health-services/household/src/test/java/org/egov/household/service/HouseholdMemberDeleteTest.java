@@ -1,10 +1,13 @@
 package org.egov.household.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.common.models.household.HouseholdMember;
 import org.egov.common.models.household.HouseholdMemberBulkRequest;
 import org.egov.common.models.household.HouseholdMemberRequest;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.household.config.HouseholdMemberConfiguration;
 import org.egov.household.helper.HouseholdMemberRequestTestBuilder;
 import org.egov.household.household.member.validators.HmHouseholdHeadValidator;
@@ -22,11 +25,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
@@ -79,6 +84,9 @@ class HouseholdMemberDeleteTest {
     private List<Validator<HouseholdMemberBulkRequest, HouseholdMember>> validators;
 
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() {
         validators = Arrays.asList(
@@ -90,6 +98,9 @@ class HouseholdMemberDeleteTest {
                 hmIndividualValidator,
                 hmHouseholdHeadValidator);
         ReflectionTestUtils.setField(householdMemberService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(householdMemberService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "household", meterRegistryProvider));
         lenient().when(householdMemberConfiguration.getCreateTopic()).thenReturn("create-topic");
         lenient().when(householdMemberConfiguration.getUpdateTopic()).thenReturn("update-topic");
         lenient().when(householdMemberConfiguration.getDeleteTopic()).thenReturn("delete-topic");
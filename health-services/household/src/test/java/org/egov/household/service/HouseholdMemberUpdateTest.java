@@ -1,5 +1,7 @@
 package org.egov.household.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.ds.Tuple;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.common.models.core.SearchResponse;
@@ -10,6 +12,7 @@ import org.egov.common.models.household.HouseholdMemberRequest;
 import org.egov.common.models.individual.Individual;
 import org.egov.common.models.individual.IndividualBulkResponse;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.household.config.HouseholdMemberConfiguration;
 import org.egov.household.helper.HouseholdMemberRequestTestBuilder;
 import org.egov.household.helper.HouseholdMemberTestBuilder;
@@ -30,6 +33,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
@@ -94,6 +98,9 @@ class HouseholdMemberUpdateTest {
     private List<Validator<HouseholdMemberBulkRequest, HouseholdMember>> validators;
 
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() {
         validators = Arrays.asList(
@@ -105,6 +112,9 @@ class HouseholdMemberUpdateTest {
                 hmIndividualValidator,
                 hmHouseholdHeadValidator);
         ReflectionTestUtils.setField(householdMemberService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(householdMemberService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "household", meterRegistryProvider));
         lenient().when(householdMemberConfiguration.getCreateTopic()).thenReturn("create-topic");
         lenient().when(householdMemberConfiguration.getUpdateTopic()).thenReturn("update-topic");
     }
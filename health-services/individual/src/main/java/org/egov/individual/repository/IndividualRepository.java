@@ -16,7 +16,9 @@ import org.egov.common.data.query.builder.GenericQueryBuilder;
 import org.egov.common.data.query.builder.QueryFieldChecker;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.repository.GenericRepository;
+import org.egov.common.data.repository.KeysetCursor;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.models.individual.Address;
 import org.egov.common.models.individual.Identifier;
 import org.egov.common.models.individual.Individual;
@@ -91,21 +93,46 @@ public class IndividualRepository extends GenericRepository<Individual> {
 
     public SearchResponse<Individual> find(IndividualSearch searchObject, Integer limit, Integer offset,
                                            String tenantId, Long lastChangedSince, Boolean includeDeleted) {
+        return find(searchObject, URLParams.builder().limit(limit).offset(offset).tenantId(tenantId)
+                .lastChangedSince(lastChangedSince).includeDeleted(includeDeleted).build());
+    }
+
+    /**
+     * Finds individuals matching the search criteria. Searches without identifier or proximity criteria are
+     * paged with a keyset seek over (lastModifiedTime, id) when a cursor is present, otherwise with LIMIT/OFFSET.
+     * A cursor sent with identifier or proximity criteria is rejected.
+     *
+     * @param searchObject The individual search criteria.
+     * @param urlParams    The URL parameters including pagination and filtering information.
+     * @return A SearchResponse containing the individuals, the total count and the next cursor.
+     */
+    public SearchResponse<Individual> find(IndividualSearch searchObject, URLParams urlParams) {
+        Boolean includeDeleted = urlParams.getIncludeDeleted();
         Map<String, Object> paramsMap = new HashMap<>();
-        String query = getQueryForIndividual(searchObject, limit, offset, tenantId, lastChangedSince,
-                includeDeleted, paramsMap);
+        String query = getQueryForIndividual(searchObject, urlParams.getLimit(), urlParams.getOffset(),
+                urlParams.getTenantId(), urlParams.getLastChangedSince(), includeDeleted, paramsMap);
         if (isProximityBasedSearch(searchObject)) {
+            KeysetCursor.requireNoCursor(urlParams.getCursor(), "proximity search");
             return findByRadius(query, searchObject, includeDeleted, paramsMap);
         }
         if (searchObject.getIdentifier() == null) {
             String queryWithoutLimit = query.replace("ORDER BY createdtime DESC LIMIT :limit OFFSET :offset", "");
-            Long totalCount = constructTotalCountCTEAndReturnResult(queryWithoutLimit, paramsMap, this.namedParameterJdbcTemplate);
+            Long totalCount = Boolean.FALSE.equals(urlParams.getIncludeTotalCount()) ? null
+                    : constructTotalCountCTEAndReturnResult(queryWithoutLimit, paramsMap, this.namedParameterJdbcTemplate);
+            if (urlParams.getCursor() != null) {
+                query = KeysetCursor.appendSeek(queryWithoutLimit, null, urlParams.getCursor(),
+                        urlParams.getLimit(), paramsMap);
+            }
             List<Individual> individuals = this.namedParameterJdbcTemplate.query(query, paramsMap, this.rowMapper);
+            String nextCursor = urlParams.getCursor() == null ? null
+                    : KeysetCursor.nextCursor(individuals, urlParams.getLimit());
             if (!individuals.isEmpty()) {
                 enrichIndividuals(individuals, includeDeleted);
             }
-            return SearchResponse.<Individual>builder().totalCount(totalCount).response(individuals).build();
+            return SearchResponse.<Individual>builder().totalCount(totalCount).response(individuals)
+                    .nextCursor(nextCursor).build();
         } else {
+            KeysetCursor.requireNoCursor(urlParams.getCursor(), "identifier search");
             Map<String, Object> identifierParamMap = new HashMap<>();
             String identifierQuery = getIdentifierQuery(searchObject.getIdentifier(), identifierParamMap);
             identifierParamMap.put("isDeleted", includeDeleted);
@@ -15,11 +15,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.data.repository.KeysetCursor;
 import org.egov.common.ds.Tuple;
 import org.egov.common.models.Error;
 import org.egov.common.models.ErrorDetails;
 import org.egov.common.models.core.Role;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.models.individual.Identifier;
 import org.egov.common.models.individual.Individual;
 import org.egov.common.models.individual.IndividualBulkRequest;
@@ -27,8 +29,8 @@ import org.egov.common.models.individual.IndividualRequest;
 import org.egov.common.models.individual.IndividualSearch;
 import org.egov.common.models.project.ApiOperation;
 import org.egov.common.models.user.UserRequest;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.individual.config.IndividualProperties;
 import org.egov.individual.repository.IndividualRepository;
 import org.egov.individual.validators.AadharNumberValidator;
@@ -72,6 +74,8 @@ public class IndividualService {
 
     private final List<Validator<IndividualBulkRequest, Individual>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final IndividualProperties properties;
 
     private final EnrichmentService enrichmentService;
@@ -114,7 +118,8 @@ public class IndividualService {
                              EnrichmentService enrichmentService,
                              IndividualEncryptionService individualEncryptionService,
                              UserIntegrationService userIntegrationService,
-                             NotificationService notificationService) {
+                             NotificationService notificationService,
+                             ValidatorExecutor validatorExecutor) {
         this.individualRepository = individualRepository;
         this.validators = validators;
         this.properties = properties;
@@ -122,6 +127,7 @@ public class IndividualService {
         this.individualEncryptionService = individualEncryptionService;
         this.userIntegrationService = userIntegrationService;
         this.notificationService = notificationService;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public List<Individual> create(IndividualRequest request) {
@@ -171,7 +177,7 @@ public class IndividualService {
                                                                             Predicate<Validator<IndividualBulkRequest, Individual>> isApplicableForCreate,
                                                                             IndividualBulkRequest request, boolean isBulk) {
         log.info("validating request");
-        Map<Individual, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<Individual, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 isApplicableForCreate, request,
                 SET_INDIVIDUALS);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
@@ -293,11 +299,22 @@ public class IndividualService {
                                              Long lastChangedSince,
                                              Boolean includeDeleted,
                                              RequestInfo requestInfo) {
+        return search(individualSearch, URLParams.builder().limit(limit).offset(offset).tenantId(tenantId)
+                .lastChangedSince(lastChangedSince).includeDeleted(includeDeleted).build(), requestInfo);
+    }
+
+    public SearchResponse<Individual> search(IndividualSearch individualSearch,
+                                             URLParams urlParams,
+                                             RequestInfo requestInfo) {
+        String tenantId = urlParams.getTenantId();
+        Long lastChangedSince = urlParams.getLastChangedSince();
+        Boolean includeDeleted = urlParams.getIncludeDeleted();
         SearchResponse<Individual> searchResponse = null;
 
         String idFieldName = getIdFieldName(individualSearch);
         List<Individual> encryptedIndividualList = null;
         if (isSearchByIdOnly(individualSearch, idFieldName)) {
+            KeysetCursor.requireNoCursor(urlParams.getCursor(), "search by " + idFieldName);
             List<String> ids = (List<String>) ReflectionUtils.invokeMethod(getIdMethod(Collections
                             .singletonList(individualSearch)),
                     individualSearch);
@@ -333,11 +350,13 @@ public class IndividualService {
                     .encrypt(individualSearch, "IndividualSearchEncrypt");
         }
         try {
-            searchResponse = individualRepository.find(encryptedIndividualSearch, limit, offset, tenantId,
-                    lastChangedSince, includeDeleted);
+            searchResponse = individualRepository.find(encryptedIndividualSearch, urlParams);
             encryptedIndividualList = searchResponse.getResponse().stream()
                     .filter(havingBoundaryCode(individualSearch.getBoundaryCode(), individualSearch.getWardCode()))
                     .collect(Collectors.toList());
+        } catch (CustomException exception) {
+            // an unsupported or invalid cursor, not a database error
+            throw exception;
         } catch (Exception exception) {
             log.error("database error occurred", ExceptionUtils.getStackTrace(exception));
             throw new CustomException("DATABASE_ERROR", exception.getMessage());
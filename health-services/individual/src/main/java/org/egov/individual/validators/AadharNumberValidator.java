@@ -17,7 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.egov.common.utils.CommonUtils.isValidPattern;
+import static org.egov.common.utils.PatternRegistry.matches;
 import static org.egov.common.utils.CommonUtils.populateErrorDetails;
 
 @Component
@@ -45,7 +45,7 @@ public class AadharNumberValidator implements Validator<IndividualBulkRequest, I
                            .findFirst().orElse(null);
                    if (identifier != null && StringUtils.isNotBlank(identifier.getIdentifierId())) {
                        if (!identifier.getIdentifierId().contains("*")
-                               && !isValidPattern(identifier.getIdentifierId(), properties.getAadhaarPattern())) {
+                               && !matches(identifier.getIdentifierId(), properties.getAadhaarPattern())) {
                            createError(errorDetailsMap, individual);
                        } else if (identifier.getIdentifierId().contains("*")) {
                            // get the last 4 digits
@@ -53,7 +53,7 @@ public class AadharNumberValidator implements Validator<IndividualBulkRequest, I
                                    .substring(identifier.getIdentifierId().length() - 4);
                            // regex to check if last 4 digits are numbers
                            String regex = "[0-9]+";
-                           if (!isValidPattern(last4Digits, regex) || identifier.getIdentifierId().length() != 12) {
+                           if (!matches(last4Digits, regex) || identifier.getIdentifierId().length() != 12) {
                                createError(errorDetailsMap, individual);
                            }
                        }
@@ -17,7 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.egov.common.utils.CommonUtils.isValidPattern;
+import static org.egov.common.utils.PatternRegistry.matches;
 import static org.egov.common.utils.CommonUtils.populateErrorDetails;
 
 @Component
@@ -44,7 +44,7 @@ public class AadharNumberValidatorForCreate implements Validator<IndividualBulkR
                            .filter(id -> id.getIdentifierType().contains("AADHAAR"))
                            .findFirst().orElse(null);
                    if (identifier != null && StringUtils.isNotBlank(identifier.getIdentifierId())
-                           && !isValidPattern(identifier.getIdentifierId(), properties.getAadhaarPattern())) {
+                           && !matches(identifier.getIdentifierId(), properties.getAadhaarPattern())) {
                        createError(errorDetailsMap, individual);
                    }
                }
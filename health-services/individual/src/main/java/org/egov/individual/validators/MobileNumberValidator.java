@@ -16,7 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.egov.common.utils.CommonUtils.isValidPattern;
+import static org.egov.common.utils.PatternRegistry.matches;
 import static org.egov.common.utils.CommonUtils.populateErrorDetails;
 
 @Component
@@ -43,7 +43,7 @@ public class MobileNumberValidator implements Validator<IndividualBulkRequest, I
             for (Individual individual : individuals) {
                 //check mobile number has all numbers , if present
                 if (StringUtils.isNotBlank(individual.getMobileNumber())
-                        && !isValidPattern(individual.getMobileNumber(),properties.getMobilePattern())) {
+                        && !matches(individual.getMobileNumber(),properties.getMobilePattern())) {
                     Error error = Error.builder().errorMessage("Invalid MobileNumber").errorCode("INVALID_MOBILENUMBER").type(Error.ErrorType.NON_RECOVERABLE).exception(new CustomException("INVALID_MOBILENUMBER", "Invalid MobileNumber")).build();
                     populateErrorDetails(individual, error, errorDetailsMap);
                 }
@@ -90,16 +90,14 @@ public class IndividualApiController {
     ) {
         SearchResponse<Individual> searchResponse  = individualService.search(
                 request.getIndividual(),
-                urlParams.getLimit(),
-                urlParams.getOffset(),
-                urlParams.getTenantId(),
-                urlParams.getLastChangedSince(),
-                urlParams.getIncludeDeleted(),
+                urlParams,
                 request.getRequestInfo()
         );
         IndividualBulkResponse response = IndividualBulkResponse.builder()
                 .individual(searchResponse.getResponse())
-                .totalCount(searchResponse.getTotalCount())
+                .totalCount(Boolean.FALSE.equals(urlParams.getIncludeTotalCount()) ? null
+                        : searchResponse.getTotalCount())
+                .nextCursor(searchResponse.getNextCursor())
                 .responseInfo(ResponseInfoFactory.createResponseInfo(request.getRequestInfo(), true))
                 .build();
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_individual_tenantId_lastModifiedTime_id ON individual(tenantId, lastModifiedTime, id);
@@ -1,12 +1,15 @@
 package org.egov.individual.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.helper.RequestInfoTestBuilder;
 import org.egov.common.models.individual.Individual;
 import org.egov.common.models.individual.IndividualBulkRequest;
 import org.egov.common.models.individual.IndividualRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.individual.config.IndividualProperties;
 import org.egov.individual.helper.IndividualRequestTestBuilder;
 import org.egov.individual.helper.IndividualTestBuilder;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
@@ -27,6 +31,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
@@ -62,10 +67,16 @@ class IndividualServiceDeleteTest {
     @Mock
     private EnrichmentService enrichmentService;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() {
         validators = Arrays.asList(nullIdValidator, nonExistentEntityValidator);
         ReflectionTestUtils.setField(individualService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(individualService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "individual", meterRegistryProvider));
         ReflectionTestUtils.setField(individualService, "isApplicableForDelete",
                 (Predicate<Validator<IndividualBulkRequest, Individual>>) validator ->
                         validator.getClass().equals(NullIdValidator.class)
@@ -2,14 +2,17 @@ package org.egov.individual.service;
 
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.data.query.exception.QueryBuilderException;
+import org.egov.common.data.repository.KeysetCursor;
 import org.egov.common.helper.RequestInfoTestBuilder;
 import org.egov.common.models.individual.IndividualSearch;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.models.individual.Individual;
 import org.egov.common.service.IdGenService;
 import org.egov.individual.helper.IndividualSearchTestBuilder;
 import org.egov.individual.helper.IndividualTestBuilder;
 import org.egov.individual.repository.IndividualRepository;
+import org.egov.tracer.model.CustomException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +22,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -75,8 +80,7 @@ class IndividualServiceSearchTest {
 
         when(encryptionService.encrypt(any(IndividualSearch.class), any(String.class))).thenReturn(individualSearch);
 
-        when(individualRepository.find(any(IndividualSearch.class), anyInt(), anyInt(), anyString(),
-                any(), anyBoolean())).thenReturn(SearchResponse.<Individual>builder()
+        when(individualRepository.find(any(IndividualSearch.class), any(URLParams.class))).thenReturn(SearchResponse.<Individual>builder()
                 .totalCount(1L)
                 .response(Collections.singletonList(IndividualTestBuilder.builder()
                 .withId("some-id")
@@ -119,7 +123,7 @@ class IndividualServiceSearchTest {
 
         RequestInfo requestInfo = RequestInfoTestBuilder.builder().withCompleteRequestInfo().build();
 
-        when(individualRepository.find(any(IndividualSearch.class), anyInt(), anyInt(), anyString(), any(), anyBoolean()))
+        when(individualRepository.find(any(IndividualSearch.class), any(URLParams.class)))
                 .thenReturn(SearchResponse.<Individual>builder().build());
 
         when(encryptionService.encrypt(any(IndividualSearch.class), any(String.class))).thenReturn(individualSearch);
@@ -141,8 +145,7 @@ class IndividualServiceSearchTest {
         RequestInfo requestInfo = RequestInfoTestBuilder.builder().withCompleteRequestInfo().build();
         when(encryptionService.encrypt(any(IndividualSearch.class), any(String.class))).thenReturn(individualSearch);
 
-        when(individualRepository.find(any(IndividualSearch.class), anyInt(), anyInt(), anyString(),
-                any(), anyBoolean())).thenReturn(SearchResponse.<Individual>builder().totalCount(1L).response(Collections.singletonList(IndividualTestBuilder.builder()
+        when(individualRepository.find(any(IndividualSearch.class), any(URLParams.class))).thenReturn(SearchResponse.<Individual>builder().totalCount(1L).response(Collections.singletonList(IndividualTestBuilder.builder()
                 .withId("some-id")
                 .build())).build());
 
@@ -150,6 +153,22 @@ class IndividualServiceSearchTest {
                 "default", null, false,requestInfo);
 
         verify(individualRepository, times(1))
-                .find(individualSearch, 0, 10, "default", null, false);
+                .find(individualSearch, URLParams.builder().limit(0).offset(10).tenantId("default")
+                        .lastChangedSince(null).includeDeleted(false).build());
+    }
+
+    @Test
+    @DisplayName("should reject a cursor when searching by id")
+    void shouldRejectACursorWhenSearchingById() {
+        IndividualSearch individualSearch = IndividualSearchTestBuilder.builder()
+                .byId()
+                .build();
+        RequestInfo requestInfo = RequestInfoTestBuilder.builder().withCompleteRequestInfo().build();
+
+        CustomException exception = assertThrows(CustomException.class, () -> individualService.search(individualSearch,
+                URLParams.builder().limit(10).offset(0).tenantId("default").cursor("").build(), requestInfo));
+
+        assertEquals(KeysetCursor.CURSOR_NOT_SUPPORTED, exception.getCode());
+        verify(individualRepository, times(0)).findById(anyList(), anyString(), anyBoolean());
     }
 }
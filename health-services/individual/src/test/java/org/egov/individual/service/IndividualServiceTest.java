@@ -1,5 +1,7 @@
 package org.egov.individual.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.helper.RequestInfoTestBuilder;
 import org.egov.common.models.individual.Address;
@@ -9,6 +11,7 @@ import org.egov.common.models.individual.IndividualBulkRequest;
 import org.egov.common.models.individual.IndividualRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.individual.config.IndividualProperties;
 import org.egov.individual.helper.IndividualRequestTestBuilder;
 import org.egov.individual.helper.IndividualTestBuilder;
@@ -24,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
@@ -73,12 +77,18 @@ class IndividualServiceTest {
     private NotificationService notificationService;
     private List<Validator<IndividualBulkRequest, Individual>> validators;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() throws Exception {
         mockIdGen("individual.id", "some-individual-id");
         mockIdGen("sys.gen.identifier.id", "some-sys-gen-id");
         validators = Arrays.asList(addressTypeValidator, uniqueSubEntityValidator);
         ReflectionTestUtils.setField(individualService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(individualService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "individual", meterRegistryProvider));
         when(properties.getSaveIndividualTopic()).thenReturn("save-topic");
     }
 
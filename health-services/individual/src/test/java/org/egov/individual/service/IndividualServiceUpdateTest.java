@@ -1,5 +1,7 @@
 package org.egov.individual.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.helper.RequestInfoTestBuilder;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.individual.Identifier;
@@ -8,6 +10,7 @@ import org.egov.common.models.individual.IndividualBulkRequest;
 import org.egov.common.models.individual.IndividualRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.individual.config.IndividualProperties;
 import org.egov.individual.helper.IndividualRequestTestBuilder;
 import org.egov.individual.helper.IndividualTestBuilder;
@@ -29,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
@@ -98,12 +102,18 @@ class IndividualServiceUpdateTest {
 
     private List<Validator<IndividualBulkRequest, Individual>> validators;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() {
         validators = Arrays.asList(addressTypeValidator, nullIdValidator, nonExistentEntityValidator,
                 uniqueEntityValidator, uniqueSubEntityValidator,
                 rowVersionValidator, isDeletedSubEntityValidator, isDeletedValidator);
         ReflectionTestUtils.setField(individualService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(individualService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "individual", meterRegistryProvider));
         lenient().when(properties.getUpdateIndividualTopic()).thenReturn("update-topic");
     }
 
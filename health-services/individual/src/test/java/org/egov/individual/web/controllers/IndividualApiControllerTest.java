@@ -3,6 +3,7 @@ package org.egov.individual.web.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.models.individual.Individual;
 import org.egov.common.models.individual.IndividualBulkRequest;
 import org.egov.common.models.individual.IndividualBulkResponse;
@@ -33,6 +34,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.eq;
@@ -159,11 +161,7 @@ class IndividualApiControllerTest {
                 .withId()
                 .build();
         when(individualService.search(any(IndividualSearch.class),
-                any(Integer.class),
-                any(Integer.class),
-                any(String.class),
-                any(Long.class),
-                any(Boolean.class),
+                any(URLParams.class),
                 any(RequestInfo.class))).thenReturn(SearchResponse.<Individual>builder().response(Collections.singletonList(responseIndividual)).build());
 
         MvcResult result = mockMvc.perform(post("/v1/_search?limit=10&offset=100&tenantId=default&lastChangedSince=1234322&includeDeleted=false")
@@ -180,6 +178,30 @@ class IndividualApiControllerTest {
         assertEquals("successful", response.getResponseInfo().getStatus());
     }
 
+    @Test
+    @DisplayName("should not return a total count when the search skips counting")
+    void shouldNotReturnATotalCountWhenTheSearchSkipsCounting() throws Exception {
+        IndividualSearchRequest request = IndividualSearchRequestTestBuilder.builder()
+                .withIndividualSearch()
+                .withRequestInfo()
+                .build();
+        Individual responseIndividual = IndividualTestBuilder.builder()
+                .withId()
+                .build();
+        when(individualService.search(any(IndividualSearch.class),
+                any(URLParams.class),
+                any(RequestInfo.class))).thenReturn(SearchResponse.<Individual>builder().response(Collections.singletonList(responseIndividual)).build());
+
+        MvcResult result = mockMvc.perform(post("/v1/_search?limit=10&offset=0&tenantId=default&includeTotalCount=false")
+                        .contentType(MediaType
+                                .APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String responseStr = result.getResponse().getContentAsString();
+        assertFalse(objectMapper.readTree(responseStr).has("TotalCount"));
+    }
+
     @Test
     @DisplayName("should send 400 Bad Request in case validation error in search request")
     void shouldSend400BadRequestInCaseOfValidationErrorInSearchRequest() throws Exception {
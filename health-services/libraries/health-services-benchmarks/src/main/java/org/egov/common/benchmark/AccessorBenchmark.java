@@ -0,0 +1,136 @@
+package org.egov.common.benchmark;
+
+import org.egov.common.models.core.EgovOfflineModel;
+import org.egov.common.models.household.Household;
+import org.egov.common.models.individual.Individual;
+import org.egov.common.models.project.Task;
+import org.egov.common.utils.CommonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.egov.common.utils.CommonUtils.getMethod;
+import static org.egov.common.utils.CommonUtils.getObjClass;
+
+/**
+ * Compares the reflective accessors CommonUtils used to rely on with the compiled accessors of
+ * {@link org.egov.common.utils.AccessorRegistry} on a 500-entity bulk batch.
+ *
+ * <p>The {@code reflection*} benchmarks reproduce the previous implementation of the helper they are named after.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+
+    @Param({"individual", "household", "task"})
+    private String entity;
+
+    @Param({"500"})
+    private int batchSize;
+
+    private List<EgovOfflineModel> entities;
+
+    private Map<String, EgovOfflineModel> idToObjMap;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Supplier<EgovOfflineModel> supplier = switch (entity) {
+            case "household" -> Household::new;
+            case "task" -> Task::new;
+            default -> Individual::new;
+        };
+        entities = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            EgovOfflineModel model = supplier.get();
+            model.setId(UUID.randomUUID().toString());
+            model.setClientReferenceId(UUID.randomUUID().toString());
+            model.setTenantId("default");
+            model.setRowVersion(1);
+            entities.add(model);
+        }
+        idToObjMap = CommonUtils.getIdToObjMap(entities);
+    }
+
+    @Benchmark
+    public Map<String, EgovOfflineModel> reflectionGetIdToObjMap() {
+        Method idMethod = getMethod("getId", getObjClass(entities));
+        Map<String, EgovOfflineModel> map = new HashMap<>();
+        for (EgovOfflineModel obj : entities) {
+            map.put((String) ReflectionUtils.invokeMethod(idMethod, obj), obj);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, EgovOfflineModel> accessorGetIdToObjMap() {
+        return CommonUtils.getIdToObjMap(entities);
+    }
+
+    @Benchmark
+    public List<EgovOfflineModel> reflectionGetEntitiesWithMismatchedRowVersion() {
+        Method idMethod = getMethod("getId", getObjClass(entities));
+        Method rowVersionMethod = getMethod("getRowVersion", getObjClass(entities));
+        List<EgovOfflineModel> mismatched = new ArrayList<>();
+        for (EgovOfflineModel obj : entities) {
+            if (!Objects.equals(ReflectionUtils.invokeMethod(rowVersionMethod, obj),
+                    ReflectionUtils.invokeMethod(rowVersionMethod,
+                            idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, obj))))) {
+                mismatched.add(obj);
+            }
+        }
+        return mismatched;
+    }
+
+    @Benchmark
+    public List<EgovOfflineModel> accessorGetEntitiesWithMismatchedRowVersion() {
+        return CommonUtils.getEntitiesWithMismatchedRowVersion(idToObjMap, entities,
+                getMethod("getId", getObjClass(entities)));
+    }
+
+    @Benchmark
+    public List<EgovOfflineModel> reflectionEnrichId() {
+        List<String> ids = new ArrayList<>(entities.size());
+        for (EgovOfflineModel obj : entities) {
+            ids.add(obj.getClientReferenceId());
+        }
+        Method setIdMethod = getMethod("setId", getObjClass(entities));
+        for (int i = 0; i < entities.size(); i++) {
+            ReflectionUtils.invokeMethod(setIdMethod, entities.get(i), ids.get(i));
+        }
+        return entities;
+    }
+
+    @Benchmark
+    public List<EgovOfflineModel> accessorEnrichId() {
+        List<String> ids = new ArrayList<>(entities.size());
+        for (EgovOfflineModel obj : entities) {
+            ids.add(obj.getClientReferenceId());
+        }
+        CommonUtils.enrichId(entities, ids);
+        return entities;
+    }
+}
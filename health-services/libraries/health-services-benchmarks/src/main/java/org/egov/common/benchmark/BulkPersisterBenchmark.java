@@ -0,0 +1,209 @@
+package org.egov.common.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.models.core.Boundary;
+import org.egov.common.models.household.Address;
+import org.egov.common.models.household.Household;
+import org.egov.common.persister.BulkPersister;
+import org.egov.common.persister.BulkPersisterProperties;
+import org.egov.common.persister.PersisterMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.postgresql.util.PGobject;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares persisting the save-household-topic messages of a sync peak the way the external persister does, one
+ * statement per row and one transaction per message, with {@link BulkPersister} persisting the whole poll in JDBC
+ * batches or, against Postgres, with COPY.
+ *
+ * <p>Runs on an in-memory H2 database in PostgreSQL mode by default, a stand-in that leaves out the network round
+ * trip each statement costs against a real database, so the gap is a lower bound. Point it at a local Postgres with
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/bench -Dbenchmark.jdbc.user=.. -Dbenchmark.jdbc.password=..}
+ * to measure COPY; the household and address tables are created there if missing and emptied before each run.
+ *
+ * <p>The mapping is the save-household-topic one of the household service's household-persister.yml, which the
+ * build copies onto the benchmark classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BulkPersisterBenchmark {
+
+    private static final String TOPIC = "save-household-topic";
+
+    @Param({"20000"})
+    private int households;
+
+    @Param({"100"})
+    private int recordsPerMessage;
+
+    @Param({"BATCH", "COPY"})
+    private BulkPersisterProperties.Mode mode;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SingleConnectionDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    private PersisterMapping mapping;
+
+    private BulkPersister bulkPersister;
+
+    private List<Object> messages;
+
+    private boolean postgres;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String url = System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        postgres = url.startsWith("jdbc:postgresql");
+        dataSource = new SingleConnectionDataSource(url, System.getProperty("benchmark.jdbc.user", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        createTables();
+
+        try (InputStream config = getClass().getClassLoader().getResourceAsStream("household-persister.yml")) {
+            mapping = PersisterMapping.load(config, objectMapper).stream()
+                    .filter(persisterMapping -> TOPIC.equals(persisterMapping.getTopic()))
+                    .findFirst().orElseThrow();
+        }
+        BulkPersisterProperties properties = new BulkPersisterProperties();
+        properties.setMode(mode);
+        properties.setBatchSize(1000);
+        bulkPersister = new BulkPersister(dataSource, new DataSourceTransactionManager(dataSource),
+                Collections.singletonList(mapping), properties, new SimpleMeterRegistry());
+
+        messages = new ArrayList<>();
+        for (int from = 0; from < households; from += recordsPerMessage) {
+            List<Household> message = new ArrayList<>(recordsPerMessage);
+            for (int i = from; i < Math.min(from + recordsPerMessage, households); i++) {
+                message.add(household());
+            }
+            // the message as the persister receives it, decoded from json
+            messages.add(objectMapper.readValue(objectMapper.writeValueAsBytes(message), Object.class));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTables() {
+        jdbcTemplate.execute("DELETE FROM household");
+        jdbcTemplate.execute("DELETE FROM address");
+    }
+
+    @Benchmark
+    public void rowByRow() {
+        for (Object message : messages) {
+            List<Object> records = PersisterMapping.records(message);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Object record : records) {
+                    for (PersisterMapping.Query query : mapping.getQueries()) {
+                        for (Object[] row : query.rows(Collections.singletonList(record))) {
+                            jdbcTemplate.update(query.getSql().replaceAll("[\\s;]+$", ""), bind(row));
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public void bulk() {
+        bulkPersister.persist(TOPIC, messages);
+    }
+
+    private Object[] bind(Object[] row) {
+        Object[] values = row.clone();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] instanceof PersisterMapping.JsonValue) {
+                String json = ((PersisterMapping.JsonValue) values[i]).json();
+                values[i] = postgres ? jsonb(json) : json;
+            }
+        }
+        return values;
+    }
+
+    private static PGobject jsonb(String json) {
+        PGobject jsonb = new PGobject();
+        jsonb.setType("jsonb");
+        try {
+            jsonb.setValue(json);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return jsonb;
+    }
+
+    private void createTables() {
+        String jsonType = postgres ? "jsonb" : "character varying(4000)";
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS household (id character varying(64) PRIMARY KEY, "
+                + "tenantId character varying(1000), clientReferenceId character varying(1000) UNIQUE, "
+                + "householdType character varying(64), numberOfMembers integer, addressId character varying(1000), "
+                + "additionalDetails " + jsonType + ", createdBy character varying(64), "
+                + "lastModifiedBy character varying(64), createdTime bigint, lastModifiedTime bigint, "
+                + "rowVersion bigint, isDeleted boolean)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS address (id character varying(64) PRIMARY KEY, "
+                + "tenantId character varying(1000), doorNo character varying(64), latitude double precision, "
+                + "longitude double precision, locationAccuracy int, type character varying(64), "
+                + "addressLine1 character varying(256), addressLine2 character varying(256), "
+                + "landmark character varying(256), city character varying(256), pincode character varying(64), "
+                + "buildingName character varying(256), street character varying(256), "
+                + "localityCode character varying(256))");
+    }
+
+    private Household household() {
+        String id = UUID.randomUUID().toString();
+        return Household.builder()
+                .id(id)
+                .clientReferenceId(id)
+                .tenantId("default")
+                .rowVersion(1)
+                .isDeleted(false)
+                .memberCount(4)
+                .auditDetails(AuditDetails.builder()
+                        .createdBy("user")
+                        .lastModifiedBy("user")
+                        .createdTime(1700000000000L)
+                        .lastModifiedTime(1700000000000L)
+                        .build())
+                .address(Address.builder()
+                        .id(UUID.randomUUID().toString())
+                        .tenantId("default")
+                        .latitude(12.97)
+                        .longitude(77.59)
+                        .locality(Boundary.builder().code("LOCALITY-1").build())
+                        .build())
+                .build();
+    }
+}
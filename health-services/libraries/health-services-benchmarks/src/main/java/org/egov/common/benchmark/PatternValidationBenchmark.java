@@ -0,0 +1,165 @@
+package org.egov.common.benchmark;
+
+import org.egov.common.models.project.Task;
+import org.egov.common.models.project.TaskResource;
+import org.egov.common.utils.PatternRegistry;
+import org.egov.common.utils.PatternRegistry.CompiledPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures the per-task cost of the regex checks run while validating a 1000-task bulk request: the task quantity
+ * regex of every resource, looked up by product variant, plus the mobile number and Aadhaar patterns of the
+ * individual service.
+ *
+ * <p>{@code compileEachCall} reproduces the previous validators, which compiled the regex on every check through
+ * {@code Pattern.compile} or {@code Pattern.matches}. {@code registry} goes through {@link PatternRegistry#matches}
+ * and {@code compiledPattern} holds the {@link CompiledPattern} per product variant, as PtResourceQuantityValidator
+ * does now. Results are per task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternValidationBenchmark {
+
+    private static final int TASKS = 1000;
+
+    private static final String MOBILE_PATTERN = "^[6-9][0-9]{9}$";
+
+    private static final String AADHAAR_PATTERN = "^[2-9]{1}[0-9]{3}[0-9]{4}[0-9]{4}$";
+
+    private static final String[] QUANTITY_REGEXES = {
+            "^(?!0(\\.0+)?$)([0-9]+(\\.0)?)$",
+            "^(?!0(\\.0+)?$)([1-3](\\.0)?)$",
+            "^([1-9]|[1-4][0-9]|50)(\\.0)?$"
+    };
+
+    private List<Task> tasks;
+
+    private List<String> mobileNumbers;
+
+    private List<String> aadhaarNumbers;
+
+    private Map<String, String> regexByProductVariantId;
+
+    private Map<String, CompiledPattern> patternByProductVariantId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        regexByProductVariantId = new HashMap<>();
+        patternByProductVariantId = new HashMap<>();
+        List<String> productVariantIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String productVariantId = "PVAR-" + i;
+            String regex = QUANTITY_REGEXES[i % QUANTITY_REGEXES.length];
+            productVariantIds.add(productVariantId);
+            regexByProductVariantId.put(productVariantId, regex);
+            patternByProductVariantId.put(productVariantId, PatternRegistry.compile(regex));
+        }
+
+        tasks = new ArrayList<>(TASKS);
+        mobileNumbers = new ArrayList<>(TASKS);
+        aadhaarNumbers = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            List<TaskResource> resources = new ArrayList<>();
+            for (int r = 0, count = 1 + random.nextInt(3); r < count; r++) {
+                resources.add(TaskResource.builder()
+                        .clientReferenceId(UUID.randomUUID().toString())
+                        .productVariantId(productVariantIds.get(random.nextInt(productVariantIds.size())))
+                        .quantity((double) random.nextInt(5))
+                        .build());
+            }
+            tasks.add(Task.builder().clientReferenceId(UUID.randomUUID().toString()).resources(resources).build());
+            mobileNumbers.add(String.valueOf(6_000_000_000L + random.nextInt(Integer.MAX_VALUE)));
+            aadhaarNumbers.add(String.valueOf(200_000_000_000L + random.nextInt(Integer.MAX_VALUE)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public int compileEachCall() {
+        int invalid = 0;
+        for (int i = 0; i < TASKS; i++) {
+            for (TaskResource resource : tasks.get(i).getResources()) {
+                Pattern pattern = Pattern.compile(regexByProductVariantId.get(resource.getProductVariantId()));
+                if (!pattern.matcher(Double.toString(resource.getQuantity())).matches()) {
+                    invalid++;
+                }
+            }
+            if (!Pattern.compile(MOBILE_PATTERN).matcher(mobileNumbers.get(i)).matches()) {
+                invalid++;
+            }
+            if (!Pattern.matches(AADHAAR_PATTERN, aadhaarNumbers.get(i))) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public int registry() {
+        int invalid = 0;
+        for (int i = 0; i < TASKS; i++) {
+            for (TaskResource resource : tasks.get(i).getResources()) {
+                if (!PatternRegistry.matches(Double.toString(resource.getQuantity()),
+                        regexByProductVariantId.get(resource.getProductVariantId()))) {
+                    invalid++;
+                }
+            }
+            if (!PatternRegistry.matches(mobileNumbers.get(i), MOBILE_PATTERN)) {
+                invalid++;
+            }
+            if (!PatternRegistry.matches(aadhaarNumbers.get(i), AADHAAR_PATTERN)) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public int compiledPattern() {
+        CompiledPattern mobilePattern = PatternRegistry.compile(MOBILE_PATTERN);
+        CompiledPattern aadhaarPattern = PatternRegistry.compile(AADHAAR_PATTERN);
+        int invalid = 0;
+        for (int i = 0; i < TASKS; i++) {
+            for (TaskResource resource : tasks.get(i).getResources()) {
+                if (!patternByProductVariantId.get(resource.getProductVariantId())
+                        .matches(Double.toString(resource.getQuantity()))) {
+                    invalid++;
+                }
+            }
+            if (!mobilePattern.matches(mobileNumbers.get(i))) {
+                invalid++;
+            }
+            if (!aadhaarPattern.matches(aadhaarNumbers.get(i))) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,182 @@
+package org.egov.common.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.contract.request.User;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.mdms.model.MasterDetail;
+import org.egov.mdms.model.MdmsCriteria;
+import org.egov.mdms.model.MdmsCriteriaReq;
+import org.egov.mdms.model.ModuleDetail;
+import org.egov.tracer.model.CustomException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tenant-scoped cache of MDMS masters, shared by the validators and services that read master data on every
+ * request.
+ *
+ * <p>Masters are cached by state-level tenant, module, master and filter. Concurrent misses of a master wait for a
+ * single MDMS search; an entry older than {@code health.mdms.cache.refresh-after} seconds is reloaded in the
+ * background on its next read while the current one keeps being served, and kept if the reload fails, until it
+ * expires {@code health.mdms.cache.expire-after} seconds after it was loaded. At most
+ * {@code health.mdms.cache.max-size} masters are kept. A failed load is not cached, the next read tries again.
+ *
+ * <p>Callers that look records up by key should read a {@link MasterDataIndex}, built once per loaded master,
+ * rather than scanning the records. Cache statistics are bound to Micrometer under {@code cache=mdms}.
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("!'${egov.mdms.host:}'.isEmpty() && !'${egov.mdms.search.endpoint:}'.isEmpty()")
+public class MasterDataCache {
+
+    private static final String MDMS_RESPONSE = "MdmsRes";
+
+    private final ServiceRequestClient serviceRequestClient;
+
+    private final String mdmsUrl;
+
+    private final RequestInfo requestInfo;
+
+    private final LoadingCache<MasterKey, Master> masters;
+
+    @Autowired
+    public MasterDataCache(ServiceRequestClient serviceRequestClient,
+                           @Value("${egov.mdms.host}") String mdmsHost,
+                           @Value("${egov.mdms.search.endpoint}") String mdmsUrl,
+                           @Value("${health.mdms.cache.max-size:1000}") long maximumSize,
+                           @Value("${health.mdms.cache.refresh-after:300}") long refreshAfterSeconds,
+                           @Value("${health.mdms.cache.expire-after:3600}") long expireAfterSeconds,
+                           @Value("${health.mdms.cache.user-uuid:health-services}") String userUuid,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.serviceRequestClient = serviceRequestClient;
+        this.mdmsUrl = mdmsHost + mdmsUrl;
+        this.requestInfo = RequestInfo.builder().userInfo(User.builder().uuid(userUuid).build()).build();
+        this.masters = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(expireAfterSeconds, refreshAfterSeconds)))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), masters, "mdms");
+    }
+
+    /**
+     * @param tenantId   The tenant, any tenant of the state.
+     * @param moduleName The MDMS module.
+     * @param masterName The master.
+     * @return The records of the master, an empty array if MDMS has none. Must not be modified.
+     */
+    public JsonNode getMaster(String tenantId, String moduleName, String masterName) {
+        return getMaster(tenantId, moduleName, masterName, null);
+    }
+
+    /**
+     * @param tenantId   The tenant, any tenant of the state.
+     * @param moduleName The MDMS module.
+     * @param masterName The master.
+     * @param filter     The MDMS filter expression, null for every record.
+     * @return The records of the master matching the filter, an empty array if MDMS has none. Must not be modified.
+     */
+    public JsonNode getMaster(String tenantId, String moduleName, String masterName, String filter) {
+        return get(new MasterKey(stateTenantId(tenantId), moduleName, masterName, filter)).records;
+    }
+
+    /**
+     * @param tenantId   The tenant, any tenant of the state.
+     * @param moduleName The MDMS module.
+     * @param masterName The master.
+     * @param index      The lookup to read.
+     * @param <T>        The type of the lookup.
+     * @return The lookup built from every record of the master.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIndex(String tenantId, String moduleName, String masterName, MasterDataIndex<T> index) {
+        Master master = get(new MasterKey(stateTenantId(tenantId), moduleName, masterName, null));
+        return (T) master.indexes.computeIfAbsent(index.getName(), name -> index.build(master.records));
+    }
+
+    /**
+     * Drops every cached master of the tenant's state, for example after the master data is updated.
+     *
+     * @param tenantId The tenant, any tenant of the state.
+     */
+    public void invalidate(String tenantId) {
+        String stateTenantId = stateTenantId(tenantId);
+        masters.asMap().keySet().removeIf(key -> key.tenantId().equals(stateTenantId));
+    }
+
+    private Master get(MasterKey key) {
+        try {
+            return masters.get(key);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Master load(MasterKey key) {
+        MasterDetail masterDetail = new MasterDetail();
+        masterDetail.setName(key.masterName());
+        masterDetail.setFilter(key.filter());
+        ModuleDetail moduleDetail = new ModuleDetail();
+        moduleDetail.setModuleName(key.moduleName());
+        moduleDetail.setMasterDetails(Collections.singletonList(masterDetail));
+        MdmsCriteria mdmsCriteria = new MdmsCriteria();
+        mdmsCriteria.setTenantId(key.tenantId());
+        mdmsCriteria.setModuleDetails(Collections.singletonList(moduleDetail));
+        MdmsCriteriaReq mdmsCriteriaReq = new MdmsCriteriaReq();
+        mdmsCriteriaReq.setMdmsCriteria(mdmsCriteria);
+        mdmsCriteriaReq.setRequestInfo(requestInfo);
+
+        JsonNode response;
+        try {
+            response = serviceRequestClient.fetchResult(new StringBuilder(mdmsUrl), mdmsCriteriaReq, JsonNode.class);
+        } catch (Exception e) {
+            log.error("error while fetching mdms master {}.{} for {}", key.moduleName(), key.masterName(),
+                    key.tenantId(), e);
+            throw new CustomException("MDMS_FETCH_ERROR", "Error while fetching mdms config");
+        }
+        JsonNode records = response == null ? null : response.path(MDMS_RESPONSE).path(key.moduleName())
+                .get(key.masterName());
+        log.info("loaded mdms master {}.{} for {}", key.moduleName(), key.masterName(), key.tenantId());
+        return new Master(records != null && records.isArray() ? records : new ArrayNode(JsonNodeFactory.instance));
+    }
+
+    private static String stateTenantId(String tenantId) {
+        return tenantId.split("\\.")[0];
+    }
+
+    private record MasterKey(String tenantId, String moduleName, String masterName, String filter) {
+    }
+
+    private static final class Master {
+
+        private final JsonNode records;
+
+        private final Map<String, Object> indexes = new ConcurrentHashMap<>();
+
+        private Master(JsonNode records) {
+            this.records = records;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.egov.common.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.function.Function;
+
+/**
+ * A lookup built from the records of an MDMS master, such as product variant id to compiled regex.
+ *
+ * <p>{@link MasterDataCache} builds an index once per loaded master and keeps it until the master is refreshed, so
+ * callers read a ready map instead of scanning and converting the raw records on every request. Indexes are told
+ * apart by name: use one constant instance per lookup.
+ *
+ * @param <T> The type of the lookup.
+ */
+public final class MasterDataIndex<T> {
+
+    private final String name;
+
+    private final Function<JsonNode, T> builder;
+
+    private MasterDataIndex(String name, Function<JsonNode, T> builder) {
+        this.name = name;
+        this.builder = builder;
+    }
+
+    /**
+     * @param name    The name of the index, unique among the indexes of a master.
+     * @param builder Builds the lookup from the records of the master, a JSON array. Must not modify it.
+     * @param <T>     The type of the lookup.
+     * @return The index.
+     */
+    public static <T> MasterDataIndex<T> of(String name, Function<JsonNode, T> builder) {
+        return new MasterDataIndex<>(name, builder);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    T build(JsonNode records) {
+        return builder.apply(records);
+    }
+}
@@ -0,0 +1,165 @@
+package org.egov.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process (L1) entity cache sitting in front of the Redis hash cache used by
+ * {@link org.egov.common.data.repository.GenericRepository}.
+ *
+ * <p>One bounded cache is kept per table. Every entry carries its own TTL, so a hot
+ * table no longer expires all at once the way the Redis hash does. Hit, miss and
+ * eviction counters are bound per table to Micrometer under the {@code cache.*} meters
+ * with the tag {@code cache=<tableName>}.
+ *
+ * <p>Callers mutate the entities they hold (enrichment, audit details), so an entity is
+ * kept as an immutable JSON snapshot taken once when it is put, and every lookup reads a
+ * fresh instance from that snapshot; the cached state is never shared.
+ */
+@Component
+@Slf4j
+public class NearCache {
+
+    private final boolean enabled;
+
+    private final long maximumSize;
+
+    private final Duration timeToLive;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Cache<String, Snapshot>> caches = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Autowired
+    public NearCache(@Value("${health.cache.near.enabled:false}") boolean enabled,
+                     @Value("${health.cache.near.max-size:10000}") long maximumSize,
+                     @Value("${health.cache.near.time-to-live:30}") long timeToLiveInSeconds,
+                     ObjectProvider<MeterRegistry> meterRegistry) {
+        this.enabled = enabled;
+        this.maximumSize = maximumSize;
+        this.timeToLive = Duration.ofSeconds(timeToLiveInSeconds);
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the entries present in the near cache for the given keys.
+     *
+     * @param tableName The table the entities belong to.
+     * @param keys      The cache keys to look up.
+     * @return A map of key to cached entity, containing only the keys that were found.
+     */
+    public Map<String, Object> getAllPresent(String tableName, Collection<String> keys) {
+        if (!enabled || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Cache<String, Snapshot> cache = getCache(tableName);
+        Map<String, Object> objFound = new HashMap<>();
+        cache.getAllPresent(keys).forEach((key, snapshot) -> {
+            Object value = read(snapshot);
+            if (value != null) {
+                objFound.put(key, value);
+            } else {
+                cache.invalidate(key);
+            }
+        });
+        return objFound;
+    }
+
+    /**
+     * Puts the given entries in the near cache of the table.
+     *
+     * @param tableName The table the entities belong to.
+     * @param entries   A map of cache key to entity.
+     */
+    public void putAll(String tableName, Map<String, ?> entries) {
+        if (!enabled || entries.isEmpty()) {
+            return;
+        }
+        Map<String, Snapshot> snapshots = new HashMap<>();
+        entries.forEach((key, value) -> {
+            Snapshot snapshot = value == null ? null : snapshot(value);
+            if (key != null && snapshot != null) {
+                snapshots.put(key, snapshot);
+            }
+        });
+        getCache(tableName).putAll(snapshots);
+    }
+
+    /**
+     * Removes the given keys from the near cache of the table on this instance only.
+     *
+     * @param tableName The table the entities belong to.
+     * @param keys      The cache keys to evict.
+     */
+    public void invalidate(String tableName, Collection<String> keys) {
+        if (!enabled) {
+            return;
+        }
+        Cache<String, Snapshot> cache = caches.get(tableName);
+        if (cache != null) {
+            log.debug("Invalidating {} keys of {} in near cache", keys.size(), tableName);
+            cache.invalidateAll(keys.stream().filter(Objects::nonNull).toList());
+        }
+    }
+
+    private Snapshot snapshot(Object value) {
+        try {
+            return new Snapshot(value.getClass(), objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException exception) {
+            log.warn("Could not snapshot {} for near cache: {}", value.getClass().getSimpleName(), exception.getMessage());
+            return null;
+        }
+    }
+
+    private Object read(Snapshot snapshot) {
+        try {
+            return objectMapper.readValue(snapshot.json(), snapshot.type());
+        } catch (IOException exception) {
+            log.warn("Could not read {} from near cache: {}", snapshot.type().getSimpleName(), exception.getMessage());
+            return null;
+        }
+    }
+
+    private Cache<String, Snapshot> getCache(String tableName) {
+        return caches.computeIfAbsent(tableName, name -> {
+            Cache<String, Snapshot> cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(timeToLive)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+            log.info("Created near cache for {}", name);
+            return cache;
+        });
+    }
+
+    private record Snapshot(Class<?> type, byte[] json) {
+    }
+}
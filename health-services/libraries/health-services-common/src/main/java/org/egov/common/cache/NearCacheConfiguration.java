@@ -0,0 +1,25 @@
+package org.egov.common.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes this instance to near cache invalidations when the near cache is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "health.cache.near.enabled", havingValue = "true")
+public class NearCacheConfiguration {
+
+    @Bean
+    public RedisMessageListenerContainer nearCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                    NearCacheInvalidator nearCacheInvalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(nearCacheInvalidator, new ChannelTopic(nearCacheInvalidator.getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,97 @@
+package org.egov.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fans out near cache invalidations to the other instances of the service over Redis pub/sub.
+ *
+ * <p>Whenever an instance saves entities it keeps the fresh copies in its own near cache and
+ * publishes the saved keys; every other instance evicts those keys so the next read goes
+ * back to Redis. Messages published by this instance are ignored on receipt.
+ */
+@Component
+@Slf4j
+public class NearCacheInvalidator implements MessageListener {
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final NearCache nearCache;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final String channel;
+
+    @Autowired
+    public NearCacheInvalidator(NearCache nearCache, RedisTemplate<String, Object> redisTemplate,
+                                @Value("${health.cache.near.invalidation-channel:health-near-cache-invalidation}") String channel) {
+        this.nearCache = nearCache;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * Publishes the keys of the given table so that other instances evict them from their near cache.
+     *
+     * @param tableName The table the entities belong to.
+     * @param keys      The cache keys that were written.
+     */
+    public void publish(String tableName, Collection<String> keys) {
+        if (!nearCache.isEnabled() || keys.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new Invalidation(instanceId, tableName, new ArrayList<>(keys)));
+            byte[] topic = channel.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.execute((RedisCallback<Long>) (RedisConnection connection) -> connection.publish(topic, body));
+        } catch (Exception exception) {
+            log.warn("Error while publishing near cache invalidation: {}", ExceptionUtils.getStackTrace(exception));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Invalidation invalidation = objectMapper.readValue(message.getBody(), Invalidation.class);
+            if (instanceId.equals(invalidation.getOrigin())) {
+                return;
+            }
+            nearCache.invalidate(invalidation.getTableName(), invalidation.getKeys());
+        } catch (Exception exception) {
+            log.warn("Error while applying near cache invalidation: {}", ExceptionUtils.getStackTrace(exception));
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Invalidation {
+        private String origin;
+        private String tableName;
+        private List<String> keys;
+    }
+}
@@ -2,25 +2,32 @@ package org.egov.common.data.repository;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.egov.common.cache.NearCache;
+import org.egov.common.cache.NearCacheInvalidator;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.producer.Producer;
+import org.egov.common.utils.AccessorRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -52,6 +59,13 @@ public abstract class GenericRepository<T> {
     @Value("${spring.cache.redis.time-to-live:60}")
     private String timeToLive;
 
+    // In-process cache in front of redis, absent when the repository is not created by spring
+    @Autowired(required = false)
+    private NearCache nearCache;
+
+    @Autowired(required = false)
+    private NearCacheInvalidator nearCacheInvalidator;
+
     protected GenericRepository(Producer producer, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
                                 RedisTemplate<String, Object> redisTemplate,
                                 SelectQueryBuilder selectQueryBuilder, RowMapper<T> rowMapper,
@@ -83,18 +97,31 @@ public abstract class GenericRepository<T> {
      */
     protected List<T> findInCache(List<String> ids) {
         ArrayList<T> objFound = new ArrayList<>();
-        Collection<Object> collection = ids.stream().filter(Objects::nonNull)
+        List<Object> collection = ids.stream().filter(Objects::nonNull)
                 .collect(Collectors.toList());
         log.info("Searching in cache");
-        List<Object> objFromCache = redisTemplate.opsForHash()
-                .multiGet(tableName, collection).stream().filter(Objects::nonNull).collect(Collectors.toList());
+        if (nearCache != null && nearCache.isEnabled()) {
+            Map<String, Object> objFromNearCache = nearCache.getAllPresent(tableName,
+                    collection.stream().map(String.class::cast).collect(Collectors.toList()));
+            if (!objFromNearCache.isEmpty()) {
+                log.info("Near cache hit, {} items found", objFromNearCache.size());
+                objFromNearCache.values().forEach(obj -> objFound.add((T) obj));
+                collection = collection.stream().filter(key -> !objFromNearCache.containsKey(key))
+                        .collect(Collectors.toList());
+                if (collection.isEmpty()) {
+                    return objFound;
+                }
+            }
+        }
+        List<Object> objFromRedis = redisTemplate.opsForHash().multiGet(tableName, collection);
+        putFromRedisInNearCache(collection, objFromRedis);
+        List<Object> objFromCache = objFromRedis.stream().filter(Objects::nonNull).collect(Collectors.toList());
         if (!objFromCache.isEmpty()) {
             if (objFromCache.size() == 1 && objFromCache.contains(null)) {
                 log.info("Cache miss");
             } else {
                 log.info("Cache hit, {} items found", objFromCache.size());
-                objFound = (ArrayList<T>) objFromCache.stream().map(Object.class::cast)
-                        .collect(Collectors.toList());
+                objFromCache.forEach(obj -> objFound.add((T) obj));
             }
         } else {
             log.info("Cache miss");
@@ -102,6 +129,21 @@ public abstract class GenericRepository<T> {
         return objFound;
     }
 
+    // Redis returns the values in the order of the requested keys, nulls included for misses
+    private void putFromRedisInNearCache(List<Object> keys, List<Object> objFromRedis) {
+        if (nearCache == null || !nearCache.isEnabled() || objFromRedis == null
+                || objFromRedis.size() != keys.size()) {
+            return;
+        }
+        Map<String, Object> objMap = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (objFromRedis.get(i) != null) {
+                objMap.put((String) keys.get(i), objFromRedis.get(i));
+            }
+        }
+        nearCache.putAll(tableName, objMap);
+    }
+
     /**
      * Finds entities by their IDs with an option to include deleted entities,
      * using the default column name "id" for ID search.
@@ -131,11 +173,11 @@ public abstract class GenericRepository<T> {
             Method isDeleted = getMethod("getIsDeleted", getObjClass(objFound));
             if (!includeDeleted) {
                 objFound = objFound.stream()
-                        .filter(entity -> Objects.equals(ReflectionUtils.invokeMethod(isDeleted, entity), false))
+                        .filter(entity -> Objects.equals(AccessorRegistry.get(isDeleted, entity), false))
                         .collect(Collectors.toList());
             }
             ids.removeAll(objFound.stream()
-                    .map(obj -> (String) ReflectionUtils.invokeMethod(idMethod, obj))
+                    .map(obj -> (String) AccessorRegistry.get(idMethod, obj))
                     .collect(Collectors.toList()));
             if (ids.isEmpty()) {
                 return objFound;
@@ -167,6 +209,7 @@ public abstract class GenericRepository<T> {
         log.info("Pushed to kafka");
         putInCache(objects);
         log.info("Saved to cache");
+        invalidateInOtherInstances(objects, "clientReferenceId");
         return objects;
     }
 
@@ -183,18 +226,51 @@ public abstract class GenericRepository<T> {
         log.info("Pushed to kafka");
         putInCache(objects, cacheKey);
         log.info("Saved to cache");
+        invalidateInOtherInstances(objects, cacheKey);
         return objects;
     }
 
+    /**
+     * Evicts the saved entities from the near cache of the other instances of this service. Entities are cached by
+     * id when they are read back from the database and by the given field when they are saved, so the keys of both
+     * are published.
+     *
+     * @param objects   The list of entities saved.
+     * @param fieldName The field used as the cache key.
+     */
+    protected void invalidateInOtherInstances(List<T> objects, String fieldName) {
+        if (nearCacheInvalidator == null || objects == null || objects.isEmpty()) {
+            return;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (String keyField : new LinkedHashSet<>(List.of(fieldName, "id", "clientReferenceId"))) {
+            try {
+                Method getKeyMethod = getMethod("get" + keyField.substring(0, 1).toUpperCase()
+                        + keyField.substring(1), getObjClass(objects));
+                objects.stream()
+                        .map(obj -> AccessorRegistry.get(getKeyMethod, obj))
+                        .filter(Objects::nonNull)
+                        .forEach(key -> keys.add((String) key));
+            } catch (Exception exception) {
+                log.debug("No {} to invalidate in near cache of {}", keyField, tableName);
+            }
+        }
+        try {
+            nearCacheInvalidator.publish(tableName, keys);
+        } catch (Exception exception) {
+            log.warn("Error while invalidating near cache: {}", ExceptionUtils.getStackTrace(exception));
+        }
+    }
+
     // Cache objects by key
     protected void cacheByKey(List<T> objects, String fieldName) {
         try{
             Method getIdMethod = getIdMethod(objects, fieldName);
-            if (ReflectionUtils.invokeMethod(getIdMethod, objects.stream().findAny().get()) != null) {
+            if (AccessorRegistry.get(getIdMethod, objects.stream().findAny().get()) != null) {
                 Map<String, T> objMap = objects.stream()
                         .collect(Collectors
                                 .toMap(obj -> {
-                                            String str =  (String) ReflectionUtils.invokeMethod(getIdMethod, obj);
+                                            String str =  (String) AccessorRegistry.get(getIdMethod, obj);
                                             log.info("Caching the {}: {}", getIdMethod.getName(), str);
                                             return str;
                                         }
@@ -202,14 +278,34 @@ public abstract class GenericRepository<T> {
                                         obj -> obj,
                                         // in case of duplicates pick the latter
                                         (obj1, obj2) -> obj2));
-                redisTemplate.opsForHash().putAll(tableName, objMap);
-                redisTemplate.expire(tableName, Long.parseLong(timeToLive), TimeUnit.SECONDS);
+                writeToRedis(objMap);
+                if (nearCache != null) {
+                    nearCache.putAll(tableName, objMap);
+                }
             }
         } catch (Exception exception) {
             log.warn("Error while saving to cache: {}", ExceptionUtils.getStackTrace(exception));
         }
     }
 
+    /**
+     * Writes the entities to the redis hash of the table and refreshes its TTL in one pipelined round trip. Redis
+     * expires the hash as a whole, so every write pushes the TTL out again to keep the entries just written alive
+     * for a full window.
+     */
+    private void writeToRedis(Map<String, T> objMap) {
+        long ttlInSeconds = Long.parseLong(timeToLive);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                redisOperations.opsForHash().putAll(tableName, objMap);
+                redisOperations.expire(tableName, ttlInSeconds, TimeUnit.SECONDS);
+                return null;
+            }
+        });
+    }
+
     /**
      * Puts objects in cache.
      *
@@ -256,6 +352,48 @@ public abstract class GenericRepository<T> {
                                            String tenantId,
                                            Long lastChangedSince,
                                            Boolean includeDeleted) throws QueryBuilderException {
+        return findWithCount(searchObject, URLParams.builder().limit(limit).offset(offset).tenantId(tenantId)
+                .lastChangedSince(lastChangedSince).includeDeleted(includeDeleted).build());
+    }
+
+    /**
+     * Finds entities based on search criteria and URL parameters, also returns the count of entities found.
+     *
+     * <p>When a cursor is present in the URL parameters the page is read with a keyset seek over
+     * (lastModifiedTime, id) instead of an offset, and the cursor of the next page is returned.
+     * The total count is skipped when includeTotalCount is false.
+     *
+     * @param searchObject The object containing search criteria.
+     * @param urlParams    The URL parameters including pagination and filtering information.
+     * @return A list of entities found based on the search criteria with total count and next cursor.
+     * @throws QueryBuilderException If an error occurs while building the query.
+     */
+    public SearchResponse<T> findWithCount(Object searchObject, URLParams urlParams) throws QueryBuilderException {
+        Map<String, Object> paramsMap = new HashMap<>();
+        String query = buildSearchQuery(searchObject, urlParams.getTenantId(), urlParams.getLastChangedSince(),
+                urlParams.getIncludeDeleted(), paramsMap);
+
+        Long totalCount = Boolean.FALSE.equals(urlParams.getIncludeTotalCount()) ? null
+                : constructTotalCountCTEAndReturnResult(query + "ORDER BY id ASC", paramsMap, namedParameterJdbcTemplate);
+
+        if (urlParams.getCursor() != null) {
+            query = KeysetCursor.appendSeek(query, null, urlParams.getCursor(), urlParams.getLimit(), paramsMap);
+            List<T> resultantList = namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
+            return SearchResponse.<T>builder().response(resultantList).totalCount(totalCount)
+                    .nextCursor(KeysetCursor.nextCursor(resultantList, urlParams.getLimit())).build();
+        }
+
+        query += "ORDER BY id ASC LIMIT :limit OFFSET :offset";
+        paramsMap.put("limit", urlParams.getLimit());
+        paramsMap.put("offset", urlParams.getOffset());
+
+        List<T> resultantList = namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
+
+        return SearchResponse.<T>builder().response(resultantList).totalCount(totalCount).build();
+    }
+
+    private String buildSearchQuery(Object searchObject, String tenantId, Long lastChangedSince,
+                                    Boolean includeDeleted, Map<String, Object> paramsMap) throws QueryBuilderException {
         String query = selectQueryBuilder.build(searchObject, tableName);
         query += " AND tenantId=:tenantId ";
         if (query.contains(tableName + " AND")) {
@@ -267,21 +405,11 @@ public abstract class GenericRepository<T> {
         if (lastChangedSince != null) {
             query += "AND lastModifiedTime>=:lastModifiedTime ";
         }
-        query += "ORDER BY id ASC";
-        Map<String, Object> paramsMap = selectQueryBuilder.getParamsMap();
+        paramsMap.putAll(selectQueryBuilder.getParamsMap());
         paramsMap.put("tenantId", tenantId);
         paramsMap.put("isDeleted", includeDeleted);
         paramsMap.put("lastModifiedTime", lastChangedSince);
-
-        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, namedParameterJdbcTemplate);
-
-        query += " LIMIT :limit OFFSET :offset";
-        paramsMap.put("limit", limit);
-        paramsMap.put("offset", offset);
-
-        List<T> resultantList = namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
-
-        return SearchResponse.<T>builder().response(resultantList).totalCount(totalCount).build();
+        return query;
     }
 
     /**
@@ -323,6 +451,26 @@ public abstract class GenericRepository<T> {
         return namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
     }
 
+    /**
+     * Finds entities based on search criteria and URL parameters, seeking past the cursor when one is present.
+     *
+     * @param searchObject The object containing search criteria.
+     * @param urlParams    The URL parameters including pagination and filtering information.
+     * @return A list of entities found based on the search criteria.
+     * @throws QueryBuilderException If an error occurs while building the query.
+     */
+    public List<T> find(Object searchObject, URLParams urlParams) throws QueryBuilderException {
+        if (urlParams.getCursor() == null) {
+            return find(searchObject, urlParams.getLimit(), urlParams.getOffset(), urlParams.getTenantId(),
+                    urlParams.getLastChangedSince(), urlParams.getIncludeDeleted());
+        }
+        Map<String, Object> paramsMap = new HashMap<>();
+        String query = buildSearchQuery(searchObject, urlParams.getTenantId(), urlParams.getLastChangedSince(),
+                urlParams.getIncludeDeleted(), paramsMap);
+        query = KeysetCursor.appendSeek(query, null, urlParams.getCursor(), urlParams.getLimit(), paramsMap);
+        return namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
+    }
+
     /**
      * Validates IDs against existing entities.
      *
@@ -336,7 +484,7 @@ public abstract class GenericRepository<T> {
             return Collections.emptyList();
         }
         Method idMethod = getIdMethod(validIds, columnName);
-        return validIds.stream().map((obj) -> (String) ReflectionUtils.invokeMethod(idMethod, obj))
+        return validIds.stream().map((obj) -> (String) AccessorRegistry.get(idMethod, obj))
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,113 @@
+package org.egov.common.data.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.utils.AccessorRegistry;
+import org.egov.tracer.model.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.egov.common.utils.CommonUtils.getObjClass;
+
+/**
+ * Keyset (seek) pagination cursor over (lastModifiedTime, id).
+ *
+ * <p>Unlike LIMIT/OFFSET, every page is read with an index seek past the last row of the previous page,
+ * so walking a whole locality costs the same per page. Records modified while the walk is in progress
+ * move to the end of the order and are returned again rather than skipped, which is what sync clients need.
+ */
+@Getter
+@AllArgsConstructor
+public final class KeysetCursor {
+
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
+
+    public static final String CURSOR_NOT_SUPPORTED = "CURSOR_NOT_SUPPORTED";
+
+    private final Long lastModifiedTime;
+
+    private final String id;
+
+    /**
+     * Decodes a cursor token received from a client.
+     *
+     * @param token The opaque cursor token, blank to start from the first record.
+     * @return The decoded cursor, or null for a blank token.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new KeysetCursor(Long.parseLong(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+            throw new CustomException(INVALID_CURSOR, "Invalid cursor " + token);
+        }
+    }
+
+    /**
+     * Rejects a cursor sent to a search that is not paged with a keyset seek, such as a search by ids or by
+     * proximity, rather than silently returning an offset page without a next cursor.
+     *
+     * @param token  The cursor token received from the client.
+     * @param search The kind of search, for the error message.
+     */
+    public static void requireNoCursor(String token, String search) {
+        if (token != null) {
+            throw new CustomException(CURSOR_NOT_SUPPORTED, "Cursor pagination is not supported for " + search);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((lastModifiedTime + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Appends the seek predicate, ordering and limit of a cursor page to a query which already has a WHERE clause.
+     *
+     * @param query       The search query without ordering or pagination.
+     * @param tableAlias  The alias (or name) of the table holding lastModifiedTime and id, e.g. "pt".
+     * @param cursorToken The cursor token received from the client.
+     * @param limit       The page size.
+     * @param paramsMap   The query parameters, the cursor parameters are added to it.
+     * @return The query for the page.
+     */
+    public static String appendSeek(String query, String tableAlias, String cursorToken, Integer limit,
+                                    Map<String, Object> paramsMap) {
+        String prefix = tableAlias == null ? "" : tableAlias + ".";
+        KeysetCursor cursor = decode(cursorToken);
+        if (cursor != null) {
+            query = query + String.format(" AND (%1$slastModifiedTime, %1$sid) > (:cursorLastModifiedTime, :cursorId) ", prefix);
+            paramsMap.put("cursorLastModifiedTime", cursor.getLastModifiedTime());
+            paramsMap.put("cursorId", cursor.getId());
+        }
+        paramsMap.put("limit", limit);
+        return query + String.format(" ORDER BY %1$slastModifiedTime ASC, %1$sid ASC LIMIT :limit", prefix);
+    }
+
+    /**
+     * Builds the cursor pointing past the last entity of a page.
+     *
+     * @param page  The entities of the page, in cursor order.
+     * @param limit The requested page size.
+     * @param <T>   The type of entity, having getId and getAuditDetails.
+     * @return The cursor token of the next page, or null if this page is the last one.
+     */
+    public static <T> String nextCursor(List<T> page, Integer limit) {
+        if (page == null || page.isEmpty() || limit == null || page.size() < limit) {
+            return null;
+        }
+        T last = page.get(page.size() - 1);
+        Class<?> objClass = getObjClass(page);
+        AuditDetails auditDetails = (AuditDetails) AccessorRegistry.getter(objClass, "auditDetails").apply(last);
+        String id = (String) AccessorRegistry.getter(objClass, "id").apply(last);
+        return new KeysetCursor(auditDetails.getLastModifiedTime(), id).encode();
+    }
+}
@@ -1,4 +1,4 @@
-package org.egov.household.repository.rowmapper;
+package org.egov.common.data.repository.rowmapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -11,6 +11,10 @@ import org.egov.common.models.household.HouseholdMember;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+/**
+ * Maps a household_member row, shared by the household member repository and the referralmanagement direct db
+ * downsync.
+ */
 @Component
 public class HouseholdMemberRowMapper implements RowMapper<HouseholdMember> {
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -1,4 +1,4 @@
-package org.egov.household.repository.rowmapper;
+package org.egov.common.data.repository.rowmapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -15,6 +15,10 @@ import org.egov.common.models.household.Household;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+/**
+ * Maps a household row joined with its address (aliased {@code aid}, {@code atenantid} and
+ * {@code aclientreferenceid}), shared by the household repository and the referralmanagement direct db downsync.
+ */
 @Component
 public class HouseholdRowMapper implements RowMapper<Household> {
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -1,4 +1,4 @@
-package org.egov.project.repository.rowmapper;
+package org.egov.common.data.repository.rowmapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,6 +11,10 @@ import org.springframework.stereotype.Component;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+/**
+ * Maps a project_beneficiary row, shared by the project beneficiary repository and the referralmanagement direct
+ * db downsync.
+ */
 @Component
 public class ProjectBeneficiaryRowMapper implements RowMapper<ProjectBeneficiary> {
 
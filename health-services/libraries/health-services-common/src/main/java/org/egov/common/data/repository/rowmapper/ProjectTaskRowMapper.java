@@ -1,4 +1,4 @@
-package org.egov.project.repository.rowmapper;
+package org.egov.common.data.repository.rowmapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +15,10 @@ import org.springframework.stereotype.Component;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+/**
+ * Maps a project_task row joined with its address, shared by the project task repository and the referralmanagement
+ * direct db downsync. Task resources are read separately with {@link TaskResourceRowMapper}.
+ */
 @Component
 public class ProjectTaskRowMapper implements RowMapper<Task> {
 
@@ -0,0 +1,253 @@
+package org.egov.common.persister;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.tracer.model.CustomException;
+import org.postgresql.PGConnection;
+import org.postgresql.util.PGobject;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the messages of save topics in bulk, in place of the external persister.
+ *
+ * The messages of a poll are persisted together: the rows of each query of the topic's mapping are collected across
+ * all the records and written as JDBC batches of health.persister.bulk.batch-size rows, or loaded with Postgres COPY
+ * in COPY mode, query after query in the order of the configuration. A poll is written in one transaction whatever
+ * the isTransaction flag of its mapping: records are skipped by the client reference id of their root row, so a root
+ * row left behind by a failed poll would make its retry skip the child rows. Records whose client reference id is
+ * already persisted, or repeated in the poll, are skipped, and inserts without a conflict clause do nothing on
+ * conflict, so a redelivered message is not persisted twice.
+ *
+ * Meters, tagged with topic: health.persister.bulk.records and health.persister.bulk.duplicates count the records
+ * persisted and skipped, health.persister.bulk.rows (also tagged with table) the rows written and
+ * health.persister.bulk.latency times each poll.
+ */
+@Slf4j
+public class BulkPersister {
+
+    private static final int ID_QUERY_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BulkPersisterProperties properties;
+
+    private final Map<String, PersisterMapping> mappings = new HashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean postgres;
+
+    /**
+     * @param dataSource         The database of the service.
+     * @param transactionManager The transaction manager of the data source.
+     * @param mappings           The mappings of the persisted topics.
+     * @param properties         The settings.
+     * @param meterRegistry      The registry of the meters.
+     */
+    public BulkPersister(DataSource dataSource, PlatformTransactionManager transactionManager,
+                         List<PersisterMapping> mappings, BulkPersisterProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        mappings.forEach(mapping -> this.mappings.put(mapping.getTopic(), mapping));
+        this.postgres = Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres")));
+    }
+
+    /**
+     * @param topic The topic.
+     * @return true if the topic has a mapping.
+     */
+    public boolean persists(String topic) {
+        return mappings.containsKey(topic);
+    }
+
+    /**
+     * Persists messages of one topic.
+     *
+     * @param topic    The topic.
+     * @param payloads The messages, each a list of records.
+     * @return The number of records persisted, duplicates excluded.
+     */
+    public int persist(String topic, List<?> payloads) {
+        PersisterMapping mapping = mappings.get(topic);
+        if (mapping == null) {
+            throw new CustomException("PERSISTER_MAPPING_NOT_FOUND", "No persister mapping for topic " + topic);
+        }
+        long start = System.nanoTime();
+        List<Object> records = new ArrayList<>();
+        payloads.forEach(payload -> records.addAll(PersisterMapping.records(payload)));
+
+        int received = records.size();
+        List<Object> toPersist = transactionTemplate.execute(status -> {
+            List<Object> newRecords = mapping.getRootQuery() == null ? records : withoutDuplicates(mapping, records);
+            if (!newRecords.isEmpty()) {
+                write(mapping, newRecords);
+            }
+            return newRecords;
+        });
+
+        Counter.builder("health.persister.bulk.records").tag("topic", topic).register(meterRegistry)
+                .increment(toPersist.size());
+        Counter.builder("health.persister.bulk.duplicates").tag("topic", topic).register(meterRegistry)
+                .increment(received - toPersist.size());
+        Timer.builder("health.persister.bulk.latency").tag("topic", topic).register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return toPersist.size();
+    }
+
+    private void write(PersisterMapping mapping, List<Object> records) {
+        for (PersisterMapping.Query query : mapping.getQueries()) {
+            List<Object[]> rows = query.rows(records);
+            if (rows.isEmpty()) {
+                continue;
+            }
+            if (postgres && query.isPlainInsert() && properties.getMode() == BulkPersisterProperties.Mode.COPY) {
+                copy(query, rows);
+            } else {
+                batch(query, rows);
+            }
+            Counter.builder("health.persister.bulk.rows").tag("topic", mapping.getTopic())
+                    .tag("table", query.getTable() == null ? "none" : query.getTable().toLowerCase())
+                    .register(meterRegistry).increment(rows.size());
+        }
+    }
+
+    private void batch(PersisterMapping.Query query, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(query.getBulkSql(), rows, Math.max(1, properties.getBatchSize()),
+                (PreparedStatement ps, Object[] row) -> {
+                    for (int i = 0; i < row.length; i++) {
+                        ps.setObject(i + 1, bind(row[i]));
+                    }
+                });
+    }
+
+    private Object bind(Object value) throws SQLException {
+        if (!(value instanceof PersisterMapping.JsonValue)) {
+            return value;
+        }
+        String json = ((PersisterMapping.JsonValue) value).json();
+        if (!postgres) {
+            return json;
+        }
+        PGobject jsonb = new PGobject();
+        jsonb.setType("jsonb");
+        jsonb.setValue(json);
+        return jsonb;
+    }
+
+    /**
+     * Loads the rows into a temporary copy of the table with COPY, then inserts them into the table skipping the
+     * rows that conflict. Runs in the transaction of the poll, the temporary table is emptied on commit.
+     */
+    private void copy(PersisterMapping.Query query, List<Object[]> rows) {
+        String staging = "bulk_" + query.getTable().replace('.', '_');
+        String columns = String.join(", ", query.getColumnNames());
+        Connection connection = DataSourceUtils.getConnection(jdbcTemplate.getDataSource());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE IF NOT EXISTS " + staging + " (LIKE " + query.getTable()
+                    + " INCLUDING DEFAULTS) ON COMMIT DELETE ROWS");
+            int chunkSize = Math.max(1, properties.getBatchSize());
+            for (int from = 0; from < rows.size(); from += chunkSize) {
+                StringBuilder csv = new StringBuilder();
+                for (Object[] row : rows.subList(from, Math.min(from + chunkSize, rows.size()))) {
+                    appendCsv(csv, row);
+                }
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn("COPY " + staging + " (" + columns
+                        + ") FROM STDIN WITH (FORMAT csv)", new StringReader(csv.toString()));
+            }
+            statement.executeUpdate("INSERT INTO " + query.getTable() + " (" + columns + ") SELECT " + columns
+                    + " FROM " + staging + " ON CONFLICT DO NOTHING");
+            statement.executeUpdate("DELETE FROM " + staging);
+        } catch (Exception e) {
+            log.error("error while copying rows into {}", query.getTable(), e);
+            throw new CustomException("BULK_PERSIST_ERROR", "Not able to copy rows into " + query.getTable());
+        } finally {
+            DataSourceUtils.releaseConnection(connection, jdbcTemplate.getDataSource());
+        }
+    }
+
+    private static void appendCsv(StringBuilder csv, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            Object value = row[i];
+            if (value == null) {
+                continue;
+            }
+            String text = value instanceof PersisterMapping.JsonValue
+                    ? ((PersisterMapping.JsonValue) value).json() : value.toString();
+            csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+        }
+        csv.append('\n');
+    }
+
+    /**
+     * Drops the records whose client reference id is repeated in the poll or already in the root table.
+     */
+    private List<Object> withoutDuplicates(PersisterMapping mapping, List<Object> records) {
+        Map<Object, Object> byClientReferenceId = new LinkedHashMap<>();
+        List<Object> withoutId = new ArrayList<>();
+        for (Object record : records) {
+            Object clientReferenceId = mapping.clientReferenceId(record);
+            if (clientReferenceId == null) {
+                withoutId.add(record);
+            } else {
+                byClientReferenceId.putIfAbsent(clientReferenceId, record);
+            }
+        }
+
+        Set<Object> existing = existingClientReferenceIds(mapping.getRootQuery(), byClientReferenceId.keySet());
+        List<Object> toPersist = new ArrayList<>(withoutId);
+        byClientReferenceId.forEach((clientReferenceId, record) -> {
+            if (!existing.contains(clientReferenceId)) {
+                toPersist.add(record);
+            }
+        });
+        return toPersist;
+    }
+
+    private Set<Object> existingClientReferenceIds(PersisterMapping.Query rootQuery, Collection<Object> ids) {
+        Set<Object> existing = new HashSet<>();
+        List<Object> idList = new ArrayList<>(ids);
+        String column = rootQuery.getClientReferenceIdColumnName();
+        String sql = "SELECT " + column + " FROM " + rootQuery.getTable() + " WHERE " + column + " IN (:ids)";
+        for (int from = 0; from < idList.size(); from += ID_QUERY_CHUNK_SIZE) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids",
+                    idList.subList(from, Math.min(from + ID_QUERY_CHUNK_SIZE, idList.size())));
+            existing.addAll(namedParameterJdbcTemplate.queryForList(sql, params, Object.class));
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,132 @@
+package org.egov.common.persister;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.egov.tracer.model.CustomException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.backoff.FixedBackOff;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consumes the configured save topics and persists them with {@link BulkPersister} when the bulk persister is
+ * enabled. Offsets are committed once a poll is persisted; the messages of a poll that still fails after the retries
+ * are published to the dead letter topic of their topic, then committed. The producer of the dead letter topics is
+ * closed with the application context.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "health.persister.bulk.enabled", havingValue = "true")
+public class BulkPersisterConfiguration implements DisposableBean {
+
+    private DefaultKafkaProducerFactory<String, String> deadLetterProducerFactory;
+
+    @Bean
+    public BulkPersister bulkPersister(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                       ResourceLoader resourceLoader, ObjectMapper objectMapper,
+                                       BulkPersisterProperties properties,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        List<PersisterMapping> mappings = new ArrayList<>();
+        for (String configPath : properties.getConfigPaths()) {
+            Resource resource = resourceLoader.getResource(configPath);
+            try (InputStream inputStream = resource.getInputStream()) {
+                PersisterMapping.load(inputStream, objectMapper).stream()
+                        .filter(mapping -> properties.getTopics().contains(mapping.getTopic()))
+                        .forEach(mappings::add);
+            } catch (IOException e) {
+                throw new CustomException("INVALID_PERSISTER_CONFIG", "Not able to read persister config " + configPath);
+            }
+        }
+        BulkPersister bulkPersister = new BulkPersister(dataSource, transactionManager, mappings, properties,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        for (String topic : properties.getTopics()) {
+            if (!bulkPersister.persists(topic)) {
+                throw new CustomException("PERSISTER_MAPPING_NOT_FOUND", "No persister mapping for topic " + topic);
+            }
+        }
+        return bulkPersister;
+    }
+
+    @Bean
+    public ConcurrentMessageListenerContainer<String, String> bulkPersisterListenerContainer(
+            KafkaProperties kafkaProperties, @Value("${kafka.config.bootstrap_server_config}") String bootstrapServers,
+            BulkPersisterProperties properties, BulkPersister bulkPersister, ObjectMapper objectMapper) {
+        Map<String, Object> consumerConfigs = kafkaProperties.buildConsumerProperties(null);
+        consumerConfigs.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        consumerConfigs.put(ConsumerConfig.GROUP_ID_CONFIG, properties.getGroupId());
+        consumerConfigs.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerConfigs.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerConfigs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerConfigs.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getMaxPollRecords());
+
+        ContainerProperties containerProperties = new ContainerProperties(properties.getTopics().toArray(new String[0]));
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        containerProperties.setMessageListener(new BulkPersisterListener(bulkPersister, objectMapper));
+
+        ConcurrentMessageListenerContainer<String, String> container = new ConcurrentMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(consumerConfigs), containerProperties);
+        container.setConcurrency(Math.max(1, properties.getConcurrency()));
+        container.setCommonErrorHandler(new DefaultErrorHandler(deadLetterRecoverer(kafkaProperties, bootstrapServers,
+                properties), new FixedBackOff(properties.getRetryBackoffMs(), properties.getRetries())));
+        return container;
+    }
+
+    /**
+     * Publishes the messages that could not be persisted, as they were read, to their topic suffixed with
+     * health.persister.bulk.dead-letter-suffix. The template is not a bean, so it does not stand in for the
+     * service's own Kafka template; its producer factory is destroyed in {@link #destroy()}.
+     */
+    private DeadLetterPublishingRecoverer deadLetterRecoverer(KafkaProperties kafkaProperties, String bootstrapServers,
+                                                              BulkPersisterProperties properties) {
+        Map<String, Object> producerConfigs = kafkaProperties.buildProducerProperties(null);
+        producerConfigs.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        producerConfigs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerConfigs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        deadLetterProducerFactory = new DefaultKafkaProducerFactory<>(producerConfigs);
+        KafkaTemplate<String, String> template = new KafkaTemplate<>(deadLetterProducerFactory);
+        return new DeadLetterPublishingRecoverer(template, (record, exception) -> {
+            log.error("not able to persist message at offset {} of {}-{}, publishing it to the dead letter topic",
+                    record.offset(), record.topic(), record.partition(), exception);
+            return new TopicPartition(record.topic() + properties.getDeadLetterSuffix(), -1);
+        });
+    }
+
+    /**
+     * Closes the producer of the dead letter topics. The listener container stops before this configuration is
+     * destroyed, since it depends on it, so no recovery is publishing by then.
+     */
+    @Override
+    public void destroy() {
+        if (deadLetterProducerFactory != null) {
+            deadLetterProducerFactory.destroy();
+        }
+    }
+}
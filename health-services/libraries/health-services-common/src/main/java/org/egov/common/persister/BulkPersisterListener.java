@@ -0,0 +1,50 @@
+package org.egov.common.persister;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchMessageListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands each poll of the save topics to {@link BulkPersister}, one call per topic. Messages that are not JSON are
+ * logged and skipped; a failure to persist fails the poll, which the container retries.
+ */
+@Slf4j
+public class BulkPersisterListener implements BatchMessageListener<String, String> {
+
+    private final BulkPersister bulkPersister;
+
+    private final ObjectMapper objectMapper;
+
+    public BulkPersisterListener(BulkPersister bulkPersister, ObjectMapper objectMapper) {
+        this.bulkPersister = bulkPersister;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<String, String>> records) {
+        Map<String, List<Object>> payloadsByTopic = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (record.value() == null) {
+                continue;
+            }
+            try {
+                payloadsByTopic.computeIfAbsent(record.topic(), topic -> new ArrayList<>())
+                        .add(objectMapper.readValue(record.value(), Object.class));
+            } catch (JsonProcessingException e) {
+                log.error("skipping message at offset {} of {}-{}, not json", record.offset(), record.topic(),
+                        record.partition(), e);
+            }
+        }
+        payloadsByTopic.forEach((topic, payloads) -> {
+            int persisted = bulkPersister.persist(topic, payloads);
+            log.debug("persisted {} records of {} messages from {}", persisted, payloads.size(), topic);
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package org.egov.common.persister;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of {@link BulkPersister}, bound from {@code health.persister.bulk.*}.
+ *
+ * <pre>
+ * health.persister.bulk.enabled=true
+ * health.persister.bulk.config-paths=classpath:household-persister.yml
+ * health.persister.bulk.topics=save-household-topic,save-household-member-topic
+ * health.persister.bulk.mode=COPY
+ * </pre>
+ *
+ * The topics consumed here are to be removed from the external persister's configuration.
+ */
+@Component
+@ConfigurationProperties(prefix = "health.persister.bulk")
+@Getter
+@Setter
+public class BulkPersisterProperties {
+
+    public enum Mode {
+        /**
+         * JDBC batch inserts.
+         */
+        BATCH,
+        /**
+         * Postgres COPY into a temporary table, then one insert per table. Falls back to BATCH for queries that are
+         * not plain inserts and for other databases.
+         */
+        COPY
+    }
+
+    /**
+     * Consume the topics and persist them in this service.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Persister configuration files (the same yml the external persister reads), as Spring resource locations.
+     */
+    private List<String> configPaths = new ArrayList<>();
+
+    /**
+     * Topics persisted here, each one must have a mapping in the configuration files.
+     */
+    private List<String> topics = new ArrayList<>();
+
+    private Mode mode = Mode.BATCH;
+
+    /**
+     * Rows per JDBC batch or COPY.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Maximum number of Kafka messages persisted together.
+     */
+    private int maxPollRecords = 100;
+
+    /**
+     * Number of consumer threads.
+     */
+    private int concurrency = 1;
+
+    private String groupId = "health-bulk-persister";
+
+    /**
+     * Number of times a failed poll is retried before its messages are published to the dead letter topics.
+     */
+    private int retries = 3;
+
+    private long retryBackoffMs = 1000;
+
+    /**
+     * Suffix of the dead letter topic of each topic, which receives the messages that could not be persisted.
+     */
+    private String deadLetterSuffix = "-dlt";
+}
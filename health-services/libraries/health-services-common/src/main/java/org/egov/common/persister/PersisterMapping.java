@@ -0,0 +1,307 @@
+package org.egov.common.persister;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.egov.tracer.model.CustomException;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.InputStream;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The queries persisting one topic, read from a persister configuration file.
+ *
+ * Supports the subset of the persister configuration the health services use: base paths and json paths made of
+ * {@code $.*} followed by field names and {@code *} wildcards, and the JSON and DATE types. A json path is read
+ * from the element of the base path it shares its prefix with, so {@code $.*.clientReferenceId} under the base path
+ * {@code $.*.identifiers.*} is the client reference id of the parent record.
+ */
+@Getter
+public class PersisterMapping {
+
+    private static final String WILDCARD = "*";
+
+    private static final String CLIENT_REFERENCE_ID = "clientReferenceId";
+
+    private static final Pattern INSERT = Pattern.compile(
+            "^\\s*INSERT\\s+INTO\\s+([\\w.]+)\\s*\\(([^)]*)\\)\\s*VALUES\\s*\\(([^)]*)\\)\\s*(.*?)[\\s;]*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final Pattern ON_CONFLICT = Pattern.compile("\\bON\\s+CONFLICT\\b", Pattern.CASE_INSENSITIVE);
+
+    private final String topic;
+
+    private final boolean transactional;
+
+    private final List<Query> queries;
+
+    /**
+     * The insert of the top level records that holds their client reference id, null if there is none.
+     */
+    private final Query rootQuery;
+
+    PersisterMapping(String topic, boolean transactional, List<Query> queries) {
+        this.topic = topic;
+        this.transactional = transactional;
+        this.queries = queries;
+        this.rootQuery = queries.stream().filter(query -> query.clientReferenceIdColumn >= 0).findFirst().orElse(null);
+    }
+
+    /**
+     * Reads the mappings of a persister configuration file.
+     *
+     * @param inputStream  The persister yml.
+     * @param objectMapper The object mapper writing the JSON columns.
+     * @return The mappings, one per topic.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<PersisterMapping> load(InputStream inputStream, ObjectMapper objectMapper) {
+        Map<String, Object> config = new Yaml().load(inputStream);
+        Map<String, Object> serviceMaps = (Map<String, Object>) config.get("serviceMaps");
+        if (serviceMaps == null) {
+            throw new CustomException("INVALID_PERSISTER_CONFIG", "serviceMaps missing in persister config");
+        }
+        List<PersisterMapping> mappings = new ArrayList<>();
+        for (Map<String, Object> mapping : (List<Map<String, Object>>) serviceMaps.get("mappings")) {
+            List<Query> queries = new ArrayList<>();
+            for (Map<String, Object> queryMap : (List<Map<String, Object>>) mapping.get("queryMaps")) {
+                queries.add(new Query((String) queryMap.get("query"), (String) queryMap.get("basePath"),
+                        (List<Map<String, Object>>) queryMap.get("jsonMaps"), objectMapper));
+            }
+            mappings.add(new PersisterMapping((String) mapping.get("fromTopic"),
+                    Boolean.TRUE.equals(mapping.get("isTransaction")), queries));
+        }
+        return mappings;
+    }
+
+    /**
+     * @param payload A message of the topic, a list of records.
+     * @return The top level records of the message.
+     */
+    public static List<Object> records(Object payload) {
+        return new ArrayList<>(children(payload));
+    }
+
+    /**
+     * @param record A top level record.
+     * @return The client reference id the root query persists for the record, null if there is none.
+     */
+    public Object clientReferenceId(Object record) {
+        return rootQuery == null ? null : rootQuery.columns.get(rootQuery.clientReferenceIdColumn).read(new Object[]{record});
+    }
+
+    private static Collection<?> children(Object node) {
+        if (node instanceof List) {
+            return (List<?>) node;
+        }
+        if (node instanceof Map) {
+            return ((Map<?, ?>) node).values();
+        }
+        return Collections.emptyList();
+    }
+
+    private static String[] segments(String path) {
+        if (path == null || !path.startsWith("$." + WILDCARD)) {
+            throw new CustomException("INVALID_PERSISTER_CONFIG", "Unsupported json path " + path);
+        }
+        return path.substring(2).split("\\.");
+    }
+
+    /**
+     * One query map: the statement and how its parameters are read from each element of the base path.
+     */
+    @Getter
+    public static class Query {
+
+        private final String sql;
+
+        /**
+         * The statement run in bulk: inserts without a conflict clause skip rows that already exist.
+         */
+        private final String bulkSql;
+
+        /**
+         * Table of an insert, null for other statements.
+         */
+        private final String table;
+
+        /**
+         * Columns of an insert, empty for other statements.
+         */
+        private final List<String> columnNames;
+
+        /**
+         * Insert with one plain placeholder per column and no conflict clause, which can be loaded by COPY.
+         */
+        private final boolean plainInsert;
+
+        private final String[] basePath;
+
+        private final List<Column> columns;
+
+        private final int clientReferenceIdColumn;
+
+        Query(String sql, String basePath, List<Map<String, Object>> jsonMaps, ObjectMapper objectMapper) {
+            this.sql = sql.trim();
+            this.basePath = segments(basePath);
+            this.columns = new ArrayList<>();
+            for (Map<String, Object> jsonMap : jsonMaps) {
+                columns.add(new Column(this.basePath, (String) jsonMap.get("jsonPath"), (String) jsonMap.get("type"),
+                        (String) jsonMap.get("dateFormat"), objectMapper));
+            }
+
+            String statement = this.sql.replaceAll("[\\s;]+$", "");
+            Matcher insert = INSERT.matcher(this.sql);
+            if (insert.matches()) {
+                this.table = insert.group(1);
+                this.columnNames = Arrays.stream(insert.group(2).split(",")).map(String::trim).toList();
+                boolean plainPlaceholders = Arrays.stream(insert.group(3).split(","))
+                        .allMatch(placeholder -> placeholder.trim().equals("?"));
+                boolean onConflict = ON_CONFLICT.matcher(insert.group(4)).find();
+                this.plainInsert = plainPlaceholders && insert.group(4).isEmpty()
+                        && columnNames.size() == columns.size();
+                this.bulkSql = onConflict ? statement : statement + " ON CONFLICT DO NOTHING";
+            } else {
+                this.table = null;
+                this.columnNames = Collections.emptyList();
+                this.plainInsert = false;
+                this.bulkSql = statement;
+            }
+
+            int clientReferenceId = -1;
+            if (table != null && this.basePath.length == 1 && columnNames.size() == columns.size()) {
+                for (int i = 0; i < columnNames.size(); i++) {
+                    if (columnNames.get(i).equalsIgnoreCase(CLIENT_REFERENCE_ID)) {
+                        clientReferenceId = i;
+                        break;
+                    }
+                }
+            }
+            this.clientReferenceIdColumn = clientReferenceId;
+        }
+
+        /**
+         * @return The client reference id column of the root insert, null for other queries.
+         */
+        public String getClientReferenceIdColumnName() {
+            return clientReferenceIdColumn < 0 ? null : columnNames.get(clientReferenceIdColumn);
+        }
+
+        /**
+         * @param records The top level records.
+         * @return The parameters of the statement, one row per element of the base path.
+         */
+        public List<Object[]> rows(List<Object> records) {
+            List<Object[]> rows = new ArrayList<>();
+            Object[] chain = new Object[basePath.length];
+            for (Object record : records) {
+                chain[0] = record;
+                collect(record, 1, chain, rows);
+            }
+            return rows;
+        }
+
+        private void collect(Object node, int depth, Object[] chain, List<Object[]> rows) {
+            if (depth == basePath.length) {
+                Object[] row = new Object[columns.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = columns.get(i).read(chain);
+                }
+                rows.add(row);
+                return;
+            }
+            if (WILDCARD.equals(basePath[depth])) {
+                for (Object child : children(node)) {
+                    chain[depth] = child;
+                    collect(child, depth + 1, chain, rows);
+                }
+            } else if (node instanceof Map && ((Map<?, ?>) node).get(basePath[depth]) != null) {
+                chain[depth] = ((Map<?, ?>) node).get(basePath[depth]);
+                collect(chain[depth], depth + 1, chain, rows);
+            }
+        }
+    }
+
+    /**
+     * One json map: the element of the base path it starts from and the fields read from there.
+     */
+    public static class Column {
+
+        private final String jsonPath;
+
+        private final int anchor;
+
+        private final String[] fields;
+
+        private final String type;
+
+        private final String dateFormat;
+
+        private final ObjectMapper objectMapper;
+
+        Column(String[] basePath, String jsonPath, String type, String dateFormat, ObjectMapper objectMapper) {
+            String[] path = segments(jsonPath);
+            int common = 0;
+            while (common < basePath.length && common < path.length && basePath[common].equals(path[common])) {
+                common++;
+            }
+            this.jsonPath = jsonPath;
+            this.anchor = common - 1;
+            this.fields = Arrays.copyOfRange(path, common, path.length);
+            if (Arrays.asList(fields).contains(WILDCARD)) {
+                throw new CustomException("INVALID_PERSISTER_CONFIG", "Unsupported json path " + jsonPath);
+            }
+            this.type = type == null ? null : type.toUpperCase(Locale.ROOT);
+            this.dateFormat = dateFormat == null ? "dd/MM/yyyy" : dateFormat;
+            this.objectMapper = objectMapper;
+        }
+
+        Object read(Object[] chain) {
+            Object value = chain[anchor];
+            for (String field : fields) {
+                if (!(value instanceof Map)) {
+                    return null;
+                }
+                value = ((Map<?, ?>) value).get(field);
+            }
+            return convert(value);
+        }
+
+        private Object convert(Object value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                if ("DATE".equals(type)) {
+                    if (value instanceof Number) {
+                        return new java.sql.Date(((Number) value).longValue());
+                    }
+                    return new java.sql.Date(new SimpleDateFormat(dateFormat).parse(value.toString()).getTime());
+                }
+                if ("JSON".equals(type) || value instanceof Map || value instanceof List) {
+                    return new JsonValue(objectMapper.writeValueAsString(value));
+                }
+            } catch (ParseException | JsonProcessingException e) {
+                throw new CustomException("PERSISTER_VALUE_ERROR", "Not able to convert the value of " + jsonPath);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A value written to a JSON column.
+     */
+    public record JsonValue(String json) {
+    }
+}
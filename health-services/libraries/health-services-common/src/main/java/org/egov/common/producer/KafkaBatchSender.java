@@ -0,0 +1,278 @@
+package org.egov.common.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.egov.tracer.kafka.CustomKafkaTemplate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends payloads to Kafka on behalf of {@link Producer}.
+ *
+ * <p>Lists larger than {@code max-records-per-message}, when set, are split into several messages, each holding a
+ * sub-list. A list the producer rejects as too large is split in two and each half sent again, down to single
+ * records, so a bulk request no longer fails as one oversized message. The size is the one the producer measured
+ * on the serialized message; payloads are never serialized here. Consumers of these topics (the persister and the
+ * bulk consumers) already treat every message as a list of entities, but a split push is persisted message by
+ * message: if one of its messages fails, the others may already be persisted.
+ *
+ * <p>Topics with producer overrides (compression, linger, batch size) and every topic in async mode are sent
+ * through a {@link KafkaTemplate} built from the application's producer factory; the others go through the
+ * tracer's {@link CustomKafkaTemplate} as before. Failed sends are retried with a linear backoff, scheduled on
+ * the sender's own retry threads.
+ *
+ * <p>Meters, tagged with {@code topic}: {@code health.kafka.producer.records}, {@code .messages},
+ * {@code .bytes}, {@code .latency}, {@code .retries} and {@code .failures}.
+ */
+@Component
+@Slf4j
+public class KafkaBatchSender implements DisposableBean {
+
+    private static final String BASE_TEMPLATE = "";
+
+    private final CustomKafkaTemplate<String, Object> customKafkaTemplate;
+
+    private final ObjectProvider<ProducerFactory<String, Object>> producerFactory;
+
+    private final KafkaSendProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Map<String, KafkaTemplate<String, Object>> templates = new ConcurrentHashMap<>();
+
+    private final Map<String, TopicMeters> meters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public KafkaBatchSender(CustomKafkaTemplate<String, Object> customKafkaTemplate,
+                            ObjectProvider<ProducerFactory<String, Object>> producerFactory,
+                            KafkaSendProperties properties,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.customKafkaTemplate = customKafkaTemplate;
+        this.producerFactory = producerFactory;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.retryScheduler = Executors.newScheduledThreadPool(properties.getRetryThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "kafka-send-retry-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sends the value to the topic, split into several messages if it is a large list. In sync mode this returns
+     * once every message is acknowledged and throws if one of them still fails after the retries.
+     *
+     * @param topic The topic.
+     * @param value The payload, usually a list of entities.
+     */
+    public void send(String topic, Object value) {
+        CompletableFuture<Void> sent = sendAsync(topic, value);
+        if (!properties.isAsync()) {
+            try {
+                sent.join();
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) exception.getCause();
+                }
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Sends the value to the topic, split into several messages if it is a large list.
+     *
+     * @param topic The topic.
+     * @param value The payload, usually a list of entities.
+     * @return A future completed once every message is acknowledged, or failed once one of them ran out of retries.
+     */
+    public CompletableFuture<Void> sendAsync(String topic, Object value) {
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        for (Chunk chunk : split(value)) {
+            sends.add(send(topic, chunk));
+        }
+        return CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]));
+    }
+
+    List<Chunk> split(Object value) {
+        int maxRecords = properties.getMaxRecordsPerMessage();
+        if (!(value instanceof List<?> list) || maxRecords <= 0 || list.size() <= maxRecords) {
+            return Collections.singletonList(new Chunk(value));
+        }
+
+        List<Chunk> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += maxRecords) {
+            chunks.add(new Chunk(new ArrayList<>(list.subList(from, Math.min(from + maxRecords, list.size())))));
+        }
+        log.debug("Split {} records into {} messages", list.size(), chunks.size());
+        return chunks;
+    }
+
+    private CompletableFuture<Void> send(String topic, Chunk chunk) {
+        CompletableFuture<Void> sent = new CompletableFuture<>();
+        send(topic, chunk, 0, sent);
+        return sent;
+    }
+
+    private void send(String topic, Chunk chunk, int attempt, CompletableFuture<Void> sent) {
+        long start = System.nanoTime();
+        sendOnce(topic, chunk).whenComplete((result, throwable) -> {
+            TopicMeters topicMeters = metersFor(topic);
+            topicMeters.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (throwable == null) {
+                topicMeters.records.increment(chunk.records);
+                topicMeters.messages.increment();
+                RecordMetadata metadata = result == null ? null : result.getRecordMetadata();
+                if (metadata != null && metadata.serializedValueSize() > 0) {
+                    topicMeters.bytes.record(metadata.serializedValueSize());
+                }
+                sent.complete(null);
+            } else if (isTooLarge(throwable) && chunk.records > 1) {
+                // the producer measured the serialized message, send each half as its own message
+                List<?> records = (List<?>) chunk.payload;
+                int half = records.size() / 2;
+                log.warn("Message of {} records too large for {}, splitting it in two", chunk.records, topic);
+                CompletableFuture.allOf(send(topic, new Chunk(new ArrayList<>(records.subList(0, half)))),
+                                send(topic, new Chunk(new ArrayList<>(records.subList(half, records.size())))))
+                        .whenComplete((ignored, halfFailure) -> {
+                            if (halfFailure == null) {
+                                sent.complete(null);
+                            } else {
+                                sent.completeExceptionally(halfFailure instanceof CompletionException
+                                        && halfFailure.getCause() != null ? halfFailure.getCause() : halfFailure);
+                            }
+                        });
+            } else if (attempt < properties.getRetries() && !isTooLarge(throwable)) {
+                topicMeters.retries.increment();
+                long backoff = properties.getRetryBackoffMs() * (attempt + 1);
+                log.warn("Retrying push of {} records to {} in {} ms: {}", chunk.records, topic, backoff,
+                        throwable.getMessage());
+                retryScheduler.schedule(() -> send(topic, chunk, attempt + 1, sent), backoff, TimeUnit.MILLISECONDS);
+            } else {
+                topicMeters.failures.increment();
+                log.error("Failed to push {} records to {} after {} attempts", chunk.records, topic, attempt + 1,
+                        throwable);
+                sent.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable);
+            }
+        });
+    }
+
+    private CompletableFuture<SendResult<String, Object>> sendOnce(String topic, Chunk chunk) {
+        try {
+            if (properties.isAsync() || !properties.getProducerOverrides(topic).isEmpty()) {
+                return templateFor(topic).send(topic, chunk.payload);
+            }
+            return CompletableFuture.completedFuture(customKafkaTemplate.send(topic, chunk.payload));
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private static boolean isTooLarge(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RecordTooLargeException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private KafkaTemplate<String, Object> templateFor(String topic) {
+        Map<String, Object> overrides = properties.getProducerOverrides(topic);
+        return templates.computeIfAbsent(overrides.isEmpty() ? BASE_TEMPLATE : topic, key -> {
+            ProducerFactory<String, Object> factory = producerFactory.getObject();
+            if (!overrides.isEmpty()) {
+                if (factory instanceof DefaultKafkaProducerFactory<String, Object> defaultFactory) {
+                    log.info("Creating producer for {} with {}", topic, overrides);
+                    factory = defaultFactory.copyWithConfigurationOverride(overrides);
+                } else {
+                    log.warn("Producer overrides of {} ignored, {} cannot be copied", topic, factory.getClass().getName());
+                }
+            }
+            return new KafkaTemplate<>(factory);
+        });
+    }
+
+    private TopicMeters metersFor(String topic) {
+        return meters.computeIfAbsent(topic, name -> new TopicMeters(meterRegistry, name));
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+        templates.forEach((key, template) -> {
+            if (!BASE_TEMPLATE.equals(key) && template.getProducerFactory() instanceof DisposableBean disposable) {
+                try {
+                    disposable.destroy();
+                } catch (Exception exception) {
+                    log.warn("Could not close producer of {}: {}", key, exception.getMessage());
+                }
+            }
+        });
+    }
+
+    static final class Chunk {
+
+        final Object payload;
+
+        final int records;
+
+        Chunk(Object payload) {
+            this.payload = payload;
+            this.records = payload instanceof List<?> list ? list.size() : 1;
+        }
+    }
+
+    private static final class TopicMeters {
+
+        private final Counter records;
+
+        private final Counter messages;
+
+        private final DistributionSummary bytes;
+
+        private final Timer latency;
+
+        private final Counter retries;
+
+        private final Counter failures;
+
+        private TopicMeters(MeterRegistry registry, String topic) {
+            records = Counter.builder("health.kafka.producer.records").tag("topic", topic).register(registry);
+            messages = Counter.builder("health.kafka.producer.messages").tag("topic", topic).register(registry);
+            bytes = DistributionSummary.builder("health.kafka.producer.bytes").baseUnit("bytes").tag("topic", topic)
+                    .register(registry);
+            latency = Timer.builder("health.kafka.producer.latency").tag("topic", topic).register(registry);
+            retries = Counter.builder("health.kafka.producer.retries").tag("topic", topic).register(registry);
+            failures = Counter.builder("health.kafka.producer.failures").tag("topic", topic).register(registry);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.egov.common.producer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of {@link KafkaBatchSender}, bound from {@code health.kafka.producer.*}.
+ *
+ * <pre>
+ * health.kafka.producer.async=true
+ * health.kafka.producer.max-records-per-message=500
+ * health.kafka.producer.topics[save-household-topic].compression-type=lz4
+ * health.kafka.producer.topics[save-household-topic].linger-ms=20
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "health.kafka.producer")
+@Getter
+@Setter
+public class KafkaSendProperties {
+
+    /**
+     * Send without waiting for the broker ack; failures are retried and then logged and counted.
+     */
+    private boolean async = false;
+
+    /**
+     * Maximum number of list elements in one Kafka message, 0 for no limit. A list split over several messages is
+     * no longer persisted all or nothing: the messages are persisted, and may fail, independently.
+     */
+    private int maxRecordsPerMessage = 0;
+
+    /**
+     * Number of times a failed send is retried.
+     */
+    private int retries = 3;
+
+    /**
+     * Backoff before the first retry, multiplied by the attempt number for the following ones.
+     */
+    private long retryBackoffMs = 200;
+
+    /**
+     * Number of threads the retries are scheduled on.
+     */
+    private int retryThreads = 2;
+
+    /**
+     * Producer settings overridden per topic.
+     */
+    private Map<String, TopicProperties> topics = new HashMap<>();
+
+    /**
+     * @param topic The topic.
+     * @return The Kafka producer configs overridden for the topic, empty if none.
+     */
+    public Map<String, Object> getProducerOverrides(String topic) {
+        Map<String, Object> overrides = new HashMap<>();
+        TopicProperties topicProperties = topics.get(topic);
+        if (topicProperties == null) {
+            return overrides;
+        }
+        if (topicProperties.getCompressionType() != null) {
+            overrides.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, topicProperties.getCompressionType());
+        }
+        if (topicProperties.getLingerMs() != null) {
+            overrides.put(ProducerConfig.LINGER_MS_CONFIG, topicProperties.getLingerMs());
+        }
+        if (topicProperties.getBatchSize() != null) {
+            overrides.put(ProducerConfig.BATCH_SIZE_CONFIG, topicProperties.getBatchSize());
+        }
+        return overrides;
+    }
+
+    @Getter
+    @Setter
+    public static class TopicProperties {
+
+        /**
+         * none, gzip, snappy, lz4 or zstd.
+         */
+        private String compressionType;
+
+        private Integer lingerMs;
+
+        private Integer batchSize;
+    }
+}
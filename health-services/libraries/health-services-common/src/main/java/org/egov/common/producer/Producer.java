@@ -13,12 +13,19 @@ public class Producer {
 
     private final CustomKafkaTemplate<String, Object> kafkaTemplate;
 
+    @Autowired(required = false)
+    private KafkaBatchSender kafkaBatchSender;
+
     @Autowired
     public Producer(CustomKafkaTemplate<String, Object> kafkaTemplate) {
         this.kafkaTemplate = kafkaTemplate;
     }
 
     public void push(String topic, Object value) {
+        if (kafkaBatchSender != null) {
+            kafkaBatchSender.send(topic, value);
+            return;
+        }
         kafkaTemplate.send(topic, value);
     }
 }
@@ -1,12 +1,19 @@
 package org.egov.common.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.egov.common.contract.idgen.IdGenerationRequest;
 import org.egov.common.contract.idgen.IdGenerationResponse;
 import org.egov.common.contract.idgen.IdRequest;
 import org.egov.common.contract.idgen.IdResponse;
 import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.contract.request.User;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.tracer.model.CustomException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
@@ -15,11 +22,26 @@ import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+/**
+ * Generates ids with egov-idgen.
+ *
+ * <p>With {@code egov.idgen.pool.enabled} ids are served from a per (tenant, idName, format) pool of pre-fetched
+ * ids, refilled in the background by blocks of {@code egov.idgen.pool.block-size} once it falls below
+ * {@code egov.idgen.pool.low-water-mark}. Whatever the pool cannot serve is fetched synchronously, as without the
+ * pool. Refills are not made on behalf of any caller, so they carry a service request info of the user
+ * {@code egov.idgen.pool.user-uuid} instead of the request info of the call that found the pool low. Meters: {@code health.idgen.pool.depth}, {@code health.idgen.fetch} timed with {@code mode=sync|refill}
+ * and {@code health.idgen.ids} counted with {@code source=pool|sync}.
+ */
 @Service
 @ConditionalOnExpression("!'${egov.idgen.integration.enabled}'.isEmpty() && ${egov.idgen.integration.enabled:false} && !'${egov.idgen.host}'.isEmpty() && !'${egov.idgen.path}'.isEmpty()")
-public class IdGenService {
+public class IdGenService implements DisposableBean {
 
     private final String idGenHost;
 
@@ -27,17 +49,67 @@ public class IdGenService {
 
     private final ServiceRequestClient restRepo;
 
+    private final boolean poolEnabled;
+
+    private final int poolBlockSize;
+
+    private final int poolLowWaterMark;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, IdPool> pools = new ConcurrentHashMap<>();
+
+    private final ExecutorService refillExecutor;
+
+    private final RequestInfo refillRequestInfo;
+
     @Autowired
     public IdGenService(ServiceRequestClient restRepo,
                         @Value("${egov.idgen.host}") String idGenHost,
-                        @Value("${egov.idgen.path}") String idGenPath) {
+                        @Value("${egov.idgen.path}") String idGenPath,
+                        @Value("${egov.idgen.pool.enabled:false}") boolean poolEnabled,
+                        @Value("${egov.idgen.pool.block-size:500}") int poolBlockSize,
+                        @Value("${egov.idgen.pool.low-water-mark:100}") int poolLowWaterMark,
+                        @Value("${egov.idgen.pool.refill-threads:2}") int poolRefillThreads,
+                        @Value("${egov.idgen.pool.user-uuid:health-services}") String poolUserUuid,
+                        ObjectProvider<MeterRegistry> meterRegistry) {
         this.restRepo = restRepo;
         this.idGenHost = idGenHost;
         this.idGenPath = idGenPath;
+        this.poolEnabled = poolEnabled;
+        this.poolBlockSize = poolBlockSize;
+        this.poolLowWaterMark = poolLowWaterMark;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refillExecutor = poolEnabled ? Executors.newFixedThreadPool(poolRefillThreads, runnable -> {
+            Thread thread = new Thread(runnable, "idgen-refill-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.refillRequestInfo = RequestInfo.builder().userInfo(User.builder().uuid(poolUserUuid).build()).build();
     }
 
     public List<String> getIdList(RequestInfo requestInfo, String tenantId, String idName,
                                   String idFormat, Integer count)  {
+        if (!poolEnabled) {
+            return fetchIds(requestInfo, tenantId, idName, idFormat, count, "sync");
+        }
+
+        IdPool pool = pools.computeIfAbsent(String.join("|", tenantId, idName, String.valueOf(idFormat)),
+                key -> new IdPool(tenantId, idName, idFormat, poolBlockSize, poolLowWaterMark, meterRegistry));
+        List<String> ids = new ArrayList<>(count);
+        ids.addAll(pool.take(count));
+        Counter.builder("health.idgen.ids").tag("source", "pool").register(meterRegistry).increment(ids.size());
+        if (ids.size() < count) {
+            ids.addAll(fetchIds(requestInfo, tenantId, idName, idFormat, count - ids.size(), "sync"));
+        }
+        pool.refillIfLow(refillExecutor, blockSize ->
+                fetchIds(refillRequestInfo, tenantId, idName, idFormat, blockSize, "refill"));
+        return ids;
+    }
+
+    private List<String> fetchIds(RequestInfo requestInfo, String tenantId, String idName, String idFormat,
+                                  int count, String mode) {
         List<IdRequest> reqList = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             reqList.add(IdRequest.builder().idName(idName).format(idFormat).tenantId(tenantId).build());
@@ -45,13 +117,30 @@ public class IdGenService {
 
         IdGenerationRequest request = IdGenerationRequest.builder().idRequests(reqList).requestInfo(requestInfo).build();
         StringBuilder uri = new StringBuilder(idGenHost).append(idGenPath);
-        IdGenerationResponse response = restRepo.fetchResult(uri, request, IdGenerationResponse.class);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        IdGenerationResponse response;
+        try {
+            response = restRepo.fetchResult(uri, request, IdGenerationResponse.class);
+        } finally {
+            sample.stop(Timer.builder("health.idgen.fetch").tag("mode", mode).register(meterRegistry));
+        }
 
         List<IdResponse> idResponses = response.getIdResponses();
 
         if (CollectionUtils.isEmpty(idResponses))
             throw new CustomException("IDGEN_ERROR", "No ids returned from idgen Service");
 
+        if ("sync".equals(mode)) {
+            Counter.builder("health.idgen.ids").tag("source", "sync").register(meterRegistry)
+                    .increment(idResponses.size());
+        }
         return idResponses.stream().map(IdResponse::getId).collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    @Override
+    public void destroy() {
+        if (refillExecutor != null) {
+            refillExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.egov.common.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+/**
+ * Pre-fetched ids of one (tenant, idName, format) for {@link IdGenService}.
+ *
+ * <p>Ids are handed out from memory; once fewer than the low-water mark are left a block is fetched in the
+ * background, one refill at a time. Ids of a block are consumed in any order and the ids still pooled when the
+ * service stops are never used, which leaves gaps in the idgen sequence.
+ */
+@Slf4j
+class IdPool {
+
+    private final String tenantId;
+
+    private final String idName;
+
+    private final int blockSize;
+
+    private final int lowWaterMark;
+
+    private final BlockingQueue<String> ids = new LinkedBlockingQueue<>();
+
+    private final AtomicBoolean refilling = new AtomicBoolean(false);
+
+    IdPool(String tenantId, String idName, String idFormat, int blockSize, int lowWaterMark,
+           MeterRegistry meterRegistry) {
+        this.tenantId = tenantId;
+        this.idName = idName;
+        this.blockSize = blockSize;
+        this.lowWaterMark = lowWaterMark;
+        Gauge.builder("health.idgen.pool.depth", ids, BlockingQueue::size)
+                .tag("tenantId", tenantId)
+                .tag("idName", idName)
+                .tag("format", idFormat == null ? "" : idFormat)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes up to count ids from the pool.
+     *
+     * @param count the number of ids wanted
+     * @return the ids taken, fewer than count if the pool is short
+     */
+    List<String> take(int count) {
+        List<String> taken = new ArrayList<>(count);
+        ids.drainTo(taken, count);
+        return taken;
+    }
+
+    /**
+     * Starts a background refill of one block if the pool is below the low-water mark and no refill is running.
+     *
+     * @param executor the executor running the refill
+     * @param fetcher  fetches the given number of ids
+     */
+    void refillIfLow(Executor executor, IntFunction<List<String>> fetcher) {
+        if (ids.size() >= lowWaterMark || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    ids.addAll(fetcher.apply(blockSize));
+                } catch (Exception exception) {
+                    log.error("could not refill the id pool of {} for tenant {}", idName, tenantId, exception);
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        } catch (RuntimeException exception) {
+            refilling.set(false);
+            log.warn("could not schedule the refill of the id pool of {} for tenant {}: {}", idName, tenantId,
+                    exception.getMessage());
+        }
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
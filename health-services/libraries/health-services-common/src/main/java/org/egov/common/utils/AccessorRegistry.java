@@ -0,0 +1,148 @@
+package org.egov.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.egov.common.utils.CommonUtils.getMethod;
+
+/**
+ * Registry of pre-compiled getters and setters.
+ *
+ * <p>Every getter or setter {@link Method} resolved through {@link CommonUtils#getMethod(String, Class)} is
+ * turned once into a {@link Function} or {@link BiConsumer} generated by {@link LambdaMetafactory} and cached,
+ * so invoking it per entity costs a plain interface call instead of a reflective {@code Method.invoke}.
+ * Methods that cannot be compiled (non-public, static, unexpected arity) fall back to reflection.
+ */
+@Slf4j
+public final class AccessorRegistry {
+
+    private static final Map<Method, Function<Object, Object>> getters = new ConcurrentHashMap<>();
+
+    private static final Map<Method, BiConsumer<Object, Object>> setters = new ConcurrentHashMap<>();
+
+    private AccessorRegistry() {
+    }
+
+    /**
+     * Invokes a no-arg getter on the target.
+     *
+     * @param method The getter method.
+     * @param target The object to invoke the getter on.
+     * @return The value returned by the getter.
+     */
+    public static Object get(Method method, Object target) {
+        return getter(method).apply(target);
+    }
+
+    /**
+     * Invokes a single-arg setter on the target.
+     *
+     * @param method The setter method.
+     * @param target The object to invoke the setter on.
+     * @param value  The value to set.
+     */
+    public static void set(Method method, Object target, Object value) {
+        setter(method).accept(target, value);
+    }
+
+    /**
+     * Returns the compiled getter for the given field of a class, e.g. {@code getter(Task.class, "id")}.
+     *
+     * @param clazz     The class declaring or inheriting the getter.
+     * @param fieldName The name of the field.
+     * @return The compiled getter.
+     */
+    public static Function<Object, Object> getter(Class<?> clazz, String fieldName) {
+        return getter(getMethod("get" + capitalize(fieldName), clazz));
+    }
+
+    /**
+     * Returns the compiled setter for the given field of a class, e.g. {@code setter(Task.class, "id")}.
+     *
+     * @param clazz     The class declaring or inheriting the setter.
+     * @param fieldName The name of the field.
+     * @return The compiled setter.
+     */
+    public static BiConsumer<Object, Object> setter(Class<?> clazz, String fieldName) {
+        return setter(getMethod("set" + capitalize(fieldName), clazz));
+    }
+
+    public static Function<Object, Object> getter(Method method) {
+        return getters.computeIfAbsent(method, AccessorRegistry::compileGetter);
+    }
+
+    public static BiConsumer<Object, Object> setter(Method method) {
+        return setters.computeIfAbsent(method, AccessorRegistry::compileSetter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> compileGetter(Method method) {
+        if (isCompilable(method, 0)) {
+            try {
+                MethodHandles.Lookup lookup = lookupFor(method.getDeclaringClass());
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(method.getReturnType(), method.getDeclaringClass()).wrap());
+                return (Function<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable throwable) {
+                log.debug("Falling back to reflection for {}: {}", method, throwable.getMessage());
+            }
+        }
+        return target -> ReflectionUtils.invokeMethod(method, target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> compileSetter(Method method) {
+        if (isCompilable(method, 1)) {
+            try {
+                MethodHandles.Lookup lookup = lookupFor(method.getDeclaringClass());
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(void.class, method.getDeclaringClass(),
+                                MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType()));
+                return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable throwable) {
+                log.debug("Falling back to reflection for {}: {}", method, throwable.getMessage());
+            }
+        }
+        return (target, value) -> ReflectionUtils.invokeMethod(method, target, value);
+    }
+
+    private static boolean isCompilable(Method method, int parameterCount) {
+        return Modifier.isPublic(method.getModifiers())
+                && Modifier.isPublic(method.getDeclaringClass().getModifiers())
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getParameterCount() == parameterCount;
+    }
+
+    // The lambda is defined next to the target class so it links against the target's class loader
+    private static MethodHandles.Lookup lookupFor(Class<?> clazz) {
+        try {
+            return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException exception) {
+            return MethodHandles.lookup();
+        }
+    }
+
+    private static String capitalize(String fieldName) {
+        return fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+    }
+}
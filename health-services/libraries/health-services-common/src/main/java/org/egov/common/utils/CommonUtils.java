@@ -13,11 +13,10 @@ import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -62,42 +61,41 @@ public class CommonUtils {
     @Deprecated
     public static boolean isForUpdate(Object obj) {
         Method getApiOperationMethod = getMethod(GET_API_OPERATION, obj.getClass());
-        Object apiOperation = ReflectionUtils.invokeMethod(getApiOperationMethod, obj);
+        Object apiOperation = AccessorRegistry.get(getApiOperationMethod, obj);
         if (apiOperation == null) {
             return false;
         }
         Method nameMethod = CommonUtils.getMethod("name", Enum.class);
-        return "UPDATE".equals(ReflectionUtils.invokeMethod(nameMethod, apiOperation));
+        return "UPDATE".equals(AccessorRegistry.get(nameMethod, apiOperation));
     }
 
     //TODO To be removed as it is only used by Product service which is now depricated
     @Deprecated
     public static boolean isForDelete(Object obj) {
         Method getApiOperationMethod = getMethod(GET_API_OPERATION, obj.getClass());
-        Object apiOperation = ReflectionUtils.invokeMethod(getApiOperationMethod, obj);
+        Object apiOperation = AccessorRegistry.get(getApiOperationMethod, obj);
         if (apiOperation == null) {
             return false;
         }
         Method nameMethod = CommonUtils.getMethod("name", Enum.class);
-        return "DELETE".equals(ReflectionUtils.invokeMethod(nameMethod, apiOperation));
+        return "DELETE".equals(AccessorRegistry.get(nameMethod, apiOperation));
     }
 
     //TODO To be removed as it is only used by Product service which is now depricated
     @Deprecated
     public static boolean isForCreate(Object obj) {
         Method getApiOperationMethod = getMethod(GET_API_OPERATION, obj.getClass());
-        Object apiOperation = ReflectionUtils.invokeMethod(getApiOperationMethod, obj);
+        Object apiOperation = AccessorRegistry.get(getApiOperationMethod, obj);
         if (apiOperation == null) {
             return false;
         }
         Method nameMethod = CommonUtils.getMethod("name", Enum.class);
-        String value = (String) ReflectionUtils.invokeMethod(nameMethod, apiOperation);
+        String value = (String) AccessorRegistry.get(nameMethod, apiOperation);
         return "CREATE".equals(value);
     }
 
     public static <T, R> Set<T> getSet(List<R> objects, String methodName) {
-        return objects.stream().map(o -> (T) ReflectionUtils
-                .invokeMethod(getMethod(methodName, o.getClass()), o))
+        return objects.stream().map(o -> (T) AccessorRegistry.get(getMethod(methodName, o.getClass()), o))
                 .collect(Collectors.toSet());
     }
 
@@ -196,14 +194,14 @@ public class CommonUtils {
         }
 
         // Get the ID of the object
-        Object id = ReflectionUtils.invokeMethod(getFieldMethod, obj);
+        Object id = AccessorRegistry.get(getFieldMethod, obj);
         // If ID is null, return false
         if (id == null) {
             return false;
         }
 
         // Set the ID to the final object
-        ReflectionUtils.invokeMethod(setFieldMethod, finalObject, id);
+        AccessorRegistry.set(setFieldMethod, finalObject, id);
 
         // If the object is an instance of URLParams, set common properties
         if (obj instanceof URLParams) {
@@ -269,10 +267,10 @@ public class CommonUtils {
         Class<?> objClass = getObjClass(objList);
         Method rowVersionMethod = getMethod("getRowVersion", objClass);
         Set<Object> rowVersionMismatch = objList.stream()
-                .filter(obj -> !Objects.equals(ReflectionUtils.invokeMethod(rowVersionMethod, obj),
-                        ReflectionUtils.invokeMethod(rowVersionMethod,
-                                idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, obj)))))
-                .map(obj -> ReflectionUtils.invokeMethod(idMethod, obj)).collect(Collectors.toSet());
+                .filter(obj -> !Objects.equals(AccessorRegistry.get(rowVersionMethod, obj),
+                        AccessorRegistry.get(rowVersionMethod,
+                                idToObjMap.get(AccessorRegistry.get(idMethod, obj)))))
+                .map(obj -> AccessorRegistry.get(idMethod, obj)).collect(Collectors.toSet());
         if (!rowVersionMismatch.isEmpty()) {
             log.error("Mismatch in row versions {}", rowVersionMismatch);
             throw new CustomException("ROW_VERSION_MISMATCH", rowVersionMismatch.toString());
@@ -291,14 +289,14 @@ public class CommonUtils {
                                                                   List<T> objList, Method idMethod) {
         // Get the class of objects in the list
         Class<?> objClass = getObjClass(objList);
-        // Get the method to retrieve the row version
-        Method rowVersionMethod = getMethod("getRowVersion", objClass);
+        // Get the compiled accessors to retrieve the row version and the id
+        Function<Object, Object> getRowVersion = AccessorRegistry.getter(getMethod("getRowVersion", objClass));
+        Function<Object, Object> getId = AccessorRegistry.getter(idMethod);
         // Filter the object list to include only those with mismatched row versions
         return objList.stream()
-                .filter(obj -> !Objects.equals(ReflectionUtils.invokeMethod(rowVersionMethod, obj),
-                        ReflectionUtils.invokeMethod(rowVersionMethod,
-                                idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, obj)))))
-                .map(obj -> idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, obj)))
+                .filter(obj -> !Objects.equals(getRowVersion.apply(obj),
+                        getRowVersion.apply(idToObjMap.get(getId.apply(obj)))))
+                .map(obj -> idToObjMap.get(getId.apply(obj)))
                 .collect(Collectors.toList());
     }
 
@@ -314,7 +312,7 @@ public class CommonUtils {
         // Get the method to retrieve the tenant ID
         Method getTenantIdMethod = getMethod("getTenantId", obj.getClass());
         // Invoke the method to retrieve the tenant ID
-        String tenantId = (String) ReflectionUtils.invokeMethod(getTenantIdMethod, obj);
+        String tenantId = (String) AccessorRegistry.get(getTenantIdMethod, obj);
         // Log the retrieved tenant ID
         log.info("tenantId is {}", tenantId);
         return tenantId;
@@ -352,19 +350,20 @@ public class CommonUtils {
                                            boolean updateRowVersion) {
         AuditDetails auditDetails = getAuditDetailsForCreate(requestInfo);
         Class<?> objClass = getObjClass(objList);
-        Method setIdMethod = getMethod("setId", objClass);
-        Method setAuditDetailsMethod = getMethod("setAuditDetails", objClass);
-        Method setIsDeletedMethod = getMethod("setIsDeleted", objClass);
+        BiConsumer<Object, Object> setId = AccessorRegistry.setter(getMethod("setId", objClass));
+        BiConsumer<Object, Object> setAuditDetails = AccessorRegistry.setter(getMethod("setAuditDetails", objClass));
+        BiConsumer<Object, Object> setIsDeleted = AccessorRegistry.setter(getMethod("setIsDeleted", objClass));
+        BiConsumer<Object, Object> setRowVersion = updateRowVersion
+                ? AccessorRegistry.setter(getMethod("setRowVersion", objClass)) : null;
         IntStream.range(0, objList.size())
                 .forEach(i -> {
                     final Object obj = objList.get(i);
-                    ReflectionUtils.invokeMethod(setIdMethod, obj, idList.get(i));
-                    ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetails);
+                    setId.accept(obj, idList.get(i));
+                    setAuditDetails.accept(obj, auditDetails);
                     if (updateRowVersion) {
-                        Method setRowVersionMethod = getMethod("setRowVersion", objClass);
-                        ReflectionUtils.invokeMethod(setRowVersionMethod, obj, 1);
+                        setRowVersion.accept(obj, 1);
                     }
-                    ReflectionUtils.invokeMethod(setIsDeletedMethod, obj, Boolean.FALSE);
+                    setIsDeleted.accept(obj, Boolean.FALSE);
                 });
     }
 
@@ -408,7 +407,7 @@ public class CommonUtils {
             // Attempt to retrieve the ID method
             Method getId = getMethod(idMethodName, getObjClass(objList));
             // Invoke the ID method on an object from the list to check if it returns a non-null value
-            Object value = ReflectionUtils.invokeMethod(getId, objList.stream().findAny().get());
+            Object value = AccessorRegistry.get(getId, objList.stream().findAny().get());
             // If the value is not null, return the ID method
             if (value != null) {
                 return getId;
@@ -431,15 +430,15 @@ public class CommonUtils {
     public static <T> void enrichId(List<T> objList, List<String> idList) {
         // Get the class of objects in the list
         Class<?> objClass = getObjClass(objList);
-        // Get the method to set the ID
-        Method setIdMethod = getMethod("setId", objClass);
+        // Get the compiled setter for the ID
+        BiConsumer<Object, Object> setId = AccessorRegistry.setter(getMethod("setId", objClass));
         // Iterate over the indices of the object list
         IntStream.range(0, objList.size())
                 .forEach(i -> {
                     // Get the object at the current index
                     final Object obj = objList.get(i);
-                    // Invoke the method to set the ID on the object using the corresponding ID from the ID list
-                    ReflectionUtils.invokeMethod(setIdMethod, obj, idList.get(i));
+                    // Set the ID on the object using the corresponding ID from the ID list
+                    setId.accept(obj, idList.get(i));
                 });
     }
 
@@ -465,14 +464,14 @@ public class CommonUtils {
             // Get the object corresponding to the current ID
             Object obj = idToObjMap.get(i);
             // Retrieve row version and update it
-            Integer rowVersion = (Integer) ReflectionUtils.invokeMethod(getRowVersionMethod, obj);
-            ReflectionUtils.invokeMethod(setRowVersionMethod, obj, rowVersion + 1);
+            Integer rowVersion = (Integer) AccessorRegistry.get(getRowVersionMethod, obj);
+            AccessorRegistry.set(setRowVersionMethod, obj, rowVersion + 1);
             // Retrieve request information
-            RequestInfo requestInfo = (RequestInfo) ReflectionUtils.invokeMethod(getRequestInfoMethod, request);
+            RequestInfo requestInfo = (RequestInfo) AccessorRegistry.get(getRequestInfoMethod, request);
             // Retrieve existing audit details and update them
-            AuditDetails existingAuditDetails = (AuditDetails) ReflectionUtils.invokeMethod(getAuditDetailsMethod, obj);
+            AuditDetails existingAuditDetails = (AuditDetails) AccessorRegistry.get(getAuditDetailsMethod, obj);
             AuditDetails auditDetailsForUpdate = getAuditDetailsForUpdate(existingAuditDetails, requestInfo.getUserInfo().getUuid());
-            ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetailsForUpdate);
+            AccessorRegistry.set(setAuditDetailsMethod, obj, auditDetailsForUpdate);
         });
     }
 
@@ -499,28 +498,28 @@ public class CommonUtils {
         // Iterate over the indices of the existing object list
         IntStream.range(0, existingObjList.size()).forEach(i -> {
             // Get the object corresponding to the current index
-            Object obj = idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, existingObjList.get(i)));
+            Object obj = idToObjMap.get(AccessorRegistry.get(idMethod, existingObjList.get(i)));
             try {
                 // Get the API operation method and API operation name
                 Method getApiOperationMethod = getMethod(GET_API_OPERATION, requestObjClass);
-                Object apiOperation = ReflectionUtils.invokeMethod(getApiOperationMethod, request);
+                Object apiOperation = AccessorRegistry.get(getApiOperationMethod, request);
                 Method nameMethod = CommonUtils.getMethod("name", Enum.class);
                 // If the API operation is DELETE, set the object's "isDeleted" flag to true
-                if ("DELETE".equals(ReflectionUtils.invokeMethod(nameMethod, apiOperation))) {
-                    ReflectionUtils.invokeMethod(setIsDeletedMethod, obj, true);
+                if ("DELETE".equals(AccessorRegistry.get(nameMethod, apiOperation))) {
+                    AccessorRegistry.set(setIsDeletedMethod, obj, true);
                 }
             } catch (Exception exception) {
                 // Do nothing; remove later
             }
             // Retrieve row version and update it
-            Integer rowVersion = (Integer) ReflectionUtils.invokeMethod(getRowVersionMethod, obj);
-            ReflectionUtils.invokeMethod(setRowVersionMethod, obj, rowVersion + 1);
+            Integer rowVersion = (Integer) AccessorRegistry.get(getRowVersionMethod, obj);
+            AccessorRegistry.set(setRowVersionMethod, obj, rowVersion + 1);
             // Retrieve request information
-            RequestInfo requestInfo = (RequestInfo) ReflectionUtils.invokeMethod(getRequestInfoMethod, request);
+            RequestInfo requestInfo = (RequestInfo) AccessorRegistry.get(getRequestInfoMethod, request);
             // Retrieve existing audit details and update them
-            AuditDetails existingAuditDetails = (AuditDetails) ReflectionUtils.invokeMethod(getAuditDetailsMethod, existingObjList.get(i));
+            AuditDetails existingAuditDetails = (AuditDetails) AccessorRegistry.get(getAuditDetailsMethod, existingObjList.get(i));
             AuditDetails auditDetailsForUpdate = getAuditDetailsForUpdate(existingAuditDetails, requestInfo.getUserInfo().getUuid());
-            ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetailsForUpdate);
+            AccessorRegistry.set(setAuditDetailsMethod, obj, auditDetailsForUpdate);
         });
     }
 
@@ -563,9 +562,10 @@ public class CommonUtils {
      * @return A map of IDs to objects.
      */
     public static <T> Map<String, T> getIdToObjMap(List<T> objList, Method idMethod) {
-        // Collect the objects into a map using the specified ID method
+        // Collect the objects into a map using the compiled getter of the specified ID method
+        Function<Object, Object> getId = AccessorRegistry.getter(idMethod);
         return objList.stream().collect(Collectors.toMap(
-                obj -> (String) ReflectionUtils.invokeMethod(idMethod, obj),
+                obj -> (String) getId.apply(obj),
                 obj -> obj,
                 (obj1, obj2) -> obj2
         ));
@@ -653,8 +653,8 @@ public class CommonUtils {
         if (objList == null || objList.isEmpty()) {
             return Collections.emptyList();
         }
-        return objList.stream().map(obj -> (String) ReflectionUtils
-                        .invokeMethod(idMethod, obj))
+        Function<Object, Object> getId = AccessorRegistry.getter(idMethod);
+        return objList.stream().map(obj -> (String) getId.apply(obj))
                 .collect(Collectors.toList());
     }
 
@@ -663,11 +663,10 @@ public class CommonUtils {
             return obj -> true;
         return obj -> {
             Method getAuditDetailsMethod = getMethod("getAuditDetails", obj.getClass());
-            Object auditDetails = ReflectionUtils.invokeMethod(getAuditDetailsMethod, obj);
+            Object auditDetails = AccessorRegistry.get(getAuditDetailsMethod, obj);
             Method getLastModifiedTimeMethod = getMethod("getLastModifiedTime",
                     auditDetails.getClass());
-            Long lastModifiedTime = (Long) ReflectionUtils
-                    .invokeMethod(getLastModifiedTimeMethod, auditDetails);
+            Long lastModifiedTime = (Long) AccessorRegistry.get(getLastModifiedTimeMethod, auditDetails);
             return lastModifiedTime > lastChangedSince;
         };
     }
@@ -676,8 +675,7 @@ public class CommonUtils {
         if (includeDeleted == null || !includeDeleted) {
             return obj -> {
                 Method getIsDeletedMethod = getMethod("getIsDeleted", obj.getClass());
-                Boolean isDeleted = (Boolean) ReflectionUtils
-                        .invokeMethod(getIsDeletedMethod, obj);
+                Boolean isDeleted = (Boolean) AccessorRegistry.get(getIsDeletedMethod, obj);
                 return Objects.equals(isDeleted, false);
             };
         }
@@ -689,8 +687,7 @@ public class CommonUtils {
             return obj -> true;
         return obj -> {
             Method getTenantIdMethod = getMethod("getTenantId", obj.getClass());
-            String actualTenantId  = (String) ReflectionUtils
-                    .invokeMethod(getTenantIdMethod, obj);
+            String actualTenantId  = (String) AccessorRegistry.get(getTenantIdMethod, obj);
             return Objects.equals(actualTenantId, tenantId);
         };
     }
@@ -705,7 +702,7 @@ public class CommonUtils {
     }
 
     public static <T> void identifyNullIds(List<T> objList, Method idMethod) {
-        Long nullCount = objList.stream().filter(obj -> null == ReflectionUtils.invokeMethod(
+        Long nullCount = objList.stream().filter(obj -> null == AccessorRegistry.get(
                 idMethod, obj)).count();
 
         if (nullCount > 0) {
@@ -714,7 +711,7 @@ public class CommonUtils {
     }
 
     public static <T> List<T> identifyObjectsWithNullIds(List<T> objList, Method idMethod) {
-        return objList.stream().filter(obj -> null == ReflectionUtils.invokeMethod(
+        return objList.stream().filter(obj -> null == AccessorRegistry.get(
                 idMethod, obj)).collect(Collectors.toList());
     }
 
@@ -785,7 +782,7 @@ public class CommonUtils {
     }
 
     public static <T> Predicate<T> notHavingErrors() {
-        return obj -> !((Boolean) ReflectionUtils.invokeMethod(getMethod("getHasErrors",
+        return obj -> !((Boolean) AccessorRegistry.get(getMethod("getHasErrors",
                 obj.getClass()), obj));
     }
 
@@ -793,16 +790,16 @@ public class CommonUtils {
                                                          Method idMethod) {
         IntStream.range(0, existingEntities.size()).forEach(i -> {
             T existing = existingEntities.get(i);
-            String id = (String) ReflectionUtils.invokeMethod(getMethod("getId",
+            String id = (String) AccessorRegistry.get(getMethod("getId",
                     existing.getClass()), existing);
-            String clientReferenceId = (String) ReflectionUtils.invokeMethod(getMethod("getClientReferenceId",
+            String clientReferenceId = (String) AccessorRegistry.get(getMethod("getClientReferenceId",
                     existing.getClass()), existing);
             String key = getIdFieldName(idMethod).equalsIgnoreCase("id")
                     ? id : clientReferenceId;
             T toUpdate = idToObjMap.get(key);
-            ReflectionUtils.invokeMethod(getMethod("setId", toUpdate.getClass()),
+            AccessorRegistry.set(getMethod("setId", toUpdate.getClass()),
                     toUpdate, id);
-            ReflectionUtils.invokeMethod(getMethod("setClientReferenceId",
+            AccessorRegistry.set(getMethod("setClientReferenceId",
                     toUpdate.getClass()), toUpdate, clientReferenceId);
         });
     }
@@ -852,17 +849,17 @@ public class CommonUtils {
         Method setAuditDetailsMethod = getMethod("setAuditDetails", objClass);
         Method getAuditDetailsMethod = getMethod("getAuditDetails", objClass);
         objList.forEach(obj -> {
-            ReflectionUtils.invokeMethod(setIsDeletedMethod, obj, true);
+            AccessorRegistry.set(setIsDeletedMethod, obj, true);
             if (updateRowVersion) {
                 Method getRowVersionMethod = getMethod("getRowVersion", objClass);
                 Method setRowVersionMethod = getMethod("setRowVersion", objClass);
-                Integer rowVersion = (Integer) ReflectionUtils.invokeMethod(getRowVersionMethod, obj);
-                ReflectionUtils.invokeMethod(setRowVersionMethod, obj, rowVersion + 1);
+                Integer rowVersion = (Integer) AccessorRegistry.get(getRowVersionMethod, obj);
+                AccessorRegistry.set(setRowVersionMethod, obj, rowVersion + 1);
             }
-            AuditDetails existingAuditDetails = (AuditDetails) ReflectionUtils.invokeMethod(getAuditDetailsMethod, obj);
+            AuditDetails existingAuditDetails = (AuditDetails) AccessorRegistry.get(getAuditDetailsMethod, obj);
             AuditDetails auditDetailsForUpdate = getAuditDetailsForUpdate(existingAuditDetails,
                     requestInfo.getUserInfo().getUuid());
-            ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetailsForUpdate);
+            AccessorRegistry.set(setAuditDetailsMethod, obj, auditDetailsForUpdate);
         });
     }
 
@@ -890,7 +887,7 @@ public class CommonUtils {
             throw new CustomException(errorCode, errorDetailsMap.values().toString());
         }
         Method getEntities = getMethod(getPayloadMethodName, request.getClass());
-        List<T> validEntities = (List<T>) ReflectionUtils.invokeMethod(getEntities, request);
+        List<T> validEntities = (List<T>) AccessorRegistry.get(getEntities, request);
         validEntities = validEntities.stream().filter(notHavingErrors()).collect(Collectors.toList());
         return new Tuple<>(validEntities, errorDetailsMap);
     }
@@ -938,14 +935,13 @@ public class CommonUtils {
                 if (errorDetailsMap.containsKey(payload)) {
                     errorDetailsMap.get(payload).getErrors().addAll(entry.getValue());
                 } else {
-                    RequestInfo requestInfo = (RequestInfo) ReflectionUtils
-                            .invokeMethod(getMethod("getRequestInfo",
+                    RequestInfo requestInfo = (RequestInfo) AccessorRegistry.get(getMethod("getRequestInfo",
                                     request.getClass()), request);
                     R newRequest = (R) ReflectionUtils.accessibleConstructor(request.getClass(),
                             null).newInstance();
-                    ReflectionUtils.invokeMethod(getMethod("setRequestInfo",
+                    AccessorRegistry.set(getMethod("setRequestInfo",
                             newRequest.getClass()), newRequest, requestInfo);
-                    ReflectionUtils.invokeMethod(getMethod(setPayloadMethodName,
+                    AccessorRegistry.set(getMethod(setPayloadMethodName,
                                     newRequest.getClass()), newRequest,
                             Collections.singletonList(payload));
                     ApiDetails apiDetails = ApiDetails.builder()
@@ -1084,7 +1080,7 @@ public class CommonUtils {
     public static <R,T> HashMap<T, List<Error>> validateForNullId(R request, String getPayloadMethodName) {
         log.info("validating for null id");
         HashMap<T, List<Error>> errorDetailsMap = new HashMap<>();
-        List<T> validPayloads = ((List<T>)ReflectionUtils.invokeMethod(getMethod(getPayloadMethodName,
+        List<T> validPayloads = ((List<T>)AccessorRegistry.get(getMethod(getPayloadMethodName,
                 request.getClass()), request)).stream().filter(notHavingErrors()).collect(Collectors.toList());
         if (!validPayloads.isEmpty()) {
             Class<?> objClass = getObjClass(validPayloads);
@@ -1109,7 +1105,7 @@ public class CommonUtils {
      */
     public static <T> void populateErrorDetails(T payload, Error error,
                                   Map<T, List<Error>> errorDetailsMap) {
-        ReflectionUtils.invokeMethod(getMethod("setHasErrors", payload.getClass()),
+        AccessorRegistry.set(getMethod("setHasErrors", payload.getClass()),
                 payload, Boolean.TRUE);
         if (errorDetailsMap.containsKey(payload)) {
             errorDetailsMap.get(payload).add(error);
@@ -1127,16 +1123,13 @@ public class CommonUtils {
     }
 
     /**
-     * Checks if the value matches the regex pattern.
+     * Checks if the value matches the regex pattern, compiled once through {@link PatternRegistry}.
      * @param value The value to be checked.
      * @param regexPattern The regex pattern to match against.
      * @return true if the value matches the pattern, false otherwise.
      */
     public static boolean isValidPattern(String value, String regexPattern) {
-
-        Pattern pattern = Pattern.compile(regexPattern);
-        Matcher matcher = pattern.matcher(value);
-        return matcher.matches();
+        return PatternRegistry.matches(value, regexPattern);
     }
 
     /**
@@ -0,0 +1,82 @@
+package org.egov.common.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of compiled regex patterns.
+ *
+ * <p>Every regex passed to {@link #matches(CharSequence, String)} or {@link #compile(String)} is compiled once and
+ * kept, so validating a field of thousands of entities costs a map lookup and a match instead of a
+ * {@link Pattern#compile} per entity. Matching reuses one {@link Matcher} per thread and pattern, so it allocates
+ * nothing either. At most {@value #MAXIMUM_SIZE} patterns are kept, the least recently used ones are dropped.
+ */
+public final class PatternRegistry {
+
+    private static final int MAXIMUM_SIZE = 1000;
+
+    private static final Cache<String, CompiledPattern> patterns = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .build();
+
+    private PatternRegistry() {
+    }
+
+    /**
+     * Checks if the whole value matches the regex.
+     *
+     * @param value The value to be checked.
+     * @param regex The regex to match against.
+     * @return true if the value matches the regex, false otherwise.
+     * @throws java.util.regex.PatternSyntaxException If the regex is invalid.
+     */
+    public static boolean matches(CharSequence value, String regex) {
+        return compile(regex).matches(value);
+    }
+
+    /**
+     * Returns the compiled pattern of the regex, compiling it on first use. Callers that check one regex many times
+     * can keep it and skip the lookup.
+     *
+     * @param regex The regex.
+     * @return The compiled pattern.
+     * @throws java.util.regex.PatternSyntaxException If the regex is invalid.
+     */
+    public static CompiledPattern compile(String regex) {
+        return patterns.get(regex, CompiledPattern::new);
+    }
+
+    /**
+     * A compiled regex with a matcher kept per thread.
+     */
+    public static final class CompiledPattern {
+
+        private final Pattern pattern;
+
+        private final ThreadLocal<Matcher> matcher;
+
+        private CompiledPattern(String regex) {
+            this.pattern = Pattern.compile(regex);
+            this.matcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        }
+
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        /**
+         * @param value The value to be checked.
+         * @return true if the whole value matches the pattern, false otherwise.
+         */
+        public boolean matches(CharSequence value) {
+            Matcher threadMatcher = matcher.get();
+            boolean matches = threadMatcher.reset(value).matches();
+            // drop the reference to the value
+            threadMatcher.reset("");
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.egov.common.validator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the validators a {@link Validator} needs to have run before it.
+ *
+ * <p>Without it, {@link ValidatorExecutor} runs a validator after every applicable validator of a lower
+ * {@link org.springframework.core.annotation.Order}. With it, the validator only waits for the listed validators
+ * that apply to the request, and may run concurrently with any other. The listed validators must have a lower
+ * order.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DependsOnValidators {
+
+    /**
+     * @return The validators to wait for.
+     */
+    Class<? extends Validator<?, ?>>[] value();
+}
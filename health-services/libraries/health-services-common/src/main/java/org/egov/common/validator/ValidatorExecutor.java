@@ -0,0 +1,342 @@
+package org.egov.common.validator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.ds.Tuple;
+import org.egov.common.models.Error;
+import org.egov.common.models.ErrorDetails;
+import org.egov.common.utils.AccessorRegistry;
+import org.egov.tracer.model.CustomException;
+import org.slf4j.MDC;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.egov.common.utils.CommonUtils.getMethod;
+import static org.egov.common.utils.CommonUtils.notHavingErrors;
+import static org.egov.common.utils.CommonUtils.populateErrorDetails;
+
+/**
+ * Runs the validators of a bulk request and consolidates their errors, like
+ * {@link org.egov.common.utils.CommonUtils#validate(List, Predicate, Object, String)}, timing every validator.
+ *
+ * <p>With {@code health.validation.parallel.enabled} off, the default, the validators run one after another on the
+ * calling thread in the order they are given. With it on, a validator starts as soon as the validators it depends
+ * on are done: every applicable validator of a lower {@link org.springframework.core.annotation.Order}, or the ones
+ * listed in its {@link DependsOnValidators}. Validators of the same order must therefore not rely on each other's
+ * errors; an entity rejected by one of them may be reported by the others too. They run on a pool of at most
+ * {@code health.validation.parallel.threads} threads; once {@code health.validation.parallel.queue-capacity}
+ * validators are waiting for a thread, the thread handing out the next one runs it itself.
+ *
+ * <p>Validators flag the entities they reject through {@code setHasErrors}, and skip the flagged ones. So that
+ * validators running together do not see each other's flags, each one validates a shallow copy of the request
+ * holding shallow copies of the entities, flagged with the errors of the validators it waited for. Its errors are
+ * mapped back to the entities of the request, which are flagged and merged on the calling thread, in order, once
+ * every validator is done. Anything else a validator sets on a copy is lost, so a validator that sets fields of the
+ * entities has to be marked {@link WritesEntities}; it then runs alone, on the entities of the request.
+ *
+ * <p>The time each validator takes is recorded under {@code health.validator.duration}, tagged with the service,
+ * the validator and whether it found errors.
+ */
+@Component
+@Slf4j
+public class ValidatorExecutor implements DisposableBean {
+
+    private final String serviceName;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService executor;
+
+    @Autowired
+    public ValidatorExecutor(@Value("${health.validation.parallel.enabled:false}") boolean parallel,
+                             @Value("${health.validation.parallel.threads:8}") int threads,
+                             @Value("${health.validation.parallel.queue-capacity:500}") int queueCapacity,
+                             @Value("${spring.application.name:}") String serviceName,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.serviceName = serviceName;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        if (parallel) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "validator-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+            threadPool.allowCoreThreadTimeOut(true);
+            this.executor = threadPool;
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Validate and return the valid entities along with the errorDetailsMap.
+     *
+     * @param validators           is the list of validators
+     * @param applicableValidators is a predicate defining the validators to apply
+     * @param request              is the request body
+     * @param setPayloadMethodName is a setter method available on the request body
+     * @param getPayloadMethodName is a getter method available on the request body
+     * @param errorCode            is the error code to throw with when the request is not bulk
+     * @param isBulk               is the request bulk
+     * @return a tuple of the valid entities and a map of payload vs errorDetails object
+     * @param <T> is the type of payload
+     * @param <R> is the type of request
+     */
+    public <T, R> Tuple<List<T>, Map<T, ErrorDetails>> validate(List<Validator<R, T>> validators,
+                                                                Predicate<Validator<R, T>> applicableValidators,
+                                                                R request, String setPayloadMethodName,
+                                                                String getPayloadMethodName, String errorCode,
+                                                                boolean isBulk) {
+        Map<T, ErrorDetails> errorDetailsMap = validate(validators, applicableValidators, request,
+                setPayloadMethodName);
+        if (!errorDetailsMap.isEmpty() && !isBulk) {
+            throw new CustomException(errorCode, errorDetailsMap.values().toString());
+        }
+        List<T> validEntities = (List<T>) AccessorRegistry.get(getMethod(getPayloadMethodName, request.getClass()),
+                request);
+        validEntities = validEntities.stream().filter(notHavingErrors()).collect(Collectors.toList());
+        return new Tuple<>(validEntities, errorDetailsMap);
+    }
+
+    /**
+     * Validate and return the consolidated errorDetailsMap based on all the validations.
+     *
+     * @param validators           is the list of validators
+     * @param applicableValidators is a predicate defining the validators to apply
+     * @param request              is the request body
+     * @param setPayloadMethodName is a setter method available on the request body
+     * @return a map of payload vs errorDetails object
+     * @param <T> is the type of payload
+     * @param <R> is the type of request
+     */
+    public <T, R> Map<T, ErrorDetails> validate(List<Validator<R, T>> validators,
+                                                Predicate<Validator<R, T>> applicableValidators,
+                                                R request, String setPayloadMethodName) {
+        List<Validator<R, T>> applicable = validators.stream().filter(applicableValidators)
+                .collect(Collectors.toList());
+        Map<T, ErrorDetails> errorDetailsMap = new HashMap<>();
+        if (executor == null || applicable.size() < 2) {
+            applicable.forEach(validator -> populateErrorDetails(request, errorDetailsMap,
+                    timed(validator, request), setPayloadMethodName));
+            return errorDetailsMap;
+        }
+
+        applicable.sort(Comparator.comparingInt(ValidatorExecutor::order));
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        List<T> entities = entities(request, setPayloadMethodName);
+        List<CompletableFuture<Map<T, List<Error>>>> results = new ArrayList<>(applicable.size());
+        for (int i = 0; i < applicable.size(); i++) {
+            Validator<R, T> validator = applicable.get(i);
+            List<CompletableFuture<Map<T, List<Error>>>> dependencies = dependencies(applicable, i).stream()
+                    .map(results::get).collect(Collectors.toList());
+            results.add(CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]))
+                    .thenApplyAsync(ignored -> withContext(context, () -> {
+                        Set<T> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+                        dependencies.forEach(dependency -> rejected.addAll(dependency.join().keySet()));
+                        return writes(validator) ? validateInPlace(validator, request, entities, rejected)
+                                : validateCopy(validator, request, setPayloadMethodName, entities, rejected);
+                    }), executor));
+        }
+        List<Map<T, List<Error>>> errors = results.stream().map(ValidatorExecutor::join).collect(Collectors.toList());
+        for (Map<T, List<Error>> errorMap : errors) {
+            errorMap.keySet().forEach(entity -> setHasErrors(entity, true));
+            populateErrorDetails(request, errorDetailsMap, errorMap, setPayloadMethodName);
+        }
+        return errorDetailsMap;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the positions, in the sorted applicable validators, of the validators the one at the index waits for
+     */
+    private static <T, R> List<Integer> dependencies(List<Validator<R, T>> applicable, int index) {
+        Validator<R, T> validator = applicable.get(index);
+        DependsOnValidators dependsOn = AnnotatedElementUtils.findMergedAnnotation(
+                ClassUtils.getUserClass(validator), DependsOnValidators.class);
+        List<Integer> dependencies = new ArrayList<>();
+        for (int i = 0; i < applicable.size(); i++) {
+            Validator<R, T> other = applicable.get(i);
+            boolean required = i < index && (writes(validator) || writes(other))
+                    || (dependsOn == null ? order(other) < order(validator)
+                    : Arrays.stream(dependsOn.value()).anyMatch(type -> type.isInstance(other)));
+            if (!required) {
+                continue;
+            }
+            if (i >= index) {
+                throw new CustomException("INVALID_VALIDATOR_DEPENDENCY", String.format("%s depends on %s of a "
+                        + "higher or equal order", name(validator), name(other)));
+            }
+            dependencies.add(i);
+        }
+        return dependencies;
+    }
+
+    /**
+     * Runs a validator marked {@link WritesEntities} on the request, once the entities rejected by the validators
+     * before it are flagged. No other validator is running by then.
+     *
+     * @return the errors of the validator, by entity of the request
+     */
+    private <T, R> Map<T, List<Error>> validateInPlace(Validator<R, T> validator, R request, List<T> entities,
+                                                       Set<T> rejected) {
+        entities.stream().filter(rejected::contains).forEach(entity -> setHasErrors(entity, true));
+        return timed(validator, request);
+    }
+
+    /**
+     * Runs the validator on a copy of the request whose entities are flagged as rejected if they are flagged in the
+     * request or were rejected by the validators it waited for.
+     *
+     * @return the errors of the validator, by entity of the request
+     */
+    private <T, R> Map<T, List<Error>> validateCopy(Validator<R, T> validator, R request, String setPayloadMethodName,
+                                                    List<T> entities, Set<T> rejected) {
+        Map<T, T> originals = new IdentityHashMap<>();
+        List<T> copies = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            T entity = entities.get(i);
+            T copy = entity == null ? null : copy(entity);
+            if (copy != null) {
+                setHasErrors(copy, hasErrors(entity) || rejected.contains(entity));
+                originals.put(copy, entity);
+            }
+            copies.add(copy);
+        }
+        R requestCopy = copy(request);
+        if (!entities.isEmpty()) {
+            AccessorRegistry.set(getMethod(setPayloadMethodName, requestCopy.getClass()), requestCopy, copies);
+        }
+
+        Map<T, List<Error>> errors = new IdentityHashMap<>();
+        timed(validator, requestCopy).forEach((entity, entityErrors) -> errors.merge(
+                originals.getOrDefault(entity, entity), entityErrors, (existing, added) -> {
+                    List<Error> merged = new ArrayList<>(existing);
+                    merged.addAll(added);
+                    return merged;
+                }));
+        return errors;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> entities(Object request, String setPayloadMethodName) {
+        Object entities = AccessorRegistry.get(getMethod("get" + setPayloadMethodName.substring(3),
+                request.getClass()), request);
+        return entities instanceof List ? new ArrayList<>((List<T>) entities) : Collections.emptyList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V copy(V source) {
+        V copy = (V) BeanUtils.instantiateClass(source.getClass());
+        BeanUtils.copyProperties(source, copy);
+        return copy;
+    }
+
+    private static boolean hasErrors(Object entity) {
+        return entity != null && ClassUtils.hasMethod(entity.getClass(), "getHasErrors")
+                && Boolean.TRUE.equals(AccessorRegistry.get(getMethod("getHasErrors", entity.getClass()), entity));
+    }
+
+    private static void setHasErrors(Object entity, boolean hasErrors) {
+        if (entity != null && ClassUtils.hasMethod(entity.getClass(), "setHasErrors", Boolean.class)) {
+            AccessorRegistry.set(getMethod("setHasErrors", entity.getClass()), entity, hasErrors);
+        }
+    }
+
+    private <T, R> Map<T, List<Error>> timed(Validator<R, T> validator, R request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failed";
+        try {
+            Map<T, List<Error>> errors = validator.validate(request);
+            outcome = errors.isEmpty() ? "valid" : "invalid";
+            return errors;
+        } finally {
+            long nanos = sample.stop(Timer.builder("health.validator.duration")
+                    .tag("service", serviceName)
+                    .tag("validator", name(validator))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            log.debug("{} took {} ms", name(validator), TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+
+    /**
+     * Runs the supplier with the MDC of the request, restoring the thread's own afterwards, since a validator may run
+     * on the thread that handed it out.
+     */
+    private static <V> V withContext(Map<String, String> context, Supplier<V> supplier) {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        if (context != null) {
+            MDC.setContextMap(context);
+        }
+        try {
+            return supplier.get();
+        } finally {
+            if (previous != null) {
+                MDC.setContextMap(previous);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean writes(Validator<?, ?> validator) {
+        return AnnotatedElementUtils.hasAnnotation(ClassUtils.getUserClass(validator), WritesEntities.class);
+    }
+
+    private static int order(Validator<?, ?> validator) {
+        return OrderUtils.getOrder(ClassUtils.getUserClass(validator), Ordered.LOWEST_PRECEDENCE);
+    }
+
+    private static String name(Validator<?, ?> validator) {
+        return ClassUtils.getUserClass(validator).getSimpleName();
+    }
+}
@@ -0,0 +1,20 @@
+package org.egov.common.validator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link Validator} that sets fields of the entities it validates, besides flagging the rejected ones.
+ *
+ * <p>{@link ValidatorExecutor} runs such a validator on the entities of the request rather than on copies, so its
+ * writes are kept. It starts once every applicable validator before it is done, and the validators after it wait
+ * for it, so none runs alongside it and the ones after it see what it wrote.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface WritesEntities {
+}
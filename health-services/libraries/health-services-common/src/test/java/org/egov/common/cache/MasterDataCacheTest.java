@@ -0,0 +1,108 @@
+package org.egov.common.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.mdms.model.MdmsCriteriaReq;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MasterDataCacheTest {
+
+    private static final String MODULE = "HCM-TASK-QUANTITY-VALIDATION";
+
+    private static final String MASTER = "TaskQuantity";
+
+    private static final String RESPONSE = "{\"MdmsRes\":{\"" + MODULE + "\":{\"" + MASTER + "\":["
+            + "{\"id\":[\"pv-1\",\"pv-2\"],\"regex\":\"^[0-9]+\\\\.0$\"},{\"id\":[\"pv-3\"],\"regex\":\"^1\\\\.0$\"}]}}}";
+
+    private static final MasterDataIndex<Map<String, String>> REGEX_BY_ID = MasterDataIndex.of("regexById", records -> {
+        Map<String, String> regexById = new HashMap<>();
+        records.forEach(record -> record.get("id").forEach(id -> regexById.put(id.asText(), record.get("regex").asText())));
+        return regexById;
+    });
+
+    @Mock
+    private ServiceRequestClient serviceRequestClient;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private MasterDataCache masterDataCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        masterDataCache = new MasterDataCache(serviceRequestClient, "http://mdms", "/_search", 100, 300, 3600,
+                "some-uuid", meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("should fetch a master once per state tenant and build its index once")
+    void shouldFetchAMasterOncePerStateTenantAndBuildItsIndexOnce() throws Exception {
+        when(serviceRequestClient.fetchResult(any(StringBuilder.class), any(MdmsCriteriaReq.class), eq(JsonNode.class)))
+                .thenReturn(new ObjectMapper().readTree(RESPONSE));
+        AtomicInteger builds = new AtomicInteger();
+        MasterDataIndex<Map<String, String>> countingIndex = MasterDataIndex.of("counting", records -> {
+            builds.incrementAndGet();
+            return REGEX_BY_ID.build(records);
+        });
+
+        Map<String, String> first = masterDataCache.getIndex("pg.citya", MODULE, MASTER, countingIndex);
+        Map<String, String> second = masterDataCache.getIndex("pg.cityb", MODULE, MASTER, countingIndex);
+        JsonNode records = masterDataCache.getMaster("pg", MODULE, MASTER);
+
+        assertSame(first, second);
+        assertEquals("^1\\.0$", first.get("pv-3"));
+        assertEquals(2, records.size());
+        assertEquals(1, builds.get());
+        ArgumentCaptor<MdmsCriteriaReq> request = ArgumentCaptor.forClass(MdmsCriteriaReq.class);
+        verify(serviceRequestClient, times(1)).fetchResult(any(StringBuilder.class), request.capture(), eq(JsonNode.class));
+        assertEquals("pg", request.getValue().getMdmsCriteria().getTenantId());
+    }
+
+    @Test
+    @DisplayName("should return an empty master when mdms has none")
+    void shouldReturnAnEmptyMasterWhenMdmsHasNone() throws Exception {
+        when(serviceRequestClient.fetchResult(any(StringBuilder.class), any(MdmsCriteriaReq.class), eq(JsonNode.class)))
+                .thenReturn(new ObjectMapper().readTree("{\"MdmsRes\":{}}"));
+
+        assertTrue(masterDataCache.getIndex("pg", MODULE, MASTER, REGEX_BY_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should not cache a failed load")
+    void shouldNotCacheAFailedLoad() throws Exception {
+        when(serviceRequestClient.fetchResult(any(StringBuilder.class), any(MdmsCriteriaReq.class), eq(JsonNode.class)))
+                .thenThrow(new CustomException("HTTP_CLIENT_ERROR", "some error"))
+                .thenReturn(new ObjectMapper().readTree(RESPONSE));
+
+        assertThrows(CustomException.class, () -> masterDataCache.getMaster("pg", MODULE, MASTER));
+        assertEquals(2, masterDataCache.getMaster("pg", MODULE, MASTER).size());
+    }
+}
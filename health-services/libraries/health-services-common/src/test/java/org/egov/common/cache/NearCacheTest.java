@@ -0,0 +1,102 @@
+package org.egov.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egov.common.helpers.SomeObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheTest {
+
+    private static final String TABLE = "some_table";
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        nearCache = new NearCache(true, 100, 60, meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("should return only the keys present in the near cache")
+    void shouldReturnOnlyPresentKeys() {
+        nearCache.putAll(TABLE, Collections.singletonMap("some-id",
+                SomeObject.builder().id("some-id").isDeleted(false).build()));
+
+        Map<String, Object> found = nearCache.getAllPresent(TABLE, Arrays.asList("some-id", "other-id"));
+
+        assertEquals(1, found.size());
+        assertEquals("some-id", ((SomeObject) found.get("some-id")).getId());
+    }
+
+    @Test
+    @DisplayName("should not share the cached instance with callers")
+    void shouldNotShareCachedInstance() {
+        SomeObject someObject = SomeObject.builder().id("some-id").otherField("other-field").build();
+        nearCache.putAll(TABLE, Collections.singletonMap("some-id", someObject));
+        someObject.setOtherField("changed");
+
+        SomeObject found = (SomeObject) nearCache.getAllPresent(TABLE, Collections.singletonList("some-id"))
+                .get("some-id");
+        found.setOtherField("changed-again");
+
+        assertNotSame(someObject, found);
+        assertEquals("other-field", ((SomeObject) nearCache.getAllPresent(TABLE,
+                Collections.singletonList("some-id")).get("some-id")).getOtherField());
+    }
+
+    @Test
+    @DisplayName("should evict invalidated keys")
+    void shouldEvictInvalidatedKeys() {
+        nearCache.putAll(TABLE, Collections.singletonMap("some-id", SomeObject.builder().id("some-id").build()));
+
+        nearCache.invalidate(TABLE, Collections.singletonList("some-id"));
+
+        assertTrue(nearCache.getAllPresent(TABLE, Collections.singletonList("some-id")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should do nothing when disabled")
+    void shouldDoNothingWhenDisabled() {
+        NearCache disabled = new NearCache(false, 100, 60, meterRegistryProvider);
+        disabled.putAll(TABLE, Collections.singletonMap("some-id", SomeObject.builder().id("some-id").build()));
+
+        assertTrue(disabled.getAllPresent(TABLE, Collections.singletonList("some-id")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should record hits and misses per table")
+    void shouldRecordHitsAndMissesPerTable() {
+        nearCache.putAll(TABLE, Collections.singletonMap("some-id", SomeObject.builder().id("some-id").build()));
+
+        nearCache.getAllPresent(TABLE, Arrays.asList("some-id", "other-id"));
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", TABLE).tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", TABLE).tag("result", "miss")
+                .functionCounter().count());
+    }
+}
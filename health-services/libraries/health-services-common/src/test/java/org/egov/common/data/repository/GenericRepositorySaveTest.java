@@ -1,5 +1,6 @@
 package org.egov.common.data.repository;
 
+import org.egov.common.cache.NearCacheInvalidator;
 import org.egov.common.helpers.SomeObject;
 import org.egov.common.helpers.SomeRepository;
 import org.egov.common.producer.Producer;
@@ -8,24 +9,33 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GenericRepositorySaveTest {
@@ -41,6 +51,12 @@ class GenericRepositorySaveTest {
     @Mock
     private HashOperations hashOperations;
 
+    @Mock
+    private RedisOperations<String, Object> redisOperations;
+
+    @Mock
+    private NearCacheInvalidator nearCacheInvalidator;
+
     private List<SomeObject> someObjects;
 
     private static final String TOPIC = "save-topic";
@@ -71,6 +87,35 @@ class GenericRepositorySaveTest {
         verify(producer, times(1)).push(any(String.class), any(Object.class));
     }
 
+    @Test
+    @DisplayName("should refresh the cache ttl with every write in the same pipeline")
+    void shouldRefreshTheCacheTtlWithEveryWrite() {
+        someRepository.putInCache(someObjects, "id");
+        someRepository.putInCache(someObjects, "id");
+
+        ArgumentCaptor<SessionCallback> pipelines = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(pipelines.capture());
+        when(redisOperations.opsForHash()).thenReturn(hashOperations);
+        pipelines.getAllValues().forEach(pipeline -> pipeline.execute(redisOperations));
+
+        verify(hashOperations, times(2)).putAll(eq("some-table"), any(Map.class));
+        verify(redisOperations, times(2)).expire("some-table", 60L, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("should publish both the cache key and the id of saved objects to other instances")
+    void shouldPublishBothKeysToOtherInstances() {
+        ReflectionTestUtils.setField(someRepository, "nearCacheInvalidator", nearCacheInvalidator);
+        someObjects.get(0).setOtherField("other-field");
+        someObjects.get(1).setOtherField("another-field");
+
+        someRepository.save(someObjects, TOPIC, "otherField");
+
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(nearCacheInvalidator).publish(eq("some-table"), keys.capture());
+        assertEquals(Set.of("other-field", "another-field", "some-id", "other-id"), new HashSet<>(keys.getValue()));
+    }
+
     @Test
     @DisplayName("should save and add objects in the cache")
     @Disabled
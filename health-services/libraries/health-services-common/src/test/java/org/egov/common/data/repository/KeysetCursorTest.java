@@ -0,0 +1,77 @@
+package org.egov.common.data.repository;
+
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.helpers.SomeObject;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("should decode an encoded cursor")
+    void shouldDecodeAnEncodedCursor() {
+        KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor(1700000000000L, "some-id").encode());
+
+        assertEquals(1700000000000L, cursor.getLastModifiedTime());
+        assertEquals("some-id", cursor.getId());
+    }
+
+    @Test
+    @DisplayName("should throw exception for a malformed cursor")
+    void shouldThrowExceptionForMalformedCursor() {
+        assertThrows(CustomException.class, () -> KeysetCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("should only order and limit when starting a cursor walk")
+    void shouldOnlyOrderAndLimitWhenStartingCursorWalk() {
+        Map<String, Object> paramsMap = new HashMap<>();
+
+        String query = KeysetCursor.appendSeek("SELECT * FROM some_table WHERE tenantId=:tenantId ", null,
+                "", 10, paramsMap);
+
+        assertFalse(query.contains(":cursorId"));
+        assertTrue(query.endsWith("ORDER BY lastModifiedTime ASC, id ASC LIMIT :limit"));
+        assertEquals(10, paramsMap.get("limit"));
+    }
+
+    @Test
+    @DisplayName("should seek past the cursor")
+    void shouldSeekPastTheCursor() {
+        Map<String, Object> paramsMap = new HashMap<>();
+
+        String query = KeysetCursor.appendSeek("SELECT * FROM some_table st WHERE st.tenantId=:tenantId ", "st",
+                new KeysetCursor(5L, "some-id").encode(), 10, paramsMap);
+
+        assertTrue(query.contains("(st.lastModifiedTime, st.id) > (:cursorLastModifiedTime, :cursorId)"));
+        assertEquals(5L, paramsMap.get("cursorLastModifiedTime"));
+        assertEquals("some-id", paramsMap.get("cursorId"));
+    }
+
+    @Test
+    @DisplayName("should return next cursor only for a full page")
+    void shouldReturnNextCursorOnlyForFullPage() {
+        SomeObject first = SomeObject.builder().id("id-1")
+                .auditDetails(AuditDetails.builder().lastModifiedTime(1L).build()).build();
+        SomeObject second = SomeObject.builder().id("id-2")
+                .auditDetails(AuditDetails.builder().lastModifiedTime(2L).build()).build();
+
+        KeysetCursor next = KeysetCursor.decode(KeysetCursor.nextCursor(Arrays.asList(first, second), 2));
+
+        assertEquals(2L, next.getLastModifiedTime());
+        assertEquals("id-2", next.getId());
+        assertNull(KeysetCursor.nextCursor(Collections.singletonList(first), 2));
+    }
+}
@@ -0,0 +1,186 @@
+package org.egov.common.persister;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkPersisterTest {
+
+    private static final String TOPIC = "save-household-topic";
+
+    private static final String CONFIG = String.join("\n",
+            "serviceMaps:",
+            "  serviceName: household",
+            "  mappings:",
+            "    - version: 1.0",
+            "      fromTopic: save-household-topic",
+            "      isTransaction: true",
+            "      queryMaps:",
+            "        - query: INSERT INTO HOUSEHOLD(id, tenantId, clientReferenceId, numberOfMembers, addressId, additionalDetails) VALUES (?, ?, ?, ?, ?, ?);",
+            "          basePath: $.*",
+            "          jsonMaps:",
+            "            - jsonPath: $.*.id",
+            "            - jsonPath: $.*.tenantId",
+            "            - jsonPath: $.*.clientReferenceId",
+            "            - jsonPath: $.*.memberCount",
+            "            - jsonPath: $.*.address.id",
+            "            - jsonPath: $.*.additionalFields",
+            "              type: JSON",
+            "              dbType: JSONB",
+            "        - query: INSERT INTO ADDRESS(id, tenantId, localityCode) VALUES (?, ?, ?);",
+            "          basePath: $.*.address",
+            "          jsonMaps:",
+            "            - jsonPath: $.*.address.id",
+            "            - jsonPath: $.*.address.tenantId",
+            "            - jsonPath: $.*.address.locality.code",
+            "    - version: 1.0",
+            "      fromTopic: save-individual-topic",
+            "      isTransaction: true",
+            "      queryMaps:",
+            "        - query: INSERT INTO individual_identifier(id, clientReferenceId, identifierType, dateOfBirth) VALUES (?, ?, ?, ?);",
+            "          basePath: $.*.identifiers.*",
+            "          jsonMaps:",
+            "            - jsonPath: $.*.identifiers.*.id",
+            "            - jsonPath: $.*.clientReferenceId",
+            "            - jsonPath: $.*.identifiers.*.identifierType",
+            "            - jsonPath: $.*.dateOfBirth",
+            "              type: DATE");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BulkPersister bulkPersister;
+
+    private List<PersisterMapping> mappings;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE household (id VARCHAR(64) PRIMARY KEY, tenantId VARCHAR(64), "
+                + "clientReferenceId VARCHAR(64) UNIQUE, numberOfMembers INTEGER, addressId VARCHAR(64), "
+                + "additionalDetails VARCHAR(1000))");
+        jdbcTemplate.execute("CREATE TABLE address (id VARCHAR(64) PRIMARY KEY, tenantId VARCHAR(64), "
+                + "localityCode VARCHAR(64))");
+
+        meterRegistry = new SimpleMeterRegistry();
+        mappings = PersisterMapping.load(new ByteArrayInputStream(CONFIG.getBytes(StandardCharsets.UTF_8)), objectMapper);
+        BulkPersisterProperties properties = new BulkPersisterProperties();
+        properties.setBatchSize(2);
+        bulkPersister = new BulkPersister(dataSource, new DataSourceTransactionManager(dataSource),
+                mappings.subList(0, 1), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("should persist the rows of every query of the topic")
+    void shouldPersistTheRowsOfEveryQueryOfTheTopic() {
+        List<Object> payloads = Arrays.asList(
+                Arrays.asList(household("h1", "c1", "a1"), household("h2", "c2", "a2"), household("h3", "c3", null)),
+                Collections.singletonList(household("h4", "c4", "a4")));
+
+        int persisted = bulkPersister.persist(TOPIC, payloads);
+
+        assertEquals(4, persisted);
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT count(*) FROM household", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM address", Integer.class));
+        assertEquals("{\"schema\":\"Household\"}", jdbcTemplate.queryForObject(
+                "SELECT additionalDetails FROM household WHERE id = 'h1'", String.class));
+        assertEquals("L1", jdbcTemplate.queryForObject("SELECT localityCode FROM address WHERE id = 'a2'", String.class));
+        assertEquals(4.0, meterRegistry.get("health.persister.bulk.records").tag("topic", TOPIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("should skip records already persisted or repeated in the poll")
+    void shouldSkipRecordsAlreadyPersistedOrRepeatedInThePoll() {
+        bulkPersister.persist(TOPIC, Collections.singletonList(
+                Arrays.asList(household("h1", "c1", "a1"), household("h2", "c2", "a2"))));
+
+        int persisted = bulkPersister.persist(TOPIC, Arrays.asList(
+                Arrays.asList(household("h1", "c1", "a1"), household("h3", "c3", "a3")),
+                Collections.singletonList(household("h3", "c3", "a3"))));
+
+        assertEquals(1, persisted);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM household", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT count(*) FROM address", Integer.class));
+        assertEquals(2.0, meterRegistry.get("health.persister.bulk.duplicates").tag("topic", TOPIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("should persist the child rows when a failed poll is retried, even for a non transactional mapping")
+    void shouldPersistChildRowsWhenFailedPollIsRetried() {
+        List<PersisterMapping> nonTransactional = PersisterMapping.load(new ByteArrayInputStream(
+                CONFIG.replace("isTransaction: true", "isTransaction: false").getBytes(StandardCharsets.UTF_8)), objectMapper);
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        BulkPersister persister = new BulkPersister(dataSource, new DataSourceTransactionManager(dataSource),
+                nonTransactional.subList(0, 1), new BulkPersisterProperties(), meterRegistry);
+        List<Object> payloads = Collections.singletonList(
+                Arrays.asList(household("h1", "c1", "a1"), household("h2", "c2", "a2")));
+
+        jdbcTemplate.execute("ALTER TABLE address RENAME TO address_unavailable");
+        assertThrows(DataAccessException.class, () -> persister.persist(TOPIC, payloads));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM household", Integer.class));
+
+        jdbcTemplate.execute("ALTER TABLE address_unavailable RENAME TO address");
+        int persisted = persister.persist(TOPIC, payloads);
+
+        assertEquals(2, persisted);
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM household", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM address", Integer.class));
+    }
+
+    @Test
+    @DisplayName("should read parent fields and dates for nested base paths")
+    void shouldReadParentFieldsAndDatesForNestedBasePaths() {
+        PersisterMapping individual = mappings.get(1);
+        Map<String, Object> record = Map.of("clientReferenceId", "i1", "dateOfBirth", "25/12/1990",
+                "identifiers", Arrays.asList(Map.of("id", "id1", "identifierType", "AADHAAR"),
+                        Map.of("id", "id2", "identifierType", "SYSTEM_GENERATED")));
+
+        List<Object[]> rows = individual.getQueries().get(0).rows(Collections.singletonList(record));
+
+        assertEquals(2, rows.size());
+        assertEquals(Arrays.asList("id2", "i1", "SYSTEM_GENERATED", Date.valueOf("1990-12-25")),
+                Arrays.asList(rows.get(1)));
+        assertNull(individual.getRootQuery());
+        assertEquals("INSERT INTO individual_identifier(id, clientReferenceId, identifierType, dateOfBirth) "
+                + "VALUES (?, ?, ?, ?) ON CONFLICT DO NOTHING", individual.getQueries().get(0).getBulkSql());
+    }
+
+    private Map<String, Object> household(String id, String clientReferenceId, String addressId) {
+        Map<String, Object> household = new HashMap<>();
+        household.put("id", id);
+        household.put("tenantId", "default");
+        household.put("clientReferenceId", clientReferenceId);
+        household.put("memberCount", 4);
+        household.put("additionalFields", Map.of("schema", "Household"));
+        if (addressId != null) {
+            household.put("address", Map.of("id", addressId, "tenantId", "default", "locality", Map.of("code", "L1")));
+        }
+        return household;
+    }
+}
@@ -0,0 +1,132 @@
+package org.egov.common.producer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.egov.tracer.kafka.CustomKafkaTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaBatchSenderTest {
+
+    private static final String TOPIC = "some-topic";
+
+    @Mock
+    private CustomKafkaTemplate<String, Object> customKafkaTemplate;
+
+    @Mock
+    private ObjectProvider<ProducerFactory<String, Object>> producerFactory;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private KafkaSendProperties properties;
+
+    private KafkaBatchSender kafkaBatchSender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        properties = new KafkaSendProperties();
+        properties.setMaxRecordsPerMessage(10);
+        properties.setRetries(1);
+        properties.setRetryBackoffMs(1);
+        kafkaBatchSender = new KafkaBatchSender(customKafkaTemplate, producerFactory, properties,
+                meterRegistryProvider);
+    }
+
+    @Test
+    @DisplayName("should split a large list into messages of at most the max records")
+    void shouldSplitLargeListByMaxRecords() {
+        List<String> records = records(25, "record");
+
+        kafkaBatchSender.send(TOPIC, records);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(customKafkaTemplate, times(3)).send(eq(TOPIC), captor.capture());
+        List<Integer> sizes = captor.getAllValues().stream().map(value -> ((List<?>) value).size())
+                .collect(Collectors.toList());
+        assertEquals(List.of(10, 10, 5), sizes);
+        assertEquals(25, meterRegistry.get("health.kafka.producer.records").tag("topic", TOPIC).counter().count());
+        assertEquals(3, meterRegistry.get("health.kafka.producer.messages").tag("topic", TOPIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("should send a large list as one message by default")
+    void shouldSendLargeListAsOneMessageByDefault() {
+        properties.setMaxRecordsPerMessage(new KafkaSendProperties().getMaxRecordsPerMessage());
+
+        List<KafkaBatchSender.Chunk> chunks = kafkaBatchSender.split(records(1000, "record"));
+
+        assertEquals(1, chunks.size());
+        assertEquals(1000, chunks.get(0).records);
+    }
+
+    @Test
+    @DisplayName("should split a message the producer rejects as too large in two")
+    void shouldSplitTooLargeMessageInTwo() {
+        properties.setMaxRecordsPerMessage(0);
+        doThrow(new RecordTooLargeException("too large")).when(customKafkaTemplate)
+                .send(eq(TOPIC), argThat(value -> ((List<?>) value).size() > 2));
+
+        kafkaBatchSender.send(TOPIC, records(8, "record"));
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        // 8 rejected, 4 and 4 rejected, then four messages of 2
+        verify(customKafkaTemplate, times(7)).send(eq(TOPIC), captor.capture());
+        assertEquals(8, meterRegistry.get("health.kafka.producer.records").tag("topic", TOPIC).counter().count());
+        assertEquals(4, meterRegistry.get("health.kafka.producer.messages").tag("topic", TOPIC).counter().count());
+        assertEquals(0, meterRegistry.get("health.kafka.producer.retries").tag("topic", TOPIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("should send a value that is not a list as one message")
+    void shouldSendValueThatIsNotListAsOneMessage() {
+        kafkaBatchSender.send(TOPIC, "some-value");
+
+        verify(customKafkaTemplate).send(TOPIC, "some-value");
+    }
+
+    @Test
+    @DisplayName("should retry a failed send and throw once the retries are exhausted")
+    void shouldRetryFailedSendAndThrow() {
+        doThrow(new RuntimeException("broker down")).when(customKafkaTemplate).send(anyString(), any());
+
+        assertThrows(RuntimeException.class, () -> kafkaBatchSender.send(TOPIC, records(1, "record")));
+
+        verify(customKafkaTemplate, times(2)).send(anyString(), any());
+        assertEquals(1, meterRegistry.get("health.kafka.producer.retries").tag("topic", TOPIC).counter().count());
+        assertEquals(1, meterRegistry.get("health.kafka.producer.failures").tag("topic", TOPIC).counter().count());
+    }
+
+    private static List<String> records(int count, String value) {
+        return IntStream.range(0, count).mapToObj(i -> value).collect(Collectors.toCollection(ArrayList::new));
+    }
+}
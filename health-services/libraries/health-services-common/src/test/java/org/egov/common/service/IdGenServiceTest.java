@@ -0,0 +1,136 @@
+package org.egov.common.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egov.common.contract.idgen.IdGenerationRequest;
+import org.egov.common.contract.idgen.IdGenerationResponse;
+import org.egov.common.contract.idgen.IdResponse;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.contract.request.User;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdGenServiceTest {
+
+    @Mock
+    private ServiceRequestClient serviceRequestClient;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private IdGenService idGenService;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        when(serviceRequestClient.fetchResult(any(StringBuilder.class), any(IdGenerationRequest.class),
+                eq(IdGenerationResponse.class))).thenAnswer(invocation -> {
+            IdGenerationRequest request = invocation.getArgument(1);
+            return IdGenerationResponse.builder().idResponses(IntStream.range(0, request.getIdRequests().size())
+                    .mapToObj(i -> IdResponse.builder().id("id-" + sequence.incrementAndGet()).build())
+                    .collect(Collectors.toList())).build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (idGenService != null) {
+            idGenService.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("should fetch ids synchronously when the pool is disabled")
+    void shouldFetchIdsSynchronouslyWhenPoolIsDisabled() {
+        idGenService = new IdGenService(serviceRequestClient, "http://idgen", "/id/_generate",
+                false, 10, 5, 1, "health-services", meterRegistryProvider);
+
+        List<String> ids = idGenService.getIdList(RequestInfo.builder().build(), "default", "household.id", "", 3);
+
+        assertEquals(3, ids.size());
+        verify(serviceRequestClient, times(1)).fetchResult(any(StringBuilder.class), any(IdGenerationRequest.class),
+                eq(IdGenerationResponse.class));
+    }
+
+    @Test
+    @DisplayName("should serve ids from the pool once it is refilled")
+    void shouldServeIdsFromPoolOnceRefilled() throws InterruptedException {
+        idGenService = new IdGenService(serviceRequestClient, "http://idgen", "/id/_generate",
+                true, 10, 5, 1, "health-services", meterRegistryProvider);
+        RequestInfo requestInfo = RequestInfo.builder().build();
+
+        List<String> first = idGenService.getIdList(requestInfo, "default", "household.id", "", 3);
+        awaitPoolDepth(10);
+        List<String> second = idGenService.getIdList(requestInfo, "default", "household.id", "", 4);
+
+        assertEquals(3, first.size());
+        assertEquals(4, second.size());
+        assertEquals(3, meterRegistry.get("health.idgen.ids").tag("source", "sync").counter().count());
+        assertEquals(4, meterRegistry.get("health.idgen.ids").tag("source", "pool").counter().count());
+        // one synchronous fetch for the first call and one background block
+        verify(serviceRequestClient, times(2)).fetchResult(any(StringBuilder.class), any(IdGenerationRequest.class),
+                eq(IdGenerationResponse.class));
+    }
+
+    @Test
+    @DisplayName("should refill the pool with the service request info, not the caller's")
+    void shouldRefillWithServiceRequestInfo() throws InterruptedException {
+        idGenService = new IdGenService(serviceRequestClient, "http://idgen", "/id/_generate",
+                true, 10, 5, 1, "health-services", meterRegistryProvider);
+        RequestInfo requestInfo = RequestInfo.builder()
+                .userInfo(User.builder().uuid("caller").build()).authToken("caller-token").build();
+
+        idGenService.getIdList(requestInfo, "default", "household.id", "", 3);
+        awaitPoolDepth(10);
+
+        ArgumentCaptor<IdGenerationRequest> requests = ArgumentCaptor.forClass(IdGenerationRequest.class);
+        verify(serviceRequestClient, times(2)).fetchResult(any(StringBuilder.class), requests.capture(),
+                eq(IdGenerationResponse.class));
+        assertSame(requestInfo, requests.getAllValues().get(0).getRequestInfo());
+        RequestInfo refillRequestInfo = requests.getAllValues().get(1).getRequestInfo();
+        assertEquals("health-services", refillRequestInfo.getUserInfo().getUuid());
+        assertNull(refillRequestInfo.getAuthToken());
+    }
+
+    private void awaitPoolDepth(int depth) throws InterruptedException {
+        double value = 0;
+        for (int i = 0; i < 100; i++) {
+            value = meterRegistry.get("health.idgen.pool.depth").gauge().value();
+            if (value == depth) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("id pool depth is " + value + " after 1s, expected " + depth);
+    }
+}
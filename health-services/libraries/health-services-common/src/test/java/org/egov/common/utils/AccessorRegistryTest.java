@@ -0,0 +1,48 @@
+package org.egov.common.utils;
+
+import org.egov.common.helpers.SomeObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.egov.common.utils.CommonUtils.getMethod;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AccessorRegistryTest {
+
+    @Test
+    @DisplayName("should read and write fields through compiled accessors")
+    void shouldReadAndWriteFieldsThroughCompiledAccessors() {
+        SomeObject someObject = SomeObject.builder().id("some-id").rowVersion(1).build();
+
+        AccessorRegistry.setter(SomeObject.class, "rowVersion").accept(someObject, 2);
+
+        assertEquals("some-id", AccessorRegistry.getter(SomeObject.class, "id").apply(someObject));
+        assertEquals(2, AccessorRegistry.get(getMethod("getRowVersion", SomeObject.class), someObject));
+    }
+
+    @Test
+    @DisplayName("should compile an accessor only once per method")
+    void shouldCompileAccessorOnlyOncePerMethod() {
+        Method getId = getMethod("getId", SomeObject.class);
+        Method setId = getMethod("setId", SomeObject.class);
+
+        Function<Object, Object> getter = AccessorRegistry.getter(getId);
+        BiConsumer<Object, Object> setter = AccessorRegistry.setter(setId);
+
+        assertSame(getter, AccessorRegistry.getter(getId));
+        assertSame(setter, AccessorRegistry.setter(setId));
+    }
+
+    @Test
+    @DisplayName("should invoke methods declared outside of the application classes")
+    void shouldInvokeMethodsDeclaredOutsideApplicationClasses() {
+        Method nameMethod = getMethod("name", Enum.class);
+
+        assertEquals("DAYS", AccessorRegistry.get(nameMethod, java.util.concurrent.TimeUnit.DAYS));
+    }
+}
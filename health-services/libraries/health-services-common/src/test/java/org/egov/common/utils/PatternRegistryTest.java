@@ -0,0 +1,53 @@
+package org.egov.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PatternRegistryTest {
+
+    private static final String QUANTITY_REGEX = "^(?!0(\\.0+)?$)([0-9]+(\\.0)?)$";
+
+    @Test
+    @DisplayName("should match the whole value like Pattern.matches")
+    void shouldMatchTheWholeValue() {
+        assertTrue(PatternRegistry.matches("3.0", QUANTITY_REGEX));
+        assertFalse(PatternRegistry.matches("0.0", QUANTITY_REGEX));
+        assertFalse(PatternRegistry.matches("3.5", QUANTITY_REGEX));
+        assertFalse(PatternRegistry.matches("a123", "[0-9]+"));
+        assertTrue(CommonUtils.isValidPattern("1234", "[0-9]+"));
+    }
+
+    @Test
+    @DisplayName("should compile a regex only once")
+    void shouldCompileARegexOnlyOnce() {
+        assertSame(PatternRegistry.compile(QUANTITY_REGEX), PatternRegistry.compile(QUANTITY_REGEX));
+    }
+
+    @Test
+    @DisplayName("should throw for an invalid regex")
+    void shouldThrowForAnInvalidRegex() {
+        assertThrows(PatternSyntaxException.class, () -> PatternRegistry.matches("1", "[0-9"));
+    }
+
+    @Test
+    @DisplayName("should match from several threads at once")
+    void shouldMatchFromSeveralThreadsAtOnce() {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        IntStream.range(0, 8).forEach(thread -> results.add(CompletableFuture.supplyAsync(() ->
+                IntStream.range(1, 10000).allMatch(i -> PatternRegistry.matches(i + ".0", QUANTITY_REGEX)
+                        && !PatternRegistry.matches(i + ".5", QUANTITY_REGEX)))));
+
+        results.forEach(result -> assertTrue(result.join()));
+    }
+}
@@ -0,0 +1,416 @@
+package org.egov.common.validator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.helper.RequestInfoTestBuilder;
+import org.egov.common.helpers.OtherObject;
+import org.egov.common.helpers.SomeObject;
+import org.egov.common.models.Error;
+import org.egov.common.models.ErrorDetails;
+import org.egov.common.models.household.Household;
+import org.egov.common.models.household.HouseholdBulkRequest;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.Order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.egov.common.utils.CommonUtils.notHavingErrors;
+import static org.egov.common.utils.CommonUtils.populateErrorDetails;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class ValidatorExecutorTest {
+
+    private final OtherObject otherObject = OtherObject.builder().someOtherField("some").build();
+
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private SomeObject request;
+
+    private ValidatorExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        RequestInfo requestInfo = RequestInfoTestBuilder.builder().withCompleteRequestInfo().build();
+        request = SomeObject.builder().requestInfo(requestInfo).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("should run validators of the same order concurrently once the lower orders are done")
+    void shouldRunValidatorsOfTheSameOrderConcurrently() {
+        executor = new ValidatorExecutor(true, 4, 100, "some-service", meterRegistryProvider);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<Validator<SomeObject, OtherObject>> validators = Arrays.asList(
+                new SecondOrderValidator(calls, bothStarted, otherObject),
+                new FirstOrderValidator(calls),
+                new OtherSecondOrderValidator(calls, bothStarted, otherObject));
+
+        Map<OtherObject, ErrorDetails> errorDetailsMap = executor.validate(validators, validator -> true, request,
+                "setOtherObject");
+
+        assertEquals("first", calls.get(0));
+        assertEquals(1, errorDetailsMap.size());
+        assertEquals(Arrays.asList("SECOND", "OTHER_SECOND"), errorDetailsMap.get(otherObject).getErrors().stream()
+                .map(Error::getErrorCode).toList());
+    }
+
+    @Test
+    @DisplayName("should only wait for the declared dependencies")
+    void shouldOnlyWaitForTheDeclaredDependencies() {
+        executor = new ValidatorExecutor(true, 4, 100, "some-service", meterRegistryProvider);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<Validator<SomeObject, OtherObject>> validators = Arrays.asList(new FirstOrderValidator(calls),
+                new SecondOrderValidator(calls, bothStarted, otherObject),
+                new DependentValidator(calls, bothStarted));
+
+        executor.validate(validators, validator -> true, request, "setOtherObject");
+
+        assertEquals("first", calls.get(0));
+        assertEquals(3, calls.size());
+    }
+
+    @Test
+    @DisplayName("should show validators the errors of the validators they waited for, not of the ones running with them")
+    void shouldIsolateTheErrorsOfValidatorsRunningTogether() {
+        executor = new ValidatorExecutor(true, 4, 100, "some-service", meterRegistryProvider);
+        Household first = Household.builder().id("h1").memberCount(1).build();
+        Household second = Household.builder().id("h2").memberCount(2).build();
+        Household third = Household.builder().id("h3").memberCount(3).hasErrors(true).build();
+        HouseholdBulkRequest householdRequest = HouseholdBulkRequest.builder()
+                .requestInfo(request.getRequestInfo())
+                .households(Arrays.asList(first, second, third))
+                .build();
+        CountDownLatch flagged = new CountDownLatch(1);
+        List<String> flaggingSaw = new CopyOnWriteArrayList<>();
+        List<String> readingSaw = new CopyOnWriteArrayList<>();
+        List<Validator<HouseholdBulkRequest, Household>> validators = Arrays.asList(
+                new ReadingValidator(flagged, readingSaw), new RejectingValidator("h1"),
+                new FlaggingValidator(flagged, flaggingSaw, "h2"));
+
+        Map<Household, ErrorDetails> errorDetailsMap = executor.validate(validators, validator -> true,
+                householdRequest, "setHouseholds");
+
+        assertEquals(List.of("h2"), flaggingSaw);
+        assertEquals(List.of("h2"), readingSaw);
+        assertEquals(2, errorDetailsMap.size());
+        assertEquals(List.of("REJECTED"), errorDetailsMap.get(first).getErrors().stream()
+                .map(Error::getErrorCode).toList());
+        assertEquals(List.of("FLAGGED"), errorDetailsMap.get(second).getErrors().stream()
+                .map(Error::getErrorCode).toList());
+        assertTrue(first.getHasErrors() && second.getHasErrors() && third.getHasErrors());
+        assertEquals(Arrays.asList(first, second, third), householdRequest.getHouseholds());
+    }
+
+    @Test
+    @DisplayName("should keep the writes of a validator marked WritesEntities and show them to the ones after it")
+    void shouldKeepTheWritesOfAWritingValidator() {
+        executor = new ValidatorExecutor(true, 4, 100, "some-service", meterRegistryProvider);
+        Household first = Household.builder().id("h1").memberCount(1).build();
+        Household second = Household.builder().id("h2").memberCount(2).build();
+        Household third = Household.builder().id("h3").memberCount(3).hasErrors(true).build();
+        HouseholdBulkRequest householdRequest = HouseholdBulkRequest.builder()
+                .requestInfo(request.getRequestInfo())
+                .households(Arrays.asList(first, second, third))
+                .build();
+        List<String> writingSaw = new CopyOnWriteArrayList<>();
+        List<Integer> countingSaw = new CopyOnWriteArrayList<>();
+        List<Validator<HouseholdBulkRequest, Household>> validators = Arrays.asList(
+                new MemberCountingValidator(countingSaw), new WritingValidator(writingSaw),
+                new RejectingValidator("h1"));
+
+        Map<Household, ErrorDetails> errorDetailsMap = executor.validate(validators, validator -> true,
+                householdRequest, "setHouseholds");
+
+        assertEquals(List.of("h2"), writingSaw);
+        assertEquals(List.of(10), countingSaw);
+        assertEquals(10, (int) second.getMemberCount());
+        assertEquals(1, (int) first.getMemberCount());
+        assertEquals(1, errorDetailsMap.size());
+        assertTrue(first.getHasErrors() && third.getHasErrors());
+    }
+
+    @Test
+    @DisplayName("should run a validator on the thread handing it out once the queue is full")
+    void shouldRunAValidatorOnTheHandingThreadOnceTheQueueIsFull() {
+        executor = new ValidatorExecutor(true, 1, 1, "some-service", meterRegistryProvider);
+        CountDownLatch released = new CountDownLatch(1);
+        List<Validator<SomeObject, OtherObject>> validators = Arrays.asList(new BlockingValidator(calls, released),
+                new ThreadRecordingValidator(calls, "queued"), new ReleasingValidator(calls, released));
+
+        executor.validate(validators, validator -> true, request, "setOtherObject");
+
+        String thread = Thread.currentThread().getName();
+        assertEquals(Arrays.asList("releasing@" + thread, "blocking@validator-1", "queued@validator-1"), calls);
+    }
+
+    @Test
+    @DisplayName("should run validators one after another on the calling thread when parallel is off")
+    void shouldRunValidatorsOneAfterAnotherWhenParallelIsOff() {
+        executor = new ValidatorExecutor(false, 4, 100, "some-service", meterRegistryProvider);
+        List<Validator<SomeObject, OtherObject>> validators = Arrays.asList(
+                new ThreadRecordingValidator(calls, "a"), new FirstOrderValidator(calls),
+                new ThreadRecordingValidator(calls, "b"));
+
+        executor.validate(validators, validator -> !(validator instanceof FirstOrderValidator), request,
+                "setOtherObject");
+
+        String thread = Thread.currentThread().getName();
+        assertEquals(Arrays.asList("a@" + thread, "b@" + thread), calls);
+    }
+
+    @Test
+    @DisplayName("should rethrow the exception of a validator")
+    void shouldRethrowTheExceptionOfAValidator() {
+        executor = new ValidatorExecutor(true, 4, 100, "some-service", meterRegistryProvider);
+        List<Validator<SomeObject, OtherObject>> validators = Arrays.asList(new FirstOrderValidator(calls),
+                someObject -> {
+                    throw new CustomException("SOME_ERROR", "some error");
+                });
+
+        CustomException exception = assertThrows(CustomException.class, () -> executor.validate(validators,
+                validator -> true, request, "setOtherObject"));
+        assertEquals("SOME_ERROR", exception.getCode());
+    }
+
+    @Test
+    @DisplayName("should reject a dependency on a validator of a higher order")
+    void shouldRejectADependencyOnAValidatorOfAHigherOrder() {
+        executor = new ValidatorExecutor(true, 4, 100, "some-service", meterRegistryProvider);
+        List<Validator<SomeObject, OtherObject>> validators = Arrays.asList(new InvalidDependentValidator(),
+                new FirstOrderValidator(calls));
+
+        CustomException exception = assertThrows(CustomException.class, () -> executor.validate(validators,
+                validator -> true, request, "setOtherObject"));
+        assertEquals("INVALID_VALIDATOR_DEPENDENCY", exception.getCode());
+    }
+
+    @Test
+    @DisplayName("should time every validator")
+    void shouldTimeEveryValidator() {
+        executor = new ValidatorExecutor(false, 4, 100, "some-service", meterRegistryProvider);
+        CountDownLatch started = new CountDownLatch(0);
+        List<Validator<SomeObject, OtherObject>> validators = Arrays.asList(new FirstOrderValidator(calls),
+                new SecondOrderValidator(calls, started, otherObject));
+
+        executor.validate(validators, validator -> true, request, "setOtherObject");
+
+        assertEquals(1, meterRegistry.get("health.validator.duration").tag("service", "some-service")
+                .tag("validator", "FirstOrderValidator").tag("outcome", "valid").timer().count());
+        assertEquals(1, meterRegistry.get("health.validator.duration")
+                .tag("validator", "SecondOrderValidator").tag("outcome", "invalid").timer().count());
+    }
+
+    private static void awaitTogether(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS), "validators did not run concurrently");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<OtherObject, List<Error>> error(OtherObject otherObject, String errorCode) {
+        List<Error> errors = new ArrayList<>();
+        errors.add(Error.builder().errorCode(errorCode).build());
+        return Collections.singletonMap(otherObject, errors);
+    }
+
+    @Order(1)
+    private record FirstOrderValidator(List<String> calls) implements Validator<SomeObject, OtherObject> {
+
+        @Override
+        public Map<OtherObject, List<Error>> validate(SomeObject someObject) {
+            calls.add("first");
+            return Collections.emptyMap();
+        }
+    }
+
+    @Order(2)
+    private record SecondOrderValidator(List<String> calls, CountDownLatch bothStarted, OtherObject otherObject)
+            implements Validator<SomeObject, OtherObject> {
+
+        @Override
+        public Map<OtherObject, List<Error>> validate(SomeObject someObject) {
+            calls.add("second");
+            awaitTogether(bothStarted);
+            return error(otherObject, "SECOND");
+        }
+    }
+
+    @Order(2)
+    private record OtherSecondOrderValidator(List<String> calls, CountDownLatch bothStarted, OtherObject otherObject)
+            implements Validator<SomeObject, OtherObject> {
+
+        @Override
+        public Map<OtherObject, List<Error>> validate(SomeObject someObject) {
+            calls.add("other-second");
+            awaitTogether(bothStarted);
+            return error(otherObject, "OTHER_SECOND");
+        }
+    }
+
+    @Order(3)
+    @DependsOnValidators(FirstOrderValidator.class)
+    private record DependentValidator(List<String> calls, CountDownLatch bothStarted)
+            implements Validator<SomeObject, OtherObject> {
+
+        @Override
+        public Map<OtherObject, List<Error>> validate(SomeObject someObject) {
+            calls.add("dependent");
+            awaitTogether(bothStarted);
+            return Collections.emptyMap();
+        }
+    }
+
+    @Order(0)
+    @DependsOnValidators(FirstOrderValidator.class)
+    private record InvalidDependentValidator() implements Validator<SomeObject, OtherObject> {
+
+        @Override
+        public Map<OtherObject, List<Error>> validate(SomeObject someObject) {
+            return Collections.emptyMap();
+        }
+    }
+
+    private static List<String> validIds(HouseholdBulkRequest request) {
+        return request.getHouseholds().stream().filter(notHavingErrors()).map(Household::getId).toList();
+    }
+
+    @Order(1)
+    private record RejectingValidator(String id) implements Validator<HouseholdBulkRequest, Household> {
+
+        @Override
+        public Map<Household, List<Error>> validate(HouseholdBulkRequest request) {
+            Map<Household, List<Error>> errors = new HashMap<>();
+            request.getHouseholds().stream().filter(household -> id.equals(household.getId())).forEach(household ->
+                    populateErrorDetails(household, Error.builder().errorCode("REJECTED").build(), errors));
+            return errors;
+        }
+    }
+
+    @Order(2)
+    private record FlaggingValidator(CountDownLatch flagged, List<String> saw, String id)
+            implements Validator<HouseholdBulkRequest, Household> {
+
+        @Override
+        public Map<Household, List<Error>> validate(HouseholdBulkRequest request) {
+            saw.addAll(validIds(request));
+            Map<Household, List<Error>> errors = new HashMap<>();
+            request.getHouseholds().stream().filter(household -> id.equals(household.getId())).forEach(household ->
+                    populateErrorDetails(household, Error.builder().errorCode("FLAGGED").build(), errors));
+            flagged.countDown();
+            return errors;
+        }
+    }
+
+    @Order(2)
+    private record ReadingValidator(CountDownLatch flagged, List<String> saw)
+            implements Validator<HouseholdBulkRequest, Household> {
+
+        @Override
+        public Map<Household, List<Error>> validate(HouseholdBulkRequest request) {
+            try {
+                assertTrue(flagged.await(5, TimeUnit.SECONDS), "validators did not run concurrently");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            saw.addAll(validIds(request));
+            return Collections.emptyMap();
+        }
+    }
+
+    @WritesEntities
+    @Order(2)
+    private record WritingValidator(List<String> saw) implements Validator<HouseholdBulkRequest, Household> {
+
+        @Override
+        public Map<Household, List<Error>> validate(HouseholdBulkRequest request) {
+            saw.addAll(validIds(request));
+            request.getHouseholds().stream().filter(notHavingErrors()).forEach(household ->
+                    household.setMemberCount(10));
+            return Collections.emptyMap();
+        }
+    }
+
+    @Order(3)
+    private record MemberCountingValidator(List<Integer> saw) implements Validator<HouseholdBulkRequest, Household> {
+
+        @Override
+        public Map<Household, List<Error>> validate(HouseholdBulkRequest request) {
+            request.getHouseholds().stream().filter(notHavingErrors()).forEach(household ->
+                    saw.add(household.getMemberCount()));
+            return Collections.emptyMap();
+        }
+    }
+
+    private record BlockingValidator(List<String> calls, CountDownLatch released)
+            implements Validator<SomeObject, OtherObject> {
+
+        @Override
+        public Map<OtherObject, List<Error>> validate(SomeObject someObject) {
+            try {
+                assertTrue(released.await(5, TimeUnit.SECONDS), "the full queue did not run a validator in place");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            calls.add("blocking@" + Thread.currentThread().getName());
+            return Collections.emptyMap();
+        }
+    }
+
+    private record ReleasingValidator(List<String> calls, CountDownLatch released)
+            implements Validator<SomeObject, OtherObject> {
+
+        @Override
+        public Map<OtherObject, List<Error>> validate(SomeObject someObject) {
+            calls.add("releasing@" + Thread.currentThread().getName());
+            released.countDown();
+            return Collections.emptyMap();
+        }
+    }
+
+    private record ThreadRecordingValidator(List<String> calls, String name)
+            implements Validator<SomeObject, OtherObject> {
+
+        @Override
+        public Map<OtherObject, List<Error>> validate(SomeObject someObject) {
+            calls.add(name + "@" + Thread.currentThread().getName());
+            return Collections.emptyMap();
+        }
+    }
+}
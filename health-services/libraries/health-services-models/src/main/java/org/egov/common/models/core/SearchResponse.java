@@ -30,6 +30,15 @@ public class SearchResponse<E> {
     @Builder.Default
     private List<E> response = new ArrayList<>();
 
+    @JsonProperty("NextCursor")
+    private String nextCursor;
+
+    /**
+     * Returns the total count, falling back to the size of the response when none was set. A search run with
+     * includeTotalCount=false leaves it unset, so callers must not report this fallback as a total count.
+     *
+     * @return The total count, or the number of records in the response.
+     */
     public Long getTotalCount() {
         if(totalCount == null)
             totalCount = (long) response.size();
@@ -61,6 +61,22 @@ public class URLParams {
     @JsonProperty("includeDeleted")
     private Boolean includeDeleted = Boolean.FALSE;
 
+    /**
+     * Opaque keyset cursor returned as NextCursor by the previous page of a search.
+     * When present the search seeks past the cursor ordered by (lastModifiedTime, id) and offset is ignored.
+     * An empty cursor starts a cursor based walk from the first record.
+     */
+    @JsonProperty("cursor")
+    private String cursor;
+
+    /**
+     * Flag indicating whether the total count of matching records should be computed.
+     * When false the count query is skipped and TotalCount is not returned.
+     */
+    @Builder.Default
+    @JsonProperty("includeTotalCount")
+    private Boolean includeTotalCount = Boolean.TRUE;
+
     /**
      * Sets the URL parameters from the given URLParams object.
      * This method allows updating the current URLParams instance with values from another instance.
@@ -82,6 +98,12 @@ public class URLParams {
 
         // Update includeDeleted if provided in the input URLParams
         if (urlParams.getIncludeDeleted() != null) this.includeDeleted = urlParams.getIncludeDeleted();
+
+        // Update cursor if provided in the input URLParams
+        if (urlParams.getCursor() != null) this.cursor = urlParams.getCursor();
+
+        // Update includeTotalCount if provided in the input URLParams
+        if (urlParams.getIncludeTotalCount() != null) this.includeTotalCount = urlParams.getIncludeTotalCount();
     }
 
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -35,13 +36,21 @@ public class IndividualBulkResponse {
     private ResponseInfo responseInfo = null;
 
     /**
-     * Total count of individual records in the response, defaults to 0 if not specified.
+     * Total count of individual records in the response, defaults to 0 if not specified and omitted when the
+     * search was made with includeTotalCount=false.
      */
     @JsonProperty("TotalCount")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Valid
     @Builder.Default
     private Long totalCount = 0L;
 
+    /**
+     * Keyset cursor for the next page, null when the last page has been reached or cursor mode is not used.
+     */
+    @JsonProperty("NextCursor")
+    private String nextCursor;
+
     /**
      * List of individual records returned in the response.
      */
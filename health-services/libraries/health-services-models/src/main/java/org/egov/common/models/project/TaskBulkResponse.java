@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -33,10 +34,14 @@ public class TaskBulkResponse {
     private ResponseInfo responseInfo = null;
 
     @JsonProperty("TotalCount")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     @Valid
     @Builder.Default
     private Long totalCount = 0L;
 
+    @JsonProperty("NextCursor")
+    private String nextCursor;
+
     @JsonProperty("Tasks")
     @NotNull
     @Valid
@@ -93,6 +93,9 @@ public class Configuration {
     @Value("${plan.default.limit}")
     private Integer defaultLimit;
 
+    @Value("${plan.search.single.query.enabled:false}")
+    private Boolean planSearchSingleQueryEnabled;
+
     //Census
     @Value("${egov.census.host}")
     private String censusHost;
@@ -16,5 +16,7 @@ public interface PlanRepository {
 
     public Map<String, Integer> statusCount(PlanSearchRequest planSearchRequest);
 
+    public PlanSearchResult searchWithCount(PlanSearchRequest planSearchRequest);
+
     public void bulkUpdate(BulkPlanRequest body);
 }
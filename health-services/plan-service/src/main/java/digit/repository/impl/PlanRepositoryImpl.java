@@ -5,6 +5,7 @@ import digit.kafka.Producer;
 import digit.repository.PlanRepository;
 import digit.repository.querybuilder.PlanQueryBuilder;
 import digit.repository.rowmapper.PlanRowMapper;
+import digit.repository.rowmapper.PlanSearchResultRowMapper;
 import digit.repository.rowmapper.PlanStatusCountRowMapper;
 import digit.service.workflow.WorkflowService;
 import digit.web.models.*;
@@ -39,8 +40,11 @@ public class PlanRepositoryImpl implements PlanRepository {
 
     private WorkflowService workflowService;
 
+    private PlanSearchResultRowMapper planSearchResultRowMapper;
+
     public PlanRepositoryImpl(Producer producer, PlanQueryBuilder planQueryBuilder, PlanRowMapper planRowMapper,
-                              JdbcTemplate jdbcTemplate, Configuration config, PlanStatusCountRowMapper statusCountRowMapper, WorkflowService workflowService) {
+                              JdbcTemplate jdbcTemplate, Configuration config, PlanStatusCountRowMapper statusCountRowMapper, WorkflowService workflowService,
+                              PlanSearchResultRowMapper planSearchResultRowMapper) {
         this.producer = producer;
         this.planQueryBuilder = planQueryBuilder;
         this.planRowMapper = planRowMapper;
@@ -48,6 +52,7 @@ public class PlanRepositoryImpl implements PlanRepository {
         this.config = config;
         this.statusCountRowMapper = statusCountRowMapper;
         this.workflowService = workflowService;
+        this.planSearchResultRowMapper = planSearchResultRowMapper;
     }
 
     /**
@@ -94,14 +99,33 @@ public class PlanRepositoryImpl implements PlanRepository {
         String query = planQueryBuilder.getPlanStatusCountQuery(planSearchRequest.getPlanSearchCriteria(), preparedStmtList);
         Map<String, Integer> statusCountMap = jdbcTemplate.query(query, statusCountRowMapper, preparedStmtList.toArray());
 
-        statusList.forEach(status -> {
-            if(ObjectUtils.isEmpty(statusCountMap.get(status)))
-                statusCountMap.put(status, 0);
-        });
+        addMissingStatuses(statusCountMap, statusList);
 
         return statusCountMap;
     }
 
+    /**
+     * Searches for a page of plans along with their total count and status count in a single query, in place of
+     * search, count and statusCount.
+     *
+     * @param planSearchRequest The search request with the criteria for filtering plans.
+     * @return The plans matching the search criteria with their total count and status count.
+     */
+    @Override
+    public PlanSearchResult searchWithCount(PlanSearchRequest planSearchRequest) {
+        PlanSearchCriteria planSearchCriteria = planSearchRequest.getPlanSearchCriteria();
+        List<String> statusList = workflowService.getStatusFromBusinessService(planSearchRequest.getRequestInfo(), PLAN_ESTIMATION_BUSINESS_SERVICE, planSearchCriteria.getTenantId());
+
+        List<Object> preparedStmtList = new ArrayList<>();
+        String query = planQueryBuilder.getPlanPageQuery(planSearchCriteria, preparedStmtList);
+        log.info("Plan page query: " + query);
+        PlanSearchResult searchResult = jdbcTemplate.query(query, planSearchResultRowMapper, preparedStmtList.toArray());
+
+        addMissingStatuses(searchResult.getStatusCount(), statusList);
+
+        return searchResult;
+    }
+
     /**
      * This method emits an event to the persister for it to update the plan in the database.
      * @param planRequest
@@ -167,6 +191,13 @@ public class PlanRepositoryImpl implements PlanRepository {
         return jdbcTemplate.query(query, planRowMapper, preparedStmtList.toArray());
     }
 
+    private void addMissingStatuses(Map<String, Integer> statusCountMap, List<String> statusList) {
+        statusList.forEach(status -> {
+            if(ObjectUtils.isEmpty(statusCountMap.get(status)))
+                statusCountMap.put(status, 0);
+        });
+    }
+
     /**
      * Converts the PlanRequest to a data transfer object (DTO)
      *
@@ -114,8 +114,7 @@ public class PlanFacilityQueryBuilder {
 
         if (!CollectionUtils.isEmpty(planFacilitySearchCriteria.getJurisdiction())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ").append(queryUtil.createQuery(planFacilitySearchCriteria.getJurisdiction().size())).append(" ]::text[] ");
-            builder.append(" && string_to_array(boundary_ancestral_path, '|') ");
+            builder.append(" boundary_ancestral_path_array && ARRAY [ ").append(queryUtil.createQuery(planFacilitySearchCriteria.getJurisdiction().size())).append(" ]::text[] ");
             queryUtil.addToPreparedStatement(preparedStmtList, planFacilitySearchCriteria.getJurisdiction());
         }
 
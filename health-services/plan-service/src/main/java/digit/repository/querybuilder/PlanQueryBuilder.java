@@ -26,12 +26,14 @@ public class PlanQueryBuilder {
 
     private static final String PLAN_SEARCH_BASE_QUERY = "SELECT id FROM plan ";
 
-    private static final String PLAN_QUERY = "SELECT plan.id as plan_id, plan.tenant_id as plan_tenant_id, plan.locality as plan_locality, plan.campaign_id as plan_campaign_id, plan.plan_configuration_id as plan_plan_configuration_id, plan.boundary_ancestral_path as plan_boundary_ancestral_path, plan.status as plan_status, plan.assignee as plan_assignee, plan.additional_details as plan_additional_details, plan.created_by as plan_created_by, plan.created_time as plan_created_time, plan.last_modified_by as plan_last_modified_by, plan.last_modified_time as plan_last_modified_time,\n" +
+    private static final String PLAN_COLUMNS = "plan.id as plan_id, plan.tenant_id as plan_tenant_id, plan.locality as plan_locality, plan.campaign_id as plan_campaign_id, plan.plan_configuration_id as plan_plan_configuration_id, plan.boundary_ancestral_path as plan_boundary_ancestral_path, plan.status as plan_status, plan.assignee as plan_assignee, plan.additional_details as plan_additional_details, plan.created_by as plan_created_by, plan.created_time as plan_created_time, plan.last_modified_by as plan_last_modified_by, plan.last_modified_time as plan_last_modified_time,\n" +
             "\t   plan_activity.id as plan_activity_id, plan_activity.code as plan_activity_code, plan_activity.description as plan_activity_description, plan_activity.planned_start_date as plan_activity_planned_start_date, plan_activity.planned_end_date as plan_activity_planned_end_date, plan_activity.dependencies as plan_activity_dependencies, plan_activity.plan_id as plan_activity_plan_id, plan_activity.created_by as plan_activity_created_by, plan_activity.created_time as plan_activity_created_time, plan_activity.last_modified_by as plan_activity_last_modified_by, plan_activity.last_modified_time as plan_activity_last_modified_time,\n" +
             "\t   plan_activity_condition.id as plan_activity_condition_id, plan_activity_condition.entity as plan_activity_condition_entity, plan_activity_condition.entity_property as plan_activity_condition_entity_property, plan_activity_condition.expression as plan_activity_condition_expression, plan_activity_condition.activity_id as plan_activity_condition_activity_id, plan_activity_condition.is_active as plan_activity_condition_is_active, plan_activity_condition.created_by as plan_activity_condition_created_by, plan_activity_condition.created_time as plan_activity_condition_created_time, plan_activity_condition.last_modified_by as plan_activity_condition_last_modified_by, plan_activity_condition.last_modified_time as plan_activity_condition_last_modified_time,\n" +
             "\t   plan_resource.id as plan_resource_id, plan_resource.resource_type as plan_resource_resource_type, plan_resource.estimated_number as plan_resource_estimated_number, plan_resource.plan_id as plan_resource_plan_id, plan_resource.activity_code as plan_resource_activity_code, plan_resource.created_by as plan_resource_created_by, plan_resource.created_time as plan_resource_created_time, plan_resource.last_modified_by as plan_resource_last_modified_by, plan_resource.last_modified_time as plan_resource_last_modified_time,\n" +
             "\t   plan_target.id as plan_target_id, plan_target.metric as plan_target_metric, plan_target.metric_value as plan_target_metric_value, plan_target.metric_comparator as plan_target_metric_comparator, plan_target.metric_unit as plan_target_metric_unit, plan_target.plan_id as plan_target_plan_id, plan_target.activity_code as plan_target_activity_code, plan_target.created_by as plan_target_created_by, plan_target.created_time as plan_target_created_time, plan_target.last_modified_by as plan_target_last_modified_by, plan_target.last_modified_time as plan_target_last_modified_time, \n" +
-            "\t   paf.id as plan_additional_field_id, paf.plan_id as plan_additional_field_plan_id, paf.key as plan_additional_field_key, paf.value as plan_additional_field_value, paf.show_on_ui as plan_additional_field_show_on_ui, paf.editable as plan_additional_field_editable, paf.order as plan_additional_field_order \n" +
+            "\t   paf.id as plan_additional_field_id, paf.plan_id as plan_additional_field_plan_id, paf.key as plan_additional_field_key, paf.value as plan_additional_field_value, paf.show_on_ui as plan_additional_field_show_on_ui, paf.editable as plan_additional_field_editable, paf.order as plan_additional_field_order \n";
+
+    private static final String PLAN_QUERY = "SELECT " + PLAN_COLUMNS +
             "\t   FROM plan \n" +
             "\t   LEFT JOIN plan_activity ON plan.id = plan_activity.plan_id\n" +
             "\t   LEFT JOIN plan_activity_condition ON plan_activity.id = plan_activity_condition.activity_id\n" +
@@ -47,6 +49,23 @@ public class PlanQueryBuilder {
 
     private static final String PLAN_STATUS_COUNT_QUERY = "SELECT COUNT(id) as plan_status_count, status FROM (SELECT id, status FROM plan {INTERNAL_QUERY}) as plan_status_map GROUP BY status";
 
+    private static final String PLAN_PAGE_FILTER_BASE_QUERY = "SELECT id, last_modified_time FROM plan ";
+
+    private static final String PLAN_PAGE_QUERY = "WITH filtered AS ( {FILTER_QUERY} ), \n" +
+            "\t   page AS ( SELECT id, last_modified_time FROM filtered ORDER BY last_modified_time DESC OFFSET ? LIMIT ? ), \n" +
+            "\t   status_count AS ( {STATUS_COUNT_QUERY} ), \n" +
+            "\t   totals AS ( SELECT (SELECT COUNT(id) FROM filtered) AS plan_total_count, (SELECT jsonb_object_agg(status, plan_status_count) FROM status_count WHERE status IS NOT NULL) AS plan_status_count_map ) \n" +
+            "SELECT totals.plan_total_count, totals.plan_status_count_map, " + PLAN_COLUMNS +
+            "\t   FROM totals \n" +
+            "\t   LEFT JOIN page ON TRUE \n" +
+            "\t   LEFT JOIN plan ON plan.id = page.id \n" +
+            "\t   LEFT JOIN plan_activity ON plan.id = plan_activity.plan_id\n" +
+            "\t   LEFT JOIN plan_activity_condition ON plan_activity.id = plan_activity_condition.activity_id\n" +
+            "\t   LEFT JOIN plan_resource ON plan.id = plan_resource.plan_id\n" +
+            "\t   LEFT JOIN plan_target ON plan.id = plan_target.plan_id\n" +
+            "\t   LEFT JOIN plan_additional_field paf ON plan.id = paf.plan_id \n" +
+            "\t   ORDER BY page.last_modified_time DESC, page.id";
+
     public String getPlanQuery(List<String> ids, List<Object> preparedStmtList) {
         return buildPlanQuery(ids, preparedStmtList);
     }
@@ -99,15 +118,43 @@ public class PlanQueryBuilder {
         return buildPlanSearchQuery(planSearchCriteria, preparedStmtList, Boolean.FALSE, Boolean.TRUE);
     }
 
+    /**
+     * Constructs a single query that returns the requested page of Plans, with their activities, resources, targets
+     * and additional fields, along with the total count and the status count for the given search criteria. Every
+     * row carries both counts; when no Plan is on the page, one row with only the counts is returned.
+     *
+     * @param planSearchCriteria The criteria used for filtering Plans.
+     * @param preparedStmtList   A list to store prepared statement parameters.
+     * @return A SQL query string for the page of Plans and their counts.
+     */
+    public String getPlanPageQuery(PlanSearchCriteria planSearchCriteria, List<Object> preparedStmtList) {
+        // Each sub query decides between WHERE and AND from its own parameters
+        List<Object> filterStmtList = new ArrayList<>();
+        String filterQuery = buildPlanSearchQuery(PLAN_PAGE_FILTER_BASE_QUERY, planSearchCriteria, filterStmtList, Boolean.FALSE, Boolean.FALSE);
+        List<Object> statusCountStmtList = new ArrayList<>();
+        String statusCountQuery = getPlanStatusCountQuery(planSearchCriteria, statusCountStmtList);
+
+        preparedStmtList.addAll(filterStmtList);
+        preparedStmtList.add(ObjectUtils.isEmpty(planSearchCriteria.getOffset()) ? config.getDefaultOffset() : planSearchCriteria.getOffset());
+        preparedStmtList.add(ObjectUtils.isEmpty(planSearchCriteria.getLimit()) ? config.getDefaultLimit() : planSearchCriteria.getLimit());
+        preparedStmtList.addAll(statusCountStmtList);
+        return PLAN_PAGE_QUERY.replace("{FILTER_QUERY}", filterQuery).replace("{STATUS_COUNT_QUERY}", statusCountQuery);
+    }
+
+    private String buildPlanSearchQuery(PlanSearchCriteria planSearchCriteria, List<Object> preparedStmtList, boolean isCount, boolean isStatusCount) {
+        return buildPlanSearchQuery(PLAN_SEARCH_BASE_QUERY, planSearchCriteria, preparedStmtList, isCount, isStatusCount);
+    }
+
     /**
      * Method to build query dynamically based on the criteria passed to the method
      *
+     * @param baseQuery
      * @param planSearchCriteria
      * @param preparedStmtList
      * @return
      */
-    private String buildPlanSearchQuery(PlanSearchCriteria planSearchCriteria, List<Object> preparedStmtList, boolean isCount, boolean isStatusCount) {
-        StringBuilder builder = new StringBuilder(PLAN_SEARCH_BASE_QUERY);
+    private String buildPlanSearchQuery(String baseQuery, PlanSearchCriteria planSearchCriteria, List<Object> preparedStmtList, boolean isCount, boolean isStatusCount) {
+        StringBuilder builder = new StringBuilder(baseQuery);
 
         if(isStatusCount) {
             builder = new StringBuilder();
@@ -157,18 +204,15 @@ public class PlanQueryBuilder {
 
         if (!ObjectUtils.isEmpty(planSearchCriteria.getAssignee())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ").append(queryUtil.createQuery(Collections.singleton(planSearchCriteria.getAssignee()).size())).append(" ]").append("::text[] ");
-            builder.append(" && string_to_array(assignee, ',') ");
+            builder.append(" assignee_array && ARRAY [ ").append(queryUtil.createQuery(Collections.singleton(planSearchCriteria.getAssignee()).size())).append(" ]").append("::text[] ");
             queryUtil.addToPreparedStatement(preparedStmtList, Collections.singleton(planSearchCriteria.getAssignee()));
         }
 
         if (!CollectionUtils.isEmpty(planSearchCriteria.getJurisdiction())) {
             queryUtil.addClauseIfRequired(builder, preparedStmtList);
-            builder.append(" ARRAY [ ")
+            builder.append(" boundary_ancestral_path_array && ARRAY [ ")
                     .append(queryUtil.createQuery(planSearchCriteria.getJurisdiction().size()))
                     .append(" ]::text[] ");
-
-            builder.append(" && string_to_array(boundary_ancestral_path, '|') ");
             queryUtil.addToPreparedStatement(preparedStmtList, planSearchCriteria.getJurisdiction());
         }
 
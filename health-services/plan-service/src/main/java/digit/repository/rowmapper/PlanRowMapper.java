@@ -6,6 +6,7 @@ import org.egov.common.contract.models.AuditDetails;
 import org.postgresql.util.PGobject;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
@@ -25,6 +26,19 @@ public class PlanRowMapper implements ResultSetExtractor<List<Plan>> {
 
     @Override
     public List<Plan> extractData(ResultSet rs) throws SQLException, DataAccessException {
+        return extractData(rs, row -> {});
+    }
+
+    /**
+     * Creates the list of plans from the result set, handing every row to the row callback handler before mapping
+     * it. Rows without a plan, such as the only row of an empty search page, are skipped.
+     *
+     * @param rs                 the result set containing data.
+     * @param rowCallbackHandler reads the columns of each row that are not part of the plan.
+     * @return the list of plans
+     * @throws SQLException
+     */
+    public List<Plan> extractData(ResultSet rs, RowCallbackHandler rowCallbackHandler) throws SQLException {
         Map<String, Plan> planMap = new LinkedHashMap<>();
         Map<String, Activity> activityMap = new LinkedHashMap<>();
         Set<String> conditionSet = new HashSet<>();
@@ -34,7 +48,11 @@ public class PlanRowMapper implements ResultSetExtractor<List<Plan>> {
 
         // Traverse through result set and create plan objects
         while (rs.next()) {
+            rowCallbackHandler.processRow(rs);
             String planId = rs.getString("plan_id");
+            if (ObjectUtils.isEmpty(planId)) {
+                continue;
+            }
 
             Plan planEntry = planMap.get(planId);
 
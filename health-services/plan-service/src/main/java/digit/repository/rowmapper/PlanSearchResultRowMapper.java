@@ -0,0 +1,64 @@
+package digit.repository.rowmapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import digit.util.QueryUtil;
+import digit.web.models.Plan;
+import digit.web.models.PlanSearchResult;
+import org.postgresql.util.PGobject;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PlanSearchResultRowMapper implements ResultSetExtractor<PlanSearchResult> {
+
+    private PlanRowMapper planRowMapper;
+
+    private QueryUtil queryUtil;
+
+    public PlanSearchResultRowMapper(PlanRowMapper planRowMapper, QueryUtil queryUtil) {
+        this.planRowMapper = planRowMapper;
+        this.queryUtil = queryUtil;
+    }
+
+    /**
+     * Creates the page of plans and its counts from the result set of the plan page query, where every row carries
+     * the total count and the status count.
+     *
+     * @param rs the result set containing data.
+     * @return the page of plans along with the total count and status count
+     * @throws SQLException
+     * @throws DataAccessException
+     */
+    @Override
+    public PlanSearchResult extractData(ResultSet rs) throws SQLException, DataAccessException {
+        PlanSearchResult searchResult = new PlanSearchResult();
+
+        List<Plan> planList = planRowMapper.extractData(rs, row -> {
+            // The counts are the same on every row
+            if (searchResult.getTotalCount() == null) {
+                searchResult.setTotalCount(row.getInt("plan_total_count"));
+                searchResult.setStatusCount(getStatusCount((PGobject) row.getObject("plan_status_count_map")));
+            }
+        });
+        searchResult.setPlan(planList);
+
+        return searchResult;
+    }
+
+    private Map<String, Integer> getStatusCount(PGobject statusCountMap) {
+        Map<String, Integer> statusCount = new HashMap<>();
+        JsonNode statusCountNode = queryUtil.getAdditionalDetail(statusCountMap);
+        if (!ObjectUtils.isEmpty(statusCountNode)) {
+            statusCountNode.fields().forEachRemaining(entry -> statusCount.put(entry.getKey(), entry.getValue().asInt()));
+        }
+        return statusCount;
+    }
+}
@@ -1,5 +1,6 @@
 package digit.service;
 
+import digit.config.Configuration;
 import digit.repository.PlanRepository;
 import digit.service.workflow.WorkflowService;
 import digit.web.models.*;
@@ -21,11 +22,14 @@ public class PlanService {
 
     private WorkflowService workflowService;
 
-    public PlanService(PlanValidator planValidator, PlanEnricher planEnricher, PlanRepository planRepository, WorkflowService workflowService) {
+    private Configuration config;
+
+    public PlanService(PlanValidator planValidator, PlanEnricher planEnricher, PlanRepository planRepository, WorkflowService workflowService, Configuration config) {
         this.planValidator = planValidator;
         this.planEnricher = planEnricher;
         this.planRepository = planRepository;
         this.workflowService = workflowService;
+        this.config = config;
     }
 
     /**
@@ -62,6 +66,18 @@ public class PlanService {
         // Enrich search request
         planEnricher.enrichSearchRequest(body);
 
+        // Fetch the plans along with their total count and status count in a single query
+        if (config.getPlanSearchSingleQueryEnabled()) {
+            PlanSearchResult searchResult = planRepository.searchWithCount(body);
+
+            return PlanResponse.builder()
+                    .responseInfo(ResponseInfoUtil.createResponseInfoFromRequestInfo(body.getRequestInfo(), Boolean.TRUE))
+                    .plan(searchResult.getPlan())
+                    .totalCount(searchResult.getTotalCount())
+                    .statusCount(searchResult.getStatusCount())
+                    .build();
+        }
+
         // Delegate search request to repository
         List<Plan> planList = planRepository.search(body.getPlanSearchCriteria());
 
@@ -0,0 +1,188 @@
+package digit.repository.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import digit.config.Configuration;
+import digit.kafka.Producer;
+import digit.repository.querybuilder.PlanQueryBuilder;
+import digit.repository.rowmapper.PlanRowMapper;
+import digit.repository.rowmapper.PlanSearchResultRowMapper;
+import digit.repository.rowmapper.PlanStatusCountRowMapper;
+import digit.service.workflow.WorkflowService;
+import digit.util.QueryUtil;
+import digit.web.models.Plan;
+import digit.web.models.PlanSearchCriteria;
+import digit.web.models.PlanSearchRequest;
+import digit.web.models.PlanSearchResult;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Checks that the single plan page query returns what the id-first search, count and status count queries return.
+ * Both need Postgres, point the test at a local database with
+ * {@code -Dtest.jdbc.url=jdbc:postgresql://localhost:5432/plan -Dtest.jdbc.user=.. -Dtest.jdbc.password=..};
+ * the migrations are run into a {@code plan_search_test} schema that is dropped afterwards.
+ */
+@ExtendWith(MockitoExtension.class)
+@EnabledIfSystemProperty(named = "test.jdbc.url", matches = ".+")
+class PlanRepositoryImplTest {
+
+    private static final String SCHEMA = "plan_search_test";
+
+    private static SingleConnectionDataSource dataSource;
+
+    private static Flyway flyway;
+
+    @Mock
+    private Producer producer;
+
+    @Mock
+    private WorkflowService workflowService;
+
+    private PlanRepositoryImpl repository;
+
+    @BeforeAll
+    static void setUpDatabase() {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("currentSchema", SCHEMA);
+        dataSource = new SingleConnectionDataSource(System.getProperty("test.jdbc.url"),
+                System.getProperty("test.jdbc.user"), System.getProperty("test.jdbc.password"), true);
+        dataSource.setConnectionProperties(connectionProperties);
+        flyway = Flyway.configure().dataSource(dataSource).schemas(SCHEMA)
+                .locations("classpath:db/migration/main").cleanDisabled(false).load();
+        flyway.clean();
+        flyway.migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 1; i <= 12; i++) {
+            // Distinct modification times, so that both searches have a single order to return
+            jdbcTemplate.update("INSERT INTO plan (id, tenant_id, locality, campaign_id, status, assignee,"
+                            + " boundary_ancestral_path, plan_configuration_id, additional_details, created_by, created_time,"
+                            + " last_modified_by, last_modified_time) VALUES (?, 'mz', ?, 'campaign-1', ?, ?, ?, 'config-1',"
+                            + " '{}'::jsonb, 'user', 1700000000000, 'user', ?)",
+                    "plan-" + i, "L" + i, i % 3 == 0 ? "VALIDATED" : "DRAFT", "U" + (i % 4), "MZ|D" + (i % 2) + "|L" + i,
+                    1700000000000L + i);
+            // One row of each child per plan, the row mapper keeps a plan's resources and targets from its first row only
+            jdbcTemplate.update("INSERT INTO plan_activity (id, code, description, plan_id, created_by, created_time,"
+                    + " last_modified_by, last_modified_time) VALUES (?, 'ACT-1', 'activity', ?, 'user', 1700000000000,"
+                    + " 'user', 1700000000000)", "activity-" + i, "plan-" + i);
+            jdbcTemplate.update("INSERT INTO plan_activity_condition (id, entity, entity_property, expression, activity_id,"
+                    + " is_active, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, 'PERSON',"
+                    + " 'age', '> 5', ?, true, 'user', 1700000000000, 'user', 1700000000000)", "condition-" + i, "activity-" + i);
+            jdbcTemplate.update("INSERT INTO plan_resource (id, resource_type, estimated_number, plan_id, activity_code,"
+                    + " created_by, created_time, last_modified_by, last_modified_time) VALUES (?, 'NETS', ?, ?, 'ACT-1',"
+                    + " 'user', 1700000000000, 'user', 1700000000000)", "resource-" + i, 10 * i, "plan-" + i);
+            jdbcTemplate.update("INSERT INTO plan_target (id, metric, metric_value, metric_comparator, metric_unit, plan_id,"
+                    + " activity_code, created_by, created_time, last_modified_by, last_modified_time) VALUES (?, 'COVERAGE',"
+                    + " 80, '>', 'PERCENT', ?, 'ACT-1', 'user', 1700000000000, 'user', 1700000000000)", "target-" + i, "plan-" + i);
+            jdbcTemplate.update("INSERT INTO plan_additional_field (id, plan_id, key, value, show_on_ui, editable, \"order\")"
+                    + " VALUES (?, ?, 'FIELD_1', ?, true, true, 1)", "paf-" + i, "plan-" + i, 5 * i);
+        }
+        // A plan of another plan configuration, which neither the search nor the status count returns
+        jdbcTemplate.update("INSERT INTO plan (id, tenant_id, locality, campaign_id, status, assignee, boundary_ancestral_path,"
+                + " plan_configuration_id, created_by, created_time, last_modified_by, last_modified_time) VALUES ('plan-other',"
+                + " 'mz', 'L0', 'campaign-1', 'VALIDATED', 'U0', 'MZ|D0|L0', 'config-2', 'user', 1700000000000, 'user',"
+                + " 1800000000000)");
+    }
+
+    @AfterAll
+    static void tearDownDatabase() {
+        if (flyway != null) {
+            flyway.clean();
+        }
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Configuration config = new Configuration();
+        config.setDefaultOffset(0);
+        config.setDefaultLimit(10);
+        QueryUtil queryUtil = BeanUtils.instantiateClass(QueryUtil.class.getDeclaredConstructor(Configuration.class,
+                ObjectMapper.class), config, new ObjectMapper());
+        PlanRowMapper planRowMapper = new PlanRowMapper(queryUtil);
+        repository = new PlanRepositoryImpl(producer, new PlanQueryBuilder(config, queryUtil), planRowMapper,
+                new JdbcTemplate(dataSource), config, new PlanStatusCountRowMapper(), workflowService,
+                new PlanSearchResultRowMapper(planRowMapper, queryUtil));
+
+        lenient().when(workflowService.getStatusFromBusinessService(any(), anyString(), anyString()))
+                .thenReturn(List.of("DRAFT", "VALIDATED", "PENDING_FOR_APPROVAL"));
+    }
+
+    @Test
+    @DisplayName("should return the same page and counts as the id-first search for a jurisdiction")
+    void shouldMatchIdFirstSearchForJurisdiction() {
+        PlanSearchResult searchResult = assertSameAsIdFirstSearch(PlanSearchCriteria.builder().tenantId("mz")
+                .planConfigurationId("config-1").jurisdiction(List.of("D0")).offset(1).limit(3).build());
+
+        assertEquals(List.of("plan-10", "plan-8", "plan-6"), searchResult.getPlan().stream().map(Plan::getId).toList());
+        assertEquals(6, searchResult.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("should count every status of the search while returning only the status searched for")
+    void shouldMatchIdFirstSearchForStatus() {
+        PlanSearchResult searchResult = assertSameAsIdFirstSearch(PlanSearchCriteria.builder().tenantId("mz")
+                .planConfigurationId("config-1").status("VALIDATED").assignee("U0").build());
+
+        assertEquals(List.of("plan-12"), searchResult.getPlan().stream().map(Plan::getId).toList());
+        assertEquals(8, searchResult.getStatusCount().get("DRAFT"));
+        assertEquals(4, searchResult.getStatusCount().get("VALIDATED"));
+        assertEquals(0, searchResult.getStatusCount().get("PENDING_FOR_APPROVAL"));
+    }
+
+    @Test
+    @DisplayName("should return the counts with an empty page when no plan matches")
+    void shouldMatchIdFirstSearchForEmptyPage() {
+        PlanSearchResult searchResult = assertSameAsIdFirstSearch(PlanSearchCriteria.builder().tenantId("mz")
+                .planConfigurationId("config-1").assignee("U9").build());
+
+        assertTrue(searchResult.getPlan().isEmpty());
+        assertEquals(0, searchResult.getTotalCount());
+        assertEquals(8, searchResult.getStatusCount().get("DRAFT"));
+    }
+
+    @Test
+    @DisplayName("should return the counts with an empty page when the offset is past the last plan")
+    void shouldMatchIdFirstSearchForOffsetOutOfRange() {
+        PlanSearchResult searchResult = assertSameAsIdFirstSearch(PlanSearchCriteria.builder().tenantId("mz")
+                .planConfigurationId("config-1").offset(100).limit(10).build());
+
+        assertTrue(searchResult.getPlan().isEmpty());
+        assertEquals(12, searchResult.getTotalCount());
+    }
+
+    private PlanSearchResult assertSameAsIdFirstSearch(PlanSearchCriteria criteria) {
+        PlanSearchRequest request = PlanSearchRequest.builder().planSearchCriteria(criteria).build();
+
+        List<Plan> plans = repository.search(criteria);
+        Integer totalCount = repository.count(criteria);
+        PlanSearchResult searchResult = repository.searchWithCount(request);
+
+        assertEquals(plans, searchResult.getPlan());
+        assertEquals(totalCount, searchResult.getTotalCount());
+        assertEquals(repository.statusCount(request), searchResult.getStatusCount());
+        return searchResult;
+    }
+}
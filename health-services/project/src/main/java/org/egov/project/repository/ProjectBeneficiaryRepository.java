@@ -10,7 +10,7 @@ import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.household.HouseholdMember;
 import org.egov.common.models.project.ProjectBeneficiary;
 import org.egov.common.producer.Producer;
-import org.egov.project.repository.rowmapper.ProjectBeneficiaryRowMapper;
+import org.egov.common.data.repository.rowmapper.ProjectBeneficiaryRowMapper;
 import org.egov.common.models.project.ProjectBeneficiarySearch;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -14,14 +14,16 @@ import org.egov.common.data.query.builder.QueryFieldChecker;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.data.repository.GenericRepository;
+import org.egov.common.data.repository.KeysetCursor;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskResource;
 import org.egov.common.models.project.TaskSearch;
 import org.egov.common.producer.Producer;
 import org.egov.common.utils.CommonUtils;
-import org.egov.project.repository.rowmapper.ProjectTaskRowMapper;
-import org.egov.project.repository.rowmapper.TaskResourceRowMapper;
+import org.egov.common.data.repository.rowmapper.ProjectTaskRowMapper;
+import org.egov.common.data.repository.rowmapper.TaskResourceRowMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -48,6 +50,20 @@ public class ProjectTaskRepository extends GenericRepository<Task> {
 
     public SearchResponse<Task> find(TaskSearch searchObject, Integer limit, Integer offset, String tenantId,
                            Long lastChangedSince, Boolean includeDeleted) throws QueryBuilderException {
+        return find(searchObject, URLParams.builder().limit(limit).offset(offset).tenantId(tenantId)
+                .lastChangedSince(lastChangedSince).includeDeleted(includeDeleted).build());
+    }
+
+    /**
+     * Finds tasks matching the search criteria. Pages with LIMIT/OFFSET by default, or with a keyset seek
+     * over (lastModifiedTime, id) when a cursor is present, in which case the next cursor is returned.
+     *
+     * @param searchObject The task search criteria.
+     * @param urlParams    The URL parameters including pagination and filtering information.
+     * @return A SearchResponse containing the tasks, the total count and the next cursor.
+     * @throws QueryBuilderException If there is an error building the query.
+     */
+    public SearchResponse<Task> find(TaskSearch searchObject, URLParams urlParams) throws QueryBuilderException {
         String query = "SELECT *, a.id as aid,a.tenantid as atenantid, a.clientreferenceid as aclientreferenceid FROM project_task pt  LEFT JOIN address a ON pt.addressid = a.id";
         Map<String, Object> paramsMap = new HashMap<>();
         List<String> whereFields = GenericQueryBuilder.getFieldsWithCondition(searchObject,
@@ -61,27 +77,35 @@ public class ProjectTaskRepository extends GenericRepository<Task> {
         } else {
             query = query + " and pt.tenantId=:tenantId ";
         }
-        if (Boolean.FALSE.equals(includeDeleted)) {
+        if (Boolean.FALSE.equals(urlParams.getIncludeDeleted())) {
             query = query + "and isDeleted=:isDeleted ";
         }
 
-        if (lastChangedSince != null) {
+        if (urlParams.getLastChangedSince() != null) {
             query = query + "and lastModifiedTime>=:lastModifiedTime ";
         }
-        paramsMap.put("tenantId", tenantId);
-        paramsMap.put("isDeleted", includeDeleted);
-        paramsMap.put("lastModifiedTime", lastChangedSince);
-
-        Long totalCount = CommonUtils.constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
-
-        query = query + "ORDER BY pt.id ASC LIMIT :limit OFFSET :offset";
-        paramsMap.put("limit", limit);
-        paramsMap.put("offset", offset);
-
-        List<Task> taskList = this.namedParameterJdbcTemplate.query(query, paramsMap, this.rowMapper);
+        paramsMap.put("tenantId", urlParams.getTenantId());
+        paramsMap.put("isDeleted", urlParams.getIncludeDeleted());
+        paramsMap.put("lastModifiedTime", urlParams.getLastChangedSince());
+
+        Long totalCount = Boolean.FALSE.equals(urlParams.getIncludeTotalCount()) ? null
+                : CommonUtils.constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+
+        String nextCursor = null;
+        List<Task> taskList;
+        if (urlParams.getCursor() != null) {
+            query = KeysetCursor.appendSeek(query, "pt", urlParams.getCursor(), urlParams.getLimit(), paramsMap);
+            taskList = this.namedParameterJdbcTemplate.query(query, paramsMap, this.rowMapper);
+            nextCursor = KeysetCursor.nextCursor(taskList, urlParams.getLimit());
+        } else {
+            query = query + "ORDER BY pt.id ASC LIMIT :limit OFFSET :offset";
+            paramsMap.put("limit", urlParams.getLimit());
+            paramsMap.put("offset", urlParams.getOffset());
+            taskList = this.namedParameterJdbcTemplate.query(query, paramsMap, this.rowMapper);
+        }
         fetchAndSetTaskResource(taskList);
 
-        return SearchResponse.<Task>builder().response(taskList).totalCount(totalCount).build();
+        return SearchResponse.<Task>builder().response(taskList).totalCount(totalCount).nextCursor(nextCursor).build();
     }
 
     private void fetchAndSetTaskResource(List<Task> taskList) {
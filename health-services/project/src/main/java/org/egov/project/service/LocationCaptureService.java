@@ -18,8 +18,8 @@ import org.egov.common.models.project.useraction.UserActionBulkRequest;
 import org.egov.common.models.project.useraction.UserActionSearch;
 import org.egov.common.models.project.useraction.UserActionSearchRequest;
 import org.egov.common.service.IdGenService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.LocationCaptureRepository;
 import org.egov.project.service.enrichment.UserActionEnrichmentService;
@@ -56,6 +56,7 @@ public class LocationCaptureService {
     private final ProjectConfiguration projectConfiguration;
     private final UserActionEnrichmentService userActionEnrichmentService;
     private final List<Validator<UserActionBulkRequest, UserAction>> validators;
+    private final ValidatorExecutor validatorExecutor;
 
     /**
      * Predicate to determine if a validator is applicable for creation.
@@ -83,7 +84,8 @@ public class LocationCaptureService {
             ServiceRequestClient serviceRequestClient,
             ProjectConfiguration projectConfiguration,
             UserActionEnrichmentService userActionEnrichmentService,
-            List<Validator<UserActionBulkRequest, UserAction>> validators
+            List<Validator<UserActionBulkRequest, UserAction>> validators,
+            ValidatorExecutor validatorExecutor
     ) {
         this.idGenService = idGenService;
         this.locationCaptureRepository = locationCaptureRepository;
@@ -91,6 +93,7 @@ public class LocationCaptureService {
         this.projectConfiguration = projectConfiguration;
         this.userActionEnrichmentService = userActionEnrichmentService;
         this.validators = validators;
+        this.validatorExecutor = validatorExecutor;
     }
 
     /**
@@ -150,7 +153,7 @@ public class LocationCaptureService {
         log.info("Validating request");
 
         // Perform validation and collect error details.
-        Map<UserAction, ErrorDetails> errorDetailsMap = CommonUtils.validate(
+        Map<UserAction, ErrorDetails> errorDetailsMap = validatorExecutor.validate(
                 validators,
                 applicableValidators,
                 request,
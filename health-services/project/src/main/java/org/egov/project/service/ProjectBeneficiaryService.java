@@ -16,8 +16,8 @@ import org.egov.common.models.project.BeneficiaryRequest;
 import org.egov.common.models.project.BeneficiarySearchRequest;
 import org.egov.common.models.project.ProjectBeneficiary;
 import org.egov.common.service.IdGenService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectBeneficiaryRepository;
 import org.egov.project.service.enrichment.ProjectBeneficiaryEnrichmentService;
@@ -65,6 +65,8 @@ public class ProjectBeneficiaryService {
 
     private final List<Validator<BeneficiaryBulkRequest, ProjectBeneficiary>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final Predicate<Validator<BeneficiaryBulkRequest, ProjectBeneficiary>> isApplicableForUpdate = validator ->
             validator.getClass().equals(PbNullIdValidator.class)
                     || validator.getClass().equals(PbNonExistentEntityValidator.class)
@@ -94,7 +96,8 @@ public class ProjectBeneficiaryService {
             ProjectService projectService,
             ProjectConfiguration projectConfiguration,
             List<Validator<BeneficiaryBulkRequest, ProjectBeneficiary>> validators,
-            ProjectBeneficiaryEnrichmentService projectBeneficiaryEnrichmentService
+            ProjectBeneficiaryEnrichmentService projectBeneficiaryEnrichmentService,
+            ValidatorExecutor validatorExecutor
     ) {
         this.idGenService = idGenService;
         this.projectBeneficiaryRepository = projectBeneficiaryRepository;
@@ -102,6 +105,7 @@ public class ProjectBeneficiaryService {
         this.projectConfiguration = projectConfiguration;
         this.validators = validators;
         this.projectBeneficiaryEnrichmentService = projectBeneficiaryEnrichmentService;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public List<ProjectBeneficiary> create(BeneficiaryRequest request) {
@@ -244,7 +248,7 @@ public class ProjectBeneficiaryService {
             Predicate<Validator<BeneficiaryBulkRequest,
             ProjectBeneficiary>> isApplicable, BeneficiaryBulkRequest request, boolean isBulk) {
         log.info("validating request");
-        Map<ProjectBeneficiary, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<ProjectBeneficiary, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 isApplicable, request,
                 SET_PROJECT_BENEFICIARIES);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
@@ -17,8 +17,8 @@ import org.egov.common.models.project.ProjectFacilityRequest;
 import org.egov.common.models.project.ProjectFacilitySearchRequest;
 import org.egov.common.service.IdGenService;
 import org.egov.common.service.UserService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectFacilityRepository;
 import org.egov.project.service.enrichment.ProjectFacilityEnrichmentService;
@@ -62,6 +62,8 @@ public class ProjectFacilityService {
 
     private final List<Validator<ProjectFacilityBulkRequest, ProjectFacility>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final Predicate<Validator<ProjectFacilityBulkRequest, ProjectFacility>> isApplicableForCreate = validator ->
             validator.getClass().equals(PfFacilityIdValidator.class)
                     || validator.getClass().equals(PfProjectIdValidator.class)
@@ -88,7 +90,8 @@ public class ProjectFacilityService {
             ProjectService projectService,
             UserService userService,
             ProjectConfiguration projectConfiguration,
-            ProjectFacilityEnrichmentService enrichmentService, List<Validator<ProjectFacilityBulkRequest, ProjectFacility>> validators) {
+            ProjectFacilityEnrichmentService enrichmentService, List<Validator<ProjectFacilityBulkRequest, ProjectFacility>> validators,
+            ValidatorExecutor validatorExecutor) {
         this.idGenService = idGenService;
         this.projectFacilityRepository = projectFacilityRepository;
         this.projectService = projectService;
@@ -96,6 +99,7 @@ public class ProjectFacilityService {
         this.projectConfiguration = projectConfiguration;
         this.enrichmentService = enrichmentService;
         this.validators = validators;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public ProjectFacility create(ProjectFacilityRequest request) {
@@ -202,7 +206,7 @@ public class ProjectFacilityService {
                                                                 Predicate<Validator<ProjectFacilityBulkRequest, ProjectFacility>> applicableValidators,
                                                                 ProjectFacilityBulkRequest request, boolean isBulk) {
         log.info("validating request");
-        Map<ProjectFacility, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<ProjectFacility, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 applicableValidators, request,
                 SET_PROJECT_FACILITIES);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
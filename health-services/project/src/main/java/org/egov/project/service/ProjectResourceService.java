@@ -10,6 +10,7 @@ import org.egov.common.models.project.ProjectResource;
 import org.egov.common.models.project.ProjectResourceBulkRequest;
 import org.egov.common.models.project.ProjectResourceRequest;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectResourceRepository;
 import org.egov.project.service.enrichment.ProjectResourceEnrichmentService;
@@ -40,7 +41,6 @@ import static org.egov.common.utils.CommonUtils.includeDeleted;
 import static org.egov.common.utils.CommonUtils.isSearchByIdOnly;
 import static org.egov.common.utils.CommonUtils.lastChangedSince;
 import static org.egov.common.utils.CommonUtils.populateErrorDetails;
-import static org.egov.common.utils.CommonUtils.validate;
 import static org.egov.project.Constants.GET_PROJECT_RESOURCE;
 import static org.egov.project.Constants.SET_PROJECT_RESOURCE;
 import static org.egov.project.Constants.VALIDATION_ERROR;
@@ -51,6 +51,8 @@ public class ProjectResourceService {
 
     private final List<Validator<ProjectResourceBulkRequest, ProjectResource>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final ProjectResourceRepository projectResourceRepository;
 
     private final ProjectConfiguration projectConfiguration;
@@ -76,11 +78,12 @@ public class ProjectResourceService {
             validator.getClass().equals(PrNonExistentEntityValidator.class)
                     ||validator.getClass().equals(PrNullIdValidator.class);
 
-    public ProjectResourceService(List<Validator<ProjectResourceBulkRequest, ProjectResource>> validators, ProjectResourceRepository projectResourceRepository, ProjectConfiguration projectConfiguration, ProjectResourceEnrichmentService enrichmentService) {
+    public ProjectResourceService(List<Validator<ProjectResourceBulkRequest, ProjectResource>> validators, ProjectResourceRepository projectResourceRepository, ProjectConfiguration projectConfiguration, ProjectResourceEnrichmentService enrichmentService, ValidatorExecutor validatorExecutor) {
         this.validators = validators;
         this.projectResourceRepository = projectResourceRepository;
         this.projectConfiguration = projectConfiguration;
         this.enrichmentService = enrichmentService;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public ProjectResource create(ProjectResourceRequest request) {
@@ -93,7 +96,7 @@ public class ProjectResourceService {
 
     public List<ProjectResource> create(ProjectResourceBulkRequest request, boolean isBulk) {
         log.info("received request to create bulk project resource");
-        Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validate(validators,
+        Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validatorExecutor.validate(validators,
                 isApplicableForCreate, request, SET_PROJECT_RESOURCE, GET_PROJECT_RESOURCE, VALIDATION_ERROR,
                 isBulk);
 
@@ -126,7 +129,7 @@ public class ProjectResourceService {
 
     public List<ProjectResource> update(ProjectResourceBulkRequest request, boolean isBulk) {
         log.info("received request to update bulk project resource");
-        Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validate(validators,
+        Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validatorExecutor.validate(validators,
                 isApplicableForUpdate, request, SET_PROJECT_RESOURCE, GET_PROJECT_RESOURCE, VALIDATION_ERROR,
                 isBulk);
 
@@ -159,7 +162,7 @@ public class ProjectResourceService {
 
     public List<ProjectResource> delete(ProjectResourceBulkRequest request, boolean isBulk) {
         log.info("received request to delete bulk project resource");
-        Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validate(validators,
+        Tuple<List<ProjectResource>, Map<ProjectResource, ErrorDetails>> tuple = validatorExecutor.validate(validators,
                 isApplicableForDelete, request, SET_PROJECT_RESOURCE, GET_PROJECT_RESOURCE, VALIDATION_ERROR,
                 isBulk);
 
@@ -11,8 +11,8 @@ import org.egov.common.models.project.ProjectStaffRequest;
 import org.egov.common.producer.Producer;
 import org.egov.common.service.IdGenService;
 import org.egov.common.service.UserService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectStaffRepository;
 import org.egov.project.service.enrichment.ProjectStaffEnrichmentService;
@@ -63,6 +63,8 @@ public class ProjectStaffService {
 
     private final List<Validator<ProjectStaffBulkRequest, ProjectStaff>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final Producer producer;
 
     private final Predicate<Validator<ProjectStaffBulkRequest, ProjectStaff>> isApplicableForCreate = validator ->
@@ -92,7 +94,8 @@ public class ProjectStaffService {
             UserService userService,
             ProjectConfiguration projectConfiguration,
             ProjectStaffEnrichmentService enrichmentService,
-            Producer producer, List<Validator<ProjectStaffBulkRequest, ProjectStaff>> validators) {
+            Producer producer, List<Validator<ProjectStaffBulkRequest, ProjectStaff>> validators,
+            ValidatorExecutor validatorExecutor) {
         this.idGenService = idGenService;
         this.projectStaffRepository = projectStaffRepository;
         this.projectService = projectService;
@@ -101,6 +104,7 @@ public class ProjectStaffService {
         this.enrichmentService = enrichmentService;
         this.validators = validators;
         this.producer = producer;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public ProjectStaff create(ProjectStaffRequest request) {
@@ -210,7 +214,7 @@ public class ProjectStaffService {
                                                                 Predicate<Validator<ProjectStaffBulkRequest, ProjectStaff>> applicableValidators,
                                                                 ProjectStaffBulkRequest request, boolean isBulk) {
         log.info("validating request");
-        Map<ProjectStaff, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<ProjectStaff, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 applicableValidators, request,
                 SET_STAFF);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
@@ -9,17 +9,19 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.egov.common.data.query.exception.QueryBuilderException;
+import org.egov.common.data.repository.KeysetCursor;
 import org.egov.common.ds.Tuple;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.common.models.ErrorDetails;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
 import org.egov.common.models.project.TaskRequest;
 import org.egov.common.models.project.TaskSearch;
 import org.egov.common.service.IdGenService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectBeneficiaryRepository;
 import org.egov.project.repository.ProjectRepository;
@@ -99,10 +101,13 @@ public class ProjectTaskService {
 
     private final List<Validator<TaskBulkRequest, Task>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     public ProjectTaskService(IdGenService idGenService, ProjectRepository projectRepository,
                               ServiceRequestClient serviceRequestClient,
                               ProjectTaskRepository projectTaskRepository,
-                              ProjectBeneficiaryRepository projectBeneficiaryRepository, ProjectConfiguration projectConfiguration, ProjectTaskEnrichmentService enrichmentService, List<Validator<TaskBulkRequest, Task>> validators) {
+                              ProjectBeneficiaryRepository projectBeneficiaryRepository, ProjectConfiguration projectConfiguration, ProjectTaskEnrichmentService enrichmentService, List<Validator<TaskBulkRequest, Task>> validators,
+                              ValidatorExecutor validatorExecutor) {
         this.idGenService = idGenService;
         this.projectRepository = projectRepository;
         this.serviceRequestClient = serviceRequestClient;
@@ -111,6 +116,7 @@ public class ProjectTaskService {
         this.projectConfiguration = projectConfiguration;
         this.enrichmentService = enrichmentService;
         this.validators = validators;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public Task create(TaskRequest request) {
@@ -211,7 +217,7 @@ public class ProjectTaskService {
                                                                 Predicate<Validator<TaskBulkRequest, Task>> applicableValidators,
                                                                 TaskBulkRequest request, boolean isBulk) {
         log.info("validating request");
-        Map<Task, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<Task, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 applicableValidators, request,
                 SET_TASKS);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
@@ -224,29 +230,34 @@ public class ProjectTaskService {
 
     public SearchResponse<Task> search(TaskSearch taskSearch, Integer limit, Integer offset, String tenantId,
                                  Long lastChangedSince, Boolean includeDeleted) {
+        return search(taskSearch, URLParams.builder().limit(limit).offset(offset).tenantId(tenantId)
+                .lastChangedSince(lastChangedSince).includeDeleted(includeDeleted).build());
+    }
+
+    public SearchResponse<Task> search(TaskSearch taskSearch, URLParams urlParams) {
 
         log.info("received request to search project task");
 
         String idFieldName = getIdFieldName(taskSearch);
         if (isSearchByIdOnly(taskSearch, idFieldName)) {
             log.info("searching project task by id");
+            KeysetCursor.requireNoCursor(urlParams.getCursor(), "search by " + idFieldName);
             List<String> ids = (List<String>) ReflectionUtils.invokeMethod(getIdMethod(Collections
                             .singletonList(taskSearch)),
                     taskSearch);
             log.info("fetching project tasks with ids: {}", ids);
             SearchResponse<Task> searchResponse = projectTaskRepository.findById(ids,
-                            idFieldName, includeDeleted);
+                            idFieldName, urlParams.getIncludeDeleted());
             return SearchResponse.<Task>builder().response(searchResponse.getResponse().stream()
-                    .filter(lastChangedSince(lastChangedSince))
-                    .filter(havingTenantId(tenantId))
-                    .filter(includeDeleted(includeDeleted))
+                    .filter(lastChangedSince(urlParams.getLastChangedSince()))
+                    .filter(havingTenantId(urlParams.getTenantId()))
+                    .filter(includeDeleted(urlParams.getIncludeDeleted()))
                     .collect(Collectors.toList())).totalCount(searchResponse.getTotalCount()).build();
         }
 
         try {
             log.info("searching project beneficiaries using criteria");
-            return projectTaskRepository.find(taskSearch, limit, offset,
-                    tenantId, lastChangedSince, includeDeleted);
+            return projectTaskRepository.find(taskSearch, urlParams);
         } catch (QueryBuilderException e) {
             log.error("error in building query", ExceptionUtils.getStackTrace(e));
             throw new CustomException("ERROR_IN_QUERY", e.getMessage());
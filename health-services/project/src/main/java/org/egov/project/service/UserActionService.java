@@ -19,8 +19,8 @@ import org.egov.common.models.project.useraction.UserActionBulkRequest;
 import org.egov.common.models.project.useraction.UserActionSearch;
 import org.egov.common.models.project.useraction.UserActionSearchRequest;
 import org.egov.common.service.IdGenService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.UserActionRepository;
 import org.egov.project.service.enrichment.UserActionEnrichmentService;
@@ -56,6 +56,7 @@ public class UserActionService {
     private final ProjectConfiguration projectConfiguration; // Configuration properties for the project
     private final UserActionEnrichmentService userActionEnrichmentService; // Service for enriching user actions
     private final List<Validator<UserActionBulkRequest, UserAction>> validators; // List of validators for user actions
+    private final ValidatorExecutor validatorExecutor; // Runs and times the validators
 
     // Predicate to filter validators applicable for creation
     private final Predicate<Validator<UserActionBulkRequest, UserAction>> isApplicableForCreate = validator ->
@@ -79,7 +80,8 @@ public class UserActionService {
             ServiceRequestClient serviceRequestClient,
             ProjectConfiguration projectConfiguration,
             UserActionEnrichmentService userActionEnrichmentService,
-            List<Validator<UserActionBulkRequest, UserAction>> validators
+            List<Validator<UserActionBulkRequest, UserAction>> validators,
+            ValidatorExecutor validatorExecutor
     ) {
         this.idGenService = idGenService;
         this.userActionTaskRepository = userActionTaskRepository;
@@ -87,6 +89,7 @@ public class UserActionService {
         this.projectConfiguration = projectConfiguration;
         this.userActionEnrichmentService = userActionEnrichmentService;
         this.validators = validators;
+        this.validatorExecutor = validatorExecutor;
     }
 
     // Method to handle the creation of user actions
@@ -154,7 +157,7 @@ public class UserActionService {
         log.info("Validating request");
 
         // Validate the request using the applicable validators
-        Map<UserAction, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<UserAction, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 applicableValidators, request,
                 SET_USER_ACTION);
 
@@ -4,12 +4,10 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.egov.common.models.project.*;
-import org.egov.mdms.model.MasterDetail;
-import org.egov.mdms.model.MdmsCriteria;
-import org.egov.mdms.model.MdmsCriteriaReq;
-import org.egov.mdms.model.ModuleDetail;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.egov.common.cache.MasterDataCache;
+import org.egov.common.cache.MasterDataIndex;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.common.models.Error;
@@ -21,7 +19,6 @@ import org.egov.common.models.individual.Individual;
 import org.egov.common.models.individual.IndividualBulkResponse;
 import org.egov.common.models.individual.IndividualSearch;
 import org.egov.common.models.individual.IndividualSearchRequest;
-import org.egov.common.service.MdmsService;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.service.ProjectService;
@@ -53,8 +50,6 @@ import static org.egov.project.Constants.BENEFICIARY_ID;
 import static org.egov.project.Constants.GET_CLIENT_REFERENCE_ID;
 import static org.egov.project.Constants.GET_ID;
 import static org.egov.project.Constants.GET_PROJECT_ID;
-import static org.egov.project.Constants.INTERNAL_SERVER_ERROR;
-import static org.egov.project.Constants.MDMS_RESPONSE;
 import static org.egov.project.Constants.PROJECT_TYPES;
 
 @Component
@@ -62,7 +57,10 @@ import static org.egov.project.Constants.PROJECT_TYPES;
 @Slf4j
 public class BeneficiaryValidator implements Validator<BeneficiaryBulkRequest, ProjectBeneficiary> {
 
-    private final MdmsService mdmsService;
+    private static final MasterDataIndex<Map<String, ProjectType>> PROJECT_TYPES_BY_ID =
+            MasterDataIndex.of("projectTypesById", BeneficiaryValidator::indexById);
+
+    private final MasterDataCache masterDataCache;
 
     private final ServiceRequestClient serviceRequestClient;
 
@@ -70,9 +68,9 @@ public class BeneficiaryValidator implements Validator<BeneficiaryBulkRequest, P
 
     private final ProjectConfiguration projectConfiguration;
 
-    public BeneficiaryValidator(MdmsService mdmsService, ServiceRequestClient serviceRequestClient,
+    public BeneficiaryValidator(MasterDataCache masterDataCache, ServiceRequestClient serviceRequestClient,
                                 ProjectService projectService, ProjectConfiguration projectConfiguration) {
-        this.mdmsService = mdmsService;
+        this.masterDataCache = masterDataCache;
         this.serviceRequestClient = serviceRequestClient;
         this.projectService = projectService;
         this.projectConfiguration = projectConfiguration;
@@ -92,10 +90,8 @@ public class BeneficiaryValidator implements Validator<BeneficiaryBulkRequest, P
             log.info("fetch the projects");
             List<Project> existingProjects = projectService.findByIds(new ArrayList<>(projectIds));
             log.info("fetch the project types");
-            List<ProjectType> projectTypes = getProjectTypes(tenantId, beneficiaryBulkRequest.getRequestInfo());
-
-            log.info("creating projectType map");
-            Map<String, ProjectType> projectTypeMap = getIdToObjMap(projectTypes);
+            Map<String, ProjectType> projectTypeMap = masterDataCache.getIndex(tenantId,
+                    projectConfiguration.getMdmsModule(), PROJECT_TYPES, PROJECT_TYPES_BY_ID);
             log.info("creating project map");
             Map<String, Project> projectMap = getIdToObjMap(existingProjects);
 
@@ -289,45 +285,9 @@ public class BeneficiaryValidator implements Validator<BeneficiaryBulkRequest, P
         }
     }
 
-    private List<ProjectType> getProjectTypes(String tenantId, RequestInfo requestInfo) {
-        JsonNode response = fetchMdmsResponse(requestInfo, tenantId, PROJECT_TYPES,
-                projectConfiguration.getMdmsModule());
-        return convertToProjectTypeList(response);
-    }
-
-    private JsonNode fetchMdmsResponse(RequestInfo requestInfo, String tenantId, String name,
-                                       String moduleName) {
-        MdmsCriteriaReq serviceRegistry = getMdmsRequest(requestInfo, tenantId, name, moduleName);
-        try {
-            return mdmsService.fetchConfig(serviceRegistry, JsonNode.class).get(MDMS_RESPONSE);
-        } catch (Exception e) {
-            throw new CustomException(INTERNAL_SERVER_ERROR, "Error while fetching mdms config");
-        }
-    }
-
-    private List<ProjectType> convertToProjectTypeList(JsonNode jsonNode) {
-        JsonNode projectTypesNode = jsonNode.get(projectConfiguration.getMdmsModule()).withArray(PROJECT_TYPES);
-        return new ObjectMapper().convertValue(projectTypesNode, new TypeReference<List<ProjectType>>() {
+    private static Map<String, ProjectType> indexById(JsonNode records) {
+        List<ProjectType> projectTypes = new ObjectMapper().convertValue(records, new TypeReference<List<ProjectType>>() {
         });
-    }
-
-    private MdmsCriteriaReq getMdmsRequest(RequestInfo requestInfo, String tenantId, String masterName,
-                                           String moduleName) {
-        MasterDetail masterDetail = new MasterDetail();
-        masterDetail.setName(masterName);
-        List<MasterDetail> masterDetailList = new ArrayList<>();
-        masterDetailList.add(masterDetail);
-        ModuleDetail moduleDetail = new ModuleDetail();
-        moduleDetail.setMasterDetails(masterDetailList);
-        moduleDetail.setModuleName(moduleName);
-        List<ModuleDetail> moduleDetailList = new ArrayList<>();
-        moduleDetailList.add(moduleDetail);
-        MdmsCriteria mdmsCriteria = new MdmsCriteria();
-        mdmsCriteria.setTenantId(tenantId.split("\\.")[0]);
-        mdmsCriteria.setModuleDetails(moduleDetailList);
-        MdmsCriteriaReq mdmsCriteriaReq = new MdmsCriteriaReq();
-        mdmsCriteriaReq.setMdmsCriteria(mdmsCriteria);
-        mdmsCriteriaReq.setRequestInfo(requestInfo);
-        return mdmsCriteriaReq;
+        return getIdToObjMap(projectTypes);
     }
 }
@@ -10,6 +10,7 @@ import org.egov.common.models.product.ProductVariantSearch;
 import org.egov.common.models.product.ProductVariantSearchRequest;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
+import org.egov.common.validator.DependsOnValidators;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectRepository;
@@ -38,6 +39,10 @@ import static org.egov.common.utils.ValidatorUtils.getErrorForNonExistentRelated
 
 @Component
 @Order(value = 8)
+@DependsOnValidators({PtNullIdValidator.class, PtIsResouceEmptyValidator.class, PtExistentEntityValidator.class,
+        PtIsDeletedValidator.class, PtIsDeletedSubEntityValidator.class, PtUniqueEntityValidator.class,
+        PtResourceQuantityValidator.class, PtUniqueSubEntityValidator.class, PtNonExistentEntityValidator.class,
+        PtRowVersionValidator.class})
 @Slf4j
 public class PtProductVariantIdValidator implements Validator<TaskBulkRequest, Task> {
 
@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.egov.common.models.Error;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
+import org.egov.common.validator.DependsOnValidators;
 import org.egov.common.validator.Validator;
 import org.egov.project.repository.ProjectBeneficiaryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +28,10 @@ import static org.egov.common.utils.ValidatorUtils.getErrorForNonExistentRelated
 
 @Component
 @Order(value = 7)
+@DependsOnValidators({PtNullIdValidator.class, PtIsResouceEmptyValidator.class, PtExistentEntityValidator.class,
+        PtIsDeletedValidator.class, PtIsDeletedSubEntityValidator.class, PtUniqueEntityValidator.class,
+        PtResourceQuantityValidator.class, PtUniqueSubEntityValidator.class, PtNonExistentEntityValidator.class,
+        PtRowVersionValidator.class})
 @Slf4j
 public class PtProjectBeneficiaryIdValidator implements Validator<TaskBulkRequest, Task> {
 
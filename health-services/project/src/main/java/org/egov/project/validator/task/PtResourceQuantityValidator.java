@@ -4,32 +4,28 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.PatternSyntaxException;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.cache.MasterDataCache;
+import org.egov.common.cache.MasterDataIndex;
 import org.egov.common.models.Error;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
 import org.egov.common.models.project.TaskQuantity;
 import org.egov.common.models.project.TaskResource;
-import org.egov.common.service.MdmsService;
-import org.egov.common.utils.CommonUtils;
+import org.egov.common.utils.PatternRegistry;
+import org.egov.common.utils.PatternRegistry.CompiledPattern;
 import org.egov.common.validator.Validator;
-import org.egov.mdms.model.MasterDetail;
-import org.egov.mdms.model.MdmsCriteria;
-import org.egov.mdms.model.MdmsCriteriaReq;
-import org.egov.mdms.model.ModuleDetail;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.tracer.model.CustomException;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
-import static org.egov.project.Constants.INTERNAL_SERVER_ERROR;
-import static org.egov.project.Constants.MDMS_RESPONSE;
 import static org.egov.project.Constants.TASK_QUANTITY;
 import static org.egov.project.util.ProjectConstants.TASK_NOT_ALLOWED;
 
@@ -43,18 +39,23 @@ import static org.egov.project.util.ProjectConstants.TASK_NOT_ALLOWED;
 @Order(value = 3)
 @Slf4j
 public class PtResourceQuantityValidator implements Validator<TaskBulkRequest, Task> {
+
+    private static final MasterDataIndex<Map<String, QuantityRule>> QUANTITY_RULES_BY_PRODUCT_VARIANT_ID =
+            MasterDataIndex.of("quantityRulesByProductVariantId", PtResourceQuantityValidator::indexByProductVariantId);
+
     private final ProjectConfiguration projectConfiguration;
 
-    private final MdmsService mdmsService;
+    private final MasterDataCache masterDataCache;
 
     /**
      * Constructor for PtResourceQuantityValidator.
      *
      * @param projectConfiguration The configuration containing settings for the project module.
+     * @param masterDataCache      The cache of the MDMS masters.
      */
-    public PtResourceQuantityValidator(ProjectConfiguration projectConfiguration, MdmsService mdmsService) {
+    public PtResourceQuantityValidator(ProjectConfiguration projectConfiguration, MasterDataCache masterDataCache) {
         this.projectConfiguration = projectConfiguration;
-        this.mdmsService = mdmsService;
+        this.masterDataCache = masterDataCache;
     }
 
     /**
@@ -79,7 +80,7 @@ public class PtResourceQuantityValidator implements Validator<TaskBulkRequest, T
                 List<TaskResource> taskResources = task.getResources();
                 if(!CollectionUtils.isEmpty(taskResources)) {
                     for(TaskResource taskResource : taskResources){
-                        Error error = validateResourceQuantity(taskResource, request.getRequestInfo());
+                        Error error = validateResourceQuantity(taskResource);
                         if(error != null){
                             errors.add(error);
                         }
@@ -97,14 +98,14 @@ public class PtResourceQuantityValidator implements Validator<TaskBulkRequest, T
      * Validates the resource quantity for a single task resource.
      *
      * @param taskResource The task resource to be validated.
-     * @param requestInfo  The request information.
      * @return An Error object if validation fails, else null.
      */
-    private Error validateResourceQuantity(TaskResource taskResource, RequestInfo requestInfo){
+    private Error validateResourceQuantity(TaskResource taskResource){
         String productVariantId = taskResource.getProductVariantId();
-        String regex = getRegex(productVariantId, taskResource.getTenantId(), requestInfo);
-        String errorMessage = getErrorMessage(productVariantId, taskResource.getTenantId(), requestInfo);
-        if(regex == null){
+        QuantityRule quantityRule = masterDataCache.getIndex(taskResource.getTenantId(),
+                projectConfiguration.getTaskMdmsModule(), TASK_QUANTITY, QUANTITY_RULES_BY_PRODUCT_VARIANT_ID)
+                .get(productVariantId);
+        if(quantityRule == null || quantityRule.pattern() == null){
             log.error("Failed to fetch regex for product variant id: {}",productVariantId);
             return Error.builder()
                     .errorMessage("Failed to fetch Regex")
@@ -113,7 +114,8 @@ public class PtResourceQuantityValidator implements Validator<TaskBulkRequest, T
                     .exception(new CustomException(TASK_NOT_ALLOWED, "Failed to Fetch Regex Pattern"))
                     .build();
         }
-        if(!CommonUtils.isValidPattern(Double.toString(taskResource.getQuantity()),regex)){
+        if(!quantityRule.pattern().matches(Double.toString(taskResource.getQuantity()))){
+            String errorMessage = quantityRule.errorMessage();
             String productVariantIdErrorMessage = (errorMessage+ " for product variant id: "+ productVariantId);
             return Error.builder()
                     .errorMessage(productVariantIdErrorMessage)
@@ -126,112 +128,38 @@ public class PtResourceQuantityValidator implements Validator<TaskBulkRequest, T
     }
 
     /**
-     * Retrieves the regex pattern from MDMS for the given product variant ID.
+     * Indexes the task quantity master by product variant ID, with each regex compiled through PatternRegistry.
+     * The first entry listing a product variant ID wins, as the lookup by scan did; a regex that does not compile is
+     * logged and left without a pattern.
      *
-     * @param productVariantId The ID of the product variant.
-     * @param tenantId         The tenant ID.
-     * @param requestInfo      The request information.
-     * @return The regex pattern if found, otherwise null.
+     * @param records The records of the task quantity master.
+     * @return The quantity rules by product variant ID.
      */
-    private String getRegex(String productVariantId,String tenantId, RequestInfo requestInfo){
-        List<TaskQuantity> mdmsData = mdmsCall(tenantId, requestInfo);
-        for(TaskQuantity data : mdmsData){
-            if (data.getId().contains(productVariantId)){
-                return data.getRegex();
-            }else{
-                log.error("Failed to fetch regex for product variant ID: {}", productVariantId);
+    private static Map<String, QuantityRule> indexByProductVariantId(JsonNode records) {
+        List<TaskQuantity> taskQuantities = new ObjectMapper().convertValue(records, new TypeReference<List<TaskQuantity>>() {
+        });
+        Map<String, QuantityRule> quantityRules = new HashMap<>();
+        for(TaskQuantity taskQuantity : taskQuantities){
+            if(CollectionUtils.isEmpty(taskQuantity.getId())){
+                continue;
             }
-        }
-        return null;
-    }
-
-    /**
-     * Retrieves the error message from MDMS for the given product variant ID.
-     *
-     * @param productVariantId The ID of the product variant.
-     * @param tenantId         The tenant ID.
-     * @param requestInfo      The request information.
-     * @return The error message if found, otherwise null.
-     */
-    private String getErrorMessage(String productVariantId,String tenantId, RequestInfo requestInfo){
-        List<TaskQuantity> mdmsData = mdmsCall(tenantId, requestInfo);
-        for(TaskQuantity data : mdmsData){
-            if (data.getId().contains(productVariantId)){
-                return data.getErrorMessage();
-            }else{
-                log.error("Failed to fetch error message for product variant ID: {}", productVariantId);
+            CompiledPattern pattern = null;
+            if(taskQuantity.getRegex() != null){
+                try{
+                    pattern = PatternRegistry.compile(taskQuantity.getRegex());
+                } catch(PatternSyntaxException e){
+                    log.error("Invalid regex {} for product variant ids: {}", taskQuantity.getRegex(), taskQuantity.getId());
+                }
             }
+            QuantityRule quantityRule = new QuantityRule(pattern, taskQuantity.getErrorMessage());
+            taskQuantity.getId().forEach(productVariantId -> quantityRules.putIfAbsent(productVariantId, quantityRule));
         }
-        return null;
-    }
-
-    /**
-     * Makes a call to MDMS to fetch task quantity data.
-     *
-     * @param tenantId    The tenant ID.
-     * @param requestInfo The request information.
-     * @return A list of TaskQuantity objects.
-     */
-    private List<TaskQuantity> mdmsCall(String tenantId, RequestInfo requestInfo){
-        JsonNode response = fetchMdmsResponse(requestInfo,tenantId, TASK_QUANTITY, projectConfiguration.getTaskMdmsModule());
-        return convertToTaskQuantityList(response);
-    }
-
-    /**
-     * Converts JSON response to a list of TaskQuantity objects.
-     *
-     * @param jsonNode The JSON node containing task quantity data.
-     * @return A list of TaskQuantity objects.
-     */
-    private List<TaskQuantity> convertToTaskQuantityList(JsonNode jsonNode) {
-        JsonNode taskTypesNode = jsonNode.get(projectConfiguration.getTaskMdmsModule()).withArray(TASK_QUANTITY);
-        return new ObjectMapper().convertValue(taskTypesNode, new TypeReference<List<TaskQuantity>>() {
-        });
-    }
-
-    /**
-     * Makes a call to MDMS service to fetch MDMS configuration data.
-     *
-     * @param requestInfo The request information.
-     * @param tenantId    The tenant ID.
-     * @param name        The name of the MDMS configuration.
-     * @param moduleName  The name of the MDMS module.
-     * @return The MDMS response JSON node.
-     */
-    private JsonNode fetchMdmsResponse(RequestInfo requestInfo, String tenantId, String name, String moduleName){
-        MdmsCriteriaReq serviceRegistry = getMdmsRequest(requestInfo, tenantId, name, moduleName);
-        try{
-            return mdmsService.fetchConfig(serviceRegistry, JsonNode.class).get(MDMS_RESPONSE);
-        } catch(Exception e){
-            throw new CustomException(INTERNAL_SERVER_ERROR, "Error while fetching mdms config");
-        }
+        return quantityRules;
     }
 
     /**
-     * Prepares MDMS request object.
-     *
-     * @param requestInfo The request information.
-     * @param tenantId    The tenant ID.
-     * @param masterName  The name of the master.
-     * @param moduleName  The name of the module.
-     * @return The MDMS criteria request object.
+     * The compiled regex a resource quantity must match and the error message when it does not.
      */
-    private MdmsCriteriaReq getMdmsRequest(RequestInfo requestInfo, String tenantId, String masterName, String moduleName){
-        MasterDetail masterDetail = new MasterDetail();
-        masterDetail.setName(masterName);
-        List<MasterDetail> masterDetailsList = new ArrayList<>();
-        masterDetailsList.add(masterDetail);
-        ModuleDetail moduleDetail = new ModuleDetail();
-        moduleDetail.setMasterDetails(masterDetailsList);
-        moduleDetail.setModuleName(moduleName);
-        List<ModuleDetail> moduleDetailList = new ArrayList<>();
-        moduleDetailList.add(moduleDetail);
-        MdmsCriteria mdmsCriteria = new MdmsCriteria();
-        mdmsCriteria.setTenantId(tenantId.split("\\.")[0]);
-        mdmsCriteria.setModuleDetails(moduleDetailList);
-        MdmsCriteriaReq mdmsCriteriaReq = new MdmsCriteriaReq();
-        mdmsCriteriaReq.setMdmsCriteria(mdmsCriteria);
-        mdmsCriteriaReq.setRequestInfo(requestInfo);
-        return mdmsCriteriaReq;
+    private record QuantityRule(CompiledPattern pattern, String errorMessage) {
     }
 }
\ No newline at end of file
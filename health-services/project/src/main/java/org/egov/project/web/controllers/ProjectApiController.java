@@ -406,17 +406,12 @@ public class ProjectApiController {
         @Valid @ModelAttribute URLParams urlParams,
         @ApiParam(value = "Project Task Search.", required = true) @Valid @RequestBody TaskSearchRequest taskSearchRequest
     ) {
-        SearchResponse<Task> taskSearchResponse = projectTaskService.search(
-                taskSearchRequest.getTask(),
-                urlParams.getLimit(),
-                urlParams.getOffset(),
-                urlParams.getTenantId(),
-                urlParams.getLastChangedSince(),
-                urlParams.getIncludeDeleted()
-        );
+        SearchResponse<Task> taskSearchResponse = projectTaskService.search(taskSearchRequest.getTask(), urlParams);
 
         TaskBulkResponse response = TaskBulkResponse.builder().responseInfo(ResponseInfoFactory
-                .createResponseInfo(taskSearchRequest.getRequestInfo(), true)).tasks(taskSearchResponse.getResponse()).totalCount(taskSearchResponse.getTotalCount()).build();
+                .createResponseInfo(taskSearchRequest.getRequestInfo(), true)).tasks(taskSearchResponse.getResponse())
+                .totalCount(Boolean.FALSE.equals(urlParams.getIncludeTotalCount()) ? null
+                        : taskSearchResponse.getTotalCount()).nextCursor(taskSearchResponse.getNextCursor()).build();
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
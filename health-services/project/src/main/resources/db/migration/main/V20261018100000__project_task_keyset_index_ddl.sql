@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_project_task_tenantId_lastModifiedTime_id ON project_task(tenantId, lastModifiedTime, id);
@@ -2,6 +2,9 @@ package org.egov.project.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.mdms.model.MdmsCriteriaReq;
 import org.apache.commons.io.IOUtils;
 import org.egov.common.contract.request.RequestInfo;
@@ -34,6 +37,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.InputStream;
@@ -94,6 +98,9 @@ class ProjectBeneficiaryServiceCreateTest {
 
     private BeneficiaryRequest request;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() throws Exception {
         request = BeneficiaryRequestTestBuilder.builder()
@@ -109,6 +116,9 @@ class ProjectBeneficiaryServiceCreateTest {
 
         validators = Arrays.asList(pbProjectIdValidator, beneficiaryValidator);
         ReflectionTestUtils.setField(projectBeneficiaryService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(projectBeneficiaryService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "project", meterRegistryProvider));
         ReflectionTestUtils.setField(projectBeneficiaryService, "isApplicableForCreate",
                 (Predicate<Validator<BeneficiaryBulkRequest, ProjectBeneficiary>>) validator ->
                         validator.getClass().equals(PbProjectIdValidator.class)
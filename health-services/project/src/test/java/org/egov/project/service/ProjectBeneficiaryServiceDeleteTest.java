@@ -1,10 +1,13 @@
 package org.egov.project.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.models.project.BeneficiaryBulkRequest;
 import org.egov.common.models.project.ProjectBeneficiary;
 import org.egov.common.service.IdGenService;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.helper.BeneficiaryBulkRequestTestBuilder;
 import org.egov.project.repository.ProjectBeneficiaryRepository;
@@ -18,14 +21,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,6 +68,9 @@ class ProjectBeneficiaryServiceDeleteTest {
     private BeneficiaryBulkRequest request;
 
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() {
         request = BeneficiaryBulkRequestTestBuilder.builder()
@@ -69,6 +78,9 @@ class ProjectBeneficiaryServiceDeleteTest {
                 .build();
         validators = Arrays.asList(pbNullIdValidator, pbNonExistentEntityValidator);
         ReflectionTestUtils.setField(projectBeneficiaryService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(projectBeneficiaryService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "project", meterRegistryProvider));
         ReflectionTestUtils.setField(projectBeneficiaryService, "isApplicableForDelete",
                 (Predicate<Validator<BeneficiaryBulkRequest, ProjectBeneficiary>>) validator ->
                 validator.getClass().equals(PbNullIdValidator.class)
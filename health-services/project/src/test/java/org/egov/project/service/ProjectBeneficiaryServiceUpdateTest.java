@@ -2,6 +2,9 @@ package org.egov.project.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.mdms.model.MdmsCriteriaReq;
 import org.apache.commons.io.IOUtils;
 import org.egov.common.http.client.ServiceRequestClient;
@@ -40,6 +43,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.InputStream;
@@ -133,6 +137,9 @@ class ProjectBeneficiaryServiceUpdateTest {
         when(projectService.findByIds(any(List.class))).thenReturn(Collections.singletonList(
                 Project.builder().id("some-project-id").projectTypeId("some-project-type-id").build()));
     }
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() throws Exception {
         request = BeneficiaryBulkRequestTestBuilder.builder()
@@ -143,6 +150,9 @@ class ProjectBeneficiaryServiceUpdateTest {
         validators = Arrays.asList(pbNullIdValidator, pbNonExistentEntityValidator,
                 pbUniqueEntityValidator, pbRowVersionValidator, pbIsDeletedValidator);
         ReflectionTestUtils.setField(projectBeneficiaryService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(projectBeneficiaryService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "project", meterRegistryProvider));
         lenient().when(projectConfiguration.getUpdateProjectBeneficiaryTopic()).thenReturn("update-topic");
     }
 
@@ -1,9 +1,12 @@
 package org.egov.project.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.models.project.ProjectFacility;
 import org.egov.common.models.project.ProjectFacilityBulkRequest;
 import org.egov.common.models.project.ProjectFacilityRequest;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.helper.ProjectFacilityBulkRequestTestBuilder;
 import org.egov.project.helper.ProjectFacilityRequestTestBuilder;
@@ -24,6 +27,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
@@ -80,11 +84,17 @@ class ProjectFacilityServiceTest {
 
     List<Validator<ProjectFacilityBulkRequest, ProjectFacility>> validators;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() {
         validators = Arrays.asList(pfIsDeletedValidator, pfNonExistentEntityValidator, pfNullIdValidator,
                 pfRowVersionValidator, pfUniqueEntityValidator, pfProjectIdValidator, pfFacilityIdValidator);
         ReflectionTestUtils.setField(facilityService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(facilityService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "project", meterRegistryProvider));
 
         lenient().when(configuration.getCreateProjectFacilityTopic()).thenReturn("create-facility-topic");
         lenient().when(configuration.getUpdateProjectFacilityTopic()).thenReturn("update-facility-topic");
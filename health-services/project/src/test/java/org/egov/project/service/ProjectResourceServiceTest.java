@@ -1,9 +1,12 @@
 package org.egov.project.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.models.project.ProjectResource;
 import org.egov.common.models.project.ProjectResourceBulkRequest;
 import org.egov.common.models.project.ProjectResourceRequest;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.helper.ProjectResourceBulkRequestTestBuilder;
 import org.egov.project.helper.ProjectResourceRequestTestBuilder;
@@ -24,6 +27,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
@@ -82,11 +86,17 @@ class ProjectResourceServiceTest {
     @Mock
     private ProjectResourceRepository projectResourceRepository;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     @BeforeEach
     void setUp() {
         validators = Arrays.asList(prIsDeletedValidator, prNonExistentEntityValidator, prNullIdValidator,
                 prProjectIdValidator, prProductVariantIdValidator, prRowVersionValidator, prUniqueEntityValidator);
         ReflectionTestUtils.setField(service, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "project", meterRegistryProvider));
 
         ReflectionTestUtils.setField(service, "isApplicableForCreate",
                 (Predicate<Validator<ProjectResourceBulkRequest, ProjectResource>>) validator ->
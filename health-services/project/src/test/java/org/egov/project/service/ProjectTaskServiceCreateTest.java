@@ -1,9 +1,12 @@
 package org.egov.project.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
 import org.egov.common.models.project.TaskRequest;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.helper.TaskRequestTestBuilder;
 import org.egov.project.repository.ProjectTaskRepository;
@@ -16,11 +19,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
@@ -46,6 +51,9 @@ class ProjectTaskServiceCreateTest {
     @Mock
     private PtUniqueSubEntityValidator ptUniqueSubEntityValidator;
 
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
     private List<Validator<TaskBulkRequest, Task>> validators;
 
     @BeforeEach
@@ -55,6 +63,9 @@ class ProjectTaskServiceCreateTest {
 
         validators = Arrays.asList(ptUniqueSubEntityValidator);
         ReflectionTestUtils.setField(projectTaskService, "validators", validators);
+        lenient().when(meterRegistryProvider.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(projectTaskService, "validatorExecutor",
+                new ValidatorExecutor(false, 1, 1, "project", meterRegistryProvider));
         lenient().when(projectConfiguration.getCreateProjectTaskTopic()).thenReturn("save-project-task-topic");
         lenient().when(projectConfiguration.getUpdateProjectTaskTopic()).thenReturn("update-project-task-topic");
         lenient().when(projectConfiguration.getDeleteProjectTaskTopic()).thenReturn("delete-project-task-topic");
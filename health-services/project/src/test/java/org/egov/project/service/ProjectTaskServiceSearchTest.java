@@ -3,6 +3,7 @@ package org.egov.project.service;
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.helper.RequestInfoTestBuilder;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskSearch;
 import org.egov.common.models.project.TaskSearchRequest;
@@ -87,8 +88,7 @@ public class ProjectTaskServiceSearchTest {
         TaskSearchRequest taskSearchRequest = TaskSearchRequest.builder()
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().id(Collections.singletonList("some-id")).clientReferenceId(Collections.singletonList("some-id")).build()).build();
-        when(projectTaskRepository.find(any(TaskSearch.class), anyInt(),
-                anyInt(), anyString(), anyLong(), anyBoolean())).thenReturn(SearchResponse.<Task>builder().build());
+        when(projectTaskRepository.find(any(TaskSearch.class), any(URLParams.class))).thenReturn(SearchResponse.<Task>builder().build());
 
         projectTaskService.search(taskSearchRequest.getTask(), 10, 0,
                 "default", 0L, false);
@@ -103,22 +103,19 @@ public class ProjectTaskServiceSearchTest {
         TaskSearchRequest taskSearchRequest = TaskSearchRequest.builder()
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().id(Collections.singletonList("some-id")).clientReferenceId(Collections.singletonList("some-id")).build()).build();
-        when(projectTaskRepository.find(any(TaskSearch.class), anyInt(),
-                anyInt(), anyString(), anyLong(), anyBoolean())).thenReturn(SearchResponse.<Task>builder().build());
+        when(projectTaskRepository.find(any(TaskSearch.class), any(URLParams.class))).thenReturn(SearchResponse.<Task>builder().build());
 
         projectTaskService.search(taskSearchRequest.getTask(), 10, 0,
                 "default", 0L, false);
 
         verify(projectTaskRepository, times(1))
-                .find(any(TaskSearch.class), anyInt(),
-                        anyInt(), anyString(), anyLong(), anyBoolean());
+                .find(any(TaskSearch.class), any(URLParams.class));
     }
 
     @Test
     @DisplayName("should not raise exception if no search results are found")
     void shouldNotRaiseExceptionIfNoProjectTaskFound() throws Exception {
-        when(projectTaskRepository.find(any(TaskSearch.class), any(Integer.class),
-                any(Integer.class), any(String.class), eq(null), any(Boolean.class))).thenReturn(SearchResponse.<Task>builder().build());
+        when(projectTaskRepository.find(any(TaskSearch.class), any(URLParams.class))).thenReturn(SearchResponse.<Task>builder().build());
         TaskSearchRequest taskSearchRequest = TaskSearchRequest.builder()
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().id(Collections.singletonList("someid")).clientReferenceId(Collections.singletonList("some-id")).build()).build();
@@ -144,8 +141,7 @@ public class ProjectTaskServiceSearchTest {
     @DisplayName("should return project task if search criteria is matched")
     void shouldReturnProjectStaffIfSearchCriteriaIsMatched() throws Exception {
         projectTasks.add(TaskTestBuilder.builder().withTask().build());
-        when(projectTaskRepository.find(any(TaskSearch.class), any(Integer.class),
-                any(Integer.class), any(String.class), eq(null), any(Boolean.class))).thenReturn(SearchResponse.<Task>builder().response(projectTasks).build());
+        when(projectTaskRepository.find(any(TaskSearch.class), any(URLParams.class))).thenReturn(SearchResponse.<Task>builder().response(projectTasks).build());
         TaskSearchRequest taskSearchRequest = TaskSearchRequest.builder()
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().id(Collections.singletonList("some-id")).projectId(Collections.singletonList("some-id")).build()).build();
@@ -3,6 +3,7 @@ package org.egov.project.web.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.egov.common.helper.RequestInfoTestBuilder;
 import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.core.URLParams;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskRequest;
 import org.egov.common.models.project.TaskSearch;
@@ -80,8 +81,7 @@ class ProjectTaskApiControllerTest {
         TaskSearchRequest taskSearchRequest = TaskSearchRequest.builder()
                 .requestInfo(RequestInfoTestBuilder.builder().withCompleteRequestInfo().build())
                 .task(TaskSearch.builder().build()).build();
-        when(projectTaskService.search(any(TaskSearch.class), anyInt(),
-                anyInt(), anyString(), any(), any())).thenReturn(SearchResponse.<Task>builder().build());
+        when(projectTaskService.search(any(TaskSearch.class), any(URLParams.class))).thenReturn(SearchResponse.<Task>builder().build());
 
         mockMvc.perform(post("/task/v1/_search?limit=10&offset=0&tenantId=default").contentType(MediaType
                         .APPLICATION_JSON).content(objectMapper.writeValueAsString(taskSearchRequest)))
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.egov.tracer.config.TracerConfiguration;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -21,9 +22,12 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import jakarta.annotation.PostConstruct;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Import({TracerConfiguration.class})
 @Configuration
@@ -68,6 +72,35 @@ public class MainConfiguration {
         return converter;
     }
 
+    /**
+     * Bounded executor running the independent stages and pages of a beneficiary downsync.
+     * When the queue is full the submitting thread runs the page itself, which throttles the request.
+     * The MDC of the submitting thread is carried over so the correlation id is logged by the stages.
+     */
+    @Bean(name = "downsyncExecutor")
+    public ThreadPoolTaskExecutor downsyncExecutor(ReferralManagementConfiguration configuration) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(configuration.getDownsyncParallelism());
+        executor.setMaxPoolSize(configuration.getDownsyncParallelism());
+        executor.setQueueCapacity(configuration.getDownsyncQueueCapacity());
+        executor.setThreadNamePrefix("downsync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(runnable -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        });
+        return executor;
+    }
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
@@ -115,4 +115,19 @@ public class ReferralManagementConfiguration {
     @Value("${egov.mdms.search.endpoint}")
     private String mdmsSearchUrl;
 
+    @Value("${referralmanagement.downsync.parallelism:8}")
+    private Integer downsyncParallelism;
+
+    @Value("${referralmanagement.downsync.queue.capacity:500}")
+    private Integer downsyncQueueCapacity;
+
+    @Value("${referralmanagement.downsync.page.size:500}")
+    private Integer downsyncPageSize;
+
+    @Value("${referralmanagement.downsync.timeout.seconds:120}")
+    private Long downsyncTimeoutInSeconds;
+
+    @Value("${referralmanagement.downsync.direct.db.enabled:false}")
+    private Boolean downsyncDirectDbEnabled;
+
 }
@@ -0,0 +1,170 @@
+package org.egov.referralmanagement.repository;
+
+import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.household.Household;
+import org.egov.common.models.household.HouseholdMember;
+import org.egov.common.models.project.ProjectBeneficiary;
+import org.egov.common.models.project.Task;
+import org.egov.common.models.project.TaskResource;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncCriteria;
+import org.egov.common.data.repository.rowmapper.HouseholdMemberRowMapper;
+import org.egov.common.data.repository.rowmapper.HouseholdRowMapper;
+import org.egov.common.data.repository.rowmapper.ProjectBeneficiaryRowMapper;
+import org.egov.common.data.repository.rowmapper.ProjectTaskRowMapper;
+import org.egov.common.data.repository.rowmapper.TaskResourceRowMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the downsync data straight from the shared health database, used by the direct db downsync mode instead of
+ * calling the household and project services over http. Each query selects the records related to a page of ids
+ * with the same filters the search apis apply: tenant, lastChangedSince, isDeleted and project.
+ *
+ * <p>Individuals are not read here: their personal fields are encrypted at rest and only the individual service
+ * decrypts them, so they are always fetched over http.
+ */
+@Repository
+@Slf4j
+public class DownsyncRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final HouseholdRowMapper householdRowMapper;
+
+    private final HouseholdMemberRowMapper householdMemberRowMapper;
+
+    private final ProjectBeneficiaryRowMapper projectBeneficiaryRowMapper;
+
+    private final ProjectTaskRowMapper projectTaskRowMapper;
+
+    private final TaskResourceRowMapper taskResourceRowMapper;
+
+    @Autowired
+    public DownsyncRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                              HouseholdRowMapper householdRowMapper,
+                              HouseholdMemberRowMapper householdMemberRowMapper,
+                              ProjectBeneficiaryRowMapper projectBeneficiaryRowMapper,
+                              ProjectTaskRowMapper projectTaskRowMapper,
+                              TaskResourceRowMapper taskResourceRowMapper) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.householdRowMapper = householdRowMapper;
+        this.householdMemberRowMapper = householdMemberRowMapper;
+        this.projectBeneficiaryRowMapper = projectBeneficiaryRowMapper;
+        this.projectTaskRowMapper = projectTaskRowMapper;
+        this.taskResourceRowMapper = taskResourceRowMapper;
+    }
+
+    /**
+     * @param criteria the downsync criteria
+     * @return the page of households of the locality, ordered like the household search, with the total count
+     */
+    public SearchResponse<Household> findHouseholds(DownsyncCriteria criteria) {
+        Map<String, Object> paramsMap = new HashMap<>();
+        String query = "SELECT *, a.id as aid,a.tenantid as atenantid, a.clientreferenceid as aclientreferenceid"
+                + " FROM household h LEFT JOIN address a ON h.addressid = a.id WHERE a.localityCode=:localityCode ";
+        paramsMap.put("localityCode", criteria.getLocality());
+        query = appendCommonFilters(query, "h", criteria, paramsMap);
+
+        Long totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, this.namedParameterJdbcTemplate);
+
+        query = query + "ORDER BY h.id ASC LIMIT :limit OFFSET :offset";
+        paramsMap.put("limit", criteria.getLimit());
+        paramsMap.put("offset", criteria.getOffset());
+        List<Household> households = this.namedParameterJdbcTemplate.query(query, paramsMap, this.householdRowMapper);
+        return SearchResponse.<Household>builder().totalCount(totalCount).response(households).build();
+    }
+
+    /**
+     * @param householdIds a page of household ids, empty to read every member changed since the last sync
+     * @param criteria     the downsync criteria
+     * @return the members of the households
+     */
+    public List<HouseholdMember> findMembers(List<String> householdIds, DownsyncCriteria criteria) {
+        Map<String, Object> paramsMap = new HashMap<>();
+        String query = appendRelationFilter("SELECT * FROM household_member hm WHERE ", "hm.householdId",
+                householdIds, paramsMap);
+        query = appendCommonFilters(query, "hm", criteria, paramsMap);
+        return this.namedParameterJdbcTemplate.query(query, paramsMap, this.householdMemberRowMapper);
+    }
+
+    /**
+     * @param beneficiaryClientRefIds a page of household or individual client reference ids
+     * @param criteria                the downsync criteria
+     * @return the project beneficiaries of the project for those households or individuals
+     */
+    public List<ProjectBeneficiary> findBeneficiaries(List<String> beneficiaryClientRefIds, DownsyncCriteria criteria) {
+        Map<String, Object> paramsMap = new HashMap<>();
+        String query = appendRelationFilter("SELECT * FROM project_beneficiary pb WHERE ",
+                "pb.beneficiaryClientReferenceId", beneficiaryClientRefIds, paramsMap);
+        query = appendCommonFilters(query, "pb", criteria, paramsMap);
+        query = query + "AND pb.projectId=:projectId ";
+        paramsMap.put("projectId", criteria.getProjectId());
+        return this.namedParameterJdbcTemplate.query(query, paramsMap, this.projectBeneficiaryRowMapper);
+    }
+
+    /**
+     * @param projectBeneficiaryClientRefIds a page of project beneficiary client reference ids
+     * @param criteria                       the downsync criteria
+     * @return the tasks of the project for those beneficiaries, with their resources
+     */
+    public List<Task> findTasks(List<String> projectBeneficiaryClientRefIds, DownsyncCriteria criteria) {
+        Map<String, Object> paramsMap = new HashMap<>();
+        String query = appendRelationFilter("SELECT *, a.id as aid,a.tenantid as atenantid, a.clientreferenceid as aclientreferenceid"
+                        + " FROM project_task pt LEFT JOIN address a ON pt.addressid = a.id WHERE ",
+                "pt.projectBeneficiaryClientReferenceId", projectBeneficiaryClientRefIds, paramsMap);
+        query = appendCommonFilters(query, "pt", criteria, paramsMap);
+        query = query + "AND pt.projectId=:projectId ";
+        paramsMap.put("projectId", criteria.getProjectId());
+        List<Task> tasks = this.namedParameterJdbcTemplate.query(query, paramsMap, this.projectTaskRowMapper);
+        fetchAndSetTaskResource(tasks);
+        return tasks;
+    }
+
+    private void fetchAndSetTaskResource(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Map<String, Object> resourceParamsMap = new HashMap<>();
+        resourceParamsMap.put("taskIds", tasks.stream().map(Task::getId).collect(Collectors.toList()));
+        List<TaskResource> taskResources = this.namedParameterJdbcTemplate.query(
+                "SELECT * FROM task_resource tr where tr.taskid IN (:taskIds)", resourceParamsMap, this.taskResourceRowMapper);
+        Map<String, List<TaskResource>> taskIdToResources = new HashMap<>();
+        taskResources.forEach(taskResource -> taskIdToResources
+                .computeIfAbsent(taskResource.getTaskId(), taskId -> new ArrayList<>()).add(taskResource));
+        tasks.forEach(task -> task.setResources(taskIdToResources.get(task.getId())));
+    }
+
+    private String appendRelationFilter(String query, String column, List<String> ids, Map<String, Object> paramsMap) {
+        if (CollectionUtils.isEmpty(ids)) {
+            return query + "1=1 ";
+        }
+        paramsMap.put("ids", ids);
+        return query + column + " IN (:ids) ";
+    }
+
+    private String appendCommonFilters(String query, String alias, DownsyncCriteria criteria,
+                                       Map<String, Object> paramsMap) {
+        query = query + String.format("AND %s.tenantId=:tenantId ", alias);
+        paramsMap.put("tenantId", criteria.getTenantId());
+        if (Boolean.FALSE.equals(criteria.getIncludeDeleted())) {
+            query = query + String.format("AND %s.isDeleted=false ", alias);
+        }
+        if (criteria.getLastSyncedTime() != null) {
+            query = query + String.format("AND %s.lastModifiedTime>=:lastChangedSince ", alias);
+            paramsMap.put("lastChangedSince", criteria.getLastSyncedTime());
+        }
+        return query;
+    }
+}
@@ -1,17 +1,35 @@
 package org.egov.referralmanagement.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.models.core.SearchResponse;
 import org.egov.common.models.household.Household;
 import org.egov.common.models.household.HouseholdBulkResponse;
 import org.egov.common.models.household.HouseholdMember;
@@ -41,8 +59,13 @@ import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncReq
 import org.egov.common.models.referralmanagement.sideeffect.SideEffect;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectSearch;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectSearchRequest;
+import org.egov.common.utils.ResponseInfoFactory;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.repository.DownsyncRepository;
+import org.egov.tracer.model.CustomException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -63,13 +86,22 @@ public class DownsyncService {
 
     private MasterDataService masterDataService;
 
+    private Executor downsyncExecutor;
+
+    private ObjectMapper objectMapper;
+
+    private DownsyncRepository downsyncRepository;
+
     @Autowired
     public DownsyncService( ServiceRequestClient serviceRequestClient,
                             ReferralManagementConfiguration referralManagementConfiguration,
                             NamedParameterJdbcTemplate jdbcTemplate,
                             SideEffectService sideEffectService,
                             ReferralManagementService referralService,
-                            MasterDataService masterDataService ) {
+                            MasterDataService masterDataService,
+                            @Qualifier("downsyncExecutor") Executor downsyncExecutor,
+                            @Qualifier("objectMapper") ObjectMapper objectMapper,
+                            DownsyncRepository downsyncRepository ) {
 
         this.restClient = serviceRequestClient;
         this.configs = referralManagementConfiguration;
@@ -77,6 +109,9 @@ public class DownsyncService {
         this.sideEffectService=sideEffectService;
         this.referralService=referralService;
         this.masterDataService=masterDataService;
+        this.downsyncExecutor=downsyncExecutor;
+        this.objectMapper=objectMapper;
+        this.downsyncRepository=downsyncRepository;
 
     }
 
@@ -87,78 +122,225 @@ public class DownsyncService {
      */
     public Downsync prepareDownsyncData(DownsyncRequest downsyncRequest) {
 
-        Downsync downsync = new Downsync();
-        DownsyncCriteria downsyncCriteria = downsyncRequest.getDownsyncCriteria();
+        DownsyncStages stages = startDownsync(downsyncRequest);
+        try {
+            CompletableFuture.allOf(stages.all().values().toArray(new CompletableFuture[0]))
+                    .get(configs.getDownsyncTimeoutInSeconds(), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            stages.cancel();
+            Thread.currentThread().interrupt();
+            throw new CustomException("DOWNSYNC_INTERRUPTED", "Downsync was interrupted");
+        } catch (TimeoutException e) {
+            stages.cancel();
+            throw new CustomException("DOWNSYNC_TIMEOUT", "Downsync did not complete in time");
+        } catch (ExecutionException e) {
+            stages.cancel();
+            throw toCustomException(e.getCause());
+        }
+
+        return Downsync.builder()
+                .downsyncCriteria(downsyncRequest.getDownsyncCriteria())
+                .Households(stages.households.join())
+                .HouseholdMembers(stages.members.join())
+                .Individuals(stages.individuals.join())
+                .ProjectBeneficiaries(stages.beneficiaries.join())
+                .Tasks(stages.tasks.join())
+                .SideEffects(stages.sideEffects.join())
+                .Referrals(stages.referrals.join())
+                .build();
+    }
+
+    /**
+     * Streams the downsync response as JSON. Each section of the Downsync object is written and flushed as soon
+     * as its stage completes, in completion order, so the first bytes leave while the slower branches are still
+     * being fetched. The records of a stage are held until its section is written; the Downsync object itself is
+     * never assembled.
+     *
+     * Nothing is written before the first section is ready, so a stage failing or timing out before that throws
+     * and the request fails as a whole. Once the response has started, a failure cancels the remaining stages and
+     * ends the body with an Errors array, as in the error response of the other APIs, in place of the sections not
+     * yet written and the DownsyncCriteria. Clients must treat a body with Errors as a failed sync.
+     *
+     * @param downsyncRequest the downsync request
+     * @param outputStream    the response body
+     * @throws IOException if writing to the response fails
+     */
+    public void streamDownsyncData(DownsyncRequest downsyncRequest, OutputStream outputStream) throws IOException {
+
+        DownsyncStages stages = startDownsync(downsyncRequest);
+        Map<String, CompletableFuture<? extends List<?>>> pending = stages.all();
+        BlockingQueue<String> completed = new LinkedBlockingQueue<>();
+        pending.forEach((section, stage) -> stage.whenComplete((result, throwable) -> completed.add(section)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(configs.getDownsyncTimeoutInSeconds());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            boolean started = false;
+            try {
+                while (!pending.isEmpty()) {
+                    String section = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (section == null) {
+                        throw new CustomException("DOWNSYNC_TIMEOUT", "Downsync did not complete in time");
+                    }
+                    List<?> records = joinStage(pending.remove(section));
+                    if (!started) {
+                        generator.writeStartObject();
+                        generator.writeObjectField("ResponseInfo",
+                                ResponseInfoFactory.createResponseInfo(downsyncRequest.getRequestInfo(), true));
+                        generator.writeObjectFieldStart("Downsync");
+                        started = true;
+                    }
+                    generator.writeArrayFieldStart(section);
+                    for (Object record : records) {
+                        generator.writeObject(record);
+                    }
+                    generator.writeEndArray();
+                    generator.flush();
+                    log.debug("streamed {} {}", records.size(), section);
+                }
+            } catch (IOException e) {
+                stages.cancel();
+                throw e;
+            } catch (InterruptedException | CustomException e) {
+                stages.cancel();
+                CustomException failure = e instanceof CustomException ? (CustomException) e
+                        : new CustomException("DOWNSYNC_INTERRUPTED", "Downsync was interrupted");
+                if (e instanceof InterruptedException)
+                    Thread.currentThread().interrupt();
+                if (!started)
+                    throw failure;
+                log.error("downsync failed after the response started, ending it with errors: {}", failure.getMessage());
+                generator.writeEndObject();
+                writeErrors(generator, failure);
+                generator.writeEndObject();
+                return;
+            }
+
+            generator.writeObjectField("DownsyncCriteria", downsyncRequest.getDownsyncCriteria());
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
 
-        List<String> householdIds = null;
-        Set<String> individualClientReferenceIds = null;
-        List<String> individualClientRefIds = null;
-        List<String> beneficiaryClientRefIds = null;
-        List<String> taskClientRefIds = null;
+    /**
+     * Writes the Errors array of the common error response for a downsync that failed after its response started.
+     */
+    private void writeErrors(JsonGenerator generator, CustomException exception) throws IOException {
+        generator.writeArrayFieldStart("Errors");
+        generator.writeStartObject();
+        generator.writeStringField("code", exception.getCode());
+        generator.writeStringField("message", exception.getMessage());
+        generator.writeEndObject();
+        generator.writeEndArray();
+    }
 
+    /**
+     * Starts every stage of the downsync on the downsync executor. Stages only wait on the stages whose ids they
+     * need: members and individuals follow households, beneficiaries follow whichever of them the project type
+     * names as beneficiary, and tasks (then side effects) and referrals run side by side once beneficiaries are known.
+     * No stage blocks a pool thread while waiting on another, so the bounded pool cannot starve itself.
+     *
+     * @param downsyncRequest the downsync request
+     * @return the running stages
+     */
+    private DownsyncStages startDownsync(DownsyncRequest downsyncRequest) {
 
-        downsync.setDownsyncCriteria(downsyncCriteria);
+        DownsyncCriteria downsyncCriteria = downsyncRequest.getDownsyncCriteria();
         boolean isSyncTimeAvailable = null != downsyncCriteria.getLastSyncedTime();
 
-        //Project project = getProjectType(downsyncRequest);
-        LinkedHashMap<String, Object> projectType = masterDataService.getProjectType(downsyncRequest);
+        CompletableFuture<LinkedHashMap<String, Object>> projectTypeStage = CompletableFuture
+                .supplyAsync(() -> masterDataService.getProjectType(downsyncRequest), downsyncExecutor);
 
         /* search household */
-        householdIds = searchHouseholds(downsyncRequest, downsync);
+        CompletableFuture<List<Household>> householdStage = CompletableFuture
+                .supplyAsync(() -> searchHouseholds(downsyncRequest), downsyncExecutor);
 
         /* search household member using household ids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(householdIds)) {
-            individualClientReferenceIds = searchMembers(downsyncRequest, downsync, householdIds);
-        }
+        CompletableFuture<List<HouseholdMember>> memberStage = householdStage.thenComposeAsync(households -> {
+            List<String> householdIds = households.stream().map(Household::getId).collect(Collectors.toList());
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(householdIds))
+                return searchMembers(downsyncRequest, householdIds);
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }, downsyncExecutor);
 
         /* search individuals using individual ids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(individualClientReferenceIds) ) {
-            individualClientRefIds = searchIndividuals(downsyncRequest, downsync, individualClientReferenceIds);
-        }
+        CompletableFuture<List<Individual>> individualStage = memberStage.thenCompose(members -> {
+            Set<String> individualClientReferenceIds = members.stream()
+                    .map(HouseholdMember::getIndividualClientReferenceId).collect(Collectors.toSet());
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(individualClientReferenceIds))
+                return searchIndividuals(downsyncRequest, individualClientReferenceIds);
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        });
 
         /* search beneficiary using individual ids OR household ids */
-
-        String beneficiaryType = (String) projectType.get("beneficiaryType");
-
-        beneficiaryClientRefIds = individualClientRefIds;
-
-        if("HOUSEHOLD".equalsIgnoreCase(beneficiaryType))
-            beneficiaryClientRefIds = downsync.getHouseholds().stream().map(Household::getClientReferenceId).collect(Collectors.toList());
+        CompletableFuture<List<String>> beneficiaryClientRefIdStage = projectTypeStage.thenCompose(projectType -> {
+            String beneficiaryType = (String) projectType.get("beneficiaryType");
+            if ("HOUSEHOLD".equalsIgnoreCase(beneficiaryType))
+                return householdStage.thenApply(households -> households.stream()
+                        .map(Household::getClientReferenceId).collect(Collectors.toList()));
+            return individualStage.thenApply(individuals -> individuals.stream()
+                    .map(Individual::getClientReferenceId).collect(Collectors.toList()));
+        });
 
         //fetch beneficiary in the db
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
-            beneficiaryClientRefIds = searchBeneficiaries(downsyncRequest, downsync, beneficiaryClientRefIds);
-        }
+        CompletableFuture<List<ProjectBeneficiary>> beneficiaryStage = beneficiaryClientRefIdStage
+                .thenComposeAsync(beneficiaryClientRefIds -> {
+                    if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds))
+                        return searchBeneficiaries(downsyncRequest, beneficiaryClientRefIds);
+                    return CompletableFuture.completedFuture(Collections.emptyList());
+                }, downsyncExecutor);
 
-        /* search tasks using beneficiary uuids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
-
-            taskClientRefIds = searchTasks(downsyncRequest, downsync, beneficiaryClientRefIds, projectType);
-
-            /* ref search */
-            referralSearch(downsyncRequest, downsync, beneficiaryClientRefIds);
-        }
-
-
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(taskClientRefIds)) {
-            searchSideEffect(downsyncRequest, downsync, taskClientRefIds);
-        }
+        CompletableFuture<List<String>> projectBeneficiaryClientRefIdStage = beneficiaryStage
+                .thenApply(beneficiaries -> beneficiaries.stream()
+                        .map(ProjectBeneficiary::getClientReferenceId).collect(Collectors.toList()));
 
-        return downsync;
+        /* search tasks using beneficiary uuids */
+        CompletableFuture<List<Task>> taskStage = projectBeneficiaryClientRefIdStage
+                .thenComposeAsync(beneficiaryClientRefIds -> {
+                    if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds))
+                        return searchTasks(downsyncRequest, beneficiaryClientRefIds);
+                    return CompletableFuture.completedFuture(Collections.emptyList());
+                }, downsyncExecutor);
+
+        /* ref search */
+        CompletableFuture<List<Referral>> referralStage = projectBeneficiaryClientRefIdStage
+                .thenComposeAsync(beneficiaryClientRefIds -> {
+                    if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds))
+                        return referralSearch(downsyncRequest, beneficiaryClientRefIds);
+                    return CompletableFuture.completedFuture(Collections.emptyList());
+                }, downsyncExecutor);
+
+        CompletableFuture<List<SideEffect>> sideEffectStage = taskStage.thenComposeAsync(tasks -> {
+            List<String> taskClientRefIds = tasks.stream().map(Task::getClientReferenceId).collect(Collectors.toList());
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(taskClientRefIds))
+                return searchSideEffect(downsyncRequest, taskClientRefIds);
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }, downsyncExecutor);
+
+        return new DownsyncStages(projectTypeStage, householdStage, memberStage, individualStage, beneficiaryStage, taskStage,
+                sideEffectStage, referralStage);
     }
 
 
     /**
      *
      * @param downsyncRequest
-     * @param downsync
-     * @return
+     * @return households of the locality
      */
-    private List<String> searchHouseholds(DownsyncRequest downsyncRequest, Downsync downsync) {
+    private List<Household> searchHouseholds(DownsyncRequest downsyncRequest) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
         RequestInfo requestInfo = downsyncRequest.getRequestInfo();
 
+        if (isDirectDbEnabled()) {
+            try {
+                SearchResponse<Household> response = downsyncRepository.findHouseholds(criteria);
+                criteria.setTotalCount(response.getTotalCount());
+                return response.getResponse();
+            } catch (DataAccessException e) {
+                log.warn("direct db downsync of Households failed, falling back to http: {}", e.getMessage());
+            }
+        }
+
         StringBuilder householdUrl = new StringBuilder(configs.getHouseholdHost())
                 .append(configs.getHouseholdSearchUrl());
         householdUrl = 	appendUrlParams(householdUrl, criteria, null, null, true);
@@ -174,95 +356,108 @@ public class DownsyncService {
 
         HouseholdBulkResponse res = restClient.fetchResult(householdUrl, searchRequest, HouseholdBulkResponse.class);
         List<Household> households = res.getHouseholds();
-        downsync.setHouseholds(households);
-        downsync.getDownsyncCriteria().setTotalCount(res.getTotalCount());
+        downsyncRequest.getDownsyncCriteria().setTotalCount(res.getTotalCount());
 
         if(CollectionUtils.isEmpty(households))
             return Collections.emptyList();
 
-        return households.stream().map(Household::getId).collect(Collectors.toList());
+        return households;
     }
 
     /**
      *
      * @param downsyncRequest
-     * @param downsync
      * @param individualClientRefIds
-     * @return individual ClientReferenceIds
+     * @return individuals
      */
-    private List<String> searchIndividuals(DownsyncRequest downsyncRequest, Downsync downsync,
-                                           Set<String> individualClientRefIds) {
+    private CompletableFuture<List<Individual>> searchIndividuals(DownsyncRequest downsyncRequest,
+                                                                  Set<String> individualClientRefIds) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
         RequestInfo requestInfo = downsyncRequest.getRequestInfo();
 
-        StringBuilder url = new StringBuilder(configs.getIndividualHost())
-                .append(configs.getIndividualSearchUrl());
+        return fetchInPages(new ArrayList<>(individualClientRefIds), page -> {
 
-        url = appendUrlParams(url, criteria, 0, individualClientRefIds.size(),true);
+            StringBuilder url = new StringBuilder(configs.getIndividualHost())
+                    .append(configs.getIndividualSearchUrl());
 
-        IndividualSearch individualSearch = IndividualSearch.builder()
-                .build();
+            url = appendUrlParams(url, criteria, 0, page.size(), true);
 
-        if(!CollectionUtils.isEmpty(individualClientRefIds))
-            individualSearch.setClientReferenceId(new ArrayList<>(individualClientRefIds));
+            IndividualSearch individualSearch = IndividualSearch.builder()
+                    .build();
 
-        IndividualSearchRequest searchRequest = IndividualSearchRequest.builder()
-                .individual(individualSearch)
-                .requestInfo(requestInfo)
-                .build();
+            if (!CollectionUtils.isEmpty(page))
+                individualSearch.setClientReferenceId(page);
 
-        List<Individual> individuals = restClient.fetchResult(url, searchRequest, IndividualBulkResponse.class).getIndividual();
-        downsync.setIndividuals(individuals);
+            IndividualSearchRequest searchRequest = IndividualSearchRequest.builder()
+                    .individual(individualSearch)
+                    .requestInfo(requestInfo)
+                    .build();
 
-        return individuals.stream().map(Individual::getClientReferenceId).collect(Collectors.toList());
+            return restClient.fetchResult(url, searchRequest, IndividualBulkResponse.class).getIndividual();
+        });
     }
 
     /**
      *
      * @param downsyncRequest
      * @param householdIds
-     * @return
+     * @return household members
      */
-    private Set<String> searchMembers(DownsyncRequest downsyncRequest, Downsync downsync,
-                                      List<String> householdIds) {
+    private CompletableFuture<List<HouseholdMember>> searchMembers(DownsyncRequest downsyncRequest,
+                                                                   List<String> householdIds) {
+
+        return directDbOrHttp("HouseholdMembers",
+                () -> fetchInPages(householdIds, page -> downsyncRepository.findMembers(page, downsyncRequest.getDownsyncCriteria())),
+                () -> searchMembersOverHttp(downsyncRequest, householdIds));
+    }
+
+    private CompletableFuture<List<HouseholdMember>> searchMembersOverHttp(DownsyncRequest downsyncRequest,
+                                                                           List<String> householdIds) {
 
         Long lastChangedSince = downsyncRequest.getDownsyncCriteria().getLastSyncedTime();
 
         List<String> memberids = getPrimaryIds(householdIds, "householdId","HOUSEHOLD_MEMBER",lastChangedSince);
 
         if (CollectionUtils.isEmpty(memberids))
-            return Collections.emptySet();
+            return CompletableFuture.completedFuture(Collections.emptyList());
 
-        StringBuilder memberUrl = new StringBuilder(configs.getHouseholdHost())
-                .append(configs.getHouseholdMemberSearchUrl());
+        return fetchInPages(memberids, page -> {
 
-        appendUrlParams(memberUrl, downsyncRequest.getDownsyncCriteria(), 0, householdIds.size(), false);
+            StringBuilder memberUrl = new StringBuilder(configs.getHouseholdHost())
+                    .append(configs.getHouseholdMemberSearchUrl());
 
-        HouseholdMemberSearch memberSearch = HouseholdMemberSearch.builder()
-                .id(memberids)
-                .build();
+            appendUrlParams(memberUrl, downsyncRequest.getDownsyncCriteria(), 0, page.size(), false);
 
-        HouseholdMemberSearchRequest searchRequest = HouseholdMemberSearchRequest.builder()
-                .householdMemberSearch(memberSearch)
-                .requestInfo(downsyncRequest.getRequestInfo())
-                .build();
+            HouseholdMemberSearch memberSearch = HouseholdMemberSearch.builder()
+                    .id(page)
+                    .build();
 
-        List<HouseholdMember> members = restClient.fetchResult(memberUrl, searchRequest, HouseholdMemberBulkResponse.class).getHouseholdMembers();
-        downsync.setHouseholdMembers(members);
+            HouseholdMemberSearchRequest searchRequest = HouseholdMemberSearchRequest.builder()
+                    .householdMemberSearch(memberSearch)
+                    .requestInfo(downsyncRequest.getRequestInfo())
+                    .build();
 
-        return members.stream().map(HouseholdMember::getIndividualClientReferenceId).collect(Collectors.toSet());
+            return restClient.fetchResult(memberUrl, searchRequest, HouseholdMemberBulkResponse.class).getHouseholdMembers();
+        });
     }
 
     /**
      *
      * @param downsyncRequest
-     * @param downsync
      * @param beneficiaryClientRefIds
-     * @return clientreferenceid of beneficiary object
+     * @return beneficiaries
      */
-    private List<String> searchBeneficiaries(DownsyncRequest downsyncRequest, Downsync downsync,
-                                             List<String> beneficiaryClientRefIds) {
+    private CompletableFuture<List<ProjectBeneficiary>> searchBeneficiaries(DownsyncRequest downsyncRequest,
+                                                                            List<String> beneficiaryClientRefIds) {
+
+        return directDbOrHttp("ProjectBeneficiaries",
+                () -> fetchInPages(beneficiaryClientRefIds, page -> downsyncRepository.findBeneficiaries(page, downsyncRequest.getDownsyncCriteria())),
+                () -> searchBeneficiariesOverHttp(downsyncRequest, beneficiaryClientRefIds));
+    }
+
+    private CompletableFuture<List<ProjectBeneficiary>> searchBeneficiariesOverHttp(DownsyncRequest downsyncRequest,
+                                                                                    List<String> beneficiaryClientRefIds) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
         RequestInfo requestInfo = downsyncRequest.getRequestInfo();
@@ -276,27 +471,27 @@ public class DownsyncService {
         );
 
         if(CollectionUtils.isEmpty(beneficiaryIds))
-            return Collections.emptyList();
+            return CompletableFuture.completedFuture(Collections.emptyList());
 
-        StringBuilder url = new StringBuilder(configs.getProjectHost())
-                .append(configs.getProjectBeneficiarySearchUrl());
+        return fetchInPages(beneficiaryIds, page -> {
 
-        url = appendUrlParams(url, criteria, 0, beneficiaryClientRefIds.size(),false);
+            StringBuilder url = new StringBuilder(configs.getProjectHost())
+                    .append(configs.getProjectBeneficiarySearchUrl());
 
-        ProjectBeneficiarySearch search = ProjectBeneficiarySearch.builder()
-                .id(beneficiaryIds)
-                .projectId(Collections.singletonList(downsyncRequest.getDownsyncCriteria().getProjectId()))
-                .build();
+            url = appendUrlParams(url, criteria, 0, page.size(), false);
 
-        BeneficiarySearchRequest searchRequest = BeneficiarySearchRequest.builder()
-                .projectBeneficiary(search)
-                .requestInfo(requestInfo)
-                .build();
+            ProjectBeneficiarySearch search = ProjectBeneficiarySearch.builder()
+                    .id(page)
+                    .projectId(Collections.singletonList(criteria.getProjectId()))
+                    .build();
 
-        List<ProjectBeneficiary> beneficiaries = restClient.fetchResult(url, searchRequest, BeneficiaryBulkResponse.class).getProjectBeneficiaries();
-        downsync.setProjectBeneficiaries(beneficiaries);
+            BeneficiarySearchRequest searchRequest = BeneficiarySearchRequest.builder()
+                    .projectBeneficiary(search)
+                    .requestInfo(requestInfo)
+                    .build();
 
-        return beneficiaries.stream().map(ProjectBeneficiary::getClientReferenceId).collect(Collectors.toList());
+            return restClient.fetchResult(url, searchRequest, BeneficiaryBulkResponse.class).getProjectBeneficiaries();
+        });
     }
 
 
@@ -304,13 +499,19 @@ public class DownsyncService {
     /**
      *
      * @param downsyncRequest
-     * @param downsync
      * @param beneficiaryClientRefIds
-     * @param projectType
-     * @return
+     * @return tasks
      */
-    private List<String> searchTasks(DownsyncRequest downsyncRequest, Downsync downsync,
-                                     List<String> beneficiaryClientRefIds, LinkedHashMap<String, Object> projectType) {
+    private CompletableFuture<List<Task>> searchTasks(DownsyncRequest downsyncRequest,
+                                                      List<String> beneficiaryClientRefIds) {
+
+        return directDbOrHttp("Tasks",
+                () -> fetchInPages(beneficiaryClientRefIds, page -> downsyncRepository.findTasks(page, downsyncRequest.getDownsyncCriteria())),
+                () -> searchTasksOverHttp(downsyncRequest, beneficiaryClientRefIds));
+    }
+
+    private CompletableFuture<List<Task>> searchTasksOverHttp(DownsyncRequest downsyncRequest,
+                                                              List<String> beneficiaryClientRefIds) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
         RequestInfo requestInfo = downsyncRequest.getRequestInfo();
@@ -318,37 +519,37 @@ public class DownsyncService {
                 criteria.getLastSyncedTime());
 
         if(CollectionUtils.isEmpty(taskIds))
-            return Collections.emptyList();
+            return CompletableFuture.completedFuture(Collections.emptyList());
 
-        StringBuilder url = new StringBuilder(configs.getProjectHost())
-                 .append(configs.getProjectTaskSearchUrl());
+        return fetchInPages(taskIds, page -> {
 
-        url = appendUrlParams(url, criteria, 0, taskIds.size(), false);
+            StringBuilder url = new StringBuilder(configs.getProjectHost())
+                    .append(configs.getProjectTaskSearchUrl());
 
-        TaskSearch search = TaskSearch.builder()
-                .id(taskIds)
-                .projectId(Collections.singletonList(downsyncRequest.getDownsyncCriteria().getProjectId()))
-                .build();
+            url = appendUrlParams(url, criteria, 0, page.size(), false);
 
-        TaskSearchRequest searchRequest = TaskSearchRequest.builder()
-                .task(search)
-                .requestInfo(requestInfo)
-                .build();
+            TaskSearch search = TaskSearch.builder()
+                    .id(page)
+                    .projectId(Collections.singletonList(criteria.getProjectId()))
+                    .build();
 
-        List<Task> tasks = restClient.fetchResult(url, searchRequest, TaskBulkResponse.class).getTasks();
-        downsync.setTasks(tasks);
+            TaskSearchRequest searchRequest = TaskSearchRequest.builder()
+                    .task(search)
+                    .requestInfo(requestInfo)
+                    .build();
 
-        return tasks.stream().map(Task::getClientReferenceId).collect(Collectors.toList());
+            return restClient.fetchResult(url, searchRequest, TaskBulkResponse.class).getTasks();
+        });
     }
 
     /**
      *
      * @param downsyncRequest
-     * @param downsync
      * @param taskClientRefIds
+     * @return side effects
      */
-    private void searchSideEffect(DownsyncRequest downsyncRequest, Downsync downsync,
-                                  List<String> taskClientRefIds) {
+    private CompletableFuture<List<SideEffect>> searchSideEffect(DownsyncRequest downsyncRequest,
+                                                                 List<String> taskClientRefIds) {
 
         DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
         RequestInfo requestInfo = downsyncRequest.getRequestInfo();
@@ -357,61 +558,134 @@ public class DownsyncService {
         List<String> SEIds = getPrimaryIds(taskClientRefIds, "taskClientReferenceId", "SIDE_EFFECT", criteria.getLastSyncedTime());
 
         if(CollectionUtils.isEmpty(SEIds))
-            return;
+            return CompletableFuture.completedFuture(Collections.emptyList());
+
+        return fetchInPages(SEIds, page -> {
+
+            SideEffectSearch search = SideEffectSearch.builder()
+                    .id(page)
+                    .build();
+
+            SideEffectSearchRequest effectSearchRequest = SideEffectSearchRequest.builder()
+                    .sideEffect(search)
+                    .requestInfo(requestInfo)
+                    .build();
+
+            return sideEffectService.search(
+                effectSearchRequest,
+                page.size(),
+                0,
+                criteria.getTenantId(),
+                criteria.getLastSyncedTime(),
+                criteria.getIncludeDeleted()
+            ).getResponse();
+        });
+    }
 
-        SideEffectSearch search = SideEffectSearch.builder()
-                .id(SEIds)
-                .build();
+    private CompletableFuture<List<Referral>> referralSearch(DownsyncRequest downsyncRequest,
+                                                             List<String> beneficiaryClientRefIds) {
 
-        SideEffectSearchRequest effectSearchRequest = SideEffectSearchRequest.builder()
-                .sideEffect(search)
-                .requestInfo(requestInfo)
-                .build();
+        DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
+        RequestInfo requestInfo = downsyncRequest.getRequestInfo();
 
-        List<SideEffect> effects = sideEffectService.search(
-            effectSearchRequest,
-            SEIds.size(),
-            0,
-            criteria.getTenantId(),
-            criteria.getLastSyncedTime(),
-            criteria.getIncludeDeleted()
-        ).getResponse();
+        return fetchInPages(beneficiaryClientRefIds, page -> {
 
-        downsync.setSideEffects(effects);
-    }
+            Integer limit = page.size();
 
-    private void referralSearch(DownsyncRequest downsyncRequest, Downsync downsync,
-                                List<String> beneficiaryClientRefIds) {
+            ReferralSearch search = ReferralSearch.builder()
+                    .build();
 
-        DownsyncCriteria criteria = downsyncRequest.getDownsyncCriteria();
-        RequestInfo requestInfo = downsyncRequest.getRequestInfo();
-        Integer limit = beneficiaryClientRefIds.size();
+            if(!CollectionUtils.isEmpty(page)) {
+                search.setProjectBeneficiaryClientReferenceId(page);
+                limit = null;
+            }
 
-        ReferralSearch search = ReferralSearch.builder()
-                .build();
+            ReferralSearchRequest searchRequest = ReferralSearchRequest.builder()
+                    .referral(search)
+                    .requestInfo(requestInfo)
+                    .build();
 
-        if(!CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
-            search.setProjectBeneficiaryClientReferenceId(beneficiaryClientRefIds);
-            limit = null;
-        }
+            return referralService.search(
+                searchRequest,
+                limit,
+                0,
+                criteria.getTenantId(),
+                criteria.getLastSyncedTime(),
+                criteria.getIncludeDeleted()
+            ).getResponse();
+        });
+    }
 
-        ReferralSearchRequest searchRequest = ReferralSearchRequest.builder()
-                .referral(search)
-                .requestInfo(requestInfo)
-                .build();
+    /**
+     * Splits the ids into pages of the configured downsync page size and fetches the pages concurrently on the
+     * downsync executor. The results keep the order of the pages. An empty id list is fetched as a single page.
+     *
+     * @param ids         the ids to fetch
+     * @param pageFetcher fetches the records of one page of ids
+     * @return the records of all the pages
+     */
+    private <T> CompletableFuture<List<T>> fetchInPages(List<String> ids, Function<List<String>, List<T>> pageFetcher) {
+
+        int pageSize = configs.getDownsyncPageSize();
+        List<CompletableFuture<List<T>>> pages = new ArrayList<>();
+        int offset = 0;
+        do {
+            List<String> page = ids.subList(offset, Math.min(offset + pageSize, ids.size()));
+            pages.add(CompletableFuture.supplyAsync(() -> pageFetcher.apply(page), downsyncExecutor));
+            offset += pageSize;
+        } while (offset < ids.size());
+
+        return CompletableFuture.allOf(pages.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> pages.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList()));
+    }
 
-        List<Referral> referrals = referralService.search(
-            searchRequest,
-            limit,
-            0,
-            criteria.getTenantId(),
-            criteria.getLastSyncedTime(),
-            criteria.getIncludeDeleted()
-        ).getResponse();
+    private boolean isDirectDbEnabled() {
+        return Boolean.TRUE.equals(configs.getDownsyncDirectDbEnabled());
+    }
 
-        downsync.setReferrals(referrals);
+    /**
+     * Runs a stage against the shared database when the direct db mode is enabled, and over http otherwise.
+     * A database failure of the direct read (e.g. the tables are not reachable from this service) falls back to http.
+     *
+     * @param section the section of the Downsync object the stage fills, for logging
+     * @param directDb the stage reading from the database
+     * @param http     the stage calling the owning service
+     * @return the records of the stage
+     */
+    private <T> CompletableFuture<List<T>> directDbOrHttp(String section, Supplier<CompletableFuture<List<T>>> directDb,
+                                                          Supplier<CompletableFuture<List<T>>> http) {
+
+        if (!isDirectDbEnabled())
+            return http.get();
+
+        return directDb.get().exceptionallyCompose(throwable -> {
+            Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+            if (!(cause instanceof DataAccessException))
+                return CompletableFuture.failedFuture(cause);
+            log.warn("direct db downsync of {} failed, falling back to http: {}", section, cause.getMessage());
+            return http.get();
+        });
     }
 
+    private List<?> joinStage(CompletableFuture<? extends List<?>> stage) {
+        try {
+            return stage.join();
+        } catch (CompletionException e) {
+            throw toCustomException(e.getCause());
+        }
+    }
+
+    private CustomException toCustomException(Throwable throwable) {
+        log.error("error in downsync: {}", ExceptionUtils.getStackTrace(throwable));
+        if (throwable instanceof CustomException) {
+            return (CustomException) throwable;
+        }
+        return new CustomException("DOWNSYNC_ERROR", throwable.getMessage());
+    }
 
     /**
      * common method to fetch Ids with list of relation Ids like id of member with householdIds
@@ -486,4 +760,52 @@ public class DownsyncService {
 
         return url;
     }
+
+    /**
+     * The running stages of one downsync, one per section of the Downsync object.
+     */
+    @AllArgsConstructor
+    private static class DownsyncStages {
+
+        private final CompletableFuture<LinkedHashMap<String, Object>> projectType;
+
+        private final CompletableFuture<List<Household>> households;
+
+        private final CompletableFuture<List<HouseholdMember>> members;
+
+        private final CompletableFuture<List<Individual>> individuals;
+
+        private final CompletableFuture<List<ProjectBeneficiary>> beneficiaries;
+
+        private final CompletableFuture<List<Task>> tasks;
+
+        private final CompletableFuture<List<SideEffect>> sideEffects;
+
+        private final CompletableFuture<List<Referral>> referrals;
+
+        /**
+         * @return the stages keyed by the json property of their section in the Downsync object
+         */
+        private Map<String, CompletableFuture<? extends List<?>>> all() {
+            Map<String, CompletableFuture<? extends List<?>>> stages = new LinkedHashMap<>();
+            stages.put("Households", households);
+            stages.put("HouseholdMembers", members);
+            stages.put("Individuals", individuals);
+            stages.put("ProjectBeneficiaries", beneficiaries);
+            stages.put("Tasks", tasks);
+            stages.put("SideEffects", sideEffects);
+            stages.put("Referrals", referrals);
+            return stages;
+        }
+
+        /**
+         * Cancels the stages not yet complete. A cancelled stage completes its dependents exceptionally, so no
+         * further stage starts; pages of a stage already handed to the executor still run but their records are
+         * dropped.
+         */
+        private void cancel() {
+            projectType.cancel(false);
+            all().values().forEach(stage -> stage.cancel(false));
+        }
+    }
 }
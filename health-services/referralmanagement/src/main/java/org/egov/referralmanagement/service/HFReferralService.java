@@ -15,8 +15,8 @@ import org.egov.common.models.referralmanagement.hfreferral.HFReferralBulkReques
 import org.egov.common.models.referralmanagement.hfreferral.HFReferralRequest;
 import org.egov.common.models.referralmanagement.hfreferral.HFReferralSearchRequest;
 import org.egov.common.service.IdGenService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.referralmanagement.Constants;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
 import org.egov.referralmanagement.repository.HFReferralRepository;
@@ -59,6 +59,8 @@ public class HFReferralService {
     private final HFReferralEnrichmentService hfReferralEnrichmentService;
     private final List<Validator<HFReferralBulkRequest, HFReferral>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     // Predicates to determine which validators are applicable for create, update, and delete operations
     private final Predicate<Validator<HFReferralBulkRequest, HFReferral>> isApplicableForCreate = validator ->
             validator.getClass().equals(HfrProjectIdValidator.class)
@@ -91,12 +93,14 @@ public class HFReferralService {
     public HFReferralService(IdGenService idGenService, HFReferralRepository hfReferralRepository,
                              ReferralManagementConfiguration referralManagementConfiguration,
                              HFReferralEnrichmentService hfReferralEnrichmentService,
-                             List<Validator<HFReferralBulkRequest, HFReferral>> validators) {
+                             List<Validator<HFReferralBulkRequest, HFReferral>> validators,
+                             ValidatorExecutor validatorExecutor) {
         this.idGenService = idGenService;
         this.hfReferralRepository = hfReferralRepository;
         this.referralManagementConfiguration = referralManagementConfiguration;
         this.hfReferralEnrichmentService = hfReferralEnrichmentService;
         this.validators = validators;
+        this.validatorExecutor = validatorExecutor;
     }
 
     // Method to create a single HFReferral
@@ -252,7 +256,7 @@ public class HFReferralService {
             boolean isBulk
     ) {
         log.info("Validating request");
-        Map<HFReferral, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<HFReferral, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 isApplicable, request,
                 Constants.SET_HF_REFERRALS);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
@@ -17,8 +17,8 @@ import org.egov.common.models.referralmanagement.ReferralBulkRequest;
 import org.egov.common.models.referralmanagement.ReferralRequest;
 import org.egov.common.models.referralmanagement.ReferralSearchRequest;
 import org.egov.common.service.IdGenService;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.referralmanagement.Constants;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
 import org.egov.referralmanagement.repository.ReferralRepository;
@@ -61,6 +61,8 @@ public class ReferralManagementService {
 
     private final List<Validator<ReferralBulkRequest, Referral>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final Predicate<Validator<ReferralBulkRequest, Referral>> isApplicableForCreate = validator ->
             validator.getClass().equals(RmProjectBeneficiaryIdValidator.class)
                 || validator.getClass().equals(RmExistentEntityValidator.class)
@@ -85,12 +87,13 @@ public class ReferralManagementService {
                 || validator.getClass().equals(RmRowVersionValidator.class);
 
 
-    public ReferralManagementService(IdGenService idGenService, ReferralRepository referralRepository, ReferralManagementConfiguration referralManagementConfiguration, ReferralManagementEnrichmentService referralManagementEnrichmentService, List<Validator<ReferralBulkRequest, Referral>> validators) {
+    public ReferralManagementService(IdGenService idGenService, ReferralRepository referralRepository, ReferralManagementConfiguration referralManagementConfiguration, ReferralManagementEnrichmentService referralManagementEnrichmentService, List<Validator<ReferralBulkRequest, Referral>> validators, ValidatorExecutor validatorExecutor) {
         this.idGenService = idGenService;
         this.referralRepository = referralRepository;
         this.referralManagementConfiguration = referralManagementConfiguration;
         this.referralManagementEnrichmentService = referralManagementEnrichmentService;
         this.validators = validators;
+        this.validatorExecutor = validatorExecutor;
     }
 
     public Referral create(ReferralRequest request) {
@@ -233,7 +236,7 @@ public class ReferralManagementService {
             boolean isBulk
     ) {
         log.info("validating request");
-        Map<Referral, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<Referral, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 isApplicable, request,
                 Constants.SET_REFERRALS);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
@@ -15,8 +15,8 @@ import org.egov.common.models.referralmanagement.sideeffect.SideEffect;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectBulkRequest;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectRequest;
 import org.egov.common.models.referralmanagement.sideeffect.SideEffectSearchRequest;
-import org.egov.common.utils.CommonUtils;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorExecutor;
 import org.egov.referralmanagement.Constants;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
 import org.egov.referralmanagement.repository.SideEffectRepository;
@@ -59,6 +59,8 @@ public class SideEffectService {
 
     private final List<Validator<SideEffectBulkRequest, SideEffect>> validators;
 
+    private final ValidatorExecutor validatorExecutor;
+
     private final Predicate<Validator<SideEffectBulkRequest, SideEffect>> isApplicableForCreate = validator ->
             validator.getClass().equals(SeProjectTaskIdValidator.class)
                 || validator.getClass().equals(SeExistentEntityValidator.class)
@@ -82,12 +84,14 @@ public class SideEffectService {
             SideEffectRepository sideEffectRepository,
             ReferralManagementConfiguration referralManagementConfiguration,
             SideEffectEnrichmentService sideEffectEnrichmentService,
-            List<Validator<SideEffectBulkRequest, SideEffect>> validators
+            List<Validator<SideEffectBulkRequest, SideEffect>> validators,
+            ValidatorExecutor validatorExecutor
     ) {
         this.sideEffectRepository = sideEffectRepository;
         this.referralManagementConfiguration = referralManagementConfiguration;
         this.sideEffectEnrichmentService = sideEffectEnrichmentService;
         this.validators = validators;
+        this.validatorExecutor = validatorExecutor;
     }
 
     /**
@@ -285,7 +289,7 @@ public class SideEffectService {
             boolean isBulk
     ) {
         log.info("validating request");
-        Map<SideEffect, ErrorDetails> errorDetailsMap = CommonUtils.validate(validators,
+        Map<SideEffect, ErrorDetails> errorDetailsMap = validatorExecutor.validate(validators,
                 isApplicable, request,
                 Constants.SET_SIDE_EFFECTS);
         if (!errorDetailsMap.isEmpty() && !isBulk) {
@@ -12,12 +12,14 @@ import org.egov.referralmanagement.service.DownsyncService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @Controller
@@ -51,4 +53,17 @@ public class BeneficiaryDownsyncController {
         
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
+
+    /**
+     * Same request and response shape as _get, but the response is streamed as chunked JSON, section by section,
+     * as the downsync stages complete.
+     */
+    @PostMapping(value = "/v1/_stream")
+    public ResponseEntity<StreamingResponseBody> streamBeneficaryData (@ApiParam(value = "Capture details of Side Effect", required = true) @Valid @RequestBody DownsyncRequest request) {
+		log.info("UserUUID: {}", request.getRequestInfo().getUserInfo().getUuid());
+		log.info("Downsync RequestBody: {}", mapper.valueToTree(request).toString());
+        StreamingResponseBody body = outputStream -> downsyncService.streamDownsyncData(request, outputStream);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
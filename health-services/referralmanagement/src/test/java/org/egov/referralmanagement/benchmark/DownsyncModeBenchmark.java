@@ -0,0 +1,389 @@
+package org.egov.referralmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.data.repository.rowmapper.HouseholdMemberRowMapper;
+import org.egov.common.data.repository.rowmapper.HouseholdRowMapper;
+import org.egov.common.data.repository.rowmapper.ProjectBeneficiaryRowMapper;
+import org.egov.common.data.repository.rowmapper.ProjectTaskRowMapper;
+import org.egov.common.data.repository.rowmapper.TaskResourceRowMapper;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.household.Household;
+import org.egov.common.models.household.HouseholdBulkResponse;
+import org.egov.common.models.household.HouseholdMemberBulkResponse;
+import org.egov.common.models.household.HouseholdMemberSearchRequest;
+import org.egov.common.models.household.HouseholdSearchRequest;
+import org.egov.common.models.individual.Individual;
+import org.egov.common.models.individual.IndividualBulkResponse;
+import org.egov.common.models.individual.IndividualSearchRequest;
+import org.egov.common.models.project.BeneficiaryBulkResponse;
+import org.egov.common.models.project.BeneficiarySearchRequest;
+import org.egov.common.models.project.Task;
+import org.egov.common.models.project.TaskBulkResponse;
+import org.egov.common.models.project.TaskResource;
+import org.egov.common.models.project.TaskSearchRequest;
+import org.egov.common.models.referralmanagement.Referral;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.Downsync;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncCriteria;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncRequest;
+import org.egov.common.models.referralmanagement.sideeffect.SideEffect;
+import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.repository.DownsyncRepository;
+import org.egov.referralmanagement.service.DownsyncService;
+import org.egov.referralmanagement.service.MasterDataService;
+import org.egov.referralmanagement.service.ReferralManagementService;
+import org.egov.referralmanagement.service.SideEffectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs the {@link DownsyncService} of one locality of {@code households} households, each with
+ * {@code membersPerHousehold} members, a project beneficiary and a delivered task, in both downsync modes against
+ * the same database.
+ *
+ * <p>{@code directDb} reads households, members, beneficiaries and tasks through {@link DownsyncRepository}.
+ * {@code http} takes the id lookup queries of the http mode and hands each page to a stand-in of the household and
+ * project services: the search request is encoded and decoded, the owning service's query by id runs through the
+ * same shared row mapper, and its bulk response is encoded and decoded again. Each hop parks {@code hopMicros} for
+ * the network round trip, which is left out at the default of 0. Individuals are fetched over http in both modes,
+ * side effects and referrals are empty.
+ *
+ * <p>Runs on an in-memory H2 database in PostgreSQL mode by default. Point it at a local Postgres with
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/bench -Dbenchmark.jdbc.user=.. -Dbenchmark.jdbc.password=..};
+ * the tables are created there if missing and refilled before the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DownsyncModeBenchmark {
+
+    private static final String TENANT_ID = "default";
+
+    private static final String LOCALITY = "LOCALITY-1";
+
+    private static final String PROJECT_ID = "project-1";
+
+    private static final long TIME = 1700000000000L;
+
+    @Param({"50000"})
+    private int households;
+
+    @Param({"4"})
+    private int membersPerHousehold;
+
+    @Param({"500"})
+    private int pageSize;
+
+    @Param({"8"})
+    private int parallelism;
+
+    @Param({"0"})
+    private int hopMicros;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private HikariDataSource dataSource;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private ExecutorService executor;
+
+    private DownsyncService directDbDownsync;
+
+    private DownsyncService httpDownsync;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:downsync;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"));
+        dataSource.setUsername(System.getProperty("benchmark.jdbc.user", "sa"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc.password", ""));
+        dataSource.setMaximumPoolSize(parallelism);
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        createTables();
+        insertLocality();
+
+        DownsyncRepository downsyncRepository = new DownsyncRepository(jdbcTemplate, new HouseholdRowMapper(),
+                new HouseholdMemberRowMapper(), new ProjectBeneficiaryRowMapper(), new ProjectTaskRowMapper(),
+                new TaskResourceRowMapper());
+        executor = Executors.newFixedThreadPool(parallelism);
+        directDbDownsync = downsyncService(true, downsyncRepository);
+        httpDownsync = downsyncService(false, downsyncRepository);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Downsync directDb() {
+        return directDbDownsync.prepareDownsyncData(downsyncRequest());
+    }
+
+    @Benchmark
+    public Downsync http() {
+        return httpDownsync.prepareDownsyncData(downsyncRequest());
+    }
+
+    private DownsyncService downsyncService(boolean directDb, DownsyncRepository downsyncRepository) {
+        ReferralManagementConfiguration configs = ReferralManagementConfiguration.builder()
+                .downsyncPageSize(pageSize)
+                .downsyncTimeoutInSeconds(600L)
+                .downsyncDirectDbEnabled(directDb)
+                .householdHost("http://household").householdSearchUrl("/household/v1/_search")
+                .householdMemberSearchUrl("/household/member/v1/_search")
+                .individualHost("http://individual").individualSearchUrl("/individual/v1/_search")
+                .projectHost("http://project").projectBeneficiarySearchUrl("/project/beneficiary/v1/_search")
+                .projectTaskSearchUrl("/project/task/v1/_search")
+                .build();
+
+        MasterDataService masterDataService = mock(MasterDataService.class, withSettings().stubOnly());
+        LinkedHashMap<String, Object> projectType = new LinkedHashMap<>();
+        projectType.put("beneficiaryType", "HOUSEHOLD");
+        when(masterDataService.getProjectType(any())).thenReturn(projectType);
+        SideEffectService sideEffectService = mock(SideEffectService.class, withSettings().stubOnly());
+        when(sideEffectService.search(any(), any(), any(), any(), any(), any()))
+                .thenReturn(SearchResponse.<SideEffect>builder().response(Collections.emptyList()).build());
+        ReferralManagementService referralService = mock(ReferralManagementService.class, withSettings().stubOnly());
+        when(referralService.search(any(), any(), any(), any(), any(), any()))
+                .thenReturn(SearchResponse.<Referral>builder().response(Collections.emptyList()).build());
+
+        return new DownsyncService(new OwningServices(downsyncRepository), configs, jdbcTemplate, sideEffectService,
+                referralService, masterDataService, executor, objectMapper, downsyncRepository);
+    }
+
+    private DownsyncRequest downsyncRequest() {
+        return DownsyncRequest.builder()
+                .requestInfo(RequestInfo.builder().build())
+                .downsyncCriteria(criteria())
+                .build();
+    }
+
+    private DownsyncCriteria criteria() {
+        return DownsyncCriteria.builder()
+                .locality(LOCALITY)
+                .projectId(PROJECT_ID)
+                .tenantId(TENANT_ID)
+                .includeDeleted(false)
+                .offset(0)
+                .limit(households)
+                .build();
+    }
+
+    /**
+     * Stands in for the household, project and individual services behind the http client: decodes the search
+     * request, runs the service's search by id on the shared database and returns its encoded bulk response.
+     */
+    private class OwningServices extends ServiceRequestClient {
+
+        private final DownsyncRepository downsyncRepository;
+
+        private OwningServices(DownsyncRepository downsyncRepository) {
+            super(objectMapper, null);
+            this.downsyncRepository = downsyncRepository;
+        }
+
+        @Override
+        public <T> T fetchResult(StringBuilder uri, Object request, Class<T> clazz) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(hopMicros));
+            try {
+                Object received = objectMapper.readValue(objectMapper.writeValueAsBytes(request), request.getClass());
+                return objectMapper.readValue(objectMapper.writeValueAsBytes(search(received)), clazz);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private Object search(Object request) {
+            if (request instanceof HouseholdSearchRequest) {
+                SearchResponse<Household> response = downsyncRepository.findHouseholds(criteria());
+                return HouseholdBulkResponse.builder().households(response.getResponse())
+                        .totalCount(response.getTotalCount()).build();
+            }
+            if (request instanceof HouseholdMemberSearchRequest) {
+                List<String> ids = ((HouseholdMemberSearchRequest) request).getHouseholdMemberSearch().getId();
+                return HouseholdMemberBulkResponse.builder().householdMembers(jdbcTemplate.query(
+                        "SELECT * FROM household_member WHERE id IN (:ids) AND tenantId=:tenantId AND isDeleted=false",
+                        idParams(ids), new HouseholdMemberRowMapper())).build();
+            }
+            if (request instanceof BeneficiarySearchRequest) {
+                List<String> ids = ((BeneficiarySearchRequest) request).getProjectBeneficiary().getId();
+                return BeneficiaryBulkResponse.builder().projectBeneficiaries(jdbcTemplate.query(
+                        "SELECT * FROM project_beneficiary WHERE id IN (:ids) AND tenantId=:tenantId AND isDeleted=false",
+                        idParams(ids), new ProjectBeneficiaryRowMapper())).build();
+            }
+            if (request instanceof TaskSearchRequest) {
+                List<String> ids = ((TaskSearchRequest) request).getTask().getId();
+                List<Task> tasks = jdbcTemplate.query("SELECT *, a.id as aid,a.tenantid as atenantid, "
+                                + "a.clientreferenceid as aclientreferenceid FROM project_task pt "
+                                + "LEFT JOIN address a ON pt.addressid = a.id "
+                                + "WHERE pt.id IN (:ids) AND pt.tenantId=:tenantId AND pt.isDeleted=false",
+                        idParams(ids), new ProjectTaskRowMapper());
+                Map<String, List<TaskResource>> resources = jdbcTemplate.query(
+                                "SELECT * FROM task_resource WHERE taskId IN (:ids)", idParams(ids), new TaskResourceRowMapper())
+                        .stream().collect(Collectors.groupingBy(TaskResource::getTaskId));
+                tasks.forEach(task -> task.setResources(resources.get(task.getId())));
+                return TaskBulkResponse.builder().tasks(tasks).build();
+            }
+            if (request instanceof IndividualSearchRequest) {
+                List<String> clientReferenceIds = ((IndividualSearchRequest) request).getIndividual().getClientReferenceId();
+                return IndividualBulkResponse.builder().individual(clientReferenceIds.stream()
+                        .map(clientReferenceId -> Individual.builder().id(clientReferenceId)
+                                .clientReferenceId(clientReferenceId).tenantId(TENANT_ID).build())
+                        .collect(Collectors.toList())).build();
+            }
+            throw new IllegalArgumentException("No stand-in service for " + request.getClass().getSimpleName());
+        }
+
+        private Map<String, Object> idParams(List<String> ids) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("ids", ids);
+            params.put("tenantId", TENANT_ID);
+            return params;
+        }
+    }
+
+    private void createTables() {
+        String audit = "createdBy character varying(64), createdTime bigint, lastModifiedBy character varying(64), "
+                + "lastModifiedTime bigint, clientCreatedBy character varying(64), clientCreatedTime bigint, "
+                + "clientLastModifiedBy character varying(64), clientLastModifiedTime bigint, "
+                + "additionalDetails character varying(4000), rowVersion bigint, isDeleted boolean";
+        String table = "CREATE TABLE IF NOT EXISTS ";
+        execute(table + "address (id character varying(64) PRIMARY KEY, tenantId character varying(1000), "
+                + "clientReferenceId character varying(64), doorNo character varying(64), latitude double precision, "
+                + "longitude double precision, locationAccuracy double precision, type character varying(64), "
+                + "addressLine1 character varying(256), addressLine2 character varying(256), "
+                + "landmark character varying(256), city character varying(256), pinCode character varying(64), "
+                + "buildingName character varying(256), street character varying(256), "
+                + "localityCode character varying(256))");
+        execute(table + "household (id character varying(64) PRIMARY KEY, tenantId character varying(1000), "
+                + "clientReferenceId character varying(64), householdType character varying(64), "
+                + "numberOfMembers integer, addressId character varying(64), " + audit + ")");
+        execute(table + "household_member (id character varying(64) PRIMARY KEY, tenantId character varying(1000), "
+                + "clientReferenceId character varying(64), householdId character varying(64), "
+                + "householdClientReferenceId character varying(64), individualId character varying(64), "
+                + "individualClientReferenceId character varying(64), isHeadOfHousehold boolean, " + audit + ")");
+        execute(table + "project_beneficiary (id character varying(64) PRIMARY KEY, tenantId character varying(1000), "
+                + "clientReferenceId character varying(64), projectId character varying(64), "
+                + "beneficiaryId character varying(64), beneficiaryClientReferenceId character varying(64), "
+                + "dateOfRegistration bigint, tag character varying(64), " + audit + ")");
+        execute(table + "project_task (id character varying(64) PRIMARY KEY, tenantId character varying(1000), "
+                + "clientReferenceId character varying(64), projectId character varying(64), "
+                + "projectBeneficiaryId character varying(64), projectBeneficiaryClientReferenceId character varying(64), "
+                + "plannedStartDate bigint, plannedEndDate bigint, actualStartDate bigint, actualEndDate bigint, "
+                + "status character varying(64), addressId character varying(64), " + audit + ")");
+        execute(table + "task_resource (id character varying(64) PRIMARY KEY, tenantId character varying(1000), "
+                + "clientReferenceId character varying(64), taskId character varying(64), "
+                + "productVariantId character varying(64), quantity double precision, isDelivered boolean, "
+                + "reasonIfNotDelivered character varying(1000), " + audit + ")");
+        execute(table + "side_effect (id character varying(64) PRIMARY KEY, "
+                + "taskClientReferenceId character varying(64), lastModifiedTime bigint)");
+        for (String index : List.of("address (localityCode)", "household_member (householdId)",
+                "project_beneficiary (beneficiaryClientReferenceId)", "project_task (projectBeneficiaryClientReferenceId)",
+                "task_resource (taskId)", "side_effect (taskClientReferenceId)")) {
+            execute("CREATE INDEX IF NOT EXISTS idx_downsync_" + index.substring(0, index.indexOf(' '))
+                    + "_" + index.substring(index.indexOf('(') + 1, index.indexOf(')')) + " ON " + index);
+        }
+        for (String name : List.of("side_effect", "task_resource", "project_task", "project_beneficiary",
+                "household_member", "household", "address")) {
+            execute("DELETE FROM " + name);
+        }
+    }
+
+    private void insertLocality() {
+        List<Object[]> addresses = new ArrayList<>();
+        List<Object[]> householdRows = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> beneficiaries = new ArrayList<>();
+        List<Object[]> tasks = new ArrayList<>();
+        List<Object[]> resources = new ArrayList<>();
+        for (int i = 0; i < households; i++) {
+            String household = UUID.randomUUID().toString();
+            String beneficiary = UUID.randomUUID().toString();
+            String task = UUID.randomUUID().toString();
+            addresses.add(new Object[]{household, TENANT_ID, LOCALITY});
+            householdRows.add(new Object[]{household, TENANT_ID, household, membersPerHousehold, household, TIME, TIME});
+            for (int j = 0; j < membersPerHousehold; j++) {
+                String member = UUID.randomUUID().toString();
+                members.add(new Object[]{member, TENANT_ID, member, household, household, member, j == 0, TIME, TIME});
+            }
+            beneficiaries.add(new Object[]{beneficiary, TENANT_ID, beneficiary, PROJECT_ID, household, household, TIME, TIME, TIME});
+            tasks.add(new Object[]{task, TENANT_ID, task, PROJECT_ID, beneficiary, beneficiary, "ADMINISTRATION_SUCCESS", TIME, TIME});
+            resources.add(new Object[]{task, TENANT_ID, task, task, "PVAR-1", 3.0, true, TIME, TIME});
+        }
+        String audit = "createdBy, createdTime, lastModifiedBy, lastModifiedTime, rowVersion, isDeleted";
+        String auditValues = "'user', ?, 'user', ?, 1, false";
+        batch("INSERT INTO address (id, tenantId, localityCode, latitude, longitude) VALUES (?, ?, ?, 12.97, 77.59)", addresses);
+        batch("INSERT INTO household (id, tenantId, clientReferenceId, numberOfMembers, addressId, " + audit
+                + ") VALUES (?, ?, ?, ?, ?, " + auditValues + ")", householdRows);
+        batch("INSERT INTO household_member (id, tenantId, clientReferenceId, householdId, householdClientReferenceId, "
+                + "individualClientReferenceId, isHeadOfHousehold, " + audit + ") VALUES (?, ?, ?, ?, ?, ?, ?, "
+                + auditValues + ")", members);
+        batch("INSERT INTO project_beneficiary (id, tenantId, clientReferenceId, projectId, beneficiaryId, "
+                + "beneficiaryClientReferenceId, dateOfRegistration, " + audit + ") VALUES (?, ?, ?, ?, ?, ?, ?, "
+                + auditValues + ")", beneficiaries);
+        batch("INSERT INTO project_task (id, tenantId, clientReferenceId, projectId, projectBeneficiaryId, "
+                + "projectBeneficiaryClientReferenceId, status, " + audit + ") VALUES (?, ?, ?, ?, ?, ?, ?, "
+                + auditValues + ")", tasks);
+        batch("INSERT INTO task_resource (id, tenantId, clientReferenceId, taskId, productVariantId, quantity, "
+                + "isDelivered, " + audit + ") VALUES (?, ?, ?, ?, ?, ?, ?, " + auditValues + ")", resources);
+    }
+
+    private void execute(String sql) {
+        jdbcTemplate.getJdbcTemplate().execute(sql);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += 5000) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(sql, rows.subList(from, Math.min(from + 5000, rows.size())));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DownsyncModeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
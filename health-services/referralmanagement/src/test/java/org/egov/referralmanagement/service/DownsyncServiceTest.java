@@ -0,0 +1,221 @@
+package org.egov.referralmanagement.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.common.models.core.SearchResponse;
+import org.egov.common.models.household.Household;
+import org.egov.common.models.household.HouseholdMember;
+import org.egov.common.models.individual.Individual;
+import org.egov.common.models.individual.IndividualBulkResponse;
+import org.egov.common.models.project.ProjectBeneficiary;
+import org.egov.common.models.project.Task;
+import org.egov.common.models.referralmanagement.Referral;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.Downsync;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncCriteria;
+import org.egov.common.models.referralmanagement.beneficiarydownsync.DownsyncRequest;
+import org.egov.common.models.referralmanagement.sideeffect.SideEffect;
+import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.repository.DownsyncRepository;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DownsyncServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ServiceRequestClient restClient;
+
+    @Mock
+    private ReferralManagementConfiguration configs;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SideEffectService sideEffectService;
+
+    @Mock
+    private ReferralManagementService referralService;
+
+    @Mock
+    private MasterDataService masterDataService;
+
+    @Mock
+    private DownsyncRepository downsyncRepository;
+
+    private ExecutorService executor;
+
+    private DownsyncService downsyncService;
+
+    private DownsyncRequest downsyncRequest;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        downsyncService = new DownsyncService(restClient, configs, jdbcTemplate, sideEffectService, referralService,
+                masterDataService, executor, objectMapper, downsyncRepository);
+        downsyncRequest = DownsyncRequest.builder()
+                .downsyncCriteria(DownsyncCriteria.builder().locality("locality-1").tenantId("tenant")
+                        .projectId("project-1").includeDeleted(false).offset(0).limit(50).build())
+                .build();
+
+        lenient().when(configs.getDownsyncPageSize()).thenReturn(500);
+        lenient().when(configs.getDownsyncTimeoutInSeconds()).thenReturn(5L);
+        lenient().when(configs.getDownsyncDirectDbEnabled()).thenReturn(true);
+        lenient().when(configs.getIndividualHost()).thenReturn("http://individual");
+        lenient().when(configs.getIndividualSearchUrl()).thenReturn("/individual/v1/_search");
+        LinkedHashMap<String, Object> projectType = new LinkedHashMap<>();
+        projectType.put("beneficiaryType", "HOUSEHOLD");
+        lenient().when(masterDataService.getProjectType(any())).thenReturn(projectType);
+
+        lenient().when(downsyncRepository.findHouseholds(any())).thenReturn(SearchResponse.<Household>builder()
+                .response(List.of(Household.builder().id("household-1").clientReferenceId("household-ref-1").build()))
+                .totalCount(1L).build());
+        lenient().when(downsyncRepository.findMembers(any(), any())).thenReturn(List.of(HouseholdMember.builder()
+                .id("member-1").householdId("household-1").individualClientReferenceId("individual-ref-1").build()));
+        IndividualBulkResponse individuals = new IndividualBulkResponse();
+        individuals.setIndividual(List.of(Individual.builder().id("individual-1").clientReferenceId("individual-ref-1").build()));
+        lenient().when(restClient.fetchResult(any(StringBuilder.class), any(), eq(IndividualBulkResponse.class)))
+                .thenReturn(individuals);
+        lenient().when(downsyncRepository.findBeneficiaries(any(), any())).thenReturn(List.of(ProjectBeneficiary.builder()
+                .id("beneficiary-1").clientReferenceId("beneficiary-ref-1").build()));
+        lenient().when(downsyncRepository.findTasks(any(), any())).thenReturn(List.of(Task.builder()
+                .id("task-1").clientReferenceId("task-ref-1").build()));
+        lenient().when(jdbcTemplate.queryForList(anyString(), anyMap(), eq(String.class))).thenReturn(List.of("side-effect-1"));
+        lenient().when(sideEffectService.search(any(), any(), any(), any(), any(), any())).thenReturn(SearchResponse.<SideEffect>builder()
+                .response(List.of(SideEffect.builder().id("side-effect-1").build())).build());
+        lenient().when(referralService.search(any(), any(), any(), any(), any(), any())).thenReturn(SearchResponse.<Referral>builder()
+                .response(List.of(Referral.builder().id("referral-1").build())).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should fetch tasks and referrals side by side once beneficiaries are known")
+    void shouldRunIndependentStagesConcurrently() {
+        CountDownLatch tasksFetching = new CountDownLatch(1);
+        CountDownLatch referralsFetching = new CountDownLatch(1);
+        when(downsyncRepository.findTasks(any(), any())).thenAnswer(invocation -> {
+            tasksFetching.countDown();
+            assertTrue(referralsFetching.await(5, TimeUnit.SECONDS), "referrals were not fetched alongside tasks");
+            return List.of(Task.builder().id("task-1").clientReferenceId("task-ref-1").build());
+        });
+        when(referralService.search(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            referralsFetching.countDown();
+            assertTrue(tasksFetching.await(5, TimeUnit.SECONDS), "tasks were not fetched alongside referrals");
+            return SearchResponse.<Referral>builder().response(List.of(Referral.builder().id("referral-1").build())).build();
+        });
+
+        Downsync downsync = downsyncService.prepareDownsyncData(downsyncRequest);
+
+        assertEquals("household-1", downsync.getHouseholds().get(0).getId());
+        assertEquals("member-1", downsync.getHouseholdMembers().get(0).getId());
+        assertEquals("individual-1", downsync.getIndividuals().get(0).getId());
+        assertEquals("beneficiary-1", downsync.getProjectBeneficiaries().get(0).getId());
+        assertEquals("task-1", downsync.getTasks().get(0).getId());
+        assertEquals("side-effect-1", downsync.getSideEffects().get(0).getId());
+        assertEquals("referral-1", downsync.getReferrals().get(0).getId());
+        assertEquals(1L, downsync.getDownsyncCriteria().getTotalCount());
+    }
+
+    @Test
+    @DisplayName("should fail a downsync that does not complete in time and start no further stage")
+    void shouldCancelRemainingStagesOnTimeout() throws Exception {
+        when(configs.getDownsyncTimeoutInSeconds()).thenReturn(1L);
+        CountDownLatch broker = new CountDownLatch(1);
+        when(downsyncRepository.findTasks(any(), any())).thenAnswer(invocation -> {
+            broker.await();
+            return List.of(Task.builder().id("task-1").clientReferenceId("task-ref-1").build());
+        });
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> downsyncService.prepareDownsyncData(downsyncRequest));
+
+        assertEquals("DOWNSYNC_TIMEOUT", exception.getCode());
+        broker.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        verify(sideEffectService, never()).search(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should stream every section and the criteria as one json response")
+    void shouldStreamEverySection() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        downsyncService.streamDownsyncData(downsyncRequest, outputStream);
+
+        JsonNode response = objectMapper.readTree(outputStream.toByteArray());
+        assertEquals("successful", response.get("ResponseInfo").get("status").asText());
+        JsonNode downsync = response.get("Downsync");
+        for (String section : List.of("Households", "HouseholdMembers", "Individuals", "ProjectBeneficiaries",
+                "Tasks", "SideEffects", "Referrals"))
+            assertEquals(1, downsync.get(section).size(), section);
+        assertEquals("locality-1", downsync.get("DownsyncCriteria").get("locality").asText());
+        assertFalse(response.has("Errors"));
+    }
+
+    @Test
+    @DisplayName("should end a started stream with the errors of a failed stage")
+    void shouldEndStartedStreamWithErrors() throws Exception {
+        when(referralService.search(any(), any(), any(), any(), any(), any()))
+                .thenThrow(new CustomException("REFERRAL_SEARCH_FAILED", "referral search failed"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        downsyncService.streamDownsyncData(downsyncRequest, outputStream);
+
+        JsonNode response = objectMapper.readTree(outputStream.toByteArray());
+        assertEquals(1, response.get("Downsync").get("Households").size());
+        assertFalse(response.get("Downsync").has("Referrals"));
+        assertFalse(response.get("Downsync").has("DownsyncCriteria"));
+        assertEquals("REFERRAL_SEARCH_FAILED", response.get("Errors").get(0).get("code").asText());
+    }
+
+    @Test
+    @DisplayName("should write nothing and throw when a stage fails before the stream starts")
+    void shouldThrowBeforeStreamStarts() {
+        when(downsyncRepository.findHouseholds(any()))
+                .thenThrow(new CustomException("HOUSEHOLD_SEARCH_FAILED", "household search failed"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> downsyncService.streamDownsyncData(downsyncRequest, outputStream));
+
+        assertEquals("HOUSEHOLD_SEARCH_FAILED", exception.getCode());
+        assertEquals(0, outputStream.size());
+    }
+}
@@ -135,4 +135,31 @@ public class Configuration {
 	@Value("${egov.census.search.endpoint}")
 	private String censusSearchEndPoint;
 
+	//excel streaming
+	@Value("${resource.excel.streaming.enabled:true}")
+	private boolean excelStreamingEnabled;
+
+	@Value("${resource.excel.streaming.window.size:1000}")
+	private Integer excelStreamingWindowSize;
+
+	//calculation
+	@Value("${resource.calculation.batch.size:1000}")
+	private Integer calculationBatchSize;
+
+	@Value("${resource.calculation.parallelism:1}")
+	private Integer calculationParallelism;
+
+	//sheet processing and record push
+	@Value("${resource.sheet.processing.parallelism:1}")
+	private Integer sheetProcessingParallelism;
+
+	@Value("${resource.kafka.push.batch.size:500}")
+	private Integer kafkaPushBatchSize;
+
+	@Value("${resource.kafka.push.max.in.flight.batches:4}")
+	private Integer kafkaPushMaxInFlightBatches;
+
+	@Value("${resource.kafka.push.threads:4}")
+	private Integer kafkaPushThreads;
+
 }
@@ -67,6 +67,18 @@ public class ServiceConstants {
     public static final String NO_MDMS_DATA_FOUND_FOR_MIXED_STRATEGY_MASTER_CODE = "NO_MDMS_DATA_FOUND_FOR_MIXED_STRATEGY_MASTER";
     public static final String NO_MDMS_DATA_FOUND_FOR_MIXED_STRATEGY_MASTER_CODE_MESSAGE = "Master data not found for Mixed Strategy master";
 
+    public static final String ERROR_WHILE_STREAMING_EXCEL_FILE_CODE = "ERROR_WHILE_STREAMING_EXCEL_FILE";
+    public static final String ERROR_WHILE_STREAMING_EXCEL_FILE_MESSAGE = "Exception occurred while streaming rows of excel file : ";
+
+    public static final String ERROR_WHILE_PUSHING_RECORD_BATCH_CODE = "ERROR_WHILE_PUSHING_RECORD_BATCH";
+    public static final String ERROR_WHILE_PUSHING_RECORD_BATCH_MESSAGE = "Interrupted while waiting to push records to topic : ";
+
+    public static final String ERROR_WHILE_PROCESSING_SHEET_CODE = "ERROR_WHILE_PROCESSING_SHEET";
+    public static final String ERROR_WHILE_PROCESSING_SHEET_MESSAGE = "Exception occurred while processing sheet : ";
+
+    public static final String SHEET_PROCESSING_CANCELLED_CODE = "SHEET_PROCESSING_CANCELLED";
+    public static final String SHEET_PROCESSING_CANCELLED_MESSAGE = "Processing cancelled after another sheet failed, at sheet : ";
+
     public static final String BOUNDARY_CODE = "HCM_ADMIN_CONSOLE_BOUNDARY_CODE";
     public static final String TOTAL_POPULATION = "HCM_ADMIN_CONSOLE_TOTAL_POPULATION";
 
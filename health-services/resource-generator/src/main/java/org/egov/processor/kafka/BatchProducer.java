@@ -0,0 +1,164 @@
+package org.egov.processor.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.processor.config.Configuration;
+import org.egov.tracer.model.CustomException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.egov.processor.config.ServiceConstants.ERROR_WHILE_PUSHING_RECORD_BATCH_CODE;
+import static org.egov.processor.config.ServiceConstants.ERROR_WHILE_PUSHING_RECORD_BATCH_MESSAGE;
+
+/**
+ * Pushes the records of a file through {@link Producer} in batches of resource.kafka.push.batch.size records.
+ *
+ * Every record is still its own message, as the consumers of the census and plan topics expect; a batch is pushed
+ * on one of resource.kafka.push.threads threads so the row processing does not wait for each send. At most
+ * resource.kafka.push.max.in.flight.batches batches are pending at a time, callers adding a record to a full batch
+ * wait for a slot. A failed record is logged and counted, like the single pushes of the census and plan utils.
+ *
+ * Meters, tagged with topic: resource.generator.records.emitted, resource.generator.records.failed and
+ * resource.generator.push.batch.latency; resource.generator.push.batches.in.flight is a gauge.
+ */
+@Service
+@Slf4j
+public class BatchProducer {
+
+    private final Producer producer;
+
+    private final int batchSize;
+
+    private final int maxInFlightBatches;
+
+    private final Semaphore inFlightBatches;
+
+    private final ExecutorService pushExecutor;
+
+    private final MeterRegistry meterRegistry;
+
+    public BatchProducer(Producer producer, Configuration config, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.producer = producer;
+        this.batchSize = Math.max(1, config.getKafkaPushBatchSize());
+        this.maxInFlightBatches = Math.max(1, config.getKafkaPushMaxInFlightBatches());
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
+        this.pushExecutor = Executors.newFixedThreadPool(Math.max(1, config.getKafkaPushThreads()));
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("resource.generator.push.batches.in.flight", this,
+                producer -> producer.maxInFlightBatches - producer.inFlightBatches.availablePermits())
+                .register(this.meterRegistry);
+    }
+
+    /**
+     * Opens a batch of records for the topic. The batch is to be closed once the last record is added.
+     *
+     * @param topic The topic the records are pushed to.
+     * @return The batch.
+     */
+    public Batch open(String topic) {
+        return new Batch(topic);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushExecutor.shutdown();
+    }
+
+    /**
+     * Records pushed to one topic. Not thread safe, each sheet or file keeps its own batch.
+     */
+    public class Batch implements AutoCloseable {
+
+        private final String topic;
+
+        private final Counter emitted;
+
+        private final Counter failed;
+
+        private final Timer latency;
+
+        private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        private List<Object> records = new ArrayList<>();
+
+        private List<String> errorMessages = new ArrayList<>();
+
+        private Batch(String topic) {
+            this.topic = topic;
+            this.emitted = Counter.builder("resource.generator.records.emitted").tag("topic", topic).register(meterRegistry);
+            this.failed = Counter.builder("resource.generator.records.failed").tag("topic", topic).register(meterRegistry);
+            this.latency = Timer.builder("resource.generator.push.batch.latency").tag("topic", topic).register(meterRegistry);
+        }
+
+        /**
+         * Adds a record, pushing the batch once it is full.
+         *
+         * @param record       The record.
+         * @param errorMessage The message logged if the record cannot be pushed.
+         */
+        public void add(Object record, String errorMessage) {
+            records.add(record);
+            errorMessages.add(errorMessage);
+            if (records.size() >= batchSize)
+                push();
+        }
+
+        /**
+         * Pushes the remaining records and waits until every record of the batch is pushed.
+         */
+        @Override
+        public void close() {
+            push();
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+            pending.clear();
+        }
+
+        private void push() {
+            if (records.isEmpty())
+                return;
+
+            List<Object> batchRecords = records;
+            List<String> batchErrorMessages = errorMessages;
+            records = new ArrayList<>(batchSize);
+            errorMessages = new ArrayList<>(batchSize);
+
+            try {
+                inFlightBatches.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ERROR_WHILE_PUSHING_RECORD_BATCH_CODE, ERROR_WHILE_PUSHING_RECORD_BATCH_MESSAGE + topic);
+            }
+            pending.removeIf(CompletableFuture::isDone);
+            pending.add(CompletableFuture.runAsync(() -> {
+                long start = System.nanoTime();
+                try {
+                    for (int i = 0; i < batchRecords.size(); i++) {
+                        try {
+                            producer.push(topic, batchRecords.get(i));
+                            emitted.increment();
+                        } catch (Exception e) {
+                            failed.increment();
+                            log.error(batchErrorMessages.get(i), e);
+                        }
+                    }
+                } finally {
+                    latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    inFlightBatches.release();
+                }
+            }, pushExecutor));
+        }
+    }
+}
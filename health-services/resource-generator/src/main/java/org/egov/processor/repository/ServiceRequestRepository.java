@@ -13,6 +13,9 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Map;
 
 import static org.egov.processor.config.ServiceConstants.EXTERNAL_SERVICE_EXCEPTION;
@@ -64,6 +67,27 @@ public class ServiceRequestRepository {
         return response;
     }
 
+    /**
+     * Streams the body of a GET response to a file, without holding it in memory.
+     *
+     * @param uri    The uri to fetch.
+     * @param target The file the body is written to, replaced if it exists.
+     */
+    public void downloadWithGET(StringBuilder uri, Path target) {
+        try {
+            restTemplate.execute(uri.toString(), HttpMethod.GET, null, response -> {
+                Files.copy(response.getBody(), target, StandardCopyOption.REPLACE_EXISTING);
+                return null;
+            });
+        } catch (HttpClientErrorException e) {
+        	log.error(SEARCHER_SERVICE_EXCEPTION, "Error occurred while fetching data: {}", e.getMessage());
+            throw new ServiceCallException(e.getResponseBodyAsString());
+        } catch (Exception e) {
+        	log.error(SEARCHER_SERVICE_EXCEPTION, "Error occurred while fetching data: {}", e.getMessage());
+            throw new ServiceCallException(e.getMessage());
+        }
+    }
+
     public ResponseEntity<String> sendHttpRequest(String url, HttpEntity<MultiValueMap<String, Object>> requestEntity) {
         return restTemplate.exchange(url, HttpMethod.POST, requestEntity, String.class);
     }
@@ -5,12 +5,15 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.egov.processor.config.Configuration;
 import org.egov.processor.config.ServiceConstants;
+import org.egov.processor.kafka.BatchProducer;
 import org.egov.processor.util.*;
 import org.egov.processor.web.models.*;
 import org.egov.processor.web.models.boundary.BoundarySearchResponse;
@@ -18,6 +21,7 @@ import org.egov.processor.web.models.boundary.EnrichedBoundary;
 import org.egov.processor.web.models.campaignManager.Boundary;
 import org.egov.processor.web.models.campaignManager.CampaignResources;
 import org.egov.processor.web.models.campaignManager.CampaignResponse;
+import org.egov.processor.web.models.census.Census;
 import org.egov.processor.web.models.mdmsV2.MixedStrategyOperationLogic;
 import org.egov.processor.web.models.planFacility.PlanFacility;
 import org.egov.processor.web.models.planFacility.PlanFacilityResponse;
@@ -35,6 +39,11 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static org.egov.processor.config.ServiceConstants.*;
@@ -75,9 +84,17 @@ public class ExcelParser implements FileParser {
 
 	private PlanFacilityUtil planFacilityUtil;
 
+	private ExcelStreamingUtil excelStreamingUtil;
+
+	private BatchProducer batchProducer;
+
+	private SheetProgressUtil sheetProgressUtil;
+
+	private ExecutorService sheetExecutor;
+
 	public ExcelParser(ObjectMapper objectMapper, ParsingUtil parsingUtil, FilestoreUtil filestoreUtil,
 					   CalculationUtil calculationUtil, PlanUtil planUtil, CampaignIntegrationUtil campaignIntegrationUtil,
-					   Configuration config, MdmsUtil mdmsUtil, BoundaryUtil boundaryUtil, LocaleUtil localeUtil, CensusUtil censusUtil, EnrichmentUtil enrichmentUtil, PlanConfigurationUtil planConfigurationUtil, OutputEstimationGenerationUtil outputEstimationGenerationUtil, MixedStrategyUtil mixedStrategyUtil, PlanFacilityUtil planFacilityUtil) {
+					   Configuration config, MdmsUtil mdmsUtil, BoundaryUtil boundaryUtil, LocaleUtil localeUtil, CensusUtil censusUtil, EnrichmentUtil enrichmentUtil, PlanConfigurationUtil planConfigurationUtil, OutputEstimationGenerationUtil outputEstimationGenerationUtil, MixedStrategyUtil mixedStrategyUtil, PlanFacilityUtil planFacilityUtil, ExcelStreamingUtil excelStreamingUtil, BatchProducer batchProducer, SheetProgressUtil sheetProgressUtil) {
 		this.objectMapper = objectMapper;
 		this.parsingUtil = parsingUtil;
 		this.filestoreUtil = filestoreUtil;
@@ -94,8 +111,19 @@ public class ExcelParser implements FileParser {
         this.outputEstimationGenerationUtil = outputEstimationGenerationUtil;
         this.mixedStrategyUtil = mixedStrategyUtil;
         this.planFacilityUtil = planFacilityUtil;
+        this.excelStreamingUtil = excelStreamingUtil;
+        this.batchProducer = batchProducer;
+        this.sheetProgressUtil = sheetProgressUtil;
+        if (config.getSheetProcessingParallelism() > 1)
+            this.sheetExecutor = Executors.newFixedThreadPool(config.getSheetProcessingParallelism());
     }
 
+	@PreDestroy
+	public void shutdown() {
+		if (sheetExecutor != null)
+			sheetExecutor.shutdown();
+	}
+
 	/**
 	 * Parses file data, extracts information from the file, and processes it.
 	 *
@@ -135,6 +163,10 @@ public class ExcelParser implements FileParser {
 	 */
 	private void processExcelFile(PlanConfigurationRequest planConfigurationRequest, File file, String fileStoreId,
 			Object campaignResponse) {
+		if (isStreamingAllowed(planConfigurationRequest)) {
+			processExcelFileInStreams(planConfigurationRequest, file, fileStoreId, campaignResponse);
+			return;
+		}
 		try (Workbook workbook = new XSSFWorkbook(file)) {
 			List<Boundary> campaignBoundaryList = new ArrayList<>();
 			DataFormatter dataFormatter = new DataFormatter();
@@ -154,6 +186,240 @@ public class ExcelParser implements FileParser {
 		}
 	}
 
+	/**
+	 * Runs the task of each sheet, concurrently on the sheet executor when there is one, and waits for all of them.
+	 * The first sheet to fail cancels the others: sheets not started yet are skipped and running sheets stop at their
+	 * next row, see {@link #checkNotCancelled(SheetProcessingContext, String)}. Its failure is rethrown once all the
+	 * sheets are done.
+	 *
+	 * @param sheetTasks The task of each sheet, by sheet name, in sheet order.
+	 * @param context    The data shared by the sheets of the file.
+	 */
+	private void runSheetTasks(Map<String, Runnable> sheetTasks, SheetProcessingContext context) {
+		if (sheetExecutor == null || sheetTasks.size() <= 1) {
+			sheetTasks.values().forEach(Runnable::run);
+			return;
+		}
+
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		sheetTasks.forEach((sheetName, task) -> futures.add(CompletableFuture.runAsync(() -> {
+			if (context.cancelled.get())
+				return;
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				if (context.cancelled.compareAndSet(false, true)) {
+					log.error(ERROR_WHILE_PROCESSING_SHEET_MESSAGE + sheetName, e);
+					failure.set(e);
+				}
+			}
+		}, sheetExecutor)));
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		if (failure.get() != null)
+			throw failure.get();
+	}
+
+	/**
+	 * Stops the processing of a sheet once another sheet of the file failed.
+	 *
+	 * @param context   The data shared by the sheets of the file.
+	 * @param sheetName The name of the sheet being processed.
+	 */
+	private void checkNotCancelled(SheetProcessingContext context, String sheetName) {
+		if (context.cancelled.get())
+			throw new CustomException(SHEET_PROCESSING_CANCELLED_CODE, SHEET_PROCESSING_CANCELLED_MESSAGE + sheetName);
+	}
+
+	/**
+	 * Checks whether the file of the plan configuration can be processed as a stream of rows. Plan estimates and
+	 * census records are read row by row; writing approved estimates into the output file edits the whole workbook
+	 * and keeps loading it in memory.
+	 *
+	 * @param planConfigurationRequest The plan configuration request.
+	 * @return true if the file is to be streamed.
+	 */
+	private boolean isStreamingAllowed(PlanConfigurationRequest planConfigurationRequest) {
+		String status = planConfigurationRequest.getPlanConfiguration().getStatus();
+		return config.isExcelStreamingEnabled() && (status.equals(config.getPlanConfigTriggerPlanEstimatesStatus())
+				|| status.equals(config.getPlanConfigTriggerCensusRecordsStatus()));
+	}
+
+	/**
+	 * Processes an Excel file without loading it in memory. Sheets are read row by row from the file and, for plan
+	 * estimates, written with their calculated columns to a streaming workbook that keeps only the last
+	 * resource.excel.streaming.window.size rows in memory. The sheets are independent of each other and are processed
+	 * on up to resource.sheet.processing.parallelism threads; output sheets are created upfront to keep their order.
+	 *
+	 * @param planConfigurationRequest The plan configuration request containing
+	 *                                 necessary information for processing the
+	 *                                 file.
+	 * @param file                     The Excel file to be processed.
+	 * @param fileStoreId              The ID of the file in the file store.
+	 * @param campaignResponse         The response object to be updated with
+	 *                                 processed data.
+	 */
+	private void processExcelFileInStreams(PlanConfigurationRequest planConfigurationRequest, File file, String fileStoreId,
+										   Object campaignResponse) {
+		SXSSFWorkbook workbook = new SXSSFWorkbook(Math.max(2, config.getExcelStreamingWindowSize()));
+		workbook.setCompressTempFiles(true);
+		try {
+			SheetProcessingContext context = prepareSheetProcessingContext(planConfigurationRequest, fileStoreId, campaignResponse);
+			CellStyle dateStyle = excelStreamingUtil.createDateStyle(workbook);
+			boolean isPlanEstimation = planConfigurationRequest.getPlanConfiguration().getStatus().equals(config.getPlanConfigTriggerPlanEstimatesStatus());
+
+			Map<String, Runnable> sheetTasks = new LinkedHashMap<>();
+			for (String sheetName : excelStreamingUtil.getSheetNames(file)) {
+				boolean isAllowed = outputEstimationGenerationUtil.isSheetAllowedToProcess(sheetName, context.localeResponse, context.mdmsDataForCommonConstants);
+				if (isPlanEstimation) {
+					Sheet sheet = workbook.createSheet(sheetName);
+					if (isAllowed)
+						sheetTasks.put(sheetName, () -> streamRowsForPlanEstimates(planConfigurationRequest, file, sheet, fileStoreId, context, dateStyle));
+					else
+						sheetTasks.put(sheetName, () -> excelStreamingUtil.readRows(file, sheetName, (rowNum, cells) -> {
+							checkNotCancelled(context, sheetName);
+							excelStreamingUtil.writeRow(sheet, rowNum, cells, dateStyle);
+						}));
+				} else if (isAllowed) {
+					Sheet sheet = workbook.createSheet(sheetName);
+					sheetTasks.put(sheetName, () -> streamRowsForCensusRecords(planConfigurationRequest, file, sheet, fileStoreId, context, dateStyle));
+				}
+			}
+			runSheetTasks(sheetTasks, context);
+
+			if (isPlanEstimation)
+				uploadFileAndIntegrateCampaign(planConfigurationRequest, workbook, fileStoreId);
+		} finally {
+			workbook.dispose();
+			try {
+				workbook.close();
+			} catch (IOException e) {
+				log.warn("Failed to close streaming workbook: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Streams the rows of a sheet into the output sheet, enriching them with approved census records, calculating
+	 * the plan operations and creating a plan for each row. Boundary codes are collected in a first read of the
+	 * sheet, so the census records of the sheet are searched at once before the rows are processed.
+	 *
+	 * @param request     The plan configuration request.
+	 * @param file        The Excel file being processed.
+	 * @param sheet       The output sheet, named after the sheet being read.
+	 * @param fileStoreId The ID of the file in the file store.
+	 * @param context     The data shared by the sheets of the file.
+	 * @param dateStyle   The style of date cells in the output workbook.
+	 */
+	private void streamRowsForPlanEstimates(PlanConfigurationRequest request, File file, Sheet sheet, String fileStoreId,
+											SheetProcessingContext context, CellStyle dateStyle) {
+		PlanConfiguration planConfig = request.getPlanConfiguration();
+		List<String> boundaryCodes = getBoundaryCodesFromTheSheet(file, sheet.getSheetName(), context.mappedValues);
+		Map<String, Census> censusMap = enrichmentUtil.getCensusRecordsForEnrichment(request, boundaryCodes).stream()
+				.collect(Collectors.toMap(Census::getBoundaryCode, census -> census, (existing, replacement) -> existing));
+
+		Map<String, Object> boundaryCodeToCensusAdditionalDetails = new HashMap<>();
+		Map<String, Boolean> boundaryCodeToFixedPostMap = fetchFixedPostDetails(request, sheet, fileStoreId);
+		Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfig.getAssumptions());
+		CalculationProgram program = calculationUtil.compile(planConfig.getOperations(), context.mappedValues, assumptionValueMap);
+		List<MixedStrategyOperationLogic> mixedStrategyOperationLogicList = mixedStrategyUtil
+				.fetchMixedStrategyOperationLogicFromMDMS(request);
+
+		RowContext rowContext = new RowContext();
+		SheetProgressUtil.SheetProgress progress = sheetProgressUtil.start(sheet.getSheetName(), planConfig.getStatus());
+		try (BatchProducer.Batch planBatch = batchProducer.open(config.getResourceMicroplanCreateTopic())) {
+			excelStreamingUtil.readRows(file, sheet.getSheetName(), (rowNum, cells) -> {
+				checkNotCancelled(context, sheet.getSheetName());
+				Row row = excelStreamingUtil.writeRow(sheet, rowNum, cells, dateStyle);
+				if (rowNum == 0) {
+					rowContext.init(row, parsingUtil.getAttributeNameIndexFromExcel(sheet), context.mappedValues);
+					return;
+				}
+				if (parsingUtil.isRowEmpty(row))
+					return;
+
+				Cell boundaryCodeCell = row.getCell(rowContext.indexOfBoundaryCode);
+				String boundaryCode = boundaryCodeCell == null ? null : boundaryCodeCell.getStringCellValue();
+				Census census = boundaryCode == null ? null : censusMap.get(boundaryCode);
+				if (census != null) {
+					enrichmentUtil.enrichRowWithApprovedCensusRecord(row, census, context.mappedValues, rowContext.mapOfColumnNameAndIndex);
+					boundaryCodeToCensusAdditionalDetails.put(boundaryCode, census.getAdditionalDetails());
+				}
+
+				performRowLevelCalculations(request, sheet, row, rowContext.firstRow, rowContext.headerWidth,
+						rowContext.indexOfBoundaryCode, rowContext.mapOfColumnNameAndIndex, context.mappedValues, program, context.attributeNameVsDataTypeMap,
+						context.boundaryCodes, boundaryCodeToFixedPostMap, mixedStrategyOperationLogicList, boundaryCodeToCensusAdditionalDetails,
+						planBatch);
+				progress.rowProcessed();
+			});
+		}
+		progress.finish();
+	}
+
+	/**
+	 * Streams the rows of a sheet, validating each row and creating its census record. Rows are dropped from the
+	 * scratch sheet once processed.
+	 *
+	 * @param request     The plan configuration request.
+	 * @param file        The Excel file being processed.
+	 * @param sheet       The scratch sheet, named after the sheet being read.
+	 * @param fileStoreId The ID of the file in the file store.
+	 * @param context     The data shared by the sheets of the file.
+	 * @param dateStyle   The style of date cells in the scratch workbook.
+	 */
+	private void streamRowsForCensusRecords(PlanConfigurationRequest request, File file, Sheet sheet, String fileStoreId,
+											SheetProcessingContext context, CellStyle dateStyle) {
+		String hierarchyType = context.campaign.getCampaign().get(0).getHierarchyType();
+
+		RowContext rowContext = new RowContext();
+		SheetProgressUtil.SheetProgress progress = sheetProgressUtil.start(sheet.getSheetName(), request.getPlanConfiguration().getStatus());
+		try (BatchProducer.Batch censusBatch = batchProducer.open(config.getResourceCensusCreateTopic())) {
+			excelStreamingUtil.readRows(file, sheet.getSheetName(), (rowNum, cells) -> {
+				checkNotCancelled(context, sheet.getSheetName());
+				Row row = excelStreamingUtil.writeRow(sheet, rowNum, cells, dateStyle);
+				if (rowNum == 0) {
+					rowContext.init(row, parsingUtil.getAttributeNameIndexFromExcel(sheet), context.mappedValues);
+					return;
+				}
+				if (!parsingUtil.isRowEmpty(row)) {
+					validateRows(rowContext.indexOfBoundaryCode, row, rowContext.firstRow, context.attributeNameVsDataTypeMap, context.mappedValues,
+							rowContext.mapOfColumnNameAndIndex, request, context.boundaryCodes, sheet);
+					JsonNode currentRow = createFeatureNodeFromRow(row, rowContext.mapOfColumnNameAndIndex);
+					censusUtil.create(request, currentRow, context.mappedValues, hierarchyType, censusBatch);
+					progress.rowProcessed();
+				}
+				sheet.removeRow(row);
+			});
+		}
+		progress.finish();
+	}
+
+	/**
+	 * Reads the boundary codes of a sheet, streaming only the header row and the boundary code column.
+	 *
+	 * @param file         The Excel file being processed.
+	 * @param sheetName    The name of the sheet.
+	 * @param mappedValues The mapped values of the file.
+	 * @return The non-empty boundary codes of the sheet.
+	 */
+	private List<String> getBoundaryCodesFromTheSheet(File file, String sheetName, Map<String, String> mappedValues) {
+		List<String> boundaryCodes = new ArrayList<>();
+		int[] indexOfBoundaryCode = {0};
+		excelStreamingUtil.readRows(file, sheetName, (rowNum, cells) -> {
+			if (rowNum == 0) {
+				cells.forEach((columnIndex, value) -> {
+					if (value.equals(mappedValues.get(ServiceConstants.BOUNDARY_CODE)))
+						indexOfBoundaryCode[0] = columnIndex;
+				});
+				return;
+			}
+			Object boundaryCode = cells.get(indexOfBoundaryCode[0]);
+			if (boundaryCode instanceof String && !((String) boundaryCode).trim().isEmpty())
+				boundaryCodes.add(((String) boundaryCode).trim());
+		});
+		return boundaryCodes;
+	}
+
 	/**
 	 * Uploads a converted file and integrates campaign details if configured to do so.
 	 *
@@ -211,29 +477,13 @@ public class ExcelParser implements FileParser {
 							   Object campaignResponse, Workbook excelWorkbook,
 							   List<Boundary> campaignBoundaryList,
 							   DataFormatter dataFormatter) {
-		CampaignResponse campaign = campaignIntegrationUtil.parseCampaignResponse(campaignResponse);
-		LocaleResponse localeResponse = localeUtil.searchLocale(request);
-		Object mdmsData = mdmsUtil.fetchMdmsData(request.getRequestInfo(),
-				request.getPlanConfiguration().getTenantId());
-		planConfigurationUtil.orderPlanConfigurationOperations(request);
-		enrichmentUtil.enrichResourceMapping(request, localeResponse, campaign.getCampaign().get(0).getProjectType(), fileStoreId);
-		Map<String, Object> attributeNameVsDataTypeMap = prepareAttributeVsIndexMap(request,
-				fileStoreId, campaign, request.getPlanConfiguration(), mdmsData);
-
-		List<String> boundaryCodeList = getBoundaryCodeList(request, campaign);
-		Map<String, String> mappedValues = request.getPlanConfiguration().getResourceMapping().stream()
-				.filter(f -> f.getFilestoreId().equals(fileStoreId))
-				.collect(Collectors.toMap(
-						ResourceMapping::getMappedTo,
-						ResourceMapping::getMappedFrom,
-						(existing, replacement) -> existing,
-						LinkedHashMap::new
-				));
-
-		// Fetch mdms data for common constants
-		Map<String, Object> mdmsDataForCommonConstants = mdmsUtil.fetchMdmsDataForCommonConstants(
-				request.getRequestInfo(),
-				request.getPlanConfiguration().getTenantId());
+		SheetProcessingContext context = prepareSheetProcessingContext(request, fileStoreId, campaignResponse);
+		CampaignResponse campaign = context.campaign;
+		LocaleResponse localeResponse = context.localeResponse;
+		Map<String, Object> attributeNameVsDataTypeMap = context.attributeNameVsDataTypeMap;
+		Set<String> boundaryCodes = context.boundaryCodes;
+		Map<String, String> mappedValues = context.mappedValues;
+		Map<String, Object> mdmsDataForCommonConstants = context.mdmsDataForCommonConstants;
 
 		excelWorkbook.forEach(excelWorkbookSheet -> {
 			if (outputEstimationGenerationUtil.isSheetAllowedToProcess(excelWorkbookSheet.getSheetName(), localeResponse, mdmsDataForCommonConstants)) {
@@ -242,10 +492,10 @@ public class ExcelParser implements FileParser {
 
 					enrichmentUtil.enrichsheetWithApprovedCensusRecords(excelWorkbookSheet, request, fileStoreId, mappedValues, boundaryCodeToCensusAdditionalDetails);
 					processRows(request, excelWorkbookSheet, dataFormatter, fileStoreId,
-							campaignBoundaryList, attributeNameVsDataTypeMap, boundaryCodeList, boundaryCodeToCensusAdditionalDetails);
+							campaignBoundaryList, attributeNameVsDataTypeMap, boundaryCodes, boundaryCodeToCensusAdditionalDetails);
 				} else if (request.getPlanConfiguration().getStatus().equals(config.getPlanConfigTriggerCensusRecordsStatus())) {
 					processRowsForCensusRecords(request, excelWorkbookSheet,
-							fileStoreId, attributeNameVsDataTypeMap, boundaryCodeList, campaign.getCampaign().get(0).getHierarchyType());
+							fileStoreId, attributeNameVsDataTypeMap, boundaryCodes, campaign.getCampaign().get(0).getHierarchyType());
 				} else if (request.getPlanConfiguration().getStatus().equals(config.getPlanConfigUpdatePlanEstimatesIntoOutputFileStatus())) {
 					enrichmentUtil.enrichsheetWithApprovedPlanEstimates(excelWorkbookSheet, request, fileStoreId, mappedValues);
 				}
@@ -253,6 +503,44 @@ public class ExcelParser implements FileParser {
 		});
 	}
 
+	/**
+	 * Fetches and prepares the data shared by all the sheets of a file: campaign, locale, MDMS attributes and
+	 * constants, boundary codes of the campaign hierarchy and the mapped columns of the file.
+	 *
+	 * @param request          The request containing configuration details including tenant ID.
+	 * @param fileStoreId      The ID of the uploaded file in the file store.
+	 * @param campaignResponse The response object containing campaign details.
+	 * @return The data shared by the sheets.
+	 */
+	private SheetProcessingContext prepareSheetProcessingContext(PlanConfigurationRequest request, String fileStoreId,
+																  Object campaignResponse) {
+		SheetProcessingContext context = new SheetProcessingContext();
+		context.campaign = campaignIntegrationUtil.parseCampaignResponse(campaignResponse);
+		context.localeResponse = localeUtil.searchLocale(request);
+		Object mdmsData = mdmsUtil.fetchMdmsData(request.getRequestInfo(),
+				request.getPlanConfiguration().getTenantId());
+		planConfigurationUtil.orderPlanConfigurationOperations(request);
+		enrichmentUtil.enrichResourceMapping(request, context.localeResponse, context.campaign.getCampaign().get(0).getProjectType(), fileStoreId);
+		context.attributeNameVsDataTypeMap = prepareAttributeVsIndexMap(request,
+				fileStoreId, context.campaign, request.getPlanConfiguration(), mdmsData);
+
+		context.boundaryCodes = new HashSet<>(getBoundaryCodeList(request, context.campaign));
+		context.mappedValues = request.getPlanConfiguration().getResourceMapping().stream()
+				.filter(f -> f.getFilestoreId().equals(fileStoreId))
+				.collect(Collectors.toMap(
+						ResourceMapping::getMappedTo,
+						ResourceMapping::getMappedFrom,
+						(existing, replacement) -> existing,
+						LinkedHashMap::new
+				));
+
+		// Fetch mdms data for common constants
+		context.mdmsDataForCommonConstants = mdmsUtil.fetchMdmsDataForCommonConstants(
+				request.getRequestInfo(),
+				request.getPlanConfiguration().getTenantId());
+		return context;
+	}
+
 	/**
 	 * This method makes plan facility search call and creates a map of boundary code to it's fixed post facility details.
 	 *
@@ -321,14 +609,14 @@ public class ExcelParser implements FileParser {
 	 */
 	private void processRows(PlanConfigurationRequest planConfigurationRequest, Sheet sheet, DataFormatter dataFormatter,
 							 String fileStoreId, List<Boundary> campaignBoundaryList, Map<String, Object> attributeNameVsDataTypeMap,
-							 List<String> boundaryCodeList, Map<String, Object> boundaryCodeToCensusAdditionalDetails) {
+							 Collection<String> boundaryCodeList, Map<String, Object> boundaryCodeToCensusAdditionalDetails) {
 
 		// Create a Map of Boundary Code to Facility's fixed post detail.
 		Map<String, Boolean> boundaryCodeToFixedPostMap = fetchFixedPostDetails(planConfigurationRequest, sheet, fileStoreId);
 		performRowLevelCalculations(planConfigurationRequest, sheet, dataFormatter, fileStoreId, campaignBoundaryList, attributeNameVsDataTypeMap, boundaryCodeList, boundaryCodeToFixedPostMap, boundaryCodeToCensusAdditionalDetails);
 	}
 
-	private void processRowsForCensusRecords(PlanConfigurationRequest planConfigurationRequest, Sheet sheet, String fileStoreId, Map<String, Object> attributeNameVsDataTypeMap, List<String> boundaryCodeList, String hierarchyType) {
+	private void processRowsForCensusRecords(PlanConfigurationRequest planConfigurationRequest, Sheet sheet, String fileStoreId, Map<String, Object> attributeNameVsDataTypeMap, Collection<String> boundaryCodeList, String hierarchyType) {
 		PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
 
 		Map<String, String> mappedValues = planConfig.getResourceMapping().stream()
@@ -345,21 +633,26 @@ public class ExcelParser implements FileParser {
 				parsingUtil.sortColumnByIndex(mapOfColumnNameAndIndex), mappedValues);
 		Row firstRow = null;
 
-		for (Row row : sheet) {
-			if (parsingUtil.isRowEmpty(row))
-				continue;
+		SheetProgressUtil.SheetProgress progress = sheetProgressUtil.start(sheet.getSheetName(), planConfig.getStatus());
+		try (BatchProducer.Batch censusBatch = batchProducer.open(config.getResourceCensusCreateTopic())) {
+			for (Row row : sheet) {
+				if (parsingUtil.isRowEmpty(row))
+					continue;
 
-			if (row.getRowNum() == 0) {
-				firstRow = row;
-				continue;
-			}
+				if (row.getRowNum() == 0) {
+					firstRow = row;
+					continue;
+				}
 
-			validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
-					planConfigurationRequest, boundaryCodeList, sheet);
-			JsonNode currentRow = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
+				validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
+						planConfigurationRequest, boundaryCodeList, sheet);
+				JsonNode currentRow = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
 
-			censusUtil.create(planConfigurationRequest, currentRow, mappedValues, hierarchyType);
+				censusUtil.create(planConfigurationRequest, currentRow, mappedValues, hierarchyType, censusBatch);
+				progress.rowProcessed();
+			}
 		}
+		progress.finish();
 	}
 
 	/**
@@ -412,15 +705,17 @@ public class ExcelParser implements FileParser {
 	 */
 	private void performRowLevelCalculations(PlanConfigurationRequest planConfigurationRequest, Sheet sheet,
 			DataFormatter dataFormatter, String fileStoreId, List<Boundary> campaignBoundaryList,
-			Map<String, Object> attributeNameVsDataTypeMap, List<String> boundaryCodeList,
+			Map<String, Object> attributeNameVsDataTypeMap, Collection<String> boundaryCodeList,
 											 Map<String, Boolean> boundaryCodeToFixedPostMap, Map<String, Object> boundaryCodeToCensusAdditionalDetails)  {
 		Row firstRow = null;
+		int headerWidth = 0;
 		PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
 		Map<String, String> mappedValues = planConfig.getResourceMapping().stream()
 				.filter(f -> f.getFilestoreId().equals(fileStoreId))
 				.collect(Collectors.toMap(ResourceMapping::getMappedTo, ResourceMapping::getMappedFrom));
 		Map<String, BigDecimal> assumptionValueMap = calculationUtil
 				.convertAssumptionsToMap(planConfig.getAssumptions());
+		CalculationProgram program = calculationUtil.compile(planConfig.getOperations(), mappedValues, assumptionValueMap);
 		Map<String, Integer> mapOfColumnNameAndIndex = parsingUtil.getAttributeNameIndexFromExcel(sheet);
 
 		Integer indexOfBoundaryCode = parsingUtil.getIndexOfBoundaryCode(0,
@@ -429,62 +724,97 @@ public class ExcelParser implements FileParser {
 		List<MixedStrategyOperationLogic> mixedStrategyOperationLogicList = mixedStrategyUtil
 				.fetchMixedStrategyOperationLogicFromMDMS(planConfigurationRequest);
 
-		for (Row row : sheet) {
-			if(parsingUtil.isRowEmpty(row))
-				continue;
-
-			if (row.getRowNum() == 0) {
-				firstRow = row;
-				continue;
-			}
-
-			Map<String, BigDecimal> resultMap = new HashMap<>();
-			validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
-					planConfigurationRequest, boundaryCodeList, sheet);
-			JsonNode feature = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
-			performCalculationsOnOperations(sheet, planConfig, row, resultMap, mappedValues,
-					assumptionValueMap, feature);
+		SheetProgressUtil.SheetProgress progress = sheetProgressUtil.start(sheet.getSheetName(), planConfig.getStatus());
+		try (BatchProducer.Batch planBatch = batchProducer.open(config.getResourceMicroplanCreateTopic())) {
+			for (Row row : sheet) {
+				if(parsingUtil.isRowEmpty(row))
+					continue;
 
-			// Get Boundary Code for the current row.
-			String boundaryCode = row.getCell(indexOfBoundaryCode).getStringCellValue();
-			mixedStrategyUtil.processResultMap(resultMap, planConfig.getOperations(), mixedStrategyUtil.getCategoriesNotAllowed(boundaryCodeToFixedPostMap.get(boundaryCode), planConfig, mixedStrategyOperationLogicList));
-			planUtil.create(planConfigurationRequest, feature, resultMap, mappedValues, boundaryCodeToCensusAdditionalDetails);
+				if (row.getRowNum() == 0) {
+					firstRow = row;
+					headerWidth = row.getLastCellNum();
+					continue;
+				}
 
+				performRowLevelCalculations(planConfigurationRequest, sheet, row, firstRow, headerWidth, indexOfBoundaryCode, mapOfColumnNameAndIndex,
+						mappedValues, program, attributeNameVsDataTypeMap, boundaryCodeList, boundaryCodeToFixedPostMap,
+						mixedStrategyOperationLogicList, boundaryCodeToCensusAdditionalDetails, planBatch);
+				progress.rowProcessed();
+			}
 		}
+		progress.finish();
+	}
+
+	/**
+	 * Validates a row, calculates the results of the plan operations into new cells of the row and creates the plan
+	 * of its boundary.
+	 *
+	 * @param planConfigurationRequest The request containing configuration details including tenant ID.
+	 * @param sheet The sheet of the row.
+	 * @param row The row to process.
+	 * @param firstRow The header row of the sheet.
+	 * @param headerWidth The number of columns of the header row as read, where the calculated columns start.
+	 * @param indexOfBoundaryCode The index of the boundary code column.
+	 * @param mapOfColumnNameAndIndex The column index of each column name.
+	 * @param mappedValues Mapping of values needed for calculations.
+	 * @param program The plan operations compiled for the sheet.
+	 * @param attributeNameVsDataTypeMap Mapping of attribute names to their data types.
+	 * @param boundaryCodeList Boundary codes of the campaign hierarchy.
+	 * @param boundaryCodeToFixedPostMap Fixed post detail of each boundary code.
+	 * @param mixedStrategyOperationLogicList Mixed strategy operation logic from MDMS.
+	 * @param boundaryCodeToCensusAdditionalDetails Census additional details of each boundary code.
+	 * @param planBatch The batch the plan of the row is added to.
+	 */
+	private void performRowLevelCalculations(PlanConfigurationRequest planConfigurationRequest, Sheet sheet, Row row, Row firstRow,
+											 int headerWidth, Integer indexOfBoundaryCode, Map<String, Integer> mapOfColumnNameAndIndex, Map<String, String> mappedValues,
+											 CalculationProgram program, Map<String, Object> attributeNameVsDataTypeMap,
+											 Collection<String> boundaryCodeList, Map<String, Boolean> boundaryCodeToFixedPostMap,
+											 List<MixedStrategyOperationLogic> mixedStrategyOperationLogicList,
+											 Map<String, Object> boundaryCodeToCensusAdditionalDetails, BatchProducer.Batch planBatch) {
+		PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
+		Map<String, BigDecimal> resultMap = new HashMap<>();
+		validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
+				planConfigurationRequest, boundaryCodeList, sheet);
+		JsonNode feature = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
+		performCalculationsOnOperations(sheet, program, row, headerWidth, resultMap, feature);
+
+		// Get Boundary Code for the current row.
+		String boundaryCode = row.getCell(indexOfBoundaryCode).getStringCellValue();
+		mixedStrategyUtil.processResultMap(resultMap, planConfig.getOperations(), mixedStrategyUtil.getCategoriesNotAllowed(boundaryCodeToFixedPostMap.get(boundaryCode), planConfig, mixedStrategyOperationLogicList));
+		planUtil.create(planConfigurationRequest, feature, resultMap, mappedValues, boundaryCodeToCensusAdditionalDetails, planBatch);
 	}
 
 
 	/**
 	 * Performs calculations on operations for a specific row in the sheet.
-	 * Calculates results based on plan configuration operations, updates result map, and sets cell values.
+	 * Evaluates the compiled plan configuration operations, updates result map, and sets cell values.
+	 * The results go to the columns after the header columns, whatever the number of cells of the row: a streamed
+	 * row only has its non-empty cells.
 	 *
 	 * @param sheet The sheet where calculations are performed.
-	 * @param planConfig The configuration details for the plan.
+	 * @param program The plan operations compiled for the sheet.
 	 * @param row The row in the sheet where calculations are applied.
+	 * @param headerWidth The number of columns of the header row as read.
 	 * @param resultMap The map to store calculation results.
-	 * @param mappedValues Mapping of values needed for calculations.
-	 * @param assumptionValueMap Map of assumption values used in calculations.
 	 * @param feature JSON node containing additional features or data for calculations.
 	 */
-	private void performCalculationsOnOperations(Sheet sheet, PlanConfiguration planConfig, Row row,
-			Map<String, BigDecimal> resultMap, Map<String, String> mappedValues,
-			Map<String, BigDecimal> assumptionValueMap, JsonNode feature) {
-		int columnIndex = row.getLastCellNum(); // Get the index of the last cell in the row
-
-		for (Operation operation : planConfig.getOperations()) {
-			BigDecimal result = calculationUtil.calculateResult(operation, feature, mappedValues,
-					assumptionValueMap, resultMap);
-			String output = operation.getOutput();
-			resultMap.put(output, result);
-
-			Cell cell = row.createCell(columnIndex++);
-			cell.setCellValue(result.doubleValue());
-			cell.getCellStyle().setLocked(false); // Ensure the new cell is editable
-
-			if (row.getRowNum() == 1) {
-				Cell headerCell = sheet.getRow(0).createCell(row.getLastCellNum() - 1);
-				headerCell.setCellValue(output);
-				headerCell.getCellStyle().setLocked(true);
+	private void performCalculationsOnOperations(Sheet sheet, CalculationProgram program, Row row, int headerWidth,
+			Map<String, BigDecimal> resultMap, JsonNode feature) {
+		BigDecimal[] results = program.evaluate(feature, resultMap);
+		// Cells share the workbook styles with the sheets processed concurrently
+		synchronized (sheet.getWorkbook()) {
+			Row headerRow = sheet.getRow(0);
+			for (int i = 0; i < results.length; i++) {
+				int columnIndex = headerWidth + i;
+				Cell cell = row.createCell(columnIndex);
+				cell.setCellValue(results[i].doubleValue());
+				cell.getCellStyle().setLocked(false); // Ensure the new cell is editable
+
+				if (headerRow.getCell(columnIndex) == null) {
+					Cell headerCell = headerRow.createCell(columnIndex);
+					headerCell.setCellValue(program.getOutput(i));
+					headerCell.getCellStyle().setLocked(true);
+				}
 			}
 		}
 		
@@ -625,7 +955,7 @@ public class ExcelParser implements FileParser {
 	 */
 	public void validateRows(Integer indexOfBoundaryCode, Row row, Row columnHeaderRow, Map<String, Object> attributeNameVsDataTypeMap,
 			Map<String, String> mappedValues, Map<String, Integer> mapOfColumnNameAndIndex,
-			PlanConfigurationRequest planConfigurationRequest, List<String> boundaryCodeList, Sheet sheet) {
+			PlanConfigurationRequest planConfigurationRequest, Collection<String> boundaryCodeList, Sheet sheet) {
 
 		try {
 			validateTillBoundaryCode(indexOfBoundaryCode, row, columnHeaderRow);
@@ -662,7 +992,7 @@ public class ExcelParser implements FileParser {
 	 */
 	private void validateAttributes(Map<String, Object> attributeNameVsDataTypeMap, Map<String, String> mappedValues,
 			Map<String, Integer> mapOfColumnNameAndIndex, Row row, Row columnHeaderRow, Integer indexOfBoundaryCode,
-			List<String> boundaryCodeList) throws JsonMappingException, JsonProcessingException {
+			Collection<String> boundaryCodeList) throws JsonMappingException, JsonProcessingException {
 		for (int j = indexOfBoundaryCode; j < mapOfColumnNameAndIndex.size(); j++) {
 			Cell cell = row.getCell(j);
 			Cell columnName = columnHeaderRow.getCell(j);
@@ -801,5 +1131,45 @@ public class ExcelParser implements FileParser {
 		return boundaryList;
 	}
 
+	/**
+	 * Data shared by all the sheets of a file.
+	 */
+	private static class SheetProcessingContext {
+
+		private CampaignResponse campaign;
+
+		private LocaleResponse localeResponse;
+
+		private Map<String, Object> attributeNameVsDataTypeMap;
+
+		private Set<String> boundaryCodes;
+
+		private Map<String, String> mappedValues;
+
+		private Map<String, Object> mdmsDataForCommonConstants;
+
+		private final AtomicBoolean cancelled = new AtomicBoolean();
+	}
 
-}
\ No newline at end of file
+	/**
+	 * Header details of a streamed sheet, set once its first row is read.
+	 */
+	private class RowContext {
+
+		private Row firstRow;
+
+		private Map<String, Integer> mapOfColumnNameAndIndex;
+
+		private Integer indexOfBoundaryCode;
+
+		private int headerWidth;
+
+		private void init(Row firstRow, Map<String, Integer> mapOfColumnNameAndIndex, Map<String, String> mappedValues) {
+			this.firstRow = firstRow;
+			this.headerWidth = firstRow.getLastCellNum();
+			this.mapOfColumnNameAndIndex = mapOfColumnNameAndIndex;
+			this.indexOfBoundaryCode = parsingUtil.getIndexOfBoundaryCode(0,
+					parsingUtil.sortColumnByIndex(mapOfColumnNameAndIndex), mappedValues);
+		}
+	}
+}
@@ -1,10 +1,13 @@
 package org.egov.processor.service;
 
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 
 import java.util.HashMap;
@@ -14,11 +17,14 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.egov.processor.util.CalculationUtil;
 import org.egov.processor.util.FilestoreUtil;
+import org.egov.processor.util.GeoJsonFeatureReader;
+import org.egov.processor.util.GeoJsonFeatureWriter;
 import org.egov.processor.util.ParsingUtil;
 import org.egov.processor.web.models.PlanConfiguration;
 import org.egov.processor.web.models.PlanConfigurationRequest;
 import org.egov.processor.web.models.ResourceMapping;
 
+import org.egov.tracer.model.CustomException;
 import org.springframework.stereotype.Service;
 
 
@@ -43,9 +49,11 @@ public class GeoJsonParser implements FileParser {
 
     /**
      * Parses the file data based on the provided plan configuration and file store ID.
-     * Converts the byte array data to a GeoJSON string, then to a JSON node.
+     * Downloads the GeoJSON to a temporary file and streams its features one at a time, validating the mapped
+     * columns against the first feature.
      * Calculates resources based on the operations defined in the plan configuration.
-     * Writes the updated JSON node to a file and uploads it to the file store.
+     * Writes each updated feature to a temporary file of the request as it is calculated and uploads the file to the
+     * file store.
      *
      * @param planConfigurationRequest  The plan configuration containing mapping and operation details.
      * @param fileStoreId The file store ID of the GeoJSON file to be parsed.
@@ -54,12 +62,6 @@ public class GeoJsonParser implements FileParser {
     @Override
     public Object parseFileData(PlanConfigurationRequest planConfigurationRequest, String fileStoreId, Object campaignResponse) {
     	PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
-        String geoJSON = parsingUtil.convertByteArrayToString(planConfig, fileStoreId);
-
-        JsonNode jsonNode = parsingUtil.parseJson(geoJSON, objectMapper);
-
-        List<String> columnNamesList = parsingUtil.fetchAttributeNamesFromJson(jsonNode);
-        parsingUtil.validateColumnNames(columnNamesList, planConfig, fileStoreId);
 
         Map<String, BigDecimal> resultMap = new HashMap<>();
         Map<String, String> mappedValues = planConfig.getResourceMapping().stream()
@@ -67,11 +69,28 @@ public class GeoJsonParser implements FileParser {
                 .collect(Collectors.toMap(ResourceMapping::getMappedTo, ResourceMapping::getMappedFrom));
         Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfig.getAssumptions());
 
-        calculationUtil.calculateResources(jsonNode, planConfigurationRequest, resultMap, mappedValues, assumptionValueMap);
-
-        File outputFile = parsingUtil.writeToFile(jsonNode, objectMapper);
-
-        return filestoreUtil.uploadFile(outputFile, planConfig.getTenantId());
+        File inputFile = filestoreUtil.downloadFile(planConfig.getTenantId(), fileStoreId, ".geojson");
+        File outputFile = null;
+        try {
+            outputFile = parsingUtil.createProcessedGeoJsonFile();
+            try (InputStream inputStream = new BufferedInputStream(new FileInputStream(inputFile));
+                 GeoJsonFeatureReader features = new GeoJsonFeatureReader(inputStream, objectMapper)) {
+                List<String> columnNamesList = parsingUtil.fetchAttributeNamesFromFeature(features.peek());
+                parsingUtil.validateColumnNames(columnNamesList, planConfig, fileStoreId);
+
+                try (GeoJsonFeatureWriter writer = new GeoJsonFeatureWriter(outputFile, objectMapper, features.getLeadingFields())) {
+                    calculationUtil.calculateResources(features, planConfigurationRequest, resultMap, mappedValues, assumptionValueMap, writer::write);
+                    writer.finish(features.getTrailingFields());
+                }
+            } catch (IOException e) {
+                throw new CustomException("NOT_ABLE_TO_WRITE_TO_FILE", "Not able to write processed geojson to file");
+            }
+
+            return filestoreUtil.uploadFile(outputFile, planConfig.getTenantId());
+        } finally {
+            parsingUtil.deleteTempFile(inputFile);
+            parsingUtil.deleteTempFile(outputFile);
+        }
 
     }
 
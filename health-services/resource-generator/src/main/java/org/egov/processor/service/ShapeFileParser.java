@@ -1,16 +1,17 @@
 package org.egov.processor.service;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.egov.processor.util.CalculationUtil;
 import org.egov.processor.util.FilestoreUtil;
+import org.egov.processor.util.GeoJsonFeatureWriter;
 import org.egov.processor.util.ParsingUtil;
 import org.egov.processor.web.models.PlanConfiguration;
 import org.egov.processor.web.models.PlanConfigurationRequest;
@@ -19,11 +20,17 @@ import org.egov.tracer.model.CustomException;
 import org.geotools.api.data.DataStore;
 import org.geotools.api.data.DataStoreFinder;
 import org.geotools.api.data.SimpleFeatureSource;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.geojson.feature.FeatureJSON;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -48,8 +55,9 @@ public class ShapeFileParser implements FileParser {
 
     /**
      * Parses the file data based on the provided plan configuration and file store ID.
-     * Converts a Shapefile to GeoJSON format, calculates resources based on the operations
-     * defined in the plan configuration, and uploads the updated GeoJSON file to the file store.
+     * Streams the features of the Shapefile one at a time, calculates resources based on the operations
+     * defined in the plan configuration, writes each updated feature to a GeoJSON file as it is calculated
+     * and uploads the file to the file store.
      *
      * @param planConfigurationRequest  The plan configuration containing mapping and operation details.
      * @param fileStoreId The file store ID of the Shapefile to be converted and parsed.
@@ -58,56 +66,57 @@ public class ShapeFileParser implements FileParser {
     @Override
     public Object parseFileData(PlanConfigurationRequest planConfigurationRequest, String fileStoreId, Object campaignResponse) {
     	PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
-        File geojsonFile = convertShapefileToGeoJson(planConfig, fileStoreId);
-        String geoJSONString = parsingUtil.convertFileToJsonString(geojsonFile);
-        JsonNode jsonNode = parsingUtil.parseJson(geoJSONString, objectMapper);
-
-        List<String> columnNamesList = parsingUtil.fetchAttributeNamesFromJson(jsonNode);
-        parsingUtil.validateColumnNames(columnNamesList, planConfig, fileStoreId);
-
-        Map<String, BigDecimal> resultMap = new HashMap<>();
-        Map<String, String> mappedValues = planConfig.getResourceMapping().stream()
-        		.filter(f-> f.getFilestoreId().equals(fileStoreId))
-        		.collect(Collectors.toMap(ResourceMapping::getMappedTo, ResourceMapping::getMappedFrom));
-        Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfig.getAssumptions());
-
-        calculationUtil.calculateResources(jsonNode, planConfigurationRequest, resultMap, mappedValues, assumptionValueMap);
-
-        File updatedGeojsonFile = parsingUtil.writeToFile(jsonNode, objectMapper);
-
-        return filestoreUtil.uploadFile(updatedGeojsonFile, planConfig.getTenantId());
-    }
-
-    /**
-     * Converts a Shapefile to GeoJSON format and writes it to a GeoJSON file.
-     *
-     * @param planConfig  The plan configuration containing mapping details.
-     * @param fileStoreId The file store ID of the Shapefile to be converted.
-     * @return The GeoJSON file containing the converted data.
-     */
-    public File convertShapefileToGeoJson(PlanConfiguration planConfig, String fileStoreId) {
-        File shapefile = null;
+        File shapefile;
         try {
             shapefile = parsingUtil.extractShapeFilesFromZip(planConfig, fileStoreId, "shapefile");
         } catch (IOException exception) {
             log.error(exception.getMessage());
+            throw new CustomException("ERROR_IN_SHAPE_FILE_PARSER_WHILE_CONVERTING_SHAPE_FILE_TO_GEOJSON_IN_METHOD_CONVERTSHAPEFILETOGEOJSON", exception.getMessage());
         }
 
-        File geojsonFile = new File("geojsonfile.geojson");
-
-        SimpleFeatureSource featureSource = null;
-        DataStore dataStore;
+        DataStore dataStore = getDataStore(shapefile);
+        File updatedGeojsonFile = null;
         try {
-            dataStore = getDataStore(shapefile);
-            String typeName = dataStore.getTypeNames()[0];
-            featureSource = dataStore.getFeatureSource(typeName);
-
-            writeFeaturesToGeoJson(featureSource, geojsonFile);
+            SimpleFeatureSource featureSource = dataStore.getFeatureSource(dataStore.getTypeNames()[0]);
+
+            List<String> columnNamesList = getAttributeNames(featureSource.getSchema());
+            parsingUtil.validateColumnNames(columnNamesList, planConfig, fileStoreId);
+
+            Map<String, BigDecimal> resultMap = new HashMap<>();
+            Map<String, String> mappedValues = planConfig.getResourceMapping().stream()
+                    .filter(f-> f.getFilestoreId().equals(fileStoreId))
+                    .collect(Collectors.toMap(ResourceMapping::getMappedTo, ResourceMapping::getMappedFrom));
+            Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfig.getAssumptions());
+
+            updatedGeojsonFile = parsingUtil.createProcessedGeoJsonFile();
+            ObjectNode leadingFields = objectMapper.createObjectNode().put("type", "FeatureCollection");
+            try (SimpleFeatureIterator features = featureSource.getFeatures().features();
+                 GeoJsonFeatureWriter writer = new GeoJsonFeatureWriter(updatedGeojsonFile, objectMapper, leadingFields)) {
+                calculationUtil.calculateResources(new GeoJsonFeatureIterator(features), planConfigurationRequest, resultMap,
+                        mappedValues, assumptionValueMap, writer::write);
+                writer.finish(objectMapper.createObjectNode());
+            }
+
+            return filestoreUtil.uploadFile(updatedGeojsonFile, planConfig.getTenantId());
         } catch (IOException e) {
             throw new CustomException("ERROR_IN_SHAPE_FILE_PARSER_WHILE_CONVERTING_SHAPE_FILE_TO_GEOJSON_IN_METHOD_CONVERTSHAPEFILETOGEOJSON",e.getMessage());
+        } finally {
+            dataStore.dispose();
+            parsingUtil.deleteTempFile(updatedGeojsonFile);
         }
+    }
 
-        return geojsonFile;
+    /**
+     * Returns the attribute names of the Shapefile, as they appear in the properties of its GeoJSON features.
+     *
+     * @param schema The feature type of the Shapefile.
+     * @return The names of its non geometry attributes.
+     */
+    private List<String> getAttributeNames(SimpleFeatureType schema) {
+        return schema.getAttributeDescriptors().stream()
+                .filter(descriptor -> !(descriptor instanceof GeometryDescriptor))
+                .map(AttributeDescriptor::getLocalName)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -129,17 +138,31 @@ public class ShapeFileParser implements FileParser {
     }
 
     /**
-     * Writes features from a SimpleFeatureSource to a GeoJSON file.
-     *
-     * @param featureSource The SimpleFeatureSource containing the features to write.
-     * @param geojsonFile   The GeoJSON file to write the features to.
-     * @throws IOException If an I/O error occurs.
+     * Converts the features of a Shapefile to GeoJSON feature nodes as they are read.
      */
-    private void writeFeaturesToGeoJson(SimpleFeatureSource featureSource, File geojsonFile)  {
-        try (FileOutputStream geojsonStream = new FileOutputStream(geojsonFile)) {
-            new FeatureJSON().writeFeatureCollection(featureSource.getFeatures(), geojsonStream);
-        } catch (IOException e) {
-            throw new CustomException("Failed to write feature to GeoJson",e.getMessage());
+    private class GeoJsonFeatureIterator implements Iterator<JsonNode> {
+
+        private final SimpleFeatureIterator features;
+
+        private final FeatureJSON featureJSON = new FeatureJSON();
+
+        private GeoJsonFeatureIterator(SimpleFeatureIterator features) {
+            this.features = features;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return features.hasNext();
+        }
+
+        @Override
+        public JsonNode next() {
+            SimpleFeature feature = features.next();
+            try {
+                return objectMapper.readTree(featureJSON.toString(feature));
+            } catch (IOException e) {
+                throw new CustomException("Failed to write feature to GeoJson",e.getMessage());
+            }
         }
     }
 
@@ -0,0 +1,307 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.egov.processor.config.ServiceConstants;
+import org.egov.processor.web.models.Operation;
+import org.egov.tracer.model.CustomException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+import static org.egov.processor.config.ServiceConstants.PROPERTIES;
+
+/**
+ * The operations of a plan configuration compiled for evaluation, see {@link CalculationUtil#compile}.
+ *
+ * Every input and assumption of an operation is resolved once into an operand: the result of an earlier
+ * operation, an assumption value or a column slot of the feature. Evaluating a feature then reads each
+ * referenced column at most once and computes the operations in their execution order by index, with no map
+ * lookups. Results are the same as {@link CalculationUtil#calculateResult} for each operation in turn.
+ */
+public class CalculationProgram {
+
+    private enum OperandType {
+        /** Result of an earlier operation of the same feature. */
+        RESULT,
+        /** Output of the same or a later operation, read from the result map when a previous feature left it there. */
+        CARRIED_RESULT,
+        /** Value of an assumption. */
+        ASSUMPTION,
+        /** Value of a column of the feature. */
+        COLUMN,
+        /** Neither an assumption nor a mapped column, evaluates to null like the map lookups did. */
+        MISSING
+    }
+
+    private static final class Operand {
+
+        private final OperandType type;
+
+        private final String key;
+
+        private final int index;
+
+        private final BigDecimal value;
+
+        private final Operand fallback;
+
+        private Operand(OperandType type, String key, int index, BigDecimal value, Operand fallback) {
+            this.type = type;
+            this.key = key;
+            this.index = index;
+            this.value = value;
+            this.fallback = fallback;
+        }
+    }
+
+    private final String[] outputs;
+
+    private final Operation.OperatorEnum[] operators;
+
+    private final Operand[] inputs;
+
+    private final Operand[] assumptions;
+
+    private final String[] columns;
+
+    private final boolean rowIndependent;
+
+    CalculationProgram(List<Operation> operations, Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap) {
+        int size = operations.size();
+        this.outputs = new String[size];
+        this.operators = new Operation.OperatorEnum[size];
+        this.inputs = new Operand[size];
+        this.assumptions = new Operand[size];
+
+        Map<String, Integer> columnSlots = new LinkedHashMap<>();
+        Map<String, Integer> earlierOutputs = new HashMap<>();
+        Map<String, Boolean> allOutputs = new HashMap<>();
+        operations.forEach(operation -> allOutputs.put(operation.getOutput(), Boolean.TRUE));
+
+        boolean carried = false;
+        for (int i = 0; i < size; i++) {
+            Operation operation = operations.get(i);
+            outputs[i] = operation.getOutput();
+            operators[i] = operation.getOperator();
+            inputs[i] = resolve(operation.getInput(), mappedValues, assumptionValueMap, earlierOutputs, allOutputs, columnSlots);
+            assumptions[i] = resolve(operation.getAssumptionValue(), mappedValues, assumptionValueMap, earlierOutputs, allOutputs, columnSlots);
+            carried |= inputs[i].type == OperandType.CARRIED_RESULT || assumptions[i].type == OperandType.CARRIED_RESULT;
+            earlierOutputs.put(operation.getOutput(), i);
+        }
+        this.columns = columnSlots.keySet().toArray(new String[0]);
+        this.rowIndependent = !carried;
+    }
+
+    private static Operand resolve(String key, Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap,
+                                   Map<String, Integer> earlierOutputs, Map<String, Boolean> allOutputs,
+                                   Map<String, Integer> columnSlots) {
+        Integer earlier = earlierOutputs.get(key);
+        if (earlier != null)
+            return new Operand(OperandType.RESULT, key, earlier, null, null);
+
+        Operand fallback;
+        BigDecimal assumptionValue = assumptionValueMap.get(key);
+        String column = mappedValues.get(key);
+        if (assumptionValue != null) {
+            fallback = new Operand(OperandType.ASSUMPTION, key, -1, assumptionValue, null);
+        } else if (column != null) {
+            int slot = columnSlots.computeIfAbsent(column, name -> columnSlots.size());
+            fallback = new Operand(OperandType.COLUMN, key, slot, null, null);
+        } else {
+            fallback = new Operand(OperandType.MISSING, key, -1, null, null);
+        }
+
+        if (allOutputs.containsKey(key))
+            return new Operand(OperandType.CARRIED_RESULT, key, -1, null, fallback);
+        return fallback;
+    }
+
+    /**
+     * @return the number of operations.
+     */
+    public int size() {
+        return outputs.length;
+    }
+
+    /**
+     * @param index the index of an operation, in execution order.
+     * @return the output name of the operation.
+     */
+    public String getOutput(int index) {
+        return outputs[index];
+    }
+
+    /**
+     * A program is row independent when no operation reads an output that only a previous feature can have left in
+     * the result map, so features can be evaluated in any order.
+     *
+     * @return true if features can be evaluated independently of each other.
+     */
+    public boolean isRowIndependent() {
+        return rowIndependent;
+    }
+
+    /**
+     * Evaluates the operations for one feature, putting each result in the result map as it is computed.
+     *
+     * @param feature   the feature holding the column values under its properties.
+     * @param resultMap the result map, read for outputs a previous feature left there.
+     * @return the result of each operation, in execution order.
+     */
+    public BigDecimal[] evaluate(JsonNode feature, Map<String, BigDecimal> resultMap) {
+        BigDecimal[] results = new BigDecimal[outputs.length];
+        BigDecimal[] columnValues = new BigDecimal[columns.length];
+        boolean[] columnRead = new boolean[columns.length];
+        JsonNode properties = feature.get(PROPERTIES);
+
+        for (int i = 0; i < outputs.length; i++) {
+            BigDecimal input = value(inputs[i], properties, results, columnValues, columnRead, resultMap);
+            BigDecimal assumption = value(assumptions[i], properties, results, columnValues, columnRead, resultMap);
+            results[i] = apply(input, operators[i], assumption);
+            resultMap.put(outputs[i], results[i]);
+        }
+        return results;
+    }
+
+    /**
+     * Evaluates the operations for each feature, in chunks of chunkSize features run on the executor. Programs that
+     * are not row independent are evaluated in order on the calling thread, sharing the result map.
+     *
+     * Each feature is handed to the consumer with its results in feature order, as if the features were evaluated
+     * one after the other: when a feature fails, every feature before it has been handed over, none after it, and
+     * the failure is thrown.
+     *
+     * @param features  the features to evaluate.
+     * @param resultMap the result map, left with the results of the last feature handed over.
+     * @param chunkSize the number of features evaluated per task.
+     * @param executor  the executor running the chunks, null to evaluate on the calling thread.
+     * @param evaluated the consumer of each feature and its results, in the order of the features.
+     */
+    public void evaluateAll(List<JsonNode> features, Map<String, BigDecimal> resultMap, int chunkSize,
+                            Executor executor, BiConsumer<JsonNode, BigDecimal[]> evaluated) {
+        if (executor == null || !rowIndependent || features.size() <= chunkSize) {
+            features.forEach(feature -> evaluated.accept(feature, evaluate(feature, resultMap)));
+            return;
+        }
+
+        List<CompletableFuture<ChunkResult>> chunks = new ArrayList<>();
+        for (int from = 0; from < features.size(); from += chunkSize) {
+            List<JsonNode> chunk = features.subList(from, Math.min(from + chunkSize, features.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> {
+                ChunkResult chunkResult = new ChunkResult(chunk.size());
+                Map<String, BigDecimal> chunkResultMap = new HashMap<>();
+                try {
+                    chunk.forEach(feature -> chunkResult.results.add(evaluate(feature, chunkResultMap)));
+                } catch (RuntimeException e) {
+                    chunkResult.failure = e;
+                }
+                return chunkResult;
+            }, executor));
+        }
+
+        int next = 0;
+        for (CompletableFuture<ChunkResult> chunk : chunks) {
+            ChunkResult chunkResult;
+            try {
+                chunkResult = chunk.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException)
+                    throw (RuntimeException) e.getCause();
+                throw e;
+            }
+            for (BigDecimal[] results : chunkResult.results) {
+                for (int i = 0; i < outputs.length; i++)
+                    resultMap.put(outputs[i], results[i]);
+                evaluated.accept(features.get(next++), results);
+            }
+            if (chunkResult.failure != null)
+                throw chunkResult.failure;
+        }
+    }
+
+    private static final class ChunkResult {
+
+        private final List<BigDecimal[]> results;
+
+        private RuntimeException failure;
+
+        private ChunkResult(int size) {
+            this.results = new ArrayList<>(size);
+        }
+    }
+
+    private BigDecimal value(Operand operand, JsonNode properties, BigDecimal[] results, BigDecimal[] columnValues,
+                             boolean[] columnRead, Map<String, BigDecimal> resultMap) {
+        switch (operand.type) {
+            case RESULT:
+                return results[operand.index];
+            case CARRIED_RESULT:
+                if (resultMap.containsKey(operand.key))
+                    return resultMap.get(operand.key);
+                return value(operand.fallback, properties, results, columnValues, columnRead, resultMap);
+            case ASSUMPTION:
+                return operand.value;
+            case COLUMN:
+                if (!columnRead[operand.index]) {
+                    String column = columns[operand.index];
+                    columnValues[operand.index] = properties != null && properties.has(column)
+                            ? parseFeatureValue(properties.get(column), operand.key) : null;
+                    columnRead[operand.index] = true;
+                }
+                return columnValues[operand.index];
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Parses the value of a feature column the way the calculations always have, from its JSON text with anything
+     * but digits, dots, minus signs and exponents stripped.
+     *
+     * @param node  the column value.
+     * @param input the operation input or assumption being read, for the error message.
+     * @return the value.
+     */
+    static BigDecimal parseFeatureValue(JsonNode node, String input) {
+        try {
+            String cellValue = String.valueOf(node);
+            if (cellValue.contains(ServiceConstants.SCIENTIFIC_NOTATION_INDICATOR)) {
+                return new BigDecimal(cellValue);
+            }
+            String cleanedValue = cellValue.replaceAll("[^\\d.\\-E]", "");
+            return new BigDecimal(cleanedValue);
+        } catch (NumberFormatException | NullPointerException e) {
+            // Handle potential parsing issues
+            throw new CustomException("INPUT_VALUE_NOT_FOUND", "Input value not found: " + input);
+        }
+    }
+
+    /**
+     * Calculates the output value based on the input value, operator, and assumption value.
+     *
+     * @param input           The input value.
+     * @param operator        The operator enum.
+     * @param assumptionValue The assumption value.
+     * @return The calculated output.
+     */
+    static BigDecimal apply(BigDecimal input, Operation.OperatorEnum operator, BigDecimal assumptionValue) {
+        return switch (operator) {
+            case PLUS -> input.add(assumptionValue);
+            case MINUS -> input.subtract(assumptionValue);
+            case SLASH -> input.divide(assumptionValue, ServiceConstants.DEFAULT_SCALE, RoundingMode.DOWN).setScale(ServiceConstants.DEFAULT_SCALE);
+            case STAR -> input.multiply(assumptionValue);
+            case PERCENT -> input.remainder(assumptionValue);
+            case _U -> input.pow(assumptionValue.intValue());
+            default -> throw new CustomException("UNSUPPORTED_OPERATOR", "Unsupported operator: " + operator);
+        };
+    }
+}
@@ -2,20 +2,25 @@ package org.egov.processor.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.egov.processor.config.ServiceConstants;
+import jakarta.annotation.PreDestroy;
+import org.egov.processor.config.Configuration;
+import org.egov.processor.kafka.BatchProducer;
 import org.egov.processor.web.models.Assumption;
 import org.egov.processor.web.models.Operation;
 import org.egov.processor.web.models.PlanConfiguration;
 import org.egov.processor.web.models.PlanConfigurationRequest;
-import org.egov.tracer.model.CustomException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.egov.processor.config.ServiceConstants.PROPERTIES;
@@ -25,12 +30,26 @@ public class CalculationUtil {
 	
 	private PlanUtil planUtil;
 	
-	
+	private Configuration config;
+
+	private BatchProducer batchProducer;
 
-    public CalculationUtil(PlanUtil planUtil) {
+	private ExecutorService calculationExecutor;
+
+    public CalculationUtil(PlanUtil planUtil, Configuration config, BatchProducer batchProducer) {
 		this.planUtil = planUtil;
+		this.config = config;
+		this.batchProducer = batchProducer;
+		if (config.getCalculationParallelism() > 1)
+			this.calculationExecutor = Executors.newFixedThreadPool(config.getCalculationParallelism());
 	}
 
+    @PreDestroy
+    public void shutdown() {
+        if (calculationExecutor != null)
+            calculationExecutor.shutdown();
+    }
+
     /**
      * Calculates the output value based on the input value, operator, and assumption value.
      *
@@ -40,15 +59,7 @@ public class CalculationUtil {
      * @return The calculated output.
      */
     public BigDecimal calculateOutputValue(BigDecimal input, Operation.OperatorEnum operator, BigDecimal assumptionValue) {
-        return switch (operator) {
-            case PLUS -> input.add(assumptionValue);
-            case MINUS -> input.subtract(assumptionValue);
-            case SLASH -> input.divide(assumptionValue,ServiceConstants.DEFAULT_SCALE,RoundingMode.DOWN).setScale(ServiceConstants.DEFAULT_SCALE);
-            case STAR -> input.multiply(assumptionValue);
-            case PERCENT -> input.remainder(assumptionValue);
-            case _U -> input.pow(assumptionValue.intValue());
-            default -> throw new CustomException("UNSUPPORTED_OPERATOR", "Unsupported operator: " + operator);
-        };
+        return CalculationProgram.apply(input, operator, assumptionValue);
     }
 
     /**
@@ -61,8 +72,24 @@ public class CalculationUtil {
         return assumptions.stream().collect(Collectors.toMap(Assumption::getKey, Assumption::getValue));
     }
 
+    /**
+     * Compiles the operations, in their execution order, into a program evaluating them for a feature.
+     *
+     * @param operations         The operations of the plan configuration.
+     * @param mappedValues       The mapped values for inputs.
+     * @param assumptionValueMap The assumption values map.
+     * @return The compiled program.
+     */
+    public CalculationProgram compile(List<Operation> operations, Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap) {
+        return new CalculationProgram(operations, mappedValues, assumptionValueMap);
+    }
+
     /**
      * Calculates resources based on the provided JSON node, list of operations, and assumption values.
+     * The operations are compiled once and the features are evaluated in batches of resource.calculation.batch.size,
+     * in parallel when resource.calculation.parallelism is above one; plans are created in feature order and pushed in
+     * batches. As when features were calculated one after the other, a feature that fails stops the calculation
+     * after the plans of every feature before it are created.
      *
      * @param jsonNode           The JSON node containing the data.
      * @param resultMap          The map to store the results.
@@ -71,17 +98,61 @@ public class CalculationUtil {
      */
     public void calculateResources(JsonNode jsonNode, PlanConfigurationRequest planConfigurationRequest, Map<String, BigDecimal> resultMap,
                                 Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap) {
+        calculateResources(jsonNode.get("features").iterator(), planConfigurationRequest, resultMap, mappedValues, assumptionValueMap,
+                feature -> { });
+    }
+
+    /**
+     * Calculates resources for features read one at a time, handing each feature with its results to the consumer
+     * once its batch is calculated. Only one batch of features is held at a time.
+     *
+     * @param features           The features, usually streamed from the file.
+     * @param resultMap          The map to store the results.
+     * @param mappedValues       The mapped values for inputs.
+     * @param assumptionValueMap The assumption values map.
+     * @param calculatedFeatures The consumer of the calculated features, in feature order.
+     */
+    public void calculateResources(Iterator<JsonNode> features, PlanConfigurationRequest planConfigurationRequest, Map<String, BigDecimal> resultMap,
+                                   Map<String, String> mappedValues, Map<String, BigDecimal> assumptionValueMap,
+                                   Consumer<JsonNode> calculatedFeatures) {
     	PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
-        for (JsonNode feature : jsonNode.get("features")) {
-            for (Operation operation : planConfig.getOperations()) {
-                BigDecimal result = calculateResult(operation, feature, mappedValues, assumptionValueMap, resultMap);
-                String output = operation.getOutput();
-                resultMap.put(output, result);
-                ((ObjectNode) feature.get("properties")).put(output, result);
+        CalculationProgram program = compile(planConfig.getOperations(), mappedValues, assumptionValueMap);
+        int batchSize = config.getCalculationBatchSize();
+        int chunkSize = Math.max(1, batchSize / Math.max(1, config.getCalculationParallelism()));
+
+        try (BatchProducer.Batch planBatch = batchProducer.open(config.getResourceMicroplanCreateTopic())) {
+            List<JsonNode> batch = new ArrayList<>(batchSize);
+            while (features.hasNext()) {
+                batch.add(features.next());
+                if (batch.size() == batchSize) {
+                    calculateBatch(program, batch, planConfigurationRequest, resultMap, mappedValues, chunkSize, planBatch);
+                    batch.forEach(calculatedFeatures);
+                    batch.clear();
+                }
             }
-            planUtil.create(planConfigurationRequest, feature, resultMap, mappedValues, new HashMap<>());
-            
+            calculateBatch(program, batch, planConfigurationRequest, resultMap, mappedValues, chunkSize, planBatch);
+            batch.forEach(calculatedFeatures);
+        }
+    }
+
+    private void calculateBatch(CalculationProgram program, List<JsonNode> features, PlanConfigurationRequest planConfigurationRequest,
+                                Map<String, BigDecimal> resultMap, Map<String, String> mappedValues, int chunkSize,
+                                BatchProducer.Batch planBatch) {
+        if (features.isEmpty())
+            return;
+
+        program.evaluateAll(features, resultMap, chunkSize, calculationExecutor, (feature, results) ->
+                createPlan(program, feature, results, planConfigurationRequest, resultMap, mappedValues, planBatch));
+    }
+
+    private void createPlan(CalculationProgram program, JsonNode feature, BigDecimal[] results, PlanConfigurationRequest planConfigurationRequest,
+                            Map<String, BigDecimal> resultMap, Map<String, String> mappedValues, BatchProducer.Batch planBatch) {
+        ObjectNode properties = (ObjectNode) feature.get(PROPERTIES);
+        for (int i = 0; i < program.size(); i++) {
+            resultMap.put(program.getOutput(i), results[i]);
+            properties.put(program.getOutput(i), results[i]);
         }
+        planUtil.create(planConfigurationRequest, feature, resultMap, mappedValues, new HashMap<>(), planBatch);
     }
 
     /**
@@ -101,19 +172,7 @@ public class CalculationUtil {
         // Try to fetch the value from the feature (if it exists)
         if(ObjectUtils.isEmpty(inputValue)) {
             if (feature.has(PROPERTIES) && feature.get(PROPERTIES).has(columnName)) {
-                try {
-                    String cellValue = String.valueOf(feature.get(PROPERTIES).get(columnName));
-                    BigDecimal value;
-                    if (cellValue.contains(ServiceConstants.SCIENTIFIC_NOTATION_INDICATOR)) {
-                        value = new BigDecimal(cellValue);
-                    } else {
-                        String cleanedValue = cellValue.replaceAll("[^\\d.\\-E]", "");
-                        value = new BigDecimal(cleanedValue);
-                    }
-                    return value;
-                } catch (NumberFormatException | NullPointerException e) {
-                    // Handle potential parsing issues
-                    throw new CustomException("INPUT_VALUE_NOT_FOUND", "Input value not found: " + input);                }
+                return CalculationProgram.parseFeatureValue(feature.get(PROPERTIES).get(columnName), input);
             }
         }
 
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.egov.common.contract.models.Workflow;
 import org.egov.processor.config.Configuration;
 import org.egov.processor.config.ServiceConstants;
+import org.egov.processor.kafka.BatchProducer;
 import org.egov.processor.kafka.Producer;
 import org.egov.processor.repository.ServiceRequestRepository;
 import org.egov.processor.web.models.PlanConfiguration;
@@ -63,6 +64,23 @@ public class CensusUtil {
         }
     }
 
+    /**
+     * Builds a CensusRequest like {@link #create(PlanConfigurationRequest, JsonNode, Map, String)} and adds it to a
+     * batch of the resource census create topic instead of pushing it right away.
+     *
+     * @param planConfigurationRequest The plan configuration request with the necessary details.
+     * @param feature                  The JSON node containing feature data for the census.
+     * @param mappedValues             A map of property names to their values from the feature node.
+     * @param heirarchyType            The type of hierarchy to be used in the census.
+     * @param batch                    The batch, opened for the resource census create topic.
+     */
+    public void create(PlanConfigurationRequest planConfigurationRequest, JsonNode feature, Map<String, String> mappedValues, String heirarchyType,
+                       BatchProducer.Batch batch) {
+        CensusRequest censusRequest = buildCensusRequest(planConfigurationRequest, feature, mappedValues, heirarchyType);
+        log.debug("Census request - " + censusRequest.getCensus());
+        batch.add(censusRequest, ERROR_WHILE_PUSHING_TO_PLAN_SERVICE_FOR_LOCALITY + censusRequest.getCensus().getBoundaryCode());
+    }
+
     /**
      * Builds and returns a CensusRequest using the provided plan configuration, feature JSON node, and mapped values.
      *
@@ -117,32 +117,7 @@ public class EnrichmentUtil {
             Census census = censusMap.get(boundaryCode);
 
             if (census != null) {
-                // For each field in the sheetToCensusMap, update the cell if the field is editable
-                for (Map.Entry<String, String> entry : mappedValues.entrySet()) {
-                    String censusKey = entry.getKey();
-                    String sheetColumn = entry.getValue();
-
-                    if(config.getCensusAdditionalFieldOverrideKeys().contains(censusKey))
-                        continue;
-                    censusKey = config.getCensusAdditionalPrefixAppendKeys().contains(censusKey) ? CONFIRMED_KEY + censusKey : censusKey;
-
-                    // Get the column index from the mapOfColumnNameAndIndex
-                    Integer columnIndex = mapOfColumnNameAndIndex.get(sheetColumn);
-                    if (columnIndex != null) {
-                        // Get the value for this field in the census, if editable
-                        BigDecimal editableValue = getEditableValue(census, censusKey);
-
-                        if(ObjectUtils.isEmpty(editableValue)) continue;
-
-                        Cell cell = row.getCell(columnIndex);
-                        if (cell == null) {
-                            cell = row.createCell(columnIndex);
-                        }
-                        cell.setCellValue(editableValue.doubleValue());
-
-                    }
-                }
-
+                enrichRowWithApprovedCensusRecord(row, census, mappedValues, mapOfColumnNameAndIndex);
                 boundaryCodeToCensusAdditionalDetails.put(boundaryCode, census.getAdditionalDetails());
             }
 
@@ -150,6 +125,42 @@ public class EnrichmentUtil {
         }
     }
 
+    /**
+     * Overwrites the cells of a row with the editable values of its approved census record.
+     *
+     * @param row                     the row of the census record's boundary.
+     * @param census                  the approved census record.
+     * @param mappedValues            the sheet column of each census field.
+     * @param mapOfColumnNameAndIndex the column index of each sheet column.
+     */
+    public void enrichRowWithApprovedCensusRecord(Row row, Census census, Map<String, String> mappedValues, Map<String, Integer> mapOfColumnNameAndIndex) {
+        // For each field in the sheetToCensusMap, update the cell if the field is editable
+        for (Map.Entry<String, String> entry : mappedValues.entrySet()) {
+            String censusKey = entry.getKey();
+            String sheetColumn = entry.getValue();
+
+            if(config.getCensusAdditionalFieldOverrideKeys().contains(censusKey))
+                continue;
+            censusKey = config.getCensusAdditionalPrefixAppendKeys().contains(censusKey) ? CONFIRMED_KEY + censusKey : censusKey;
+
+            // Get the column index from the mapOfColumnNameAndIndex
+            Integer columnIndex = mapOfColumnNameAndIndex.get(sheetColumn);
+            if (columnIndex != null) {
+                // Get the value for this field in the census, if editable
+                BigDecimal editableValue = getEditableValue(census, censusKey);
+
+                if(ObjectUtils.isEmpty(editableValue)) continue;
+
+                Cell cell = row.getCell(columnIndex);
+                if (cell == null) {
+                    cell = row.createCell(columnIndex);
+                }
+                cell.setCellValue(editableValue.doubleValue());
+
+            }
+        }
+    }
+
     public List<String> getBoundaryCodesFromTheSheet(Sheet sheet, PlanConfigurationRequest planConfigurationRequest, String fileStoreId) {
         PlanConfiguration planConfig = planConfigurationRequest.getPlanConfiguration();
 
@@ -0,0 +1,273 @@
+package org.egov.processor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.egov.tracer.model.CustomException;
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.egov.processor.config.ServiceConstants.ERROR_WHILE_STREAMING_EXCEL_FILE_CODE;
+import static org.egov.processor.config.ServiceConstants.ERROR_WHILE_STREAMING_EXCEL_FILE_MESSAGE;
+
+/**
+ * Reads xlsx sheets row by row from the sheet XML, without building the workbook in memory.
+ *
+ * Cell values are handed over as String, Double, Boolean or Date (numeric cells with a date format); formula cells
+ * are read as their cached value and error cells are left out, like blank cells.
+ */
+@Slf4j
+@Component
+public class ExcelStreamingUtil {
+
+    /**
+     * Receives the rows of a streamed sheet, in sheet order.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+
+        /**
+         * @param rowNum zero-based row number
+         * @param cells  cell values by zero-based column index, blank cells are absent
+         */
+        void handleRow(int rowNum, Map<Integer, Object> cells);
+    }
+
+    /**
+     * Returns the sheet names of the workbook, in workbook order.
+     *
+     * @param file The xlsx file.
+     * @return The sheet names.
+     */
+    public List<String> getSheetNames(File file) {
+        List<String> sheetNames = new ArrayList<>();
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream ignored = sheets.next()) {
+                    sheetNames.add(sheets.getSheetName());
+                }
+            }
+        } catch (Exception e) {
+            log.error(ERROR_WHILE_STREAMING_EXCEL_FILE_MESSAGE + file.getName(), e);
+            throw new CustomException(ERROR_WHILE_STREAMING_EXCEL_FILE_CODE, ERROR_WHILE_STREAMING_EXCEL_FILE_MESSAGE + e.getMessage());
+        }
+        return sheetNames;
+    }
+
+    /**
+     * Streams the rows of a sheet to the handler. Rows without any cell are not in the sheet XML and are skipped.
+     *
+     * @param file      The xlsx file.
+     * @param sheetName The name of the sheet to read.
+     * @param handler   The handler receiving each row.
+     */
+    public void readRows(File file, String sheetName, RowHandler handler) {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    if (!sheets.getSheetName().equals(sheetName))
+                        continue;
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new SheetHandler(sharedStrings, styles, handler));
+                    parser.parse(new InputSource(sheet));
+                    return;
+                }
+            }
+            log.warn("Sheet " + sheetName + " not found in " + file.getName());
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error(ERROR_WHILE_STREAMING_EXCEL_FILE_MESSAGE + file.getName(), e);
+            throw new CustomException(ERROR_WHILE_STREAMING_EXCEL_FILE_CODE, ERROR_WHILE_STREAMING_EXCEL_FILE_MESSAGE + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes streamed cell values as a row of the sheet. The sheets of a workbook may be written concurrently, so the
+     * row is written holding the lock of the workbook, whose styles its cells share.
+     *
+     * @param sheet     The sheet to write to, usually of a streaming workbook.
+     * @param rowNum    zero-based row number
+     * @param cells     cell values by zero-based column index
+     * @param dateStyle The style of date cells, see {@link #createDateStyle(Workbook)}.
+     * @return The row written.
+     */
+    public Row writeRow(Sheet sheet, int rowNum, Map<Integer, Object> cells, CellStyle dateStyle) {
+        synchronized (sheet.getWorkbook()) {
+            Row row = sheet.createRow(rowNum);
+            for (Map.Entry<Integer, Object> entry : cells.entrySet()) {
+                Object value = entry.getValue();
+                if (value instanceof String) {
+                    row.createCell(entry.getKey()).setCellValue((String) value);
+                } else if (value instanceof Double) {
+                    row.createCell(entry.getKey()).setCellValue((Double) value);
+                } else if (value instanceof Boolean) {
+                    row.createCell(entry.getKey()).setCellValue((Boolean) value);
+                } else if (value instanceof Date) {
+                    Cell cell = row.createCell(entry.getKey());
+                    cell.setCellValue((Date) value);
+                    cell.setCellStyle(dateStyle);
+                }
+            }
+            return row;
+        }
+    }
+
+    /**
+     * @param workbook The workbook the rows are written to.
+     * @return A date cell style for {@link #writeRow(Sheet, int, Map, CellStyle)}.
+     */
+    public CellStyle createDateStyle(Workbook workbook) {
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat((short) 14);
+        return dateStyle;
+    }
+
+    /**
+     * SAX handler of a worksheet part, collecting the cells of each row.
+     */
+    private static class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+
+        private final StylesTable styles;
+
+        private final RowHandler handler;
+
+        private final StringBuilder value = new StringBuilder();
+
+        private Map<Integer, Object> cells;
+
+        private int rowNum = -1;
+
+        private int column;
+
+        private String cellType;
+
+        private String cellStyle;
+
+        private boolean inValue;
+
+        SheetHandler(ReadOnlySharedStringsTable sharedStrings, StylesTable styles, RowHandler handler) {
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName(localName, qName)) {
+                case "row":
+                    String rowRef = attributes.getValue("r");
+                    rowNum = rowRef == null ? rowNum + 1 : Integer.parseInt(rowRef) - 1;
+                    column = 0;
+                    cells = new TreeMap<>();
+                    break;
+                case "c":
+                    String cellRef = attributes.getValue("r");
+                    if (cellRef != null)
+                        column = new CellReference(cellRef).getCol();
+                    cellType = attributes.getValue("t");
+                    cellStyle = attributes.getValue("s");
+                    value.setLength(0);
+                    break;
+                case "v":
+                case "t":
+                    inValue = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName(localName, qName)) {
+                case "v":
+                case "t":
+                    inValue = false;
+                    break;
+                case "c":
+                    Object cellValue = toCellValue();
+                    if (cellValue != null)
+                        cells.put(column, cellValue);
+                    column++;
+                    break;
+                case "row":
+                    handler.handleRow(rowNum, cells);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue)
+                value.append(ch, start, length);
+        }
+
+        private Object toCellValue() {
+            if (value.length() == 0)
+                return null;
+            String text = value.toString();
+            if (cellType == null || cellType.equals("n")) {
+                double number = Double.parseDouble(text);
+                return isDateFormatted() ? DateUtil.getJavaDate(number) : number;
+            }
+            switch (cellType) {
+                case "s":
+                    return sharedStrings.getItemAt(Integer.parseInt(text)).getString();
+                case "inlineStr":
+                case "str":
+                    return text;
+                case "b":
+                    return "1".equals(text);
+                default:
+                    return null;
+            }
+        }
+
+        private boolean isDateFormatted() {
+            if (cellStyle == null || styles == null)
+                return false;
+            XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(cellStyle));
+            return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        }
+
+        private static String localName(String localName, String qName) {
+            if (localName != null && !localName.isEmpty())
+                return localName;
+            int colon = qName.indexOf(':');
+            return colon < 0 ? qName : qName.substring(colon + 1);
+        }
+    }
+}
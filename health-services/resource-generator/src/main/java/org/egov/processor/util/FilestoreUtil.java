@@ -70,6 +70,29 @@ public class FilestoreUtil {
         return responseInByteArray;
     }
 
+    /**
+     * Downloads a file from the file store service to a temporary file, streaming the response to disk. The caller
+     * deletes the file once done with it.
+     *
+     * @param tenantId    The ID of the tenant.
+     * @param fileStoreId The ID of the file in the file store.
+     * @param suffix      The suffix of the temporary file, such as ".geojson".
+     * @return The downloaded file.
+     */
+    public File downloadFile(String tenantId, String fileStoreId, String suffix) {
+        String fileStoreServiceLink = getFileStoreServiceLink(tenantId, fileStoreId);
+        File file = null;
+        try {
+            file = Files.createTempFile("filestore", suffix).toFile();
+            serviceRequestRepository.downloadWithGET(new StringBuilder(fileStoreServiceLink), file.toPath());
+            return file;
+        } catch (Exception ex) {
+            log.error("File store id response error!!", ex);
+            if (file != null && !file.delete())
+                log.warn("Failed to delete temporary file: " + file.getPath());
+            throw new CustomException("FILESTORE_EXCEPTION", "File Store response can not parsed!!!");
+        }
+    }
 
     /**
      * Uploads a file to the file store service.
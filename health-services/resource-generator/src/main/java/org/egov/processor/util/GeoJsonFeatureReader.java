@@ -0,0 +1,148 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.tracer.model.CustomException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the features of a GeoJSON feature collection one at a time with the Jackson streaming parser, so only the
+ * current feature is held as a tree.
+ *
+ * The other members of the collection (type, crs, name, ...) are kept as the leading fields, read before the
+ * features array, and the trailing fields, read once the last feature is consumed.
+ */
+@Slf4j
+public class GeoJsonFeatureReader implements Iterator<JsonNode>, Closeable {
+
+    private static final String FEATURES = "features";
+
+    private final JsonParser parser;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectNode leadingFields;
+
+    private final ObjectNode trailingFields;
+
+    private JsonNode next;
+
+    private boolean done;
+
+    /**
+     * Opens the reader and reads up to the first feature.
+     *
+     * @param inputStream  The GeoJSON feature collection.
+     * @param objectMapper The object mapper building the feature trees.
+     */
+    public GeoJsonFeatureReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.leadingFields = objectMapper.createObjectNode();
+        this.trailingFields = objectMapper.createObjectNode();
+        try {
+            this.parser = objectMapper.getFactory().createParser(inputStream);
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                throw new CustomException("JSON_PARSE_ERROR", "Error parsing JSON: GeoJSON is not an object");
+
+            boolean featuresFound = readFieldsUntilFeatures(leadingFields);
+            if (!featuresFound)
+                throw new CustomException("No Features found in geojson", " ");
+            advance();
+            if (next == null)
+                throw new CustomException("No Features found in geojson", " ");
+        } catch (IOException e) {
+            log.error(e.getMessage());
+            throw new CustomException("JSON_PARSE_ERROR", "Error parsing JSON: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return The members of the collection before the features array.
+     */
+    public ObjectNode getLeadingFields() {
+        return leadingFields;
+    }
+
+    /**
+     * @return The members of the collection after the features array, complete once every feature is read.
+     */
+    public ObjectNode getTrailingFields() {
+        return trailingFields;
+    }
+
+    /**
+     * @return The first feature, without consuming it.
+     */
+    public JsonNode peek() {
+        return next;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public JsonNode next() {
+        if (next == null)
+            throw new NoSuchElementException();
+        JsonNode feature = next;
+        try {
+            advance();
+        } catch (IOException e) {
+            log.error(e.getMessage());
+            throw new CustomException("JSON_PARSE_ERROR", "Error parsing JSON: " + e.getMessage());
+        }
+        return feature;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void advance() throws IOException {
+        if (done) {
+            next = null;
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                next = objectMapper.readTree(parser);
+                return;
+            }
+            // not a feature
+            parser.skipChildren();
+        }
+        // end of the features array
+        next = null;
+        done = true;
+        readFieldsUntilFeatures(trailingFields);
+    }
+
+    /**
+     * Reads the members of the collection into fields until the features array starts or the collection ends.
+     *
+     * @return true if the parser is positioned at the start of the features array.
+     */
+    private boolean readFieldsUntilFeatures(ObjectNode fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (FEATURES.equals(fieldName) && value == JsonToken.START_ARRAY)
+                return true;
+            fields.set(fieldName, objectMapper.readTree(parser));
+        }
+        return false;
+    }
+}
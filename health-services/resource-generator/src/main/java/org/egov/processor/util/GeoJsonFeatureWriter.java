@@ -0,0 +1,86 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.egov.tracer.model.CustomException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes a GeoJSON feature collection to a file one feature at a time with the Jackson streaming generator.
+ *
+ * The leading fields are written before the features array, the trailing fields after it by {@link #finish}.
+ */
+public class GeoJsonFeatureWriter implements Closeable {
+
+    private final JsonGenerator generator;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates the file and writes the collection up to the start of the features array.
+     *
+     * @param file          The output file.
+     * @param objectMapper  The object mapper writing the feature trees.
+     * @param leadingFields The members of the collection written before the features.
+     */
+    public GeoJsonFeatureWriter(File file, ObjectMapper objectMapper, ObjectNode leadingFields) {
+        this.objectMapper = objectMapper;
+        try {
+            this.generator = objectMapper.getFactory().createGenerator(file, JsonEncoding.UTF8);
+            generator.writeStartObject();
+            writeFields(leadingFields);
+            generator.writeArrayFieldStart("features");
+        } catch (IOException e) {
+            throw new CustomException("NOT_ABLE_TO_WRITE_TO_FILE", "Not able to write processed geojson to file");
+        }
+    }
+
+    /**
+     * @param feature The feature to append to the features array.
+     */
+    public void write(JsonNode feature) {
+        try {
+            objectMapper.writeTree(generator, feature);
+        } catch (IOException e) {
+            throw new CustomException("NOT_ABLE_TO_WRITE_TO_FILE", "Not able to write processed geojson to file");
+        }
+    }
+
+    /**
+     * Ends the features array and writes the remaining members of the collection.
+     *
+     * @param trailingFields The members of the collection written after the features.
+     */
+    public void finish(ObjectNode trailingFields) {
+        try {
+            generator.writeEndArray();
+            writeFields(trailingFields);
+            generator.writeEndObject();
+            generator.flush();
+        } catch (IOException e) {
+            throw new CustomException("NOT_ABLE_TO_WRITE_TO_FILE", "Not able to write processed geojson to file");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private void writeFields(ObjectNode fields) throws IOException {
+        Iterator<Map.Entry<String, JsonNode>> iterator = fields.fields();
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            generator.writeFieldName(field.getKey());
+            objectMapper.writeTree(generator, field.getValue());
+        }
+    }
+}
@@ -45,13 +45,24 @@ public class ParsingUtil {
     {
         if(jsonNode.get("features") == null)
             throw new CustomException("No Features found in geojson", " ");
-        List<String> columnNames = new ArrayList<>();       
-        JsonNode propertiesNode = jsonNode.get("features").get(0).get("properties");
+        return fetchAttributeNamesFromFeature(jsonNode.get("features").get(0));
+    }
+
+    /**
+     * Returns the property names of a GeoJSON feature.
+     *
+     * @param feature The feature.
+     * @return The names of its properties, in document order.
+     */
+    public List<String> fetchAttributeNamesFromFeature(JsonNode feature)
+    {
+        List<String> columnNames = new ArrayList<>();
+        JsonNode propertiesNode = feature.get("properties");
         Iterator<String> fieldNames = propertiesNode.fieldNames();
         while (fieldNames.hasNext()) {
             String columnName = fieldNames.next();
             columnNames.add(columnName);
-        }       
+        }
         return columnNames;
     }
 
@@ -160,6 +171,34 @@ public class ParsingUtil {
         return convertByteArrayToFile(byteArray, "geojson");
     }
 
+    /**
+     * Creates the file a processed GeoJSON is written to. Each request gets its own temporary file, so requests
+     * processed at the same time do not overwrite each other; the caller deletes it once uploaded.
+     *
+     * @return The new empty file.
+     */
+    public File createProcessedGeoJsonFile() {
+        try {
+            return Files.createTempFile("processed", ".geojson").toFile();
+        } catch (IOException e) {
+            throw new CustomException("NOT_ABLE_TO_WRITE_TO_FILE", "Not able to write processed geojson to file");
+        }
+    }
+
+    /**
+     * Deletes a temporary file, logging rather than failing if it cannot be deleted.
+     *
+     * @param file The file to delete, may be null.
+     */
+    public void deleteTempFile(File file) {
+        try {
+            if (file != null && file.exists() && !file.delete())
+                log.warn("Failed to delete temporary file: " + file.getPath());
+        } catch (SecurityException e) {
+            log.error("Security exception when attempting to delete file: " + e.getMessage());
+        }
+    }
+
     /**
      * Converts a byte array to a String.
      *
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.egov.common.contract.models.Workflow;
 import org.egov.processor.config.Configuration;
 import org.egov.processor.config.ServiceConstants;
+import org.egov.processor.kafka.BatchProducer;
 import org.egov.processor.kafka.Producer;
 import org.egov.processor.repository.ServiceRequestRepository;
 import org.egov.processor.web.PlanResponse;
@@ -62,6 +63,23 @@ public class PlanUtil {
 		}
 	}
 
+	/**
+	 * Builds a plan request like {@link #create(PlanConfigurationRequest, JsonNode, Map, Map, Map)} and adds it to a
+	 * batch of the resource microplan create topic instead of pushing it right away.
+	 *
+	 * @param planConfigurationRequest The plan configuration request.
+	 * @param feature The feature JSON node.
+	 * @param resultMap The result map.
+	 * @param mappedValues The mapped values.
+	 * @param boundaryCodeToCensusAdditionalDetails A Map of boundary code to censusAdditionalDetails for that boundary code.
+	 * @param batch The batch, opened for the resource microplan create topic.
+	 */
+	public void create(PlanConfigurationRequest planConfigurationRequest, JsonNode feature, Map<String, BigDecimal> resultMap,
+			Map<String, String> mappedValues, Map<String, Object> boundaryCodeToCensusAdditionalDetails, BatchProducer.Batch batch) {
+		PlanRequest planRequest = buildPlanRequest(planConfigurationRequest, feature, resultMap, mappedValues, boundaryCodeToCensusAdditionalDetails);
+		batch.add(planRequest, ERROR_WHILE_FETCHING_FROM_PLAN_SERVICE_FOR_LOCALITY + planRequest.getPlan().getLocality());
+	}
+
 	/**
 	 * Builds a PlanRequest object using the provided plan configuration request, feature JSON node,
 	 * result map, mapped values, and assumption value map.
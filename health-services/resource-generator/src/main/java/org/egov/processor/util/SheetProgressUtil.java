@@ -0,0 +1,89 @@
+package org.egov.processor.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the rows processed per sheet, so the progress and throughput of an estimation run can be followed.
+ *
+ * Meters, tagged with the plan configuration status: resource.generator.rows.processed counts the rows (its rate is
+ * the rows per second) and resource.generator.sheet.duration times each sheet. The rows and rate of a sheet are also
+ * logged every {@value #LOG_INTERVAL_ROWS} rows and when the sheet is done.
+ */
+@Slf4j
+@Component
+public class SheetProgressUtil {
+
+    private static final int LOG_INTERVAL_ROWS = 10000;
+
+    private final MeterRegistry meterRegistry;
+
+    public SheetProgressUtil(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Starts tracking a sheet.
+     *
+     * @param sheetName The name of the sheet.
+     * @param status    The status of the plan configuration being processed.
+     * @return The progress of the sheet, to be finished once its last row is processed.
+     */
+    public SheetProgress start(String sheetName, String status) {
+        return new SheetProgress(sheetName, status);
+    }
+
+    /**
+     * Rows processed in one sheet. Not thread safe, a sheet is processed by one thread.
+     */
+    public class SheetProgress {
+
+        private final String sheetName;
+
+        private final String status;
+
+        private final Counter rowsProcessed;
+
+        private final long start = System.nanoTime();
+
+        private long rows;
+
+        private SheetProgress(String sheetName, String status) {
+            this.sheetName = sheetName;
+            this.status = status;
+            this.rowsProcessed = Counter.builder("resource.generator.rows.processed").tag("status", status).register(meterRegistry);
+        }
+
+        /**
+         * Counts a processed row.
+         */
+        public void rowProcessed() {
+            rows++;
+            rowsProcessed.increment();
+            if (rows % LOG_INTERVAL_ROWS == 0)
+                log.info("Sheet {}: {} rows processed, {} rows/sec", sheetName, rows, rowsPerSecond(System.nanoTime() - start));
+        }
+
+        /**
+         * Records the duration of the sheet and logs its throughput.
+         */
+        public void finish() {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("resource.generator.sheet.duration").tag("status", status).register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("Processed {} rows of sheet {} in {} ms, {} rows/sec", rows, sheetName,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), rowsPerSecond(elapsed));
+        }
+
+        private long rowsPerSecond(long elapsedNanos) {
+            return elapsedNanos == 0 ? rows : rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package org.egov.processor.benchmark;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.egov.processor.util.ExcelStreamingUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a synthetic microplan workbook, adds a calculated column to each data row and writes the estimation
+ * workbook, once with the in-memory workbook ExcelParser used to load ({@code new XSSFWorkbook(file)}) and once
+ * with {@link ExcelStreamingUtil} and an SXSSF output workbook.
+ *
+ * <p>The workbook has one boundary sheet of {@code rows} rows with four boundary name columns, the boundary code
+ * and three population columns. Besides the time of each pass, the peak heap used during the pass is reported as
+ * the {@code peakHeapMb} counter of {@link HeapCounters}, and {@code main} adds the gc profiler for the allocation
+ * rate; the peak heap is the point of the comparison, since the in-memory workbook holds every row and cell object
+ * of both sheets while the streaming pass holds {@code windowSize} output rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class ExcelIngestionBenchmark {
+
+    private static final String SHEET_NAME = "Boundary Data";
+
+    private static final String[] HEADERS = {"Country", "Province", "District", "Village", "Boundary Code",
+            "Total Population", "Target Population", "Households"};
+
+    @Param({"500000"})
+    private int rows;
+
+    @Param({"1000"})
+    private int windowSize;
+
+    private final ExcelStreamingUtil excelStreamingUtil = new ExcelStreamingUtil();
+
+    private File input;
+
+    private File output;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        input = File.createTempFile("microplan", ".xlsx");
+        output = File.createTempFile("estimation", ".xlsx");
+        SXSSFWorkbook workbook = new SXSSFWorkbook(windowSize);
+        try (OutputStream outputStream = new FileOutputStream(input)) {
+            Sheet sheet = workbook.createSheet(SHEET_NAME);
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+            }
+            for (int rowNum = 1; rowNum <= rows; rowNum++) {
+                Row row = sheet.createRow(rowNum);
+                row.createCell(0).setCellValue("Country");
+                row.createCell(1).setCellValue("Province " + rowNum % 10);
+                row.createCell(2).setCellValue("District " + rowNum % 1000);
+                row.createCell(3).setCellValue("Village " + rowNum);
+                row.createCell(4).setCellValue("BC_" + rowNum);
+                row.createCell(5).setCellValue(1000 + rowNum % 5000);
+                row.createCell(6).setCellValue(800 + rowNum % 4000);
+                row.createCell(7).setCellValue(200 + rowNum % 1000);
+            }
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        input.delete();
+        output.delete();
+    }
+
+    @Benchmark
+    public long inMemoryWorkbook(HeapCounters heapCounters) throws Exception {
+        long total = 0;
+        try (Workbook workbook = new XSSFWorkbook(input)) {
+            Sheet sheet = workbook.getSheet(SHEET_NAME);
+            for (Row row : sheet) {
+                if (row.getRowNum() == 0) {
+                    row.createCell(HEADERS.length).setCellValue("Nets");
+                    continue;
+                }
+                total += addEstimate(row);
+            }
+            try (OutputStream outputStream = new FileOutputStream(output)) {
+                workbook.write(outputStream);
+            }
+        }
+        heapCounters.recordPeak();
+        return total;
+    }
+
+    @Benchmark
+    public long streamingWorkbook(HeapCounters heapCounters) throws Exception {
+        long[] total = {0};
+        SXSSFWorkbook workbook = new SXSSFWorkbook(windowSize);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle dateStyle = excelStreamingUtil.createDateStyle(workbook);
+            Sheet sheet = workbook.createSheet(SHEET_NAME);
+            excelStreamingUtil.readRows(input, SHEET_NAME, (rowNum, cells) -> {
+                Row row = excelStreamingUtil.writeRow(sheet, rowNum, cells, dateStyle);
+                if (rowNum == 0) {
+                    row.createCell(HEADERS.length).setCellValue("Nets");
+                    return;
+                }
+                total[0] += addEstimate(row);
+            });
+            try (OutputStream outputStream = new FileOutputStream(output)) {
+                workbook.write(outputStream);
+            }
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        heapCounters.recordPeak();
+        return total[0];
+    }
+
+    private static long addEstimate(Row row) {
+        Cell code = row.getCell(4);
+        Cell targetPopulation = row.getCell(6);
+        if (code == null || code.getCellType() != CellType.STRING || targetPopulation == null)
+            return 0;
+        double nets = Math.ceil(targetPopulation.getNumericCellValue() / 1.8);
+        row.createCell(HEADERS.length).setCellValue(nets);
+        return (long) nets;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ExcelIngestionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    /**
+     * Peak heap used during a pass, reported by JMH next to its time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+
+        public long peakHeapMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            System.gc();
+            ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+            peakHeapMb = 0;
+        }
+
+        void recordPeak() {
+            peakHeapMb = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                    .sum() / (1024 * 1024);
+        }
+    }
+}
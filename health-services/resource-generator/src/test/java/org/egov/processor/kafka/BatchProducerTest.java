@@ -0,0 +1,127 @@
+package org.egov.processor.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.egov.processor.config.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchProducerTest {
+
+    private static final String TOPIC = "resource-microplan-create-topic";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private Producer producer;
+
+    @Mock
+    private Configuration config;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    private BatchProducer batchProducer;
+
+    @AfterEach
+    void tearDown() {
+        if (batchProducer != null)
+            batchProducer.shutdown();
+    }
+
+    @Test
+    @DisplayName("should push every record as its own message by the time the batch is closed")
+    void shouldPushEveryRecordOnClose() {
+        batchProducer = batchProducer(2, 2, 2);
+
+        try (BatchProducer.Batch batch = batchProducer.open(TOPIC)) {
+            for (int i = 0; i < 5; i++)
+                batch.add("record-" + i, "error pushing record-" + i);
+        }
+
+        for (int i = 0; i < 5; i++)
+            verify(producer).push(TOPIC, "record-" + i);
+        assertEquals(5, meterRegistry.counter("resource.generator.records.emitted", "topic", TOPIC).count());
+        assertEquals(3, meterRegistry.timer("resource.generator.push.batch.latency", "topic", TOPIC).count());
+        assertEquals(0, inFlightBatches());
+    }
+
+    @Test
+    @DisplayName("should count a record that fails to push and push the rest of its batch")
+    void shouldCountFailedRecord() {
+        batchProducer = batchProducer(3, 1, 1);
+        doThrow(new RuntimeException("broker down")).when(producer).push(TOPIC, "record-1");
+
+        try (BatchProducer.Batch batch = batchProducer.open(TOPIC)) {
+            for (int i = 0; i < 3; i++)
+                batch.add("record-" + i, "error pushing record-" + i);
+        }
+
+        verify(producer).push(TOPIC, "record-2");
+        assertEquals(2, meterRegistry.counter("resource.generator.records.emitted", "topic", TOPIC).count());
+        assertEquals(1, meterRegistry.counter("resource.generator.records.failed", "topic", TOPIC).count());
+    }
+
+    @Test
+    @DisplayName("should make a full batch wait while the maximum of batches is in flight")
+    void shouldWaitForInFlightBatch() throws Exception {
+        batchProducer = batchProducer(1, 1, 2);
+        CountDownLatch pushing = new CountDownLatch(1);
+        CountDownLatch broker = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            pushing.countDown();
+            broker.await();
+            return null;
+        }).when(producer).push(TOPIC, "record-0");
+
+        BatchProducer.Batch batch = batchProducer.open(TOPIC);
+        batch.add("record-0", "error pushing record-0");
+        assertTrue(pushing.await(5, TimeUnit.SECONDS));
+        assertEquals(1, inFlightBatches());
+
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> batch.add("record-1", "error pushing record-1"));
+        Thread.sleep(200);
+        assertFalse(second.isDone());
+        verify(producer, never()).push(TOPIC, "record-1");
+
+        broker.countDown();
+        second.get(5, TimeUnit.SECONDS);
+        batch.close();
+
+        verify(producer).push(TOPIC, "record-1");
+        assertEquals(2, meterRegistry.counter("resource.generator.records.emitted", "topic", TOPIC).count());
+        assertEquals(0, inFlightBatches());
+    }
+
+    private BatchProducer batchProducer(int batchSize, int maxInFlightBatches, int threads) {
+        when(config.getKafkaPushBatchSize()).thenReturn(batchSize);
+        when(config.getKafkaPushMaxInFlightBatches()).thenReturn(maxInFlightBatches);
+        when(config.getKafkaPushThreads()).thenReturn(threads);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        return new BatchProducer(producer, config, meterRegistryProvider);
+    }
+
+    private double inFlightBatches() {
+        return meterRegistry.get("resource.generator.push.batches.in.flight").gauge().value();
+    }
+}
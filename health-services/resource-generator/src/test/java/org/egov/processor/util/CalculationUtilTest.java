@@ -0,0 +1,155 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.egov.processor.config.Configuration;
+import org.egov.processor.kafka.BatchProducer;
+import org.egov.processor.web.models.Operation;
+import org.egov.processor.web.models.PlanConfiguration;
+import org.egov.processor.web.models.PlanConfigurationRequest;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CalculationUtilTest {
+
+    private static final String FEATURES = """
+            {"type": "FeatureCollection", "features": [
+              {"type": "Feature", "properties": {"boundaryCode": "B1", "totalPop": "1,200", "targetPop": 900, "households": 250}},
+              {"type": "Feature", "properties": {"boundaryCode": "B2", "totalPop": 3400, "targetPop": "2,000.5", "households": 410}},
+              {"type": "Feature", "properties": {"boundaryCode": "B3", "totalPop": 100, "targetPop": 80, "households": 20}},
+              {"type": "Feature", "properties": {"boundaryCode": "B4", "totalPop": 7, "targetPop": 7.75, "households": 1}}
+            ]}
+            """;
+
+    private static final Map<String, String> MAPPED_VALUES = Map.of(
+            "TOTAL_POPULATION", "totalPop",
+            "TARGET_POPULATION", "targetPop",
+            "HOUSEHOLDS", "households");
+
+    private static final Map<String, BigDecimal> ASSUMPTIONS = Map.of(
+            "NETS_PER_HOUSEHOLD", new BigDecimal("1.8"),
+            "BUFFER", BigDecimal.TEN,
+            "SQUARE", new BigDecimal("2"),
+            "DIVISOR", new BigDecimal("7"),
+            "CARRY", BigDecimal.ZERO);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private PlanUtil planUtil;
+
+    @Mock
+    private Configuration config;
+
+    @Mock
+    private BatchProducer batchProducer;
+
+    private CalculationUtil calculationUtil;
+
+    @AfterEach
+    void tearDown() {
+        if (calculationUtil != null)
+            calculationUtil.shutdown();
+    }
+
+    @Test
+    @DisplayName("should compute the same results as calculating each operation in turn")
+    void shouldComputeSameResultsAsCalculateResult() throws Exception {
+        calculationUtil = calculationUtil(1, 1000);
+        List<Operation> operations = List.of(
+                operation("TARGET_POPULATION", Operation.OperatorEnum.SLASH, "NETS_PER_HOUSEHOLD", "NETS"),
+                operation("NETS", Operation.OperatorEnum.PLUS, "BUFFER", "NETS_WITH_BUFFER"),
+                operation("HOUSEHOLDS", Operation.OperatorEnum.STAR, "NETS_WITH_BUFFER", "HOUSEHOLD_NETS"),
+                operation("TOTAL_POPULATION", Operation.OperatorEnum.MINUS, "TARGET_POPULATION", "REMAINING"),
+                operation("REMAINING", Operation.OperatorEnum.PERCENT, "DIVISOR", "REMAINDER"),
+                operation("BUFFER", Operation.OperatorEnum._U, "SQUARE", "BUFFER_SQUARED"),
+                // reads its own output as left by the previous feature, the assumption for the first one
+                operation("CARRY", Operation.OperatorEnum.PLUS, "BUFFER", "CARRY"));
+
+        JsonNode expectedFeatures = objectMapper.readTree(FEATURES).get("features");
+        Map<String, BigDecimal> expectedResultMap = new HashMap<>();
+        List<BigDecimal[]> expected = new ArrayList<>();
+        for (JsonNode feature : expectedFeatures) {
+            BigDecimal[] results = new BigDecimal[operations.size()];
+            for (int i = 0; i < operations.size(); i++) {
+                results[i] = calculationUtil.calculateResult(operations.get(i), feature, MAPPED_VALUES, ASSUMPTIONS, expectedResultMap);
+                expectedResultMap.put(operations.get(i).getOutput(), results[i]);
+            }
+            expected.add(results);
+        }
+
+        CalculationProgram program = calculationUtil.compile(operations, MAPPED_VALUES, ASSUMPTIONS);
+        Map<String, BigDecimal> resultMap = new HashMap<>();
+        List<BigDecimal[]> actual = new ArrayList<>();
+        for (JsonNode feature : objectMapper.readTree(FEATURES).get("features"))
+            actual.add(program.evaluate(feature, resultMap));
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertArrayEquals(expected.get(i), actual.get(i), "feature " + i);
+        assertEquals(expectedResultMap, resultMap);
+        assertEquals(new BigDecimal("40"), actual.get(3)[6]);
+    }
+
+    @ParameterizedTest(name = "parallelism {0}")
+    @ValueSource(ints = {1, 2})
+    @DisplayName("should create the plans of the features before a feature that fails")
+    void shouldCreatePlansBeforeFailingFeature(int parallelism) throws Exception {
+        calculationUtil = calculationUtil(parallelism, 4);
+        List<Operation> operations = List.of(
+                operation("TARGET_POPULATION", Operation.OperatorEnum.SLASH, "NETS_PER_HOUSEHOLD", "NETS"));
+        JsonNode featureCollection = objectMapper.readTree(FEATURES);
+        ((ObjectNode) featureCollection.get("features").get(2).get("properties"))
+                .put("targetPop", "n/a");
+
+        assertThrows(CustomException.class, () -> calculationUtil.calculateResources(featureCollection,
+                planConfigurationRequest(operations), new HashMap<>(), MAPPED_VALUES, ASSUMPTIONS));
+
+        ArgumentCaptor<JsonNode> features = ArgumentCaptor.forClass(JsonNode.class);
+        verify(planUtil, times(2)).create(any(), features.capture(), any(), any(), any(), any());
+        assertEquals(List.of("B1", "B2"), features.getAllValues().stream()
+                .map(feature -> feature.get("properties").get("boundaryCode").asText()).toList());
+        assertTrue(features.getAllValues().get(1).get("properties").has("NETS"));
+    }
+
+    private CalculationUtil calculationUtil(int parallelism, int batchSize) {
+        lenient().when(config.getCalculationParallelism()).thenReturn(parallelism);
+        lenient().when(config.getCalculationBatchSize()).thenReturn(batchSize);
+        return new CalculationUtil(planUtil, config, batchProducer);
+    }
+
+    private static PlanConfigurationRequest planConfigurationRequest(List<Operation> operations) {
+        return PlanConfigurationRequest.builder()
+                .planConfiguration(PlanConfiguration.builder().operations(operations).build())
+                .build();
+    }
+
+    private static Operation operation(String input, Operation.OperatorEnum operator, String assumptionValue, String output) {
+        return Operation.builder().input(input).operator(operator).assumptionValue(assumptionValue).output(output).build();
+    }
+}
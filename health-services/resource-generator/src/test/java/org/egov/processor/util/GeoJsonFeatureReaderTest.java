@@ -0,0 +1,84 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoJsonFeatureReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("should read the features in order with the members around them")
+    void shouldReadFeaturesAndMembers() throws Exception {
+        String geoJson = """
+                {"type": "FeatureCollection", "crs": {"type": "name", "properties": {"name": "EPSG:4326"}},
+                 "features": [
+                   {"type": "Feature", "properties": {"boundaryCode": "B1", "population": 1200}, "geometry": {"type": "Point", "coordinates": [32.5, 0.3]}},
+                   {"type": "Feature", "properties": {"boundaryCode": "B2", "population": null}, "geometry": null}
+                 ],
+                 "name": "districts", "bbox": [32.0, 0.0, 33.0, 1.0]}
+                """;
+
+        List<JsonNode> features = new ArrayList<>();
+        try (GeoJsonFeatureReader reader = reader(geoJson)) {
+            assertEquals("B1", reader.peek().get("properties").get("boundaryCode").asText());
+            assertEquals(objectMapper.readTree("""
+                    {"type": "FeatureCollection", "crs": {"type": "name", "properties": {"name": "EPSG:4326"}}}
+                    """), reader.getLeadingFields());
+            reader.forEachRemaining(features::add);
+
+            assertEquals(objectMapper.readTree("""
+                    {"name": "districts", "bbox": [32.0, 0.0, 33.0, 1.0]}
+                    """), reader.getTrailingFields());
+            assertFalse(reader.hasNext());
+            assertThrows(NoSuchElementException.class, reader::next);
+        }
+
+        JsonNode expected = objectMapper.readTree(geoJson).get("features");
+        assertEquals(2, features.size());
+        assertEquals(expected.get(0), features.get(0));
+        assertEquals(expected.get(1), features.get(1));
+    }
+
+    @Test
+    @DisplayName("should skip entries of the features array that are not objects")
+    void shouldSkipNonObjectEntries() throws Exception {
+        try (GeoJsonFeatureReader reader = reader("""
+                {"features": [null, [1, 2], {"properties": {"boundaryCode": "B1"}}, 3]}
+                """)) {
+            assertTrue(reader.hasNext());
+            assertEquals("B1", reader.next().get("properties").get("boundaryCode").asText());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    @DisplayName("should fail on a collection without features")
+    void shouldFailWithoutFeatures() {
+        assertThrows(CustomException.class, () -> reader("""
+                {"type": "FeatureCollection", "name": "districts"}
+                """));
+        assertThrows(CustomException.class, () -> reader("""
+                {"type": "FeatureCollection", "features": []}
+                """));
+        assertThrows(CustomException.class, () -> reader("[]"));
+    }
+
+    private GeoJsonFeatureReader reader(String geoJson) {
+        return new GeoJsonFeatureReader(new ByteArrayInputStream(geoJson.getBytes(StandardCharsets.UTF_8)), objectMapper);
+    }
+}
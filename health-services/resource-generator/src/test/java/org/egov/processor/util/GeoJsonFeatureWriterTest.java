@@ -0,0 +1,77 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GeoJsonFeatureWriterTest {
+
+    private static final String GEOJSON = """
+            {"type": "FeatureCollection", "crs": {"type": "name", "properties": {"name": "EPSG:4326"}},
+             "features": [
+               {"type": "Feature", "properties": {"boundaryCode": "B1", "population": "1,200"}, "geometry": {"type": "Polygon", "coordinates": [[[32.5, 0.3], [32.6, 0.3], [32.6, 0.4], [32.5, 0.3]]]}},
+               {"type": "Feature", "properties": {"boundaryCode": "B2", "population": 7.5, "label": "Ünïcödé"}, "geometry": null}
+             ],
+             "name": "districts"}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should write back the collection it read, feature by feature")
+    void shouldRoundTripCollection() throws Exception {
+        File file = tempDir.resolve("processed.geojson").toFile();
+
+        try (GeoJsonFeatureReader reader = reader(GEOJSON);
+             GeoJsonFeatureWriter writer = new GeoJsonFeatureWriter(file, objectMapper, reader.getLeadingFields())) {
+            reader.forEachRemaining(writer::write);
+            writer.finish(reader.getTrailingFields());
+        }
+
+        assertEquals(objectMapper.readTree(GEOJSON), objectMapper.readTree(file));
+    }
+
+    @Test
+    @DisplayName("should write the calculated properties of each feature")
+    void shouldWriteCalculatedProperties() throws Exception {
+        File file = tempDir.resolve("processed.geojson").toFile();
+
+        try (GeoJsonFeatureReader reader = reader(GEOJSON);
+             GeoJsonFeatureWriter writer = new GeoJsonFeatureWriter(file, objectMapper, reader.getLeadingFields())) {
+            reader.forEachRemaining(feature -> {
+                ((ObjectNode) feature.get("properties")).put("NETS", new BigDecimal("666.66"));
+                writer.write(feature);
+            });
+            writer.finish(reader.getTrailingFields());
+        }
+
+        JsonNode written = objectMapper.readTree(file);
+        assertEquals("districts", written.get("name").asText());
+        assertEquals(2, written.get("features").size());
+        for (JsonNode feature : written.get("features"))
+            assertEquals(new BigDecimal("666.66"), feature.get("properties").get("NETS").decimalValue());
+        try (GeoJsonFeatureReader reader = new GeoJsonFeatureReader(new FileInputStream(file), objectMapper)) {
+            assertEquals("B1", reader.next().get("properties").get("boundaryCode").asText());
+            assertEquals("Ünïcödé", reader.next().get("properties").get("label").asText());
+        }
+    }
+
+    private GeoJsonFeatureReader reader(String geoJson) {
+        return new GeoJsonFeatureReader(new ByteArrayInputStream(geoJson.getBytes(StandardCharsets.UTF_8)), objectMapper);
+    }
+}
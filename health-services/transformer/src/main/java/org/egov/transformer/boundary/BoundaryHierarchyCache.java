@@ -0,0 +1,146 @@
+package org.egov.transformer.boundary;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.models.boundary.BoundarySearchResponse;
+import org.egov.transformer.models.boundary.EnrichedBoundary;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the boundary hierarchy of each tenant in memory as a {@link BoundaryHierarchyIndex}, so resolving the
+ * ancestors of a boundary code is a walk up the tree instead of a boundary relationship search.
+ *
+ * <p>A hierarchy is loaded in one call on first use and reloaded in the background once it is older than
+ * {@code transformer.boundary.cache.refresh.minutes}; the loaded index keeps serving while the reload runs, and
+ * a failed reload keeps the previous index. A failed first load is remembered for
+ * {@code transformer.boundary.cache.failure.backoff.seconds}, during which lookups of that tenant miss at once
+ * instead of fetching the whole hierarchy again for every message. At most {@code transformer.boundary.cache.max.hierarchies} tenant
+ * hierarchies are held. Meters: the {@code cache.*} meters tagged {@code cache=boundaryHierarchy}, the
+ * {@code transformer.boundary.cache.nodes} gauge and {@code transformer.boundary.cache.lookups} tagged with
+ * {@code result=hit|miss|backoff}.
+ */
+@Component
+@Slf4j
+public class BoundaryHierarchyCache {
+
+    private static final String CACHE_NAME = "boundaryHierarchy";
+
+    private final TransformerProperties transformerProperties;
+
+    private final ServiceRequestClient serviceRequestClient;
+
+    private final LoadingCache<String, BoundaryHierarchyIndex> hierarchies;
+
+    private final Cache<String, Boolean> failedTenants;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter backoffs;
+
+    @Autowired
+    public BoundaryHierarchyCache(TransformerProperties transformerProperties,
+                                  ServiceRequestClient serviceRequestClient,
+                                  ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.transformerProperties = transformerProperties;
+        this.serviceRequestClient = serviceRequestClient;
+        this.hierarchies = Caffeine.newBuilder()
+                .maximumSize(transformerProperties.getBoundaryCacheMaxHierarchies())
+                .refreshAfterWrite(Duration.ofMinutes(transformerProperties.getBoundaryCacheRefreshMinutes()))
+                .recordStats()
+                .build(this::load);
+        this.failedTenants = Caffeine.newBuilder()
+                .maximumSize(transformerProperties.getBoundaryCacheMaxHierarchies())
+                .expireAfterWrite(Duration.ofSeconds(transformerProperties.getBoundaryCacheFailureBackoffSeconds()))
+                .build();
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, hierarchies, CACHE_NAME);
+        Gauge.builder("transformer.boundary.cache.nodes", hierarchies,
+                        cache -> cache.asMap().values().stream().mapToInt(BoundaryHierarchyIndex::size).sum())
+                .register(meterRegistry);
+        this.hits = Counter.builder("transformer.boundary.cache.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("transformer.boundary.cache.lookups").tag("result", "miss").register(meterRegistry);
+        this.backoffs = Counter.builder("transformer.boundary.cache.lookups").tag("result", "backoff")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(transformerProperties.getBoundaryCacheEnabled());
+    }
+
+    /**
+     * @param code     the boundary code
+     * @param tenantId the tenant
+     * @return the boundary type of the code and of each ancestor mapped to its name, null if the code is not in
+     * the cached hierarchy or the hierarchy could not be loaded recently
+     */
+    public Map<String, String> getBoundaryTypeToNameMap(String code, String tenantId) {
+        if (failedTenants.getIfPresent(tenantId) != null) {
+            backoffs.increment();
+            return null;
+        }
+        BoundaryTree tree = null;
+        try {
+            tree = hierarchies.get(tenantId).get(code);
+        } catch (Exception exception) {
+            log.error("could not load boundary hierarchy of tenant {}, retrying in {} seconds", tenantId,
+                    transformerProperties.getBoundaryCacheFailureBackoffSeconds(), exception);
+            failedTenants.put(tenantId, Boolean.TRUE);
+        }
+        if (tree == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return tree.getBoundaryTypeToNameMap();
+    }
+
+    /**
+     * Drops every cached hierarchy, the next lookups load them again.
+     */
+    public void invalidateAll() {
+        hierarchies.invalidateAll();
+        failedTenants.invalidateAll();
+    }
+
+    private BoundaryHierarchyIndex load(String tenantId) {
+        log.info("loading boundary hierarchy {} of tenant {}", transformerProperties.getBoundaryHierarchyName(),
+                tenantId);
+        BoundarySearchResponse response = serviceRequestClient.fetchResult(
+                new StringBuilder(transformerProperties.getBoundaryServiceHost()
+                        + transformerProperties.getBoundaryRelationshipSearchUrl()
+                        + "?includeChildren=true&tenantId=" + tenantId
+                        + "&hierarchyType=" + transformerProperties.getBoundaryHierarchyName()),
+                RequestInfo.builder().build(),
+                BoundarySearchResponse.class);
+        List<EnrichedBoundary> roots = response.getTenantBoundary() == null ? Collections.emptyList()
+                : response.getTenantBoundary().stream()
+                .filter(hierarchyRelation -> !CollectionUtils.isEmpty(hierarchyRelation.getBoundary()))
+                .flatMap(hierarchyRelation -> hierarchyRelation.getBoundary().stream())
+                .collect(Collectors.toList());
+        BoundaryHierarchyIndex index = BoundaryHierarchyIndex.from(tenantId, roots);
+        log.info("loaded {} boundaries of tenant {}", index.size(), tenantId);
+        return index;
+    }
+}
@@ -0,0 +1,85 @@
+package org.egov.transformer.boundary;
+
+import org.egov.transformer.models.boundary.EnrichedBoundary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of one boundary hierarchy of a tenant: every boundary code points at its node in the
+ * {@link BoundaryTree}, whose parent links give the ancestors of the code without another service call.
+ */
+public final class BoundaryHierarchyIndex {
+
+    private final Map<String, BoundaryTree> treesByCode;
+
+    private BoundaryHierarchyIndex(Map<String, BoundaryTree> treesByCode) {
+        this.treesByCode = Collections.unmodifiableMap(treesByCode);
+    }
+
+    /**
+     * @param tenantId the tenant of the hierarchy
+     * @param roots    the root boundaries of the hierarchy with their children, as returned by the boundary
+     *                 relationship search with includeChildren
+     * @return the index of every boundary under the roots
+     */
+    public static BoundaryHierarchyIndex from(String tenantId, List<EnrichedBoundary> roots) {
+        Map<String, BoundaryTree> treesByCode = new HashMap<>();
+        Deque<Pending> stack = new ArrayDeque<>();
+        for (EnrichedBoundary root : roots == null ? Collections.<EnrichedBoundary>emptyList() : roots) {
+            if (root != null) {
+                stack.push(new Pending(toTree(tenantId, root, null, treesByCode), root));
+            }
+        }
+        while (!stack.isEmpty()) {
+            Pending current = stack.pop();
+            if (current.boundary().getChildren() == null) {
+                continue;
+            }
+            for (EnrichedBoundary child : current.boundary().getChildren()) {
+                if (child != null) {
+                    BoundaryTree childTree = toTree(tenantId, child, current.tree(), treesByCode);
+                    current.tree().getBoundaryTrees().add(childTree);
+                    stack.push(new Pending(childTree, child));
+                }
+            }
+        }
+        return new BoundaryHierarchyIndex(treesByCode);
+    }
+
+    private static BoundaryTree toTree(String tenantId, EnrichedBoundary boundary, BoundaryTree parent,
+                                       Map<String, BoundaryTree> treesByCode) {
+        BoundaryTree tree = BoundaryTree.builder()
+                .boundaryNode(BoundaryNode.builder()
+                        .id(boundary.getId())
+                        .tenantId(tenantId)
+                        .code(boundary.getCode())
+                        .boundaryType(boundary.getBoundaryType())
+                        .build())
+                .parent(parent)
+                .boundaryTrees(new ArrayList<>())
+                .build();
+        treesByCode.put(boundary.getCode(), tree);
+        return tree;
+    }
+
+    /**
+     * @param code the boundary code
+     * @return the node of the code, null if the hierarchy does not have it
+     */
+    public BoundaryTree get(String code) {
+        return treesByCode.get(code);
+    }
+
+    public int size() {
+        return treesByCode.size();
+    }
+
+    private record Pending(BoundaryTree tree, EnrichedBoundary boundary) {
+    }
+}
@@ -3,11 +3,15 @@ package org.egov.transformer.boundary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @AllArgsConstructor
@@ -15,6 +19,8 @@ import java.util.List;
 @Builder
 public class BoundaryTree {
     private BoundaryNode boundaryNode;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private BoundaryTree parent;
     private List<BoundaryTree> boundaryTrees;
 
@@ -30,4 +36,21 @@ public class BoundaryTree {
         }
         return parentNodes;
     }
+
+    /**
+     * Walks up from this node to the root, O(depth).
+     *
+     * @return the boundary type of this node and of each ancestor mapped to its name, the last segment of the code
+     */
+    public Map<String, String> getBoundaryTypeToNameMap() {
+        Map<String, String> boundaryTypeToName = new HashMap<>();
+        BoundaryTree referenceTree = this;
+        while (referenceTree != null) {
+            BoundaryNode node = referenceTree.getBoundaryNode();
+            boundaryTypeToName.putIfAbsent(node.getBoundaryType(),
+                    node.getCode().substring(node.getCode().lastIndexOf('_') + 1));
+            referenceTree = referenceTree.parent;
+        }
+        return boundaryTypeToName;
+    }
 }
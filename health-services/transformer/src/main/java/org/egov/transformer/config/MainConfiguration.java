@@ -3,6 +3,7 @@ package org.egov.transformer.config;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
@@ -36,6 +37,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Import({TracerConfiguration.class})
 @Configuration
@@ -140,6 +142,21 @@ public class MainConfiguration {
         return map;
     }
 
+    /**
+     * Workers transforming the lanes of a consumed batch, shared by the bulk consumers.
+     * When the queue is full the listener thread transforms the lane itself, which slows down polling.
+     */
+    @Bean(name = "transformerConsumerExecutor")
+    public ThreadPoolTaskExecutor transformerConsumerExecutor(TransformerProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getConsumerBatchParallelism());
+        executor.setMaxPoolSize(properties.getConsumerBatchParallelism());
+        executor.setQueueCapacity(properties.getConsumerBatchQueueCapacity());
+        executor.setThreadNamePrefix("transformer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
@@ -29,6 +29,12 @@ public class TransformerProperties {
     @Value("${transformer.producer.bulk.stock.index.v1.topic}")
     private String transformerProducerBulkStockIndexV1Topic;
 
+    @Value("${transformer.producer.rollup.project.task.index.v1.topic:transformer-producer-rollup-project-task-index-v1-topic}")
+    private String transformerProducerRollupProjectTaskIndexV1Topic;
+
+    @Value("${transformer.producer.rollup.stock.index.v1.topic:transformer-producer-rollup-stock-index-v1-topic}")
+    private String transformerProducerRollupStockIndexV1Topic;
+
     @Value("${egov.project.host}")
     private String projectHost;
 
@@ -86,4 +92,37 @@ public class TransformerProperties {
     @Value("${egov.boundary.hierarchy.name}")
     private String boundaryHierarchyName;
 
+    @Value("${transformer.boundary.cache.enabled:true}")
+    private Boolean boundaryCacheEnabled;
+
+    @Value("${transformer.boundary.cache.refresh.minutes:30}")
+    private Integer boundaryCacheRefreshMinutes;
+
+    @Value("${transformer.boundary.cache.max.hierarchies:10}")
+    private Integer boundaryCacheMaxHierarchies;
+
+    @Value("${transformer.boundary.cache.failure.backoff.seconds:60}")
+    private Integer boundaryCacheFailureBackoffSeconds;
+
+    @Value("${transformer.project.cache.max.size:1000}")
+    private Integer projectCacheMaxSize;
+
+    @Value("${transformer.project.cache.ttl.minutes:60}")
+    private Integer projectCacheTtlMinutes;
+
+    @Value("${transformer.consumer.batch.parallelism:4}")
+    private Integer consumerBatchParallelism;
+
+    @Value("${transformer.consumer.batch.queue.capacity:100}")
+    private Integer consumerBatchQueueCapacity;
+
+    @Value("${transformer.consumer.dead.letter.suffix:-dlt}")
+    private String consumerDeadLetterSuffix;
+
+    @Value("${transformer.rollup.enabled:false}")
+    private Boolean rollupEnabled;
+
+    @Value("${transformer.rollup.zone:UTC}")
+    private String rollupZone;
+
 }
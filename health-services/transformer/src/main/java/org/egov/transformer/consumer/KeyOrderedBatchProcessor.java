@@ -0,0 +1,141 @@
+package org.egov.transformer.consumer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.egov.common.producer.Producer;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.handler.EntityTransformationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Transforms the records of a consumed batch on the transformer consumer executor.
+ *
+ * <p>The entities of the batch are spread over at most {@code transformer.consumer.batch.parallelism} lanes by
+ * the hash of their key (the entity id, else the record key, else the partition), so every update of an entity
+ * lands in the same lane, in offset order. Each lane is handed to the transformation handler as one list, which
+ * turns into one index push per lane and transformation service instead of one per record.
+ *
+ * <p>The listeners are batch listeners of the default container factory ({@code batch = "true"}), so they keep
+ * its consumer settings and error handling. A transformation service that fails on a lane retries only that
+ * lane's entities one by one (see {@link org.egov.transformer.handler.AbstractTransformationHandler}).
+ *
+ * <p>Nothing of a batch is dropped silently: the entities that still fail, or the whole lane when the handler
+ * fails otherwise, are pushed as a list to the dead letter topic of the topic they were read from
+ * (its name followed by {@code transformer.consumer.dead.letter.suffix}), and a value that cannot be parsed is pushed
+ * there as it was read. A push that fails is thrown to the listener, so the batch is not acknowledged.
+ */
+@Component
+@Slf4j
+public class KeyOrderedBatchProcessor {
+
+    private final Executor executor;
+
+    private final Producer producer;
+
+    private final int parallelism;
+
+    private final String deadLetterSuffix;
+
+    @Autowired
+    public KeyOrderedBatchProcessor(@Qualifier("transformerConsumerExecutor") Executor executor, Producer producer,
+                                    TransformerProperties properties) {
+        this.executor = executor;
+        this.producer = producer;
+        this.parallelism = Math.max(1, properties.getConsumerBatchParallelism());
+        this.deadLetterSuffix = properties.getConsumerDeadLetterSuffix();
+    }
+
+    /**
+     * Parses and transforms the records, returning once every lane is done and its failures are dead lettered.
+     *
+     * @param records      the records of the poll
+     * @param parser       reads the entities of one record value
+     * @param keyExtractor the ordering key of an entity, null to use the record key
+     * @param handler      transforms and pushes a list of entities
+     * @param <T>          the entity type
+     */
+    public <T> void process(List<ConsumerRecord<String, Object>> records, RecordParser<T> parser,
+                            Function<T, String> keyExtractor, Consumer<List<T>> handler) {
+        List<List<T>> lanes = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        Map<T, String> topics = new IdentityHashMap<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            List<T> entities;
+            try {
+                entities = parser.parse((String) record.value());
+            } catch (Exception exception) {
+                log.error("error parsing record {}-{}@{}, publishing it to the dead letter topic", record.topic(),
+                        record.partition(), record.offset(), exception);
+                producer.push(record.topic() + deadLetterSuffix, record.value());
+                continue;
+            }
+            for (T entity : entities) {
+                String key = keyExtractor.apply(entity);
+                if (key == null) {
+                    key = record.key() != null ? record.key() : String.valueOf(record.partition());
+                }
+                lanes.get(Math.floorMod(key.hashCode(), parallelism)).add(entity);
+                topics.put(entity, record.topic());
+            }
+        }
+
+        List<List<T>> nonEmptyLanes = lanes.stream().filter(lane -> !lane.isEmpty()).toList();
+        log.debug("transforming {} records in {} lanes", records.size(), nonEmptyLanes.size());
+        List<T> failed = new ArrayList<>();
+        if (nonEmptyLanes.size() == 1) {
+            failed.addAll(handle(nonEmptyLanes.get(0), handler));
+        } else {
+            List<CompletableFuture<List<T>>> futures = nonEmptyLanes.stream()
+                    .map(lane -> CompletableFuture.supplyAsync(() -> handle(lane, handler), executor))
+                    .toList();
+            futures.forEach(future -> failed.addAll(future.join()));
+        }
+
+        Map<String, List<T>> failedByTopic = new LinkedHashMap<>();
+        for (T entity : failed) {
+            failedByTopic.computeIfAbsent(topics.get(entity), topic -> new ArrayList<>()).add(entity);
+        }
+        failedByTopic.forEach((topic, entities) -> {
+            log.error("publishing {} entities of {} to the dead letter topic", entities.size(), topic);
+            producer.push(topic + deadLetterSuffix, entities);
+        });
+    }
+
+    /**
+     * Runs the handler over a lane, returning the entities that could not be transformed.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> handle(List<T> lane, Consumer<List<T>> handler) {
+        try {
+            handler.accept(lane);
+            return List.of();
+        } catch (EntityTransformationException exception) {
+            log.error("error transforming {} of a lane of {} entities", exception.getFailedEntities().size(),
+                    lane.size(), exception);
+            return (List<T>) exception.getFailedEntities();
+        } catch (Exception exception) {
+            log.error("error transforming a lane of {} entities", lane.size(), exception);
+            return lane;
+        }
+    }
+
+    @FunctionalInterface
+    public interface RecordParser<T> {
+
+        List<T> parse(String value) throws Exception;
+    }
+}
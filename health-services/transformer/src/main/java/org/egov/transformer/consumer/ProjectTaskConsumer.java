@@ -9,8 +9,6 @@ import org.egov.transformer.handler.TransformationHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -24,24 +22,27 @@ public class ProjectTaskConsumer {
 
     private final ObjectMapper objectMapper;
 
+    private final KeyOrderedBatchProcessor batchProcessor;
+
     @Autowired
     public ProjectTaskConsumer(TransformationHandler<Task> transformationHandler,
-                               @Qualifier("objectMapper") ObjectMapper objectMapper) {
+                               @Qualifier("objectMapper") ObjectMapper objectMapper,
+                               KeyOrderedBatchProcessor batchProcessor) {
         this.transformationHandler = transformationHandler;
         this.objectMapper = objectMapper;
+        this.batchProcessor = batchProcessor;
     }
 
     @KafkaListener(topics = { "${transformer.consumer.bulk.create.project.task.topic}",
-            "${transformer.consumer.bulk.update.project.task.topic}"})
-    public void consumeTask(ConsumerRecord<String, Object> payload,
-                           @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        try {
-            List<Task> payloadList = Arrays.asList(objectMapper
-                    .readValue((String) payload.value(),
-                            Task[].class));
-            transformationHandler.handle(payloadList, Operation.TASK);
-        } catch (Exception exception) {
-            log.error("error in project task bulk consumer", exception);
-        }
+            "${transformer.consumer.bulk.update.project.task.topic}"},
+            batch = "true",
+            properties = {"max.poll.records=${transformer.consumer.batch.max.poll.records:500}",
+                    "fetch.min.bytes=${transformer.consumer.batch.fetch.min.bytes:65536}",
+                    "fetch.max.wait.ms=${transformer.consumer.batch.fetch.max.wait.ms:500}"})
+    public void consumeTask(List<ConsumerRecord<String, Object>> payloads) {
+        batchProcessor.process(payloads,
+                value -> Arrays.asList(objectMapper.readValue(value, Task[].class)),
+                Task::getId,
+                payloadList -> transformationHandler.handle(payloadList, Operation.TASK));
     }
 }
@@ -10,13 +10,10 @@ import org.egov.transformer.models.upstream.ServiceRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -25,24 +22,27 @@ public class ServiceTaskConsumer {
 
     private final ObjectMapper objectMapper;
 
+    private final KeyOrderedBatchProcessor batchProcessor;
+
     @Autowired
     public ServiceTaskConsumer(TransformationHandler<Service> transformationHandler,
-                                @Qualifier("objectMapper") ObjectMapper objectMapper) {
+                                @Qualifier("objectMapper") ObjectMapper objectMapper,
+                                KeyOrderedBatchProcessor batchProcessor) {
         this.transformationHandler = transformationHandler;
         this.objectMapper = objectMapper;
+        this.batchProcessor = batchProcessor;
     }
 
-    @KafkaListener(topics = {"${transformer.consumer.create.service.topic}"})
-    public void consumeServiceTask(ConsumerRecord<String, Object> payload,
-                             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        try {
-            List<ServiceRequest> payloadList = Arrays.asList(objectMapper
-                    .readValue((String) payload.value(), ServiceRequest.class));
-            List<Service> collect = payloadList.stream().map(p -> p.getService()).collect(Collectors.toList());
-            transformationHandler.handle(collect, Operation.SERVICE);
-        } catch (Exception exception) {
-            log.error("error in service task consumer", exception);
-        }
+    @KafkaListener(topics = {"${transformer.consumer.create.service.topic}"},
+            batch = "true",
+            properties = {"max.poll.records=${transformer.consumer.batch.max.poll.records:500}",
+                    "fetch.min.bytes=${transformer.consumer.batch.fetch.min.bytes:65536}",
+                    "fetch.max.wait.ms=${transformer.consumer.batch.fetch.max.wait.ms:500}"})
+    public void consumeServiceTask(List<ConsumerRecord<String, Object>> payloads) {
+        batchProcessor.process(payloads,
+                value -> Collections.singletonList(objectMapper.readValue(value, ServiceRequest.class).getService()),
+                Service::getId,
+                payloadList -> transformationHandler.handle(payloadList, Operation.SERVICE));
     }
 
 }
@@ -7,8 +7,6 @@ import org.egov.common.models.stock.Stock;
 import org.egov.transformer.enums.Operation;
 import org.egov.transformer.handler.TransformationHandler;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -22,22 +20,25 @@ public class StockConsumer {
 
     private final TransformationHandler<Stock> transformationHandler;
 
-    public StockConsumer(ObjectMapper objectMapper, TransformationHandler<Stock> transformationHandler) {
+    private final KeyOrderedBatchProcessor batchProcessor;
+
+    public StockConsumer(ObjectMapper objectMapper, TransformationHandler<Stock> transformationHandler,
+                         KeyOrderedBatchProcessor batchProcessor) {
         this.objectMapper = objectMapper;
         this.transformationHandler = transformationHandler;
+        this.batchProcessor = batchProcessor;
     }
 
     @KafkaListener(topics = { "${transformer.consumer.bulk.create.stock.topic}",
-            "${transformer.consumer.bulk.update.stock.topic}"})
-    public void consumeStock(ConsumerRecord<String, Object> payload,
-                           @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
-        try {
-            List<Stock> payloadList = Arrays.asList(objectMapper
-                    .readValue((String) payload.value(),
-                            Stock[].class));
-            transformationHandler.handle(payloadList, Operation.STOCK);
-        } catch (Exception exception) {
-            log.error("error in stock consumer bulk create", exception);
-        }
+            "${transformer.consumer.bulk.update.stock.topic}"},
+            batch = "true",
+            properties = {"max.poll.records=${transformer.consumer.batch.max.poll.records:500}",
+                    "fetch.min.bytes=${transformer.consumer.batch.fetch.min.bytes:65536}",
+                    "fetch.max.wait.ms=${transformer.consumer.batch.fetch.max.wait.ms:500}"})
+    public void consumeStock(List<ConsumerRecord<String, Object>> payloads) {
+        batchProcessor.process(payloads,
+                value -> Arrays.asList(objectMapper.readValue(value, Stock[].class)),
+                Stock::getId,
+                payloadList -> transformationHandler.handle(payloadList, Operation.STOCK));
     }
 }
@@ -0,0 +1,72 @@
+package org.egov.transformer.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.transformer.enums.Operation;
+import org.egov.transformer.service.TransformationService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs the transformation services of an operation over a list of entities.
+ *
+ * <p>A service transforms its whole list before pushing it, so when it fails nothing of that list was indexed
+ * by it. Its entities are then transformed again one by one, so a bad entity only loses itself; the other
+ * services, and the entities they already pushed, are not run again. The entities that still fail are thrown
+ * in an {@link EntityTransformationException} once every service has run, so the consumer can dead letter them.
+ */
+@Slf4j
+public abstract class AbstractTransformationHandler<T> implements TransformationHandler<T> {
+
+    private final Map<Operation, List<TransformationService<T>>> operationTransformationServiceMap;
+
+    protected AbstractTransformationHandler(Map<Operation, List<TransformationService<T>>> operationTransformationServiceMap) {
+        this.operationTransformationServiceMap = operationTransformationServiceMap;
+    }
+
+    @Override
+    public void handle(List<T> payloadList, Operation operation) {
+        Set<T> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Exception> exceptions = new ArrayList<>();
+        operationTransformationServiceMap.entrySet().stream()
+                .filter(e -> e.getKey().equals(operation))
+                .map(Map.Entry::getValue)
+                .flatMap(Collection::stream).forEach(es -> transform(es, payloadList, failed, exceptions));
+        if (!failed.isEmpty()) {
+            List<T> failedEntities = payloadList.stream().filter(failed::contains).toList();
+            throw new EntityTransformationException(failedEntities, exceptions.get(0));
+        }
+    }
+
+    private void transform(TransformationService<T> transformationService, List<T> payloadList, Set<T> failed,
+                           List<Exception> exceptions) {
+        try {
+            transformationService.transform(payloadList);
+        } catch (Exception exception) {
+            if (payloadList.size() <= 1) {
+                log.error("error transforming an entity in {}", transformationService.getClass().getSimpleName(),
+                        exception);
+                failed.addAll(payloadList);
+                exceptions.add(exception);
+                return;
+            }
+            log.warn("error transforming {} entities in {}, retrying them one by one", payloadList.size(),
+                    transformationService.getClass().getSimpleName(), exception);
+            for (T payload : payloadList) {
+                try {
+                    transformationService.transform(Collections.singletonList(payload));
+                } catch (Exception entityException) {
+                    log.error("error transforming an entity in {}", transformationService.getClass().getSimpleName(),
+                            entityException);
+                    failed.add(payload);
+                    exceptions.add(entityException);
+                }
+            }
+        }
+    }
+}
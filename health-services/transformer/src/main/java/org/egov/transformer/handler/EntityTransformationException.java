@@ -0,0 +1,20 @@
+package org.egov.transformer.handler;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Thrown by {@link AbstractTransformationHandler} once every transformation service has run, carrying the
+ * entities that at least one of them could not transform, even on their own.
+ */
+@Getter
+public class EntityTransformationException extends RuntimeException {
+
+    private final transient List<?> failedEntities;
+
+    public EntityTransformationException(List<?> failedEntities, Throwable cause) {
+        super("error transforming " + failedEntities.size() + " entities", cause);
+        this.failedEntities = failedEntities;
+    }
+}
@@ -7,25 +7,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 @Component
-public class ServiceTaskTransformationHandler implements TransformationHandler<Service>{
-    private final Map<Operation, List<TransformationService<Service>>> operationTransformationServiceMap;
-
+public class ServiceTaskTransformationHandler extends AbstractTransformationHandler<Service> {
     @Autowired
     public ServiceTaskTransformationHandler(@Qualifier("serviceTaskTransformationServiceMap")
                                              Map<Operation, List<TransformationService<Service>>> operationTransformationServiceMap) {
-        this.operationTransformationServiceMap = operationTransformationServiceMap;
-    }
-
-    @Override
-    public void handle(List<Service> payloadList, Operation operation) {
-        operationTransformationServiceMap.entrySet().stream()
-                .filter(e -> e.getKey().equals(operation))
-                .map(Map.Entry::getValue)
-                .flatMap(Collection::stream).forEach(es -> es.transform(payloadList));
+        super(operationTransformationServiceMap);
     }
 }
@@ -0,0 +1,48 @@
+package org.egov.transformer.models.downstream;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Deliveries of a project, boundary, day and product variant: the totals over the latest version of every task with
+ * resources in it. There is one document per key, overwritten with every change.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProjectTaskRollupIndexV1 {
+    @JsonProperty("id")
+    private String id;
+    @JsonProperty("projectId")
+    private String projectId;
+    @JsonProperty("province")
+    private String province;
+    @JsonProperty("district")
+    private String district;
+    @JsonProperty("administrativeProvince")
+    private String administrativeProvince;
+    @JsonProperty("locality")
+    private String locality;
+    @JsonProperty("village")
+    private String village;
+    @JsonProperty("day")
+    private Long day;
+    @JsonProperty("productVariant")
+    private String productVariant;
+    @JsonProperty("tasks")
+    private Long tasks;
+    @JsonProperty("resources")
+    private Long resources;
+    @JsonProperty("resourcesDelivered")
+    private Long resourcesDelivered;
+    @JsonProperty("quantityDistributed")
+    private Double quantityDistributed;
+    @JsonProperty("rollupTime")
+    private Long rollupTime;
+}
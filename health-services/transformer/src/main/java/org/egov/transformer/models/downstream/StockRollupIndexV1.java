@@ -0,0 +1,47 @@
+package org.egov.transformer.models.downstream;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.egov.common.models.stock.TransactionType;
+
+/**
+ * Stock transactions of a project, boundary, day, product variant and transaction type: the totals over the latest
+ * version of every stock event in it. There is one document per key, overwritten with every change.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StockRollupIndexV1 {
+    @JsonProperty("id")
+    private String id;
+    @JsonProperty("projectId")
+    private String projectId;
+    @JsonProperty("province")
+    private String province;
+    @JsonProperty("district")
+    private String district;
+    @JsonProperty("administrativeProvince")
+    private String administrativeProvince;
+    @JsonProperty("locality")
+    private String locality;
+    @JsonProperty("village")
+    private String village;
+    @JsonProperty("day")
+    private Long day;
+    @JsonProperty("productVariant")
+    private String productVariant;
+    @JsonProperty("eventType")
+    private TransactionType eventType;
+    @JsonProperty("transactions")
+    private Long transactions;
+    @JsonProperty("quantity")
+    private Long quantity;
+    @JsonProperty("rollupTime")
+    private Long rollupTime;
+}
@@ -0,0 +1,123 @@
+package org.egov.transformer.rollup;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Stores the rollup totals and the contribution of the last rolled up version of each entity.
+ *
+ * <p>The lock methods are meant to run in one transaction: they insert the missing rows (an entity that was never
+ * rolled up has version -1 and contributes nothing, a new rollup has zero totals) and select the rows for update,
+ * in id order, so concurrent batches touching the same entities or rollups wait for each other instead of losing
+ * an update.
+ */
+@Repository
+public class RollupRepository {
+
+    private static final String INSERT_VERSION = "INSERT INTO transformer_rollup_version "
+            + "(rollupType, entityId, version, contribution) VALUES (:rollupType, :entityId, -1, '[]') "
+            + "ON CONFLICT DO NOTHING";
+
+    private static final String SELECT_VERSIONS = "SELECT entityId, version, contribution "
+            + "FROM transformer_rollup_version WHERE rollupType = :rollupType AND entityId IN (:entityIds) "
+            + "ORDER BY entityId FOR UPDATE";
+
+    private static final String UPDATE_VERSION = "UPDATE transformer_rollup_version "
+            + "SET version = :version, contribution = :contribution "
+            + "WHERE rollupType = :rollupType AND entityId = :entityId";
+
+    private static final String INSERT_ROLLUP = "INSERT INTO transformer_rollup (rollupType, id, document) "
+            + "VALUES (:rollupType, :id, :document) ON CONFLICT DO NOTHING";
+
+    private static final String SELECT_ROLLUPS = "SELECT id, document FROM transformer_rollup "
+            + "WHERE rollupType = :rollupType AND id IN (:ids) ORDER BY id FOR UPDATE";
+
+    private static final String UPDATE_ROLLUP = "UPDATE transformer_rollup SET document = :document "
+            + "WHERE rollupType = :rollupType AND id = :id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public RollupRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param rollupType the type of rollup
+     * @param entityIds  the ids of the entities
+     * @return the stored version of every entity by id, locked until the end of the transaction
+     */
+    public Map<String, StoredVersion> lockVersions(String rollupType, Collection<String> entityIds) {
+        TreeSet<String> ids = new TreeSet<>(entityIds);
+        jdbcTemplate.batchUpdate(INSERT_VERSION, ids.stream()
+                .map(entityId -> new MapSqlParameterSource("rollupType", rollupType).addValue("entityId", entityId))
+                .toArray(SqlParameterSource[]::new));
+        Map<String, StoredVersion> versions = new HashMap<>();
+        jdbcTemplate.query(SELECT_VERSIONS, new MapSqlParameterSource("rollupType", rollupType)
+                .addValue("entityIds", ids), resultSet -> {
+            String entityId = resultSet.getString("entityId");
+            versions.put(entityId, new StoredVersion(entityId, resultSet.getLong("version"),
+                    resultSet.getString("contribution")));
+        });
+        return versions;
+    }
+
+    /**
+     * @param rollupType the type of rollup
+     * @param versions   the new versions of the entities, locked by {@link #lockVersions}
+     */
+    public void saveVersions(String rollupType, List<StoredVersion> versions) {
+        jdbcTemplate.batchUpdate(UPDATE_VERSION, versions.stream()
+                .map(version -> new MapSqlParameterSource("rollupType", rollupType)
+                        .addValue("entityId", version.entityId())
+                        .addValue("version", version.version())
+                        .addValue("contribution", version.contribution()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * @param rollupType the type of rollup
+     * @param zeros      the document with zero totals of every rollup by id, stored for rollups not stored yet
+     * @return the stored document of every rollup by id, locked until the end of the transaction
+     */
+    public Map<String, String> lockRollups(String rollupType, Map<String, String> zeros) {
+        TreeSet<String> ids = new TreeSet<>(zeros.keySet());
+        jdbcTemplate.batchUpdate(INSERT_ROLLUP, ids.stream()
+                .map(id -> new MapSqlParameterSource("rollupType", rollupType).addValue("id", id)
+                        .addValue("document", zeros.get(id)))
+                .toArray(SqlParameterSource[]::new));
+        Map<String, String> documents = new HashMap<>();
+        jdbcTemplate.query(SELECT_ROLLUPS, new MapSqlParameterSource("rollupType", rollupType)
+                .addValue("ids", ids), resultSet -> {
+            documents.put(resultSet.getString("id"), resultSet.getString("document"));
+        });
+        return documents;
+    }
+
+    /**
+     * @param rollupType the type of rollup
+     * @param documents  the new document of every rollup by id, locked by {@link #lockRollups}
+     */
+    public void saveRollups(String rollupType, Map<String, String> documents) {
+        jdbcTemplate.batchUpdate(UPDATE_ROLLUP, documents.entrySet().stream()
+                .map(document -> new MapSqlParameterSource("rollupType", rollupType)
+                        .addValue("id", document.getKey())
+                        .addValue("document", document.getValue()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * The last rolled up version of an entity and the rollup documents it added, as a JSON list.
+     */
+    public record StoredVersion(String entityId, long version, String contribution) {
+    }
+}
@@ -0,0 +1,385 @@
+package org.egov.transformer.rollup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.models.project.Task;
+import org.egov.common.models.stock.ReferenceIdType;
+import org.egov.common.models.stock.Stock;
+import org.egov.common.producer.Producer;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.models.downstream.ProjectTaskIndexV1;
+import org.egov.transformer.models.downstream.ProjectTaskRollupIndexV1;
+import org.egov.transformer.models.downstream.StockIndexV1;
+import org.egov.transformer.models.downstream.StockRollupIndexV1;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps rollup documents per project, boundary, day (in {@code transformer.rollup.zone}) and product variant, so
+ * dashboard line and table charts aggregate over a few documents per boundary and day instead of every task
+ * resource or stock event.
+ *
+ * <p>A rollup document holds the totals of its key and its id is derived from the key alone, so the indexer
+ * overwrites it with every change. The totals are kept in {@link RollupRepository} together with what the last
+ * transformed version of each entity (a task with its resources, or one stock event) added to them. A version
+ * newer than the stored one takes back the stored contribution and adds its own, so an update that moves an
+ * entity to another day, boundary or product variant, or changes what was delivered, moves its counts, and a
+ * deleted entity contributes nothing; a version that is not newer, such as a redelivery, changes nothing. An
+ * entity counts from the first version seen, whether it was created online or synced with later edits.
+ *
+ * <p>Rollups are best effort: a failure is logged and never fails the index push. They are off by default, until
+ * the indexer has mappings for the rollup topics.
+ */
+@Component
+@Slf4j
+public class RollupService {
+
+    static final String TASK = "TASK";
+
+    static final String STOCK = "STOCK";
+
+    private final Producer producer;
+
+    private final TransformerProperties properties;
+
+    private final RollupRepository repository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final ZoneId zone;
+
+    private final RollupType<ProjectTaskRollupIndexV1> taskRollups;
+
+    private final RollupType<StockRollupIndexV1> stockRollups;
+
+    @Autowired
+    public RollupService(Producer producer, TransformerProperties properties, RollupRepository repository,
+                         PlatformTransactionManager transactionManager,
+                         @Qualifier("objectMapper") ObjectMapper objectMapper) {
+        this.producer = producer;
+        this.properties = properties;
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.zone = ZoneId.of(properties.getRollupZone());
+        this.taskRollups = new RollupType<>(TASK, ProjectTaskRollupIndexV1.class,
+                rollup -> List.of(String.valueOf(rollup.getProjectId()), String.valueOf(rollup.getProvince()),
+                        String.valueOf(rollup.getDistrict()), String.valueOf(rollup.getAdministrativeProvince()),
+                        String.valueOf(rollup.getLocality()), String.valueOf(rollup.getVillage()), rollup.getDay(),
+                        String.valueOf(rollup.getProductVariant())),
+                rollup -> rollup.toBuilder().tasks(0L).resources(0L).resourcesDelivered(0L)
+                        .quantityDistributed(0.0).build(),
+                (total, delta, sign) -> {
+                    total.setTasks(total.getTasks() + sign * delta.getTasks());
+                    total.setResources(total.getResources() + sign * delta.getResources());
+                    total.setResourcesDelivered(total.getResourcesDelivered() + sign * delta.getResourcesDelivered());
+                    total.setQuantityDistributed(total.getQuantityDistributed()
+                            + sign * delta.getQuantityDistributed());
+                },
+                rollup -> rollup.getTasks() == 0 && rollup.getResources() == 0 && rollup.getResourcesDelivered() == 0
+                        && rollup.getQuantityDistributed() == 0,
+                ProjectTaskRollupIndexV1::setId, ProjectTaskRollupIndexV1::setRollupTime);
+        this.stockRollups = new RollupType<>(STOCK, StockRollupIndexV1.class,
+                rollup -> List.of(String.valueOf(rollup.getProjectId()), String.valueOf(rollup.getProvince()),
+                        String.valueOf(rollup.getDistrict()), String.valueOf(rollup.getAdministrativeProvince()),
+                        String.valueOf(rollup.getLocality()), String.valueOf(rollup.getVillage()), rollup.getDay(),
+                        String.valueOf(rollup.getProductVariant()), String.valueOf(rollup.getEventType())),
+                rollup -> rollup.toBuilder().transactions(0L).quantity(0L).build(),
+                (total, delta, sign) -> {
+                    total.setTransactions(total.getTransactions() + sign * delta.getTransactions());
+                    total.setQuantity(total.getQuantity() + sign * delta.getQuantity());
+                },
+                rollup -> rollup.getTransactions() == 0 && rollup.getQuantity() == 0,
+                StockRollupIndexV1::setId, StockRollupIndexV1::setRollupTime);
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(properties.getRollupEnabled());
+    }
+
+    /**
+     * Updates and pushes the delivery rollups of a batch of transformed tasks.
+     *
+     * @param tasks             the tasks of the batch
+     * @param taskIndexesByTask the task resource documents each task was transformed into
+     */
+    public void rollupTasks(List<Task> tasks, Map<Task, List<ProjectTaskIndexV1>> taskIndexesByTask) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            List<ProjectTaskRollupIndexV1> rollups = foldTasks(tasks, taskIndexesByTask);
+            if (!rollups.isEmpty()) {
+                log.debug("pushing {} task rollups for {} tasks", rollups.size(), tasks.size());
+                producer.push(properties.getTransformerProducerRollupProjectTaskIndexV1Topic(), rollups);
+            }
+        } catch (Exception exception) {
+            log.error("error rolling up {} tasks", tasks.size(), exception);
+        }
+    }
+
+    /**
+     * Updates and pushes the stock rollups of a batch of transformed stock.
+     *
+     * @param stocks               the stock of the batch
+     * @param stockIndexesByStock  the stock documents each stock was transformed into
+     */
+    public void rollupStock(List<Stock> stocks, Map<Stock, List<StockIndexV1>> stockIndexesByStock) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            List<StockRollupIndexV1> rollups = foldStock(stocks, stockIndexesByStock);
+            if (!rollups.isEmpty()) {
+                log.debug("pushing {} stock rollups for {} stock", rollups.size(), stocks.size());
+                producer.push(properties.getTransformerProducerRollupStockIndexV1Topic(), rollups);
+            }
+        } catch (Exception exception) {
+            log.error("error rolling up {} stock", stocks.size(), exception);
+        }
+    }
+
+    /**
+     * @return the rollup documents whose totals changed, with their new totals
+     */
+    List<ProjectTaskRollupIndexV1> foldTasks(List<Task> tasks, Map<Task, List<ProjectTaskIndexV1>> taskIndexesByTask) {
+        Map<String, EntityVersion<ProjectTaskRollupIndexV1>> versions = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            Map<String, ProjectTaskRollupIndexV1> contribution = new LinkedHashMap<>();
+            if (!Boolean.TRUE.equals(task.getIsDeleted())) {
+                for (ProjectTaskIndexV1 taskIndex : taskIndexesByTask.getOrDefault(task, List.of())) {
+                    ProjectTaskRollupIndexV1 resource = ProjectTaskRollupIndexV1.builder()
+                            .projectId(taskIndex.getProjectId())
+                            .province(taskIndex.getProvince())
+                            .district(taskIndex.getDistrict())
+                            .administrativeProvince(taskIndex.getAdministrativeProvince())
+                            .locality(taskIndex.getLocality())
+                            .village(taskIndex.getVillage())
+                            .day(day(taskIndex.getCreatedTime()))
+                            .productVariant(taskIndex.getProductVariant())
+                            .tasks(0L)
+                            .resources(1L)
+                            .resourcesDelivered(taskIndex.isDelivered() ? 1L : 0L)
+                            .quantityDistributed(taskIndex.isDelivered() && taskIndex.getQuantity() != null
+                                    ? taskIndex.getQuantity() : 0.0)
+                            .build();
+                    // a task counts once per rollup it has resources in
+                    contribution.computeIfAbsent(taskRollups.id(resource), id -> taskRollups.zero(resource)
+                            .toBuilder().tasks(1L).build());
+                    taskRollups.add(contribution.get(taskRollups.id(resource)), resource, 1);
+                }
+            }
+            putNewest(versions, new EntityVersion<>(task.getId(), version(task.getAuditDetails()),
+                    new ArrayList<>(contribution.values())));
+        }
+        return apply(taskRollups, versions.values());
+    }
+
+    /**
+     * @return the rollup documents whose totals changed, with their new totals
+     */
+    List<StockRollupIndexV1> foldStock(List<Stock> stocks, Map<Stock, List<StockIndexV1>> stockIndexesByStock) {
+        Map<String, EntityVersion<StockRollupIndexV1>> versions = new LinkedHashMap<>();
+        for (Stock stock : stocks) {
+            List<StockRollupIndexV1> contribution = new ArrayList<>();
+            if (!Boolean.TRUE.equals(stock.getIsDeleted())) {
+                String projectId = ReferenceIdType.PROJECT.equals(stock.getReferenceIdType())
+                        ? stock.getReferenceId() : null;
+                for (StockIndexV1 stockIndex : stockIndexesByStock.getOrDefault(stock, List.of())) {
+                    contribution.add(StockRollupIndexV1.builder()
+                            .projectId(projectId)
+                            .province(stockIndex.getProvince())
+                            .district(stockIndex.getDistrict())
+                            .administrativeProvince(stockIndex.getAdministrativeProvince())
+                            .locality(stockIndex.getLocality())
+                            .village(stockIndex.getVillage())
+                            .day(day(stockIndex.getDateOfEntry() != null ? stockIndex.getDateOfEntry()
+                                    : stockIndex.getCreatedTime()))
+                            .productVariant(stockIndex.getProductVariant())
+                            .eventType(stockIndex.getEventType())
+                            .transactions(1L)
+                            .quantity(stockIndex.getPhysicalCount() != null ? stockIndex.getPhysicalCount() : 0L)
+                            .build());
+                }
+            }
+            putNewest(versions, new EntityVersion<>(stock.getId(), version(stock.getAuditDetails()), contribution));
+        }
+        return apply(stockRollups, versions.values());
+    }
+
+    /**
+     * Takes back the stored contribution of every entity whose version is newer than the stored one, adds the new
+     * contribution and stores both the totals and the new versions, in one transaction holding the rows of the
+     * entities and of the rollups changed.
+     */
+    private <R> List<R> apply(RollupType<R> type, Collection<EntityVersion<R>> versions) {
+        if (versions.isEmpty()) {
+            return List.of();
+        }
+        return transactionTemplate.execute(status -> {
+            Map<String, RollupRepository.StoredVersion> stored = repository.lockVersions(type.name,
+                    versions.stream().map(EntityVersion::entityId).toList());
+            Map<String, R> deltas = new TreeMap<>();
+            List<RollupRepository.StoredVersion> changed = new ArrayList<>();
+            for (EntityVersion<R> version : versions) {
+                RollupRepository.StoredVersion storedVersion = stored.get(version.entityId());
+                if (storedVersion.version() >= version.version()) {
+                    continue;
+                }
+                for (R part : type.read(storedVersion.contribution())) {
+                    type.add(deltas.computeIfAbsent(type.id(part), id -> type.zero(part)), part, -1);
+                }
+                for (R part : version.contribution()) {
+                    type.add(deltas.computeIfAbsent(type.id(part), id -> type.zero(part)), part, 1);
+                }
+                changed.add(new RollupRepository.StoredVersion(version.entityId(), version.version(),
+                        type.write(version.contribution())));
+            }
+            deltas.values().removeIf(type.isZero);
+
+            List<R> rollups = new ArrayList<>(deltas.size());
+            if (!deltas.isEmpty()) {
+                Map<String, String> zeros = new TreeMap<>();
+                deltas.forEach((id, delta) -> zeros.put(id, type.write(type.zero(delta))));
+                Map<String, String> totals = repository.lockRollups(type.name, zeros);
+                long rollupTime = System.currentTimeMillis();
+                Map<String, String> updated = new TreeMap<>();
+                deltas.forEach((id, delta) -> {
+                    R total = type.readOne(totals.get(id));
+                    type.add(total, delta, 1);
+                    type.idSetter.accept(total, id);
+                    type.rollupTimeSetter.accept(total, rollupTime);
+                    updated.put(id, type.write(total));
+                    rollups.add(total);
+                });
+                repository.saveRollups(type.name, updated);
+            }
+            repository.saveVersions(type.name, changed);
+            return rollups;
+        });
+    }
+
+    private static <R> void putNewest(Map<String, EntityVersion<R>> versions, EntityVersion<R> version) {
+        versions.merge(version.entityId(), version,
+                (existing, candidate) -> candidate.version() >= existing.version() ? candidate : existing);
+    }
+
+    private static long version(AuditDetails auditDetails) {
+        return auditDetails != null && auditDetails.getLastModifiedTime() != null
+                ? auditDetails.getLastModifiedTime() : 0L;
+    }
+
+    private Long day(Long epochMillis) {
+        if (epochMillis == null) {
+            return 0L;
+        }
+        return Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate().atStartOfDay(zone).toInstant()
+                .toEpochMilli();
+    }
+
+    private record EntityVersion<R>(String entityId, long version, List<R> contribution) {
+    }
+
+    @FunctionalInterface
+    private interface Adder<R> {
+
+        void add(R total, R delta, int sign);
+    }
+
+    /**
+     * How the documents of one rollup topic are keyed, summed and stored.
+     */
+    private final class RollupType<R> {
+
+        private final String name;
+
+        private final Class<R> documentClass;
+
+        private final JavaType listType;
+
+        private final Function<R, List<Object>> key;
+
+        private final UnaryOperator<R> zero;
+
+        private final Adder<R> adder;
+
+        private final Predicate<R> isZero;
+
+        private final BiConsumer<R, String> idSetter;
+
+        private final BiConsumer<R, Long> rollupTimeSetter;
+
+        RollupType(String name, Class<R> documentClass, Function<R, List<Object>> key, UnaryOperator<R> zero,
+                   Adder<R> adder, Predicate<R> isZero, BiConsumer<R, String> idSetter,
+                   BiConsumer<R, Long> rollupTimeSetter) {
+            this.name = name;
+            this.documentClass = documentClass;
+            this.listType = objectMapper.getTypeFactory().constructCollectionType(List.class, documentClass);
+            this.key = key;
+            this.zero = zero;
+            this.adder = adder;
+            this.isZero = isZero;
+            this.idSetter = idSetter;
+            this.rollupTimeSetter = rollupTimeSetter;
+        }
+
+        String id(R document) {
+            return UUID.nameUUIDFromBytes(key.apply(document).toString().getBytes(StandardCharsets.UTF_8)).toString();
+        }
+
+        R zero(R document) {
+            return zero.apply(document);
+        }
+
+        void add(R total, R delta, int sign) {
+            adder.add(total, delta, sign);
+        }
+
+        String write(Object value) {
+            try {
+                return objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+
+        List<R> read(String value) {
+            try {
+                return objectMapper.readValue(value, listType);
+            } catch (JsonProcessingException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+
+        R readOne(String value) {
+            try {
+                return objectMapper.readValue(value, documentClass);
+            } catch (JsonProcessingException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
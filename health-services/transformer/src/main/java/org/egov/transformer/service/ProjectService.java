@@ -1,94 +1,141 @@
 package org.egov.transformer.service;
 
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import digit.models.coremodels.mdms.MasterDetail;
-import digit.models.coremodels.mdms.MdmsCriteria;
-import digit.models.coremodels.mdms.MdmsCriteriaReq;
-import digit.models.coremodels.mdms.ModuleDetail;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.egov.common.cache.MasterDataCache;
+import org.egov.common.cache.MasterDataIndex;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.contract.request.User;
 import org.egov.common.models.project.Project;
 import org.egov.common.models.project.ProjectRequest;
 import org.egov.common.models.project.ProjectResponse;
 import org.egov.tracer.model.CustomException;
+import org.egov.transformer.boundary.BoundaryHierarchyCache;
 import org.egov.transformer.config.TransformerProperties;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.transformer.models.boundary.BoundarySearchResponse;
 import org.egov.transformer.models.boundary.EnrichedBoundary;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
-import static org.egov.transformer.Constants.INTERNAL_SERVER_ERROR;
-import static org.egov.transformer.Constants.MDMS_RESPONSE;
 import static org.egov.transformer.Constants.PROJECT_TYPES;
 
 @Component
 @Slf4j
 public class ProjectService {
 
+    private static final MasterDataIndex<Map<String, List<String>>> PRODUCT_VARIANT_IDS_BY_PROJECT_TYPE =
+            MasterDataIndex.of("productVariantIdsByProjectType", ProjectService::indexProductVariantIds);
+
     private final TransformerProperties transformerProperties;
 
     private final ServiceRequestClient serviceRequestClient;
 
     private final ObjectMapper objectMapper;
 
-    private final MdmsService mdmsService;
+    private final MasterDataCache masterDataCache;
+
+    private final BoundaryHierarchyCache boundaryHierarchyCache;
 
-    private static final Map<String, Project> projectMap = new ConcurrentHashMap<>();
+    /**
+     * Projects by tenant and id. Concurrent misses of a project wait for one search, and
+     * {@link #getProjects(Collection, String)} loads every missing id of a batch in one search.
+     */
+    private final LoadingCache<ProjectKey, Project> projectsById;
+
+    private final LoadingCache<ProjectKey, Project> projectsByName;
 
     public ProjectService(TransformerProperties transformerProperties,
                           ServiceRequestClient serviceRequestClient,
-                          ObjectMapper objectMapper, MdmsService mdmsService) {
+                          ObjectMapper objectMapper, MasterDataCache masterDataCache,
+                          BoundaryHierarchyCache boundaryHierarchyCache,
+                          ObjectProvider<MeterRegistry> meterRegistryProvider) {
         this.transformerProperties = transformerProperties;
         this.serviceRequestClient = serviceRequestClient;
         this.objectMapper = objectMapper;
-        this.mdmsService = mdmsService;
+        this.masterDataCache = masterDataCache;
+        this.boundaryHierarchyCache = boundaryHierarchyCache;
+        this.projectsById = Caffeine.newBuilder()
+                .maximumSize(transformerProperties.getProjectCacheMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(transformerProperties.getProjectCacheTtlMinutes()))
+                .recordStats()
+                .build(new CacheLoader<ProjectKey, Project>() {
+                    @Override
+                    public Project load(ProjectKey key) {
+                        return loadAll(Collections.singleton(key)).get(key);
+                    }
+
+                    @Override
+                    public Map<ProjectKey, Project> loadAll(Set<? extends ProjectKey> keys) {
+                        return loadProjectsById(keys);
+                    }
+                });
+        this.projectsByName = Caffeine.newBuilder()
+                .maximumSize(transformerProperties.getProjectCacheMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(transformerProperties.getProjectCacheTtlMinutes()))
+                .recordStats()
+                .build(key -> {
+                    List<Project> projects = searchProjectByName(key.value(), key.tenantId());
+                    return projects.isEmpty() ? null : projects.get(0);
+                });
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, projectsById, "projectsById");
+        CaffeineCacheMetrics.monitor(meterRegistry, projectsByName, "projectsByName");
     }
 
 
     public void updateProjectsInCache(ProjectRequest projectRequest) {
-        projectRequest.getProjects().forEach(project -> projectMap.put(project.getId(), project));
+        projectRequest.getProjects().forEach(project -> {
+            projectsById.put(new ProjectKey(project.getTenantId(), project.getId()), project);
+            if (project.getName() != null) {
+                projectsByName.put(new ProjectKey(project.getTenantId(), project.getName()), project);
+            }
+        });
     }
 
     public Project getProject(String projectId, String tenantId) {
-        if (projectMap.containsKey(projectId)) {
-            log.info("getting project {} from cache", projectId);
-            return projectMap.get(projectId);
-        }
-        List<Project> projects = searchProject(projectId, tenantId);
-        Project project = null;
-        if (!projects.isEmpty()) {
-            project = projects.get(0);
-            projectMap.put(projectId, project);
-        }
-        return project;
+        return projectsById.get(new ProjectKey(tenantId, projectId));
+    }
+
+    /**
+     * Returns the projects of the ids, searching the ones not cached in one request per
+     * {@code search.api.limit} ids.
+     *
+     * @param projectIds the project ids
+     * @param tenantId   the tenant of the projects
+     * @return the projects found, by id
+     */
+    public Map<String, Project> getProjects(Collection<String> projectIds, String tenantId) {
+        Map<String, Project> projects = new HashMap<>();
+        projectsById.getAll(projectIds.stream().map(projectId -> new ProjectKey(tenantId, projectId))
+                        .collect(Collectors.toSet()))
+                .forEach((key, project) -> projects.put(key.value(), project));
+        return projects;
     }
 
     public Project getProjectByName(String projectName, String tenantId) {
-        if (projectMap.containsKey(projectName)) {
-            log.info("getting project {} from cache", projectName);
-            return projectMap.get(projectName);
-        }
-        List<Project> projects = searchProjectByName(projectName, tenantId);
-        Project project = null;
-        if (!projects.isEmpty()) {
-            project = projects.get(0);
-            projectMap.put(projectName, project);
-        }
-        return project;
+        return projectsByName.get(new ProjectKey(tenantId, projectName));
     }
 
     public Map<String, String> getBoundaryCodeToNameMapByProjectId(String projectId, String tenantId) {
@@ -98,6 +145,18 @@ public class ProjectService {
     }
 
     public Map<String, String> getBoundaryCodeToNameMap(String locationCode, String tenantId) {
+        if (boundaryHierarchyCache.isEnabled()) {
+            Map<String, String> boundaryTypeToName = boundaryHierarchyCache.getBoundaryTypeToNameMap(locationCode, tenantId);
+            if (boundaryTypeToName != null) {
+                return boundaryTypeToName;
+            }
+            // boundaries created after the hierarchy was loaded are only in the service until the next refresh
+            log.debug("boundary {} not in the cached hierarchy of tenant {}", locationCode, tenantId);
+        }
+        return searchBoundaryCodeToNameMap(locationCode, tenantId);
+    }
+
+    private Map<String, String> searchBoundaryCodeToNameMap(String locationCode, String tenantId) {
         List<EnrichedBoundary> boundaries = new ArrayList<>();
         try {
             // Fetch boundary details from the service
@@ -193,7 +252,22 @@ public class ProjectService {
         return response.getProject();
     }
 
-    private List<Project> searchProject(String projectId, String tenantId) {
+    private Map<ProjectKey, Project> loadProjectsById(Set<? extends ProjectKey> keys) {
+        Map<ProjectKey, Project> projects = new HashMap<>();
+        Map<String, List<String>> projectIdsByTenant = keys.stream().collect(Collectors.groupingBy(
+                ProjectKey::tenantId, Collectors.mapping(ProjectKey::value, Collectors.toList())));
+        int limit = Integer.parseInt(transformerProperties.getSearchApiLimit());
+        projectIdsByTenant.forEach((tenantId, projectIds) -> {
+            for (int from = 0; from < projectIds.size(); from += limit) {
+                searchProjects(projectIds.subList(from, Math.min(from + limit, projectIds.size())), tenantId)
+                        .forEach(project -> projects.put(new ProjectKey(tenantId, project.getId()), project));
+            }
+        });
+        log.info("loaded {} of {} projects", projects.size(), keys.size());
+        return projects;
+    }
+
+    private List<Project> searchProjects(List<String> projectIds, String tenantId) {
 
         ProjectRequest request = ProjectRequest.builder()
                 .requestInfo(RequestInfo.builder().
@@ -201,7 +275,9 @@ public class ProjectService {
                         .uuid("transformer-uuid")
                         .build())
                 .build())
-                .projects(Collections.singletonList(Project.builder().id(projectId).tenantId(tenantId).build()))
+                .projects(projectIds.stream()
+                        .map(projectId -> Project.builder().id(projectId).tenantId(tenantId).build())
+                        .collect(Collectors.toList()))
                 .build();
 
         ProjectResponse response;
@@ -218,57 +294,36 @@ public class ProjectService {
         } catch (Exception e) {
             log.error("error while fetching project list", e);
             throw new CustomException("PROJECT_FETCH_ERROR",
-                    "error while fetching project details for id: " + projectId);
+                    "error while fetching project details for ids: " + projectIds);
         }
         return response.getProject();
     }
 
     public List<String> getProducts(String tenantId, String projectTypeId) {
-        String filter = "$[?(@.id == '" + projectTypeId + "')].resources.*.productVariantId";
-
-        RequestInfo requestInfo = RequestInfo.builder()
-                .userInfo(User.builder().uuid("transformer-uuid").build())
-                .build();
-
-        JsonNode response = fetchMdmsResponse(requestInfo, tenantId, PROJECT_TYPES,
-                transformerProperties.getMdmsModule(), filter);
-        return convertToProjectTypeList(response);
+        return masterDataCache.getIndex(tenantId, transformerProperties.getMdmsModule(), PROJECT_TYPES,
+                PRODUCT_VARIANT_IDS_BY_PROJECT_TYPE).getOrDefault(projectTypeId, Collections.emptyList());
     }
 
-    private JsonNode fetchMdmsResponse(RequestInfo requestInfo, String tenantId, String name,
-                                       String moduleName, String filter) {
-        MdmsCriteriaReq serviceRegistry = getMdmsRequest(requestInfo, tenantId, name, moduleName, filter);
-        try {
-            return mdmsService.fetchConfig(serviceRegistry, JsonNode.class).get(MDMS_RESPONSE);
-        } catch (Exception e) {
-            throw new CustomException(INTERNAL_SERVER_ERROR, "Error while fetching mdms config");
+    /**
+     * Indexes the product variant ids of the project type resources by project type id.
+     */
+    private static Map<String, List<String>> indexProductVariantIds(JsonNode projectTypes) {
+        Map<String, List<String>> productVariantIds = new HashMap<>();
+        for (JsonNode projectType : projectTypes) {
+            List<String> variantIds = productVariantIds.computeIfAbsent(projectType.path("id").asText(),
+                    id -> new ArrayList<>());
+            projectType.path("resources").forEach(resource -> {
+                if (resource.hasNonNull("productVariantId")) {
+                    variantIds.add(resource.get("productVariantId").asText());
+                }
+            });
         }
+        return productVariantIds;
     }
 
-    private List<String> convertToProjectTypeList(JsonNode jsonNode) {
-        JsonNode projectTypesNode = jsonNode.get(transformerProperties.getMdmsModule()).withArray(PROJECT_TYPES);
-        return new ObjectMapper().convertValue(projectTypesNode, new TypeReference<List<String>>() {
-        });
-    }
-
-    private MdmsCriteriaReq getMdmsRequest(RequestInfo requestInfo, String tenantId, String masterName,
-                                           String moduleName, String filter) {
-        MasterDetail masterDetail = new MasterDetail();
-        masterDetail.setName(masterName);
-        masterDetail.setFilter(filter);
-        List<MasterDetail> masterDetailList = new ArrayList<>();
-        masterDetailList.add(masterDetail);
-        ModuleDetail moduleDetail = new ModuleDetail();
-        moduleDetail.setMasterDetails(masterDetailList);
-        moduleDetail.setModuleName(moduleName);
-        List<ModuleDetail> moduleDetailList = new ArrayList<>();
-        moduleDetailList.add(moduleDetail);
-        MdmsCriteria mdmsCriteria = new MdmsCriteria();
-        mdmsCriteria.setTenantId(tenantId.split("\\.")[0]);
-        mdmsCriteria.setModuleDetails(moduleDetailList);
-        MdmsCriteriaReq mdmsCriteriaReq = new MdmsCriteriaReq();
-        mdmsCriteriaReq.setMdmsCriteria(mdmsCriteria);
-        mdmsCriteriaReq.setRequestInfo(requestInfo);
-        return mdmsCriteriaReq;
+    /**
+     * Cache key of a project, value is the project id or name.
+     */
+    private record ProjectKey(String tenantId, String value) {
     }
 }
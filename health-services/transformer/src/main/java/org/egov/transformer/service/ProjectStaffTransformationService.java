@@ -36,6 +36,7 @@ public abstract class ProjectStaffTransformationService implements Transformatio
     public void transform(List<ProjectStaff> payloadList) {
         log.info("transforming for ids {}", payloadList.stream()
                 .map(ProjectStaff::getId).collect(Collectors.toList()));
+        transformer.prefetchProjects(payloadList);
         List<ProjectStaffIndexV1> transformedPayloadList = payloadList.stream()
                 .map(transformer::transform)
                 .flatMap(Collection::stream)
@@ -64,6 +65,22 @@ public abstract class ProjectStaffTransformationService implements Transformatio
             this.properties = properties;
         }
 
+        /**
+         * Loads the projects of the batch in one search per tenant so transforming the entities hits the cache.
+         */
+        void prefetchProjects(List<ProjectStaff> projectStaffs) {
+            projectStaffs.stream()
+                    .collect(Collectors.groupingBy(ProjectStaff::getTenantId,
+                            Collectors.mapping(ProjectStaff::getProjectId, Collectors.toSet())))
+                    .forEach((tenantId, projectIds) -> {
+                        try {
+                            projectService.getProjects(projectIds, tenantId);
+                        } catch (Exception exception) {
+                            log.warn("could not prefetch projects {}, loading them one by one", projectIds, exception);
+                        }
+                    });
+        }
+
         @Override
         public List<ProjectStaffIndexV1> transform(ProjectStaff projectStaff) {
             Map<String, String> boundaryLabelToNameMap = projectService
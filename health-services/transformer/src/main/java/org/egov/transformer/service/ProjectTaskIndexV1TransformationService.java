@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.egov.common.models.project.Task;
 import org.egov.transformer.config.TransformerProperties;
 import org.egov.common.producer.Producer;
+import org.egov.transformer.rollup.RollupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -15,8 +16,9 @@ public class ProjectTaskIndexV1TransformationService extends ProjectTaskTransfor
 
     @Autowired
     public ProjectTaskIndexV1TransformationService(ProjectTaskIndexV1Transformer transformer,
-                                                   Producer producer, TransformerProperties properties) {
-        super(transformer, producer, properties);
+                                                   Producer producer, TransformerProperties properties,
+                                                   RollupService rollupService) {
+        super(transformer, producer, properties, rollupService);
     }
 
     @Override
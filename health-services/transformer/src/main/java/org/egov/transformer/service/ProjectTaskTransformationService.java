@@ -6,11 +6,13 @@ import org.egov.transformer.config.TransformerProperties;
 import org.egov.transformer.enums.Operation;
 import org.egov.transformer.models.downstream.ProjectTaskIndexV1;
 import org.egov.common.producer.Producer;
+import org.egov.transformer.rollup.RollupService;
 import org.egov.transformer.service.transformer.Transformer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -23,25 +25,34 @@ public abstract class ProjectTaskTransformationService implements Transformation
 
     protected final TransformerProperties properties;
 
+    protected final RollupService rollupService;
+
     @Autowired
     protected ProjectTaskTransformationService(ProjectTaskIndexV1Transformer transformer,
-                                               Producer producer, TransformerProperties properties) {
+                                               Producer producer, TransformerProperties properties,
+                                               RollupService rollupService) {
         this.transformer = transformer;
         this.producer = producer;
         this.properties = properties;
+        this.rollupService = rollupService;
     }
 
     @Override
     public void transform(List<Task> payloadList) {
         log.info("transforming for ids {}", payloadList.stream()
                 .map(Task::getId).collect(Collectors.toList()));
-        List<ProjectTaskIndexV1> transformedPayloadList = payloadList.stream()
-                .map(transformer::transform)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        transformer.prefetchProjects(payloadList);
+        Map<Task, List<ProjectTaskIndexV1>> taskIndexesByTask = new IdentityHashMap<>();
+        List<ProjectTaskIndexV1> transformedPayloadList = new ArrayList<>();
+        payloadList.forEach(task -> {
+            List<ProjectTaskIndexV1> taskIndexes = transformer.transform(task);
+            taskIndexesByTask.put(task, taskIndexes);
+            transformedPayloadList.addAll(taskIndexes);
+        });
         log.info("transformation successful");
         producer.push(getTopic(),
                 transformedPayloadList);
+        rollupService.rollupTasks(payloadList, taskIndexesByTask);
     }
 
     public abstract String getTopic();
@@ -63,6 +74,24 @@ public abstract class ProjectTaskTransformationService implements Transformation
             this.properties = properties;
         }
 
+        /**
+         * Loads the projects of the batch in one search per tenant so transforming the entities hits the cache.
+         */
+        void prefetchProjects(List<Task> tasks) {
+            tasks.stream()
+                    .filter(task -> task.getAddress() == null || task.getAddress().getLocality() == null
+                            || task.getAddress().getLocality().getCode() == null)
+                    .collect(Collectors.groupingBy(Task::getTenantId,
+                            Collectors.mapping(Task::getProjectId, Collectors.toSet())))
+                    .forEach((tenantId, projectIds) -> {
+                        try {
+                            projectService.getProjects(projectIds, tenantId);
+                        } catch (Exception exception) {
+                            log.warn("could not prefetch projects {}, loading them one by one", projectIds, exception);
+                        }
+                    });
+        }
+
         @Override
         public List<ProjectTaskIndexV1> transform(Task task) {
             Map<String, String> boundaryLabelToNameMap = null;
@@ -106,7 +106,7 @@ public abstract class ProjectTransformationService implements TransformationServ
                                 .startDate(project.getStartDate())
                                 .endDate(project.getEndDate())
                                 .productVariant(productVariant)
-                                .targetType(r.getBeneficiaryType())
+                                .targetType(r.getBeneficiaryType() == null ? null : r.getBeneficiaryType().toString())
                                 .province(boundaryLabelToNameMap.get(properties.getProvince()))
                                 .district(boundaryLabelToNameMap.get(properties.getDistrict()))
                                 .administrativeProvince(boundaryLabelToNameMap.get(properties.getAdministrativeProvince()))
@@ -9,11 +9,13 @@ import org.egov.transformer.config.TransformerProperties;
 import org.egov.transformer.enums.Operation;
 import org.egov.transformer.models.downstream.StockIndexV1;
 import org.egov.common.producer.Producer;
+import org.egov.transformer.rollup.RollupService;
 import org.egov.transformer.service.transformer.Transformer;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -28,25 +30,33 @@ public abstract class StockTransformationService implements TransformationServic
 
     protected final TransformerProperties properties;
 
+    protected final RollupService rollupService;
+
     protected StockTransformationService(StockIndexV1Transformer transformer,
                                          Producer producer,
-                                         TransformerProperties properties) {
+                                         TransformerProperties properties,
+                                         RollupService rollupService) {
         this.transformer = transformer;
         this.producer = producer;
         this.properties = properties;
+        this.rollupService = rollupService;
     }
 
     @Override
     public void transform(List<Stock> payloadList) {
         log.info("transforming for ids {}", payloadList.stream()
                 .map(Stock::getId).collect(Collectors.toList()));
-        List<StockIndexV1> transformedPayloadList = payloadList.stream()
-                .map(transformer::transform)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        Map<Stock, List<StockIndexV1>> stockIndexesByStock = new IdentityHashMap<>();
+        List<StockIndexV1> transformedPayloadList = new ArrayList<>();
+        payloadList.forEach(stock -> {
+            List<StockIndexV1> stockIndexes = transformer.transform(stock);
+            stockIndexesByStock.put(stock, stockIndexes);
+            transformedPayloadList.addAll(stockIndexes);
+        });
         log.info("transformation successful");
         producer.push(getTopic(),
                 transformedPayloadList);
+        rollupService.rollupStock(payloadList, stockIndexesByStock);
     }
 
     @Override
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS TRANSFORMER_ROLLUP
+(
+    rollupType character varying(64),
+    id         character varying(64),
+    document   text NOT NULL,
+    CONSTRAINT pk_transformer_rollup PRIMARY KEY (rollupType, id)
+);
+
+CREATE TABLE IF NOT EXISTS TRANSFORMER_ROLLUP_VERSION
+(
+    rollupType   character varying(64),
+    entityId     character varying(64),
+    version      bigint NOT NULL,
+    contribution text   NOT NULL,
+    CONSTRAINT pk_transformer_rollup_version PRIMARY KEY (rollupType, entityId)
+);
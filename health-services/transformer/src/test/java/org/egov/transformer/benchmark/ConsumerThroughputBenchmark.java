@@ -0,0 +1,172 @@
+package org.egov.transformer.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.models.project.Task;
+import org.egov.common.models.project.TaskResource;
+import org.egov.common.producer.Producer;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.consumer.KeyOrderedBatchProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drains an in-memory stand-in of the project task topic with the per-record listener the consumers used to have
+ * and with the batch listener backed by {@link KeyOrderedBatchProcessor}.
+ *
+ * <p>The stand-in topic holds {@code records} messages of {@code tasksPerRecord} tasks spread over
+ * {@code partitions} partitions, with null keys like the ones the health services produce. The handler stands in
+ * for the transformation services: it parks {@code enrichMicros} per task for the project and boundary lookups
+ * and {@code pushMicros} per call for the index push ack.
+ *
+ * <p>The score is the time to drain the whole topic. At {@code parallelism} 1 the batch listener only saves the
+ * push acks, one per lane instead of one per record; higher values add the overlap of the lanes, bounded by the
+ * number of distinct task ids in a poll.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConsumerThroughputBenchmark {
+
+    private static final String TOPIC = "save-project-task-topic";
+
+    @Param({"2000"})
+    private int records;
+
+    @Param({"5"})
+    private int tasksPerRecord;
+
+    @Param({"3"})
+    private int partitions;
+
+    @Param({"500"})
+    private int maxPollRecords;
+
+    @Param({"1", "4", "8"})
+    private int parallelism;
+
+    @Param({"50"})
+    private int enrichMicros;
+
+    @Param({"2000"})
+    private int pushMicros;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final AtomicLong transformed = new AtomicLong();
+
+    private List<ConsumerRecord<String, Object>> topic;
+
+    private ExecutorService executor;
+
+    private KeyOrderedBatchProcessor batchProcessor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        topic = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            List<Task> tasks = new ArrayList<>(tasksPerRecord);
+            for (int j = 0; j < tasksPerRecord; j++) {
+                tasks.add(task());
+            }
+            topic.add(new ConsumerRecord<>(TOPIC, i % partitions, i / partitions, null,
+                    objectMapper.writeValueAsString(tasks)));
+        }
+        executor = Executors.newFixedThreadPool(parallelism);
+        // nothing fails here, so nothing is dead lettered
+        batchProcessor = new KeyOrderedBatchProcessor(executor, new Producer(null),
+                TransformerProperties.builder().consumerBatchParallelism(parallelism).consumerDeadLetterSuffix("-dlt")
+                        .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public long perRecordListener() throws Exception {
+        transformed.set(0);
+        for (ConsumerRecord<String, Object> record : topic) {
+            handle(Arrays.asList(objectMapper.readValue((String) record.value(), Task[].class)));
+        }
+        return transformed.get();
+    }
+
+    @Benchmark
+    public long batchListener() {
+        transformed.set(0);
+        for (int from = 0; from < topic.size(); from += maxPollRecords) {
+            batchProcessor.process(topic.subList(from, Math.min(from + maxPollRecords, topic.size())),
+                    value -> Arrays.asList(objectMapper.readValue(value, Task[].class)),
+                    Task::getId,
+                    this::handle);
+        }
+        return transformed.get();
+    }
+
+    private void handle(List<Task> tasks) {
+        for (Task ignored : tasks) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(enrichMicros));
+        }
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(pushMicros));
+        transformed.addAndGet(tasks.size());
+    }
+
+    private static Task task() {
+        String id = UUID.randomUUID().toString();
+        AuditDetails auditDetails = AuditDetails.builder().createdBy("user").createdTime(1700000000000L)
+                .lastModifiedBy("user").lastModifiedTime(1700000000000L).build();
+        return Task.builder()
+                .id(id)
+                .clientReferenceId(id)
+                .projectId("project-1")
+                .tenantId("default")
+                .isDeleted(false)
+                .auditDetails(auditDetails)
+                .resources(Collections.singletonList(TaskResource.builder()
+                        .id(UUID.randomUUID().toString())
+                        .taskId(id)
+                        .productVariantId("PVAR-1")
+                        .quantity(3.0)
+                        .isDelivered(true)
+                        .auditDetails(auditDetails)
+                        .build()))
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ConsumerThroughputBenchmark.class.getSimpleName()).build()).run();
+    }
+}
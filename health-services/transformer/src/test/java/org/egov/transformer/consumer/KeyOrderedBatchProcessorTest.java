@@ -0,0 +1,180 @@
+package org.egov.transformer.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.egov.common.models.project.Task;
+import org.egov.common.producer.Producer;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.handler.EntityTransformationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KeyOrderedBatchProcessorTest {
+
+    private static final String CREATE_TOPIC = "save-project-task-topic";
+
+    private static final String UPDATE_TOPIC = "update-project-task-topic";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private Producer producer;
+
+    private ExecutorService executor;
+
+    private KeyOrderedBatchProcessor batchProcessor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        batchProcessor = new KeyOrderedBatchProcessor(executor, producer, TransformerProperties.builder()
+                .consumerBatchParallelism(4).consumerDeadLetterSuffix("-dlt").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should hand every version of an entity to one lane in offset order")
+    void shouldKeepEntityVersionsInOffsetOrder() throws Exception {
+        List<ConsumerRecord<String, Object>> records = new ArrayList<>();
+        for (int offset = 0; offset < 20; offset++) {
+            records.add(record(offset % 2 == 0 ? CREATE_TOPIC : UPDATE_TOPIC, offset,
+                    task("task-" + offset % 5, offset), task("task-" + (offset + 1) % 5, offset)));
+        }
+        Map<String, List<Integer>> versions = new ConcurrentHashMap<>();
+        Map<String, List<Task>> lanes = new ConcurrentHashMap<>();
+
+        batchProcessor.process(records, this::parse, Task::getId, lane -> lane.forEach(task -> {
+            versions.computeIfAbsent(task.getId(), id -> new CopyOnWriteArrayList<>()).add(task.getRowVersion());
+            lanes.putIfAbsent(task.getId(), lane);
+        }));
+
+        assertEquals(5, versions.size());
+        versions.forEach((id, rowVersions) -> {
+            assertEquals(8, rowVersions.size(), id);
+            assertEquals(rowVersions.stream().sorted().toList(), rowVersions, id);
+            assertEquals(8, lanes.get(id).stream().filter(task -> task.getId().equals(id)).count(), id);
+        });
+        verify(producer, never()).push(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("should dead letter the whole lane when the handler fails on it")
+    void shouldDeadLetterFailedLane() throws Exception {
+        List<ConsumerRecord<String, Object>> records = List.of(
+                record(CREATE_TOPIC, 0, task("task-1", 1)),
+                record(CREATE_TOPIC, 1, task("task-2", 1)));
+        List<Task> transformed = new CopyOnWriteArrayList<>();
+
+        batchProcessor.process(records, this::parse, Task::getId, failingOn("task-1", transformed));
+
+        assertEquals(Map.of(CREATE_TOPIC + "-dlt", List.of("task-1@1")), deadLettered());
+        assertEquals(List.of("task-2@1"), versions(transformed));
+    }
+
+    @Test
+    @DisplayName("should dead letter only the entities that failed to the dead letter topic of their own topic")
+    void shouldDeadLetterFailedEntitiesByTopic() throws Exception {
+        List<ConsumerRecord<String, Object>> records = List.of(
+                record(CREATE_TOPIC, 0, task("task-1", 1), task("task-2", 1)),
+                record(UPDATE_TOPIC, 0, task("task-1", 2)));
+
+        batchProcessor.process(records, this::parse, task -> "lane", lane -> {
+            throw new EntityTransformationException(List.of(lane.get(0), lane.get(2)), new RuntimeException());
+        });
+
+        assertEquals(Map.of(CREATE_TOPIC + "-dlt", List.of("task-1@1"), UPDATE_TOPIC + "-dlt", List.of("task-1@2")),
+                deadLettered());
+    }
+
+    @Test
+    @DisplayName("should dead letter a record that cannot be parsed and transform the rest")
+    void shouldDeadLetterUnparseableRecord() throws Exception {
+        List<ConsumerRecord<String, Object>> records = List.of(
+                new ConsumerRecord<>(CREATE_TOPIC, 0, 0, null, "not json"),
+                record(CREATE_TOPIC, 1, task("task-1", 1)));
+        List<Task> transformed = new CopyOnWriteArrayList<>();
+
+        batchProcessor.process(records, this::parse, Task::getId, transformed::addAll);
+
+        verify(producer).push(CREATE_TOPIC + "-dlt", "not json");
+        assertEquals(List.of("task-1@1"), versions(transformed));
+    }
+
+    @Test
+    @DisplayName("should throw when a failure cannot be dead lettered")
+    void shouldThrowWhenDeadLetterFails() throws Exception {
+        List<ConsumerRecord<String, Object>> records = List.of(record(CREATE_TOPIC, 0, task("task-1", 1)));
+        doThrow(new RuntimeException("broker down")).when(producer).push(anyString(), any());
+
+        assertThrows(RuntimeException.class, () -> batchProcessor.process(records, this::parse, Task::getId,
+                failingOn("task-1", new ArrayList<>())));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, List<String>> deadLettered() {
+        ArgumentCaptor<String> topics = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object> values = ArgumentCaptor.forClass(Object.class);
+        verify(producer, atLeastOnce()).push(topics.capture(), values.capture());
+        Map<String, List<String>> deadLettered = new HashMap<>();
+        for (int i = 0; i < topics.getAllValues().size(); i++) {
+            deadLettered.put(topics.getAllValues().get(i), versions((List<Task>) values.getAllValues().get(i)));
+        }
+        return deadLettered;
+    }
+
+    private static List<String> versions(List<Task> tasks) {
+        return tasks.stream().map(task -> task.getId() + "@" + task.getRowVersion()).toList();
+    }
+
+    private Consumer<List<Task>> failingOn(String id, List<Task> transformed) {
+        return lane -> {
+            if (lane.stream().anyMatch(task -> task.getId().equals(id))) {
+                throw new RuntimeException("transformation failed");
+            }
+            transformed.addAll(lane);
+        };
+    }
+
+    private List<Task> parse(String value) throws Exception {
+        return Arrays.asList(objectMapper.readValue(value, Task[].class));
+    }
+
+    private ConsumerRecord<String, Object> record(String topic, long offset, Task... tasks) throws Exception {
+        return new ConsumerRecord<>(topic, 0, offset, null, objectMapper.writeValueAsString(tasks));
+    }
+
+    private static Task task(String id, int rowVersion) {
+        return Task.builder().id(id).tenantId("tenant").rowVersion(rowVersion).build();
+    }
+}
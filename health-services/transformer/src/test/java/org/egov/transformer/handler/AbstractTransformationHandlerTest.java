@@ -0,0 +1,91 @@
+package org.egov.transformer.handler;
+
+import org.egov.common.models.project.Task;
+import org.egov.transformer.enums.Operation;
+import org.egov.transformer.service.TransformationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AbstractTransformationHandlerTest {
+
+    @Test
+    @DisplayName("should retry a failed list one by one and throw only the entities that still fail")
+    void shouldThrowEntitiesThatStillFail() {
+        Task good = Task.builder().id("task-1").build();
+        Task bad = Task.builder().id("task-2").build();
+        RecordingService failing = new RecordingService("task-2");
+        RecordingService other = new RecordingService(null);
+        TransformationHandler<Task> handler = handler(failing, other);
+
+        EntityTransformationException exception = assertThrows(EntityTransformationException.class,
+                () -> handler.handle(List.of(good, bad), Operation.TASK));
+
+        assertEquals(1, exception.getFailedEntities().size());
+        assertSame(bad, exception.getFailedEntities().get(0));
+        assertEquals(List.of(List.of("task-1", "task-2"), List.of("task-1"), List.of("task-2")), failing.calls);
+        assertEquals(List.of(List.of("task-1", "task-2")), other.calls);
+    }
+
+    @Test
+    @DisplayName("should throw a single entity that fails without retrying it")
+    void shouldThrowSingleFailedEntity() {
+        Task bad = Task.builder().id("task-2").build();
+        RecordingService failing = new RecordingService("task-2");
+        TransformationHandler<Task> handler = handler(failing);
+
+        EntityTransformationException exception = assertThrows(EntityTransformationException.class,
+                () -> handler.handle(List.of(bad), Operation.TASK));
+
+        assertEquals(1, exception.getFailedEntities().size());
+        assertSame(bad, exception.getFailedEntities().get(0));
+        assertEquals(1, failing.calls.size());
+    }
+
+    @Test
+    @DisplayName("should not throw when every entity is transformed")
+    void shouldNotThrowWhenEveryEntityIsTransformed() {
+        RecordingService service = new RecordingService(null);
+
+        handler(service).handle(List.of(Task.builder().id("task-1").build()), Operation.TASK);
+
+        assertEquals(1, service.calls.size());
+    }
+
+    @SafeVarargs
+    private static TransformationHandler<Task> handler(TransformationService<Task>... services) {
+        return new AbstractTransformationHandler<>(Map.of(Operation.TASK, List.of(services))) {
+        };
+    }
+
+    private static class RecordingService implements TransformationService<Task> {
+
+        private final String failingId;
+
+        private final List<List<String>> calls = new ArrayList<>();
+
+        private RecordingService(String failingId) {
+            this.failingId = failingId;
+        }
+
+        @Override
+        public void transform(List<Task> payloadList) {
+            calls.add(payloadList.stream().map(Task::getId).toList());
+            if (payloadList.stream().anyMatch(task -> task.getId().equals(failingId))) {
+                throw new RuntimeException("transformation failed");
+            }
+        }
+
+        @Override
+        public Operation getOperation() {
+            return Operation.TASK;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package org.egov.transformer.rollup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.models.project.Task;
+import org.egov.common.models.stock.ReferenceIdType;
+import org.egov.common.models.stock.Stock;
+import org.egov.common.models.stock.TransactionType;
+import org.egov.common.producer.Producer;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.models.downstream.ProjectTaskIndexV1;
+import org.egov.transformer.models.downstream.ProjectTaskRollupIndexV1;
+import org.egov.transformer.models.downstream.StockIndexV1;
+import org.egov.transformer.models.downstream.StockRollupIndexV1;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class RollupServiceTest {
+
+    // 2024-01-01T10:00:00Z
+    private static final long TIME = 1704103200000L;
+
+    // 2024-01-01T00:00:00Z
+    private static final long DAY = 1704067200000L;
+
+    private static final long NEXT_DAY = DAY + 24 * 60 * 60 * 1000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private Producer producer;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private RollupService rollupService;
+
+    private Map<Task, List<ProjectTaskIndexV1>> taskIndexesByTask;
+
+    private Map<Stock, List<StockIndexV1>> stockIndexesByStock;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource(
+                "db/migration/main/V20261018130000__transformer_rollup_ddl.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        rollupService = new RollupService(producer, TransformerProperties.builder()
+                .rollupEnabled(true).rollupZone("UTC").build(),
+                new RollupRepository(new NamedParameterJdbcTemplate(jdbcTemplate)),
+                new DataSourceTransactionManager(dataSource), objectMapper);
+        taskIndexesByTask = new IdentityHashMap<>();
+        stockIndexesByStock = new IdentityHashMap<>();
+    }
+
+    @Test
+    @DisplayName("should keep one rollup per project, boundary, day and product variant with the totals of its tasks")
+    void shouldKeepOneRollupPerKey() {
+        List<ProjectTaskRollupIndexV1> first = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME, false, resource("locality", TIME, true, 2.0),
+                        resource("locality", TIME, false, 1.0))), taskIndexesByTask);
+        List<ProjectTaskRollupIndexV1> second = rollupService.foldTasks(List.of(
+                task("task-2", TIME, TIME, false, resource("locality", TIME, true, 5.0))), taskIndexesByTask);
+
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertEquals(first.get(0).getId(), second.get(0).getId());
+        ProjectTaskRollupIndexV1 rollup = storedTaskRollups().get(0);
+        assertEquals(1, storedTaskRollups().size());
+        assertEquals(DAY, rollup.getDay());
+        assertEquals(2, rollup.getTasks());
+        assertEquals(3, rollup.getResources());
+        assertEquals(2, rollup.getResourcesDelivered());
+        assertEquals(7.0, rollup.getQuantityDistributed());
+        assertEquals(rollup, second.get(0));
+    }
+
+    @Test
+    @DisplayName("should change nothing when a task version is delivered again")
+    void shouldIgnoreRedeliveredTaskVersion() {
+        rollupService.foldTasks(List.of(task("task-1", TIME, TIME, false, resource("locality", TIME, true, 2.0))),
+                taskIndexesByTask);
+
+        List<ProjectTaskRollupIndexV1> redelivered = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME, false, resource("locality", TIME, true, 2.0))), taskIndexesByTask);
+        List<ProjectTaskRollupIndexV1> older = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME - 1, false, resource("locality", TIME, true, 9.0))), taskIndexesByTask);
+
+        assertTrue(redelivered.isEmpty());
+        assertTrue(older.isEmpty());
+        ProjectTaskRollupIndexV1 rollup = storedTaskRollups().get(0);
+        assertEquals(1, rollup.getTasks());
+        assertEquals(2.0, rollup.getQuantityDistributed());
+    }
+
+    @Test
+    @DisplayName("should take back the previous version of an updated task and add the new one")
+    void shouldRetractPreviousTaskVersionOnUpdate() {
+        rollupService.foldTasks(List.of(task("task-1", TIME, TIME, false, resource("locality", TIME, false, 0.0))),
+                taskIndexesByTask);
+
+        List<ProjectTaskRollupIndexV1> delivered = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME + 1, false, resource("locality", TIME, true, 3.0))), taskIndexesByTask);
+        List<ProjectTaskRollupIndexV1> moved = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME + 2, false, resource("other-locality", TIME, true, 3.0))),
+                taskIndexesByTask);
+
+        assertEquals(1, delivered.get(0).getTasks());
+        assertEquals(1, delivered.get(0).getResourcesDelivered());
+        assertEquals(3.0, delivered.get(0).getQuantityDistributed());
+        Map<String, ProjectTaskRollupIndexV1> byLocality = moved.stream()
+                .collect(Collectors.toMap(ProjectTaskRollupIndexV1::getLocality, rollup -> rollup));
+        assertEquals(2, moved.size());
+        assertEquals(0, byLocality.get("locality").getTasks());
+        assertEquals(0, byLocality.get("locality").getResources());
+        assertEquals(0.0, byLocality.get("locality").getQuantityDistributed());
+        assertEquals(1, byLocality.get("other-locality").getTasks());
+        assertEquals(3.0, byLocality.get("other-locality").getQuantityDistributed());
+    }
+
+    @Test
+    @DisplayName("should count a task first seen as an update and take it back when deleted")
+    void shouldCountOfflineCreatedTaskAndTakeBackDeletedOne() {
+        List<ProjectTaskRollupIndexV1> synced = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME + 60000, false, resource("locality", TIME, true, 2.0))),
+                taskIndexesByTask);
+        List<ProjectTaskRollupIndexV1> deleted = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME + 120000, true, resource("locality", TIME, true, 2.0))),
+                taskIndexesByTask);
+        List<ProjectTaskRollupIndexV1> deletedAgain = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME + 120000, true, resource("locality", TIME, true, 2.0))),
+                taskIndexesByTask);
+
+        assertEquals(1, synced.get(0).getTasks());
+        assertEquals(2.0, synced.get(0).getQuantityDistributed());
+        assertEquals(0, deleted.get(0).getTasks());
+        assertEquals(0.0, deleted.get(0).getQuantityDistributed());
+        assertTrue(deletedAgain.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should keep only the newest version of a task delivered twice in one batch")
+    void shouldKeepNewestVersionInBatch() {
+        List<ProjectTaskRollupIndexV1> rollups = rollupService.foldTasks(List.of(
+                task("task-1", TIME, TIME + 1, false, resource("locality", TIME, true, 4.0)),
+                task("task-1", TIME, TIME, false, resource("locality", TIME, true, 2.0))), taskIndexesByTask);
+
+        assertEquals(1, rollups.size());
+        assertEquals(1, rollups.get(0).getTasks());
+        assertEquals(4.0, rollups.get(0).getQuantityDistributed());
+    }
+
+    @Test
+    @DisplayName("should keep stock totals per key, move updated stock and ignore redelivered versions")
+    void shouldFoldStock() {
+        rollupService.foldStock(List.of(stock("stock-1", TIME, TIME, 10, TIME, false),
+                stock("stock-2", TIME, TIME, 5, TIME, false)), stockIndexesByStock);
+        List<StockRollupIndexV1> redelivered = rollupService.foldStock(List.of(
+                stock("stock-1", TIME, TIME, 10, TIME, false)), stockIndexesByStock);
+        List<StockRollupIndexV1> moved = rollupService.foldStock(List.of(
+                stock("stock-2", TIME, TIME + 1, 7, NEXT_DAY, false)), stockIndexesByStock);
+        List<StockRollupIndexV1> deleted = rollupService.foldStock(List.of(
+                stock("stock-1", TIME, TIME + 2, 10, TIME, true)), stockIndexesByStock);
+
+        assertTrue(redelivered.isEmpty());
+        Map<Long, StockRollupIndexV1> movedByDay = moved.stream()
+                .collect(Collectors.toMap(StockRollupIndexV1::getDay, rollup -> rollup));
+        assertEquals(1, movedByDay.get(DAY).getTransactions());
+        assertEquals(10, movedByDay.get(DAY).getQuantity());
+        assertEquals(1, movedByDay.get(NEXT_DAY).getTransactions());
+        assertEquals(7, movedByDay.get(NEXT_DAY).getQuantity());
+        assertEquals(1, deleted.size());
+        assertEquals(DAY, deleted.get(0).getDay());
+        assertEquals(0, deleted.get(0).getTransactions());
+        assertEquals(0, deleted.get(0).getQuantity());
+        assertEquals("project-1", deleted.get(0).getProjectId());
+    }
+
+    private List<ProjectTaskRollupIndexV1> storedTaskRollups() {
+        return jdbcTemplate.queryForList("SELECT document FROM transformer_rollup WHERE rollupType = ?",
+                String.class, RollupService.TASK).stream().map(document -> {
+            try {
+                return objectMapper.readValue(document, ProjectTaskRollupIndexV1.class);
+            } catch (Exception exception) {
+                throw new IllegalStateException(exception);
+            }
+        }).collect(Collectors.toList());
+    }
+
+    private Task task(String id, long createdTime, long lastModifiedTime, boolean isDeleted,
+                      ProjectTaskIndexV1... resources) {
+        Task task = Task.builder()
+                .id(id)
+                .projectId("project-1")
+                .isDeleted(isDeleted)
+                .auditDetails(AuditDetails.builder().createdTime(createdTime).lastModifiedTime(lastModifiedTime)
+                        .build())
+                .build();
+        List<ProjectTaskIndexV1> taskIndexes = new ArrayList<>();
+        for (ProjectTaskIndexV1 resource : resources) {
+            resource.setTaskId(id);
+            resource.setLastModifiedTime(lastModifiedTime);
+            resource.setDeleted(isDeleted);
+            taskIndexes.add(resource);
+        }
+        taskIndexesByTask.put(task, taskIndexes);
+        return task;
+    }
+
+    private static ProjectTaskIndexV1 resource(String locality, long createdTime, boolean isDelivered,
+                                               double quantity) {
+        return ProjectTaskIndexV1.builder()
+                .projectId("project-1")
+                .province("province")
+                .district("district")
+                .administrativeProvince("administrative-province")
+                .locality(locality)
+                .village("village")
+                .productVariant("variant-1")
+                .isDelivered(isDelivered)
+                .quantity(quantity)
+                .createdTime(createdTime)
+                .build();
+    }
+
+    private Stock stock(String id, long createdTime, long lastModifiedTime, int physicalCount, long dateOfEntry,
+                        boolean isDeleted) {
+        Stock stock = Stock.builder()
+                .id(id)
+                .referenceIdType(ReferenceIdType.PROJECT)
+                .referenceId("project-1")
+                .isDeleted(isDeleted)
+                .auditDetails(AuditDetails.builder().createdTime(createdTime).lastModifiedTime(lastModifiedTime)
+                        .build())
+                .build();
+        stockIndexesByStock.put(stock, List.of(StockIndexV1.builder()
+                .id(id)
+                .productVariant("variant-1")
+                .physicalCount(physicalCount)
+                .eventType(TransactionType.RECEIVED)
+                .dateOfEntry(dateOfEntry)
+                .province("province")
+                .district("district")
+                .administrativeProvince("administrative-province")
+                .locality("locality")
+                .village("village")
+                .createdTime(createdTime)
+                .lastModifiedTime(lastModifiedTime)
+                .build()));
+        return stock;
+    }
+}